@@ -1,14 +1,7 @@
 package org.uma.jmetal.algorithm.multiobjective.moead;
 
-import static java.lang.Double.parseDouble;
-
-import java.io.BufferedReader;
-import java.io.FileInputStream;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.StringTokenizer;
 import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
@@ -16,6 +9,8 @@ import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.fileinput.VectorFileUtils;
+import org.uma.jmetal.util.neighborhood.impl.WeightVectorNeighborhood;
 import org.uma.jmetal.util.point.impl.IdealPoint;
 import org.uma.jmetal.util.point.impl.NadirPoint;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -108,63 +103,37 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
       dataFileName = "W" + problem.numberOfObjectives() + "D_" +
           populationSize + ".dat";
 
+      // The weight vectors are read from the classpath or from the file system, and they are
+      // cached to be shared by all the runs of the process
+      double[][] weightVectors;
       try {
-
-        //       String path =
-        // Paths.get(VectorFileUtils.class.getClassLoader().getResource(filePath).toURI()).toString
-        // ();
-        String path = "/" + dataDirectory + "/" + dataFileName ;
-
-        InputStream inputStream =
-            getClass()
-                .getClassLoader()
-                .getResourceAsStream(path);
-        if (inputStream == null) {
-          inputStream = new FileInputStream(dataDirectory + "/" + dataFileName);
-        }
-        InputStreamReader isr = new InputStreamReader(inputStream);
-        BufferedReader br = new BufferedReader(isr);
-
-        int i = 0;
-        int j = 0;
-        String aux = br.readLine();
-        while (aux != null) {
-          StringTokenizer st = new StringTokenizer(aux);
-          j = 0;
-          while (st.hasMoreTokens()) {
-            double value = parseDouble(st.nextToken());
-            lambda[i][j] = value;
-            j++;
-          }
-          aux = br.readLine();
-          i++;
-        }
-        br.close();
-      } catch (Exception e) {
+        weightVectors = VectorFileUtils.readCachedVectors(dataDirectory + "/" + dataFileName);
+      } catch (JMetalException e) {
         throw new JMetalException("initializeUniformWeight: failed when reading for file: "
             + dataDirectory + "/" + dataFileName, e) ;
       }
+      if (weightVectors.length < populationSize) {
+        throw new JMetalException("initializeUniformWeight: the file " + dataDirectory + "/"
+            + dataFileName + " has " + weightVectors.length + " weight vectors instead of "
+            + populationSize) ;
+      }
+
+      for (int i = 0; i < populationSize; i++) {
+        System.arraycopy(weightVectors[i], 0, lambda[i], 0, problem.numberOfObjectives());
+      }
     }
   }
 
   /**
-   * Initialize neighborhoods
+   * Initialize neighborhoods. The closest weight vectors of each subproblem are searched in a
+   * k-d tree (see {@link WeightVectorNeighborhood#closestWeightVectors(double[][], int)})
    */
   protected void initializeNeighborhood() {
-    double[] x = new double[populationSize];
-    int[] idx = new int[populationSize];
+    int[][] closestWeightVectors =
+        WeightVectorNeighborhood.closestWeightVectors(lambda, neighborSize);
 
     for (int i = 0; i < populationSize; i++) {
-      // calculate the distances based on weight vectors
-      for (int j = 0; j < populationSize; j++) {
-        x[j] = MOEADUtils.distVector(lambda[i], lambda[j]);
-        idx[j] = j;
-      }
-
-      // find 'niche' nearest neighboring subproblems
-      MOEADUtils.minFastSort(x, idx, populationSize, neighborSize);
-
-      System.arraycopy(idx, 0, neighborhood[i], 0, neighborSize);
+      System.arraycopy(closestWeightVectors[i], 0, neighborhood[i], 0, neighborSize);
     }
   }
 
@@ -2,8 +2,10 @@ package org.uma.jmetal.algorithm.multiobjective.pesa2.util;
 
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.AdaptiveGrid;
+import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.archive.impl.AbstractBoundedArchive;
 import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
 
@@ -103,6 +105,14 @@ public class AdaptiveGridArchive<S extends Solution<?>> extends AbstractBoundedA
     return true;
   }
 
+  /** The grid is updated with each solution, so the solutions are added one by one */
+  @Override
+  public Archive<S> addAll(List<S> solutionList) {
+    solutionList.forEach(this::add);
+
+    return this;
+  }
+
   public AdaptiveGrid<S> getGrid() {
     return grid;
   }
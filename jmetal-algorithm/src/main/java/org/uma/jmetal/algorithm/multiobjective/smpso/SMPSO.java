@@ -143,9 +143,7 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
 
   @Override
   protected void initializeLeader(List<DoubleSolution> swarm) {
-    for (DoubleSolution particle : swarm) {
-      leaders.add(particle);
-    }
+    leaders.addAll(swarm);
   }
 
   @Override
@@ -226,9 +224,7 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
 
   @Override
   protected void updateLeaders(List<DoubleSolution> swarm) {
-    for (DoubleSolution particle : swarm) {
-      leaders.add((DoubleSolution) particle.copy());
-    }
+    leaders.addAll(swarm.stream().map(particle -> (DoubleSolution) particle.copy()).toList());
   }
 
   @Override
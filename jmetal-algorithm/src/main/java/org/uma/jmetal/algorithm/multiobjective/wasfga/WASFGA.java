@@ -104,11 +104,11 @@ public class WASFGA<S extends Solution<?>> extends AbstractMOMBI<S> implements
 			//For more than two objectives, weights are read from the resources file of jMetal
 			else {
 				String dataFileName = "W" + problem.numberOfObjectives() + "D_" + getMaxPopulationSize() + ".dat";
-				weights = VectorFileUtils.readVectors(dataFileName);
+				weights = VectorFileUtils.readCachedVectors(dataFileName);
 			}
 		} else { //If a file with weight vectors is given as parameter, weights are read from that file
 			//weights = WeightVectors.readFromFile(this.weightVectorsFileName) ;
-			weights = VectorFileUtils.readVectors(this.weightVectorsFileName) ;
+			weights = VectorFileUtils.readCachedVectors(this.weightVectorsFileName) ;
 		}
 		weights = WeightVectors.invert(weights,true);
 
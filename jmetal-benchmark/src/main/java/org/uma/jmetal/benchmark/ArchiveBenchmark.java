@@ -0,0 +1,85 @@
+package org.uma.jmetal.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionTreeArchive;
+
+/**
+ * Benchmark of the <code>add()</code> method of {@link NonDominatedSolutionListArchive} and {@link
+ * NonDominatedSolutionTreeArchive}. Each invocation inserts a whole population, one solution at a
+ * time, into an empty archive, which is how external archives are fed by the algorithms. The
+ * insertion into a {@link CrowdingDistanceArchive} of size 100, one by one and with
+ * <code>addAll()</code>, is also measured.
+ *
+ * @author Antonio J. Nebro
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArchiveBenchmark {
+  private static final int BOUNDED_ARCHIVE_SIZE = 100;
+
+  @Param({"100", "1000", "10000"})
+  public int populationSize;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives;
+
+  private List<DoubleSolution> population;
+
+  @Setup
+  public void setup() {
+    population = BenchmarkData.randomPopulation(populationSize, numberOfObjectives, 10);
+  }
+
+  @Benchmark
+  public int nonDominatedSolutionListArchiveAdd() {
+    var archive = new NonDominatedSolutionListArchive<DoubleSolution>();
+    for (DoubleSolution solution : population) {
+      archive.add(solution);
+    }
+    return archive.size();
+  }
+
+  @Benchmark
+  public int nonDominatedSolutionTreeArchiveAdd() {
+    var archive = new NonDominatedSolutionTreeArchive<DoubleSolution>();
+    for (DoubleSolution solution : population) {
+      archive.add(solution);
+    }
+    return archive.size();
+  }
+
+  @Benchmark
+  public int crowdingDistanceArchiveAdd() {
+    var archive = new CrowdingDistanceArchive<DoubleSolution>(BOUNDED_ARCHIVE_SIZE);
+    for (DoubleSolution solution : population) {
+      archive.add(solution);
+    }
+    return archive.size();
+  }
+
+  @Benchmark
+  public int crowdingDistanceArchiveAddAll() {
+    var archive = new CrowdingDistanceArchive<DoubleSolution>(BOUNDED_ARCHIVE_SIZE);
+    archive.addAll(population);
+    return archive.size();
+  }
+}
@@ -0,0 +1,71 @@
+package org.uma.jmetal.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Generation of the reproducible input data of the benchmarks. All the methods use a fixed seed, so
+ * the results of different jMetal releases are measured on the same data.
+ *
+ * @author Antonio J. Nebro
+ */
+public final class BenchmarkData {
+  public static final long SEED = 1234567L;
+
+  private BenchmarkData() {}
+
+  /**
+   * Returns a population whose objective values are uniformly distributed in [0, 1]. Such a
+   * population contains several non-dominated fronts, whose number decreases with the number of
+   * objectives.
+   */
+  public static List<DoubleSolution> randomPopulation(
+      int populationSize, int numberOfObjectives, int numberOfVariables) {
+    JMetalRandom.getInstance().setSeed(SEED);
+    Random random = new Random(SEED);
+    var problem = new FakeDoubleProblem(numberOfVariables, numberOfObjectives, 0);
+
+    List<DoubleSolution> population = new ArrayList<>(populationSize);
+    for (int i = 0; i < populationSize; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.objectives()[j] = random.nextDouble();
+      }
+      population.add(solution);
+    }
+    return population;
+  }
+
+  /**
+   * Returns a front of mutually non-dominated points lying on the positive orthant of the unit
+   * hypersphere, so all the values are in [0, 1].
+   */
+  public static double[][] sphericalFront(int numberOfPoints, int numberOfObjectives) {
+    Random random = new Random(SEED);
+    double[][] front = new double[numberOfPoints][numberOfObjectives];
+    for (double[] point : front) {
+      double norm = 0.0;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        point[j] = Math.abs(random.nextGaussian()) + 1e-9;
+        norm += point[j] * point[j];
+      }
+      norm = Math.sqrt(norm);
+      for (int j = 0; j < numberOfObjectives; j++) {
+        point[j] /= norm;
+      }
+    }
+    return front;
+  }
+
+  /** Returns a point having the same value in all its coordinates. */
+  public static double[] point(int numberOfObjectives, double value) {
+    double[] point = new double[numberOfObjectives];
+    Arrays.fill(point, value);
+    return point;
+  }
+}
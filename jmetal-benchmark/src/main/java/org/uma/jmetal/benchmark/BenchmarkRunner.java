@@ -0,0 +1,51 @@
+package org.uma.jmetal.benchmark;
+
+import java.io.IOException;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark JAR. It accepts the standard JMH command line options (e.g., a
+ * regular expression selecting the benchmarks, or <code>-p numberOfObjectives=3</code> to fix a
+ * parameter), but, unless other values are given with the <code>-rf</code> and <code>-rff</code>
+ * options, the results are written in JSON format to the file <code>jmetal-benchmark.json</code>.
+ * Usage:
+ *
+ * <pre>
+ * mvn package -pl jmetal-benchmark -am -DskipTests
+ * java -jar jmetal-benchmark/target/jmetal-benchmark-VERSION-jar-with-dependencies.jar [JMH options]
+ * </pre>
+ *
+ * @author Antonio J. Nebro
+ */
+public class BenchmarkRunner {
+  public static final String DEFAULT_RESULT_FILE = "jmetal-benchmark.json";
+
+  public static void main(String[] args)
+      throws CommandLineOptionException, RunnerException, IOException {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    if (commandLineOptions.shouldHelp()
+        || commandLineOptions.shouldList()
+        || commandLineOptions.shouldListWithParams()
+        || commandLineOptions.shouldListProfilers()
+        || commandLineOptions.shouldListResultFormats()) {
+      Main.main(args);
+      return;
+    }
+
+    Options options =
+        new OptionsBuilder()
+            .parent(commandLineOptions)
+            .resultFormat(commandLineOptions.getResultFormat().orElse(ResultFormatType.JSON))
+            .result(commandLineOptions.getResult().orElse(DEFAULT_RESULT_FILE))
+            .build();
+
+    new Runner(options).run();
+  }
+}
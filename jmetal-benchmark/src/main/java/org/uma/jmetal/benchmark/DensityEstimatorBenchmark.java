@@ -0,0 +1,100 @@
+package org.uma.jmetal.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.AngleDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.CosineSimilarityDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.GridDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.HypervolumeContributionDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.KnnDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.ReferencePointNicheDistanceEstimator;
+import org.uma.jmetal.util.densityestimator.impl.ShiftedDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.SpatialSpreadDeviationDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.StrenghtRawFitnessDensityEstimator;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.referencepoint.ReferencePointGenerator;
+
+/**
+ * Benchmark of the {@link DensityEstimator} implementations. The estimators are applied to a
+ * single list of solutions, as in the replacement step of an algorithm.
+ *
+ * @author Antonio J. Nebro
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DensityEstimatorBenchmark {
+  @Param({"100", "1000"})
+  public int populationSize;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives;
+
+  @Param({
+    "CrowdingDistance",
+    "Knn",
+    "CosineSimilarity",
+    "Angle",
+    "Grid",
+    "HypervolumeContribution",
+    "ReferencePointNicheDistance",
+    "Shifted",
+    "SpatialSpreadDeviation",
+    "StrengthRawFitness"
+  })
+  public String densityEstimator;
+
+  private List<DoubleSolution> population;
+  private DensityEstimator<DoubleSolution> densityEstimatorInstance;
+
+  @Setup
+  public void setup() {
+    population = BenchmarkData.randomPopulation(populationSize, numberOfObjectives, 10);
+    densityEstimatorInstance =
+        switch (densityEstimator) {
+          case "CrowdingDistance" -> new CrowdingDistanceDensityEstimator<>();
+          case "Knn" -> new KnnDensityEstimator<>(1);
+          case "CosineSimilarity" -> new CosineSimilarityDensityEstimator<>();
+          case "Angle" -> new AngleDensityEstimator<>();
+          case "Grid" -> new GridDensityEstimator<>(5, numberOfObjectives);
+          case "HypervolumeContribution" ->
+              new HypervolumeContributionDensityEstimator<>(
+                  BenchmarkData.point(numberOfObjectives, 1.1));
+          case "ReferencePointNicheDistance" ->
+              new ReferencePointNicheDistanceEstimator<>(
+                  ReferencePointGenerator.generateSingleLayer(
+                      numberOfObjectives, numberOfObjectives <= 3 ? 12 : 6),
+                  numberOfObjectives);
+          case "Shifted" -> new ShiftedDensityEstimator<>();
+          case "SpatialSpreadDeviation" -> new SpatialSpreadDeviationDensityEstimator<>();
+          case "StrengthRawFitness" -> new StrenghtRawFitnessDensityEstimator<>(1);
+          default -> throw new JMetalException("Unknown density estimator: " + densityEstimator);
+        };
+  }
+
+  @Benchmark
+  public List<DoubleSolution> compute() {
+    // Some estimators sort the list they receive, so a copy is used
+    List<DoubleSolution> solutions = new ArrayList<>(population);
+    densityEstimatorInstance.compute(solutions);
+    return solutions;
+  }
+}
@@ -0,0 +1,101 @@
+package org.uma.jmetal.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.FastWFGHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.Hypervolume3D;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+
+/**
+ * Benchmark of the hypervolume indicators. The fronts are sets of non-dominated points, and the
+ * reference point is (1.1, ..., 1.1). {@link Hypervolume3D} is only measured with three objectives,
+ * which is the only case it supports. {@link FastWFGHypervolume} is measured both sequentially and
+ * with the common {@link ForkJoinPool}.
+ *
+ * @author Antonio J. Nebro
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HypervolumeBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class ManyObjectivesFront {
+    @Param({"50", "100", "200"})
+    public int populationSize;
+
+    @Param({"3", "5", "8"})
+    public int numberOfObjectives;
+
+    double[][] front;
+    WFGHypervolume wfgHypervolume;
+    FastWFGHypervolume fastWFGHypervolume;
+    FastWFGHypervolume parallelFastWFGHypervolume;
+    PISAHypervolume pisaHypervolume;
+
+    @Setup
+    public void setup() {
+      front = BenchmarkData.sphericalFront(populationSize, numberOfObjectives);
+      double[] referencePoint = BenchmarkData.point(numberOfObjectives, 1.1);
+      wfgHypervolume = new WFGHypervolume(referencePoint);
+      fastWFGHypervolume = new FastWFGHypervolume(referencePoint);
+      parallelFastWFGHypervolume =
+          new FastWFGHypervolume(referencePoint).setPool(ForkJoinPool.commonPool());
+      pisaHypervolume = new PISAHypervolume(referencePoint);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class ThreeObjectivesFront {
+    @Param({"100", "1000", "10000"})
+    public int frontSize;
+
+    double[][] front;
+    Hypervolume3D hypervolume3D;
+
+    @Setup
+    public void setup() {
+      front = BenchmarkData.sphericalFront(frontSize, 3);
+      hypervolume3D = new Hypervolume3D(BenchmarkData.point(3, 1.1));
+    }
+  }
+
+  @Benchmark
+  public double wfgHypervolume(ManyObjectivesFront state) {
+    return state.wfgHypervolume.compute(state.front);
+  }
+
+  @Benchmark
+  public double fastWFGHypervolume(ManyObjectivesFront state) {
+    return state.fastWFGHypervolume.compute(state.front);
+  }
+
+  @Benchmark
+  public double parallelFastWFGHypervolume(ManyObjectivesFront state) {
+    return state.parallelFastWFGHypervolume.compute(state.front);
+  }
+
+  @Benchmark
+  public double pisaHypervolume(ManyObjectivesFront state) {
+    return state.pisaHypervolume.compute(state.front);
+  }
+
+  @Benchmark
+  public double hypervolume3D(ThreeObjectivesFront state) {
+    return state.hypervolume3D.compute(state.front);
+  }
+}
@@ -0,0 +1,78 @@
+package org.uma.jmetal.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.DivideAndConquerNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.ExperimentalFastNonDominanceRanking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.MergeNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.StrengthRanking;
+
+/**
+ * Benchmark of the {@link Ranking} implementations.
+ *
+ * @author Antonio J. Nebro
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RankingBenchmark {
+  @Param({"100", "1000", "10000"})
+  public int populationSize;
+
+  @Param({"2", "3", "5", "10"})
+  public int numberOfObjectives;
+
+  @Param({
+    "FastNonDominatedSort",
+    "MergeNonDominatedSort",
+    "ExperimentalFastNonDominance",
+    "Strength",
+    "DivideAndConquer",
+    "ParallelDivideAndConquer"
+  })
+  public String ranking;
+
+  private List<DoubleSolution> population;
+  private Ranking<DoubleSolution> rankingInstance;
+
+  @Setup
+  public void setup() {
+    population = BenchmarkData.randomPopulation(populationSize, numberOfObjectives, 10);
+    rankingInstance =
+        switch (ranking) {
+          case "FastNonDominatedSort" -> new FastNonDominatedSortRanking<>();
+          case "MergeNonDominatedSort" -> new MergeNonDominatedSortRanking<>();
+          case "ExperimentalFastNonDominance" -> new ExperimentalFastNonDominanceRanking<>();
+          case "Strength" -> new StrengthRanking<>();
+          case "DivideAndConquer" -> new DivideAndConquerNonDominatedSortRanking<>();
+          case "ParallelDivideAndConquer" ->
+              new DivideAndConquerNonDominatedSortRanking<>(ForkJoinPool.commonPool());
+          default -> throw new JMetalException("Unknown ranking: " + ranking);
+        };
+  }
+
+  @Benchmark
+  public int compute() {
+    return rankingInstance.compute(new ArrayList<>(population)).getNumberOfSubFronts();
+  }
+}
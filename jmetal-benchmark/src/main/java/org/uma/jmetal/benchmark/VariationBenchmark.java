@@ -0,0 +1,68 @@
+package org.uma.jmetal.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+/**
+ * Benchmark of the {@link SBXCrossover} and {@link PolynomialMutation} operators and of the copy of
+ * a {@link org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution}, which is performed
+ * every time an operator creates an offspring. The operators are applied with probability 1.0 to
+ * measure the worst case.
+ *
+ * @author Antonio J. Nebro
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VariationBenchmark {
+  @Param({"30", "1000", "10000"})
+  public int numberOfVariables;
+
+  @Param({"2", "5"})
+  public int numberOfObjectives;
+
+  private List<DoubleSolution> parents;
+  private DoubleSolution solution;
+  private SBXCrossover crossover;
+  private PolynomialMutation mutation;
+
+  @Setup
+  public void setup() {
+    parents = BenchmarkData.randomPopulation(2, numberOfObjectives, numberOfVariables);
+    solution = (DoubleSolution) parents.get(0).copy();
+    crossover = new SBXCrossover(1.0, 20.0);
+    mutation = new PolynomialMutation(1.0, 20.0);
+  }
+
+  @Benchmark
+  public List<DoubleSolution> sbxCrossover() {
+    return crossover.execute(parents);
+  }
+
+  @Benchmark
+  public DoubleSolution polynomialMutation() {
+    return mutation.execute(solution);
+  }
+
+  @Benchmark
+  public DoubleSolution defaultDoubleSolutionCopy() {
+    return (DoubleSolution) parents.get(0).copy();
+  }
+}
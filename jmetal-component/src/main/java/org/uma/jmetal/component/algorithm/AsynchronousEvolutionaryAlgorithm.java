@@ -0,0 +1,417 @@
+package org.uma.jmetal.component.algorithm;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.MultiThreadedEvaluation;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.SequentialEvaluation;
+import org.uma.jmetal.component.catalogue.common.solutionscreation.SolutionsCreation;
+import org.uma.jmetal.component.catalogue.common.termination.Termination;
+import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
+import org.uma.jmetal.component.catalogue.ea.replacement.StatefulReplacement;
+import org.uma.jmetal.component.catalogue.ea.replacement.impl.MOEADBatchReplacement;
+import org.uma.jmetal.component.catalogue.ea.selection.Selection;
+import org.uma.jmetal.component.catalogue.ea.variation.Variation;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.observable.Observable;
+import org.uma.jmetal.util.observable.ObservableEntity;
+import org.uma.jmetal.util.observable.impl.DefaultObservable;
+
+/**
+ * Asynchronous steady-state version of the {@link EvolutionaryAlgorithm} template. Instead of
+ * evaluating the whole offspring population and waiting for all the evaluations to finish, the
+ * algorithm keeps a number of evaluations in flight and integrates each evaluated solution into the
+ * population, by applying the {@link Replacement} component, as soon as it is available, so no
+ * thread is idle when the evaluation times vary. The features of the algorithm are:
+ *
+ * <p>- It uses the same components as {@link EvolutionaryAlgorithm}, so it can be created from the
+ * algorithm returned by any builder (e.g., <code>
+ * new AsynchronousEvolutionaryAlgorithm&lt;&gt;(new NSGAIIBuilder&lt;&gt;(...).build(), 8)</code>).
+ * - The solutions are evaluated by the problem of the {@link Evaluation} component, in the threads
+ * of an {@link ExecutorService}, so the <code>evaluate()</code> method of the problem must be
+ * thread-safe. As the evaluation component itself is not applied, only a {@link
+ * SequentialEvaluation} or a {@link MultiThreadedEvaluation} is accepted; evaluations adding their
+ * own behavior (e.g., filling an archive, caching or estimating the objectives) are rejected. All
+ * the other components are only called from the thread running the algorithm.
+ * - The initial population is complete when all its solutions have been evaluated. After that,
+ * each time an evaluation finishes, a new solution is taken from the offspring produced by the
+ * {@link Selection} and {@link Variation} components, which are applied again to the current
+ * population when no offspring is pending.
+ * - The termination condition is checked after each evaluation; the evaluations in flight when it
+ * is met are cancelled.
+ *
+ * <p>Replacements depending on the state of the algorithm when the offspring were created (e.g.,
+ * the subproblem whose neighbors were the parents in MOEA/D) must implement {@link
+ * StatefulReplacement}: the state is captured after each variation and carried with the offspring,
+ * so each evaluated solution is replaced in the state in which it was created, whatever the number
+ * of evaluations in flight. The batch replacement of MOEA/D, which replaces the offspring of
+ * several subproblems together, is not supported.
+ *
+ * @author Antonio J. Nebro (ajnebro@uma.es)
+ * @param <S> Generic type representing the encoding of the solutions
+ */
+public class AsynchronousEvolutionaryAlgorithm<S extends Solution<?>>
+    implements Algorithm<List<S>>, ObservableEntity<Map<String, Object>> {
+
+  private List<S> population;
+  private final Evaluation<S> evaluation;
+  private final SolutionsCreation<S> createInitialPopulation;
+  private final Termination termination;
+  private final Selection<S> selection;
+  private final Variation<S> variation;
+  private final Replacement<S> replacement;
+  private final Map<String, Object> attributes;
+  private final int numberOfConcurrentEvaluations;
+  private final ExecutorService executor;
+  private long initTime;
+  private long totalComputingTime;
+  private int evaluations;
+  private final Observable<Map<String, Object>> observable;
+
+  private final String name;
+
+  /**
+   * Constructor. The evaluations are carried out by a pool created on each run, having as many
+   * threads as the number of concurrent evaluations.
+   *
+   * @param name Algorithm name
+   * @param initialPopulationCreation
+   * @param evaluation
+   * @param termination
+   * @param selection
+   * @param variation
+   * @param replacement
+   * @param numberOfConcurrentEvaluations Maximum number of evaluations in flight
+   */
+  public AsynchronousEvolutionaryAlgorithm(
+      String name,
+      SolutionsCreation<S> initialPopulationCreation,
+      Evaluation<S> evaluation,
+      Termination termination,
+      Selection<S> selection,
+      Variation<S> variation,
+      Replacement<S> replacement,
+      int numberOfConcurrentEvaluations) {
+    this(
+        name,
+        initialPopulationCreation,
+        evaluation,
+        termination,
+        selection,
+        variation,
+        replacement,
+        numberOfConcurrentEvaluations,
+        null);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param name Algorithm name
+   * @param initialPopulationCreation
+   * @param evaluation
+   * @param termination
+   * @param selection
+   * @param variation
+   * @param replacement
+   * @param numberOfConcurrentEvaluations Maximum number of evaluations in flight
+   * @param executor Executor running the evaluations, which is not shut down by the algorithm. If
+   *     null, a pool is created on each run.
+   */
+  public AsynchronousEvolutionaryAlgorithm(
+      String name,
+      SolutionsCreation<S> initialPopulationCreation,
+      Evaluation<S> evaluation,
+      Termination termination,
+      Selection<S> selection,
+      Variation<S> variation,
+      Replacement<S> replacement,
+      int numberOfConcurrentEvaluations,
+      ExecutorService executor) {
+    Check.notNull(initialPopulationCreation);
+    Check.notNull(evaluation);
+    Check.notNull(termination);
+    Check.notNull(selection);
+    Check.notNull(variation);
+    Check.notNull(replacement);
+    Check.that(
+        evaluation.getClass() == SequentialEvaluation.class
+            || evaluation.getClass() == MultiThreadedEvaluation.class,
+        "The solutions are evaluated directly by the problem, so the evaluation must be a "
+            + "SequentialEvaluation or a MultiThreadedEvaluation instead of a "
+            + evaluation.getClass().getName());
+    Check.that(
+        !(replacement instanceof MOEADBatchReplacement),
+        "The batch replacement of MOEA/D cannot be applied to a solution at a time");
+    Check.that(
+        numberOfConcurrentEvaluations > 0,
+        "The number of concurrent evaluations is not positive: " + numberOfConcurrentEvaluations);
+
+    this.name = name;
+    this.createInitialPopulation = initialPopulationCreation;
+    this.evaluation = evaluation;
+    this.termination = termination;
+    this.selection = selection;
+    this.variation = variation;
+    this.replacement = replacement;
+    this.numberOfConcurrentEvaluations = numberOfConcurrentEvaluations;
+    this.executor = executor;
+
+    this.observable = new DefaultObservable<>("Asynchronous Evolutionary Algorithm");
+    this.attributes = new HashMap<>();
+  }
+
+  /**
+   * Creates an asynchronous version of an evolutionary algorithm, using its components
+   *
+   * @param algorithm Algorithm, usually created by a builder
+   * @param numberOfConcurrentEvaluations Maximum number of evaluations in flight
+   */
+  public AsynchronousEvolutionaryAlgorithm(
+      EvolutionaryAlgorithm<S> algorithm, int numberOfConcurrentEvaluations) {
+    this(algorithm, numberOfConcurrentEvaluations, null);
+  }
+
+  /**
+   * Creates an asynchronous version of an evolutionary algorithm, using its components
+   *
+   * @param algorithm Algorithm, usually created by a builder
+   * @param numberOfConcurrentEvaluations Maximum number of evaluations in flight
+   * @param executor Executor running the evaluations, which is not shut down by the algorithm. If
+   *     null, a pool is created on each run.
+   */
+  public AsynchronousEvolutionaryAlgorithm(
+      EvolutionaryAlgorithm<S> algorithm,
+      int numberOfConcurrentEvaluations,
+      ExecutorService executor) {
+    this(
+        algorithm.name(),
+        algorithm.createInitialPopulation(),
+        algorithm.evaluation(),
+        algorithm.termination(),
+        algorithm.selection(),
+        algorithm.variation(),
+        algorithm.replacement(),
+        numberOfConcurrentEvaluations,
+        executor);
+  }
+
+  @Override
+  public void run() {
+    initTime = System.currentTimeMillis();
+
+    ExecutorService runExecutor =
+        (executor == null)
+            ? Executors.newFixedThreadPool(
+                numberOfConcurrentEvaluations, Thread.ofPlatform().daemon().factory())
+            : executor;
+    try {
+      evolve(new ExecutorCompletionService<>(runExecutor));
+    } finally {
+      if (executor == null) {
+        runExecutor.shutdownNow();
+      }
+    }
+
+    totalComputingTime = System.currentTimeMillis() - initTime;
+  }
+
+  private void evolve(CompletionService<S> completionService) {
+    Problem<S> problem = evaluation.problem();
+    List<S> initialPopulation = createInitialPopulation.create();
+    int populationSize = initialPopulation.size();
+    Check.that(populationSize > 0, "The initial population is empty");
+    Iterator<S> pendingInitialSolutions = initialPopulation.iterator();
+    Deque<S> pendingOffspring = new ArrayDeque<>();
+    Object pendingOffspringState = null;
+    Map<Future<S>, Object> evaluationsInFlight = new HashMap<>();
+
+    population = new ArrayList<>(populationSize);
+    evaluations = 0;
+    boolean terminated = false;
+    while (!terminated) {
+      while (evaluationsInFlight.size() < numberOfConcurrentEvaluations) {
+        S solution;
+        if (pendingInitialSolutions.hasNext()) {
+          solution = pendingInitialSolutions.next();
+        } else if (population.size() == populationSize) {
+          if (pendingOffspring.isEmpty()) {
+            List<S> matingPopulation = selection.select(population);
+            pendingOffspring.addAll(variation.variate(population, matingPopulation));
+            Check.that(!pendingOffspring.isEmpty(), "The variation has not produced offspring");
+            if (replacement instanceof StatefulReplacement<S, ?> statefulReplacement) {
+              pendingOffspringState = statefulReplacement.captureState();
+            }
+          }
+          solution = pendingOffspring.poll();
+        } else {
+          break;
+        }
+        evaluationsInFlight.put(
+            completionService.submit(() -> problem.evaluate(solution)), pendingOffspringState);
+      }
+
+      Future<S> future = take(completionService, evaluationsInFlight.keySet());
+      Object state = evaluationsInFlight.remove(future);
+      S evaluatedSolution = result(future, evaluationsInFlight.keySet());
+      evaluations++;
+
+      if (population.size() < populationSize) {
+        population.add(evaluatedSolution);
+        if (population.size() == populationSize) {
+          initProgress();
+          terminated = termination.isMet(attributes);
+        }
+      } else {
+        List<S> offspringPopulation = new ArrayList<>(1);
+        offspringPopulation.add(evaluatedSolution);
+        population =
+            (replacement instanceof StatefulReplacement<S, ?> statefulReplacement)
+                ? replace(statefulReplacement, population, offspringPopulation, state)
+                : replacement.replace(population, offspringPopulation);
+        updateProgress();
+        terminated = termination.isMet(attributes);
+      }
+    }
+
+    evaluationsInFlight.keySet().forEach(future -> future.cancel(true));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <S extends Solution<?>, T> List<S> replace(
+      StatefulReplacement<S, T> replacement,
+      List<S> population,
+      List<S> offspringPopulation,
+      Object state) {
+    return replacement.replace(population, offspringPopulation, (T) state);
+  }
+
+  private Future<S> take(CompletionService<S> completionService, Set<Future<S>> inFlight) {
+    try {
+      return completionService.take();
+    } catch (InterruptedException e) {
+      inFlight.forEach(future -> future.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new JMetalException("The algorithm has been interrupted", e);
+    }
+  }
+
+  private S result(Future<S> future, Set<Future<S>> inFlight) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      inFlight.forEach(pendingFuture -> pendingFuture.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new JMetalException("The algorithm has been interrupted", e);
+    } catch (ExecutionException e) {
+      inFlight.forEach(pendingFuture -> pendingFuture.cancel(true));
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      } else if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new JMetalException("Error evaluating a solution", e);
+    }
+  }
+
+  protected void initProgress() {
+    attributes.put("EVALUATIONS", evaluations);
+    attributes.put("POPULATION", population);
+    attributes.put("COMPUTING_TIME", currentComputingTime());
+  }
+
+  protected void updateProgress() {
+    attributes.put("EVALUATIONS", evaluations);
+    attributes.put("POPULATION", population);
+    attributes.put("COMPUTING_TIME", currentComputingTime());
+
+    observable.setChanged();
+    observable.notifyObservers(attributes);
+
+    totalComputingTime = currentComputingTime();
+  }
+
+  public long currentComputingTime() {
+    return System.currentTimeMillis() - initTime;
+  }
+
+  public int numberOfEvaluations() {
+    return evaluations;
+  }
+
+  public long totalComputingTime() {
+    return totalComputingTime;
+  }
+
+  public int numberOfConcurrentEvaluations() {
+    return numberOfConcurrentEvaluations;
+  }
+
+  @Override
+  public List<S> result() {
+    return population;
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public String description() {
+    return "Asynchronous steady-state evolutionary algorithm";
+  }
+
+  public Map<String, Object> attributes() {
+    return attributes;
+  }
+
+  public List<S> population() {
+    return population;
+  }
+
+  @Override
+  public Observable<Map<String, Object>> observable() {
+    return observable;
+  }
+
+  public Termination termination() {
+    return termination;
+  }
+
+  public Evaluation<S> evaluation() {
+    return evaluation;
+  }
+
+  public SolutionsCreation<S> createInitialPopulation() {
+    return createInitialPopulation;
+  }
+
+  public Selection<S> selection() {
+    return selection;
+  }
+
+  public Variation<S> variation() {
+    return variation;
+  }
+
+  public Replacement<S> replacement() {
+    return replacement;
+  }
+}
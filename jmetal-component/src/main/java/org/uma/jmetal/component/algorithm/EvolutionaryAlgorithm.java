@@ -1,20 +1,30 @@
 package org.uma.jmetal.component.algorithm;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.MultiThreadedEvaluationWithArchive;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.SequentialEvaluationWithArchive;
 import org.uma.jmetal.component.catalogue.common.solutionscreation.SolutionsCreation;
 import org.uma.jmetal.component.catalogue.common.termination.Termination;
 import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
 import org.uma.jmetal.component.catalogue.ea.selection.Selection;
 import org.uma.jmetal.component.catalogue.ea.variation.Variation;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
+import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.observable.Observable;
 import org.uma.jmetal.util.observable.ObservableEntity;
+import org.uma.jmetal.util.observable.impl.AsynchronousObservable;
 import org.uma.jmetal.util.observable.impl.DefaultObservable;
 import org.uma.jmetal.util.observer.Observer;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 /**
  * Template for evolutionary algorithms. Its mains features are:
@@ -22,6 +32,8 @@ import org.uma.jmetal.util.observer.Observer;
  * - The algorithms are {@link ObservableEntity}, which can be observed by {@link Observer} objects.
  * - The {@link #observable} element is a map of  pairs (String, Object), which is initialized and
  *   updated by the {@link #initProgress()} and {@link #updateProgress()} methods.
+ * - The state of a run can be saved with {@link #checkpoint()} and restored in a new algorithm
+ *   with {@link #restore(Checkpoint)}, so that the run can be continued.
  *
  * @author Antonio J. Nebro (ajnebro@uma.es)
  *
@@ -41,7 +53,8 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
   private long initTime;
   private long totalComputingTime;
   private int evaluations;
-  private final Observable<Map<String, Object>> observable;
+  private Observable<Map<String, Object>> observable;
+  private Checkpoint<S> restoredCheckpoint;
 
   private final String name;
 
@@ -79,18 +92,30 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
   public void run() {
     initTime = System.currentTimeMillis();
 
-    population = createInitialPopulation.create();
-    population = evaluation.evaluate(population);
-    initProgress();
-    while (!termination.isMet(attributes)) {
-      List<S> matingPopulation = selection.select(population);
-      List<S> offspringPopulation = variation.variate(population, matingPopulation);
-      offspringPopulation = evaluation.evaluate(offspringPopulation);
-
-      population = replacement.replace(population, offspringPopulation);
-      updateProgress();
+    try {
+      if (restoredCheckpoint == null) {
+        population = createInitialPopulation.create();
+        population = evaluation.evaluate(population);
+        initProgress();
+      } else {
+        restoreProgress();
+      }
+      while (!termination.isMet(attributes)) {
+        List<S> matingPopulation = selection.select(population);
+        List<S> offspringPopulation = variation.variate(population, matingPopulation);
+        offspringPopulation = evaluation.evaluate(offspringPopulation);
+
+        population = replacement.replace(population, offspringPopulation);
+        updateProgress();
+      }
+      population = evaluation.finalPopulation(population);
+    } finally {
+      evaluation.shutdown();
     }
 
+    if (observable instanceof AsynchronousObservable<?> asynchronousObservable) {
+      asynchronousObservable.awaitDelivery();
+    }
     totalComputingTime = System.currentTimeMillis() - initTime;
   }
 
@@ -102,6 +127,25 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
     attributes.put("COMPUTING_TIME", currentComputingTime());
   }
 
+  /** Continues the run saved in the restored checkpoint */
+  protected void restoreProgress() {
+    population = new ArrayList<>(restoredCheckpoint.population());
+    evaluations = restoredCheckpoint.evaluations();
+    initTime -= restoredCheckpoint.computingTime();
+
+    Archive<S> archive = archive();
+    if (archive != null) {
+      restoredCheckpoint.archive().forEach(archive::add);
+    }
+    restoredCheckpoint.restoreComponentStates(checkpointableComponents());
+    JMetalRandom.getInstance().replaceRandomGenerator(restoredCheckpoint.randomGenerator());
+    restoredCheckpoint = null;
+
+    attributes.put("EVALUATIONS", evaluations);
+    attributes.put("POPULATION", population);
+    attributes.put("COMPUTING_TIME", currentComputingTime());
+  }
+
   protected void updateProgress() {
     evaluations += variation.offspringPopulationSize();
 
@@ -115,6 +159,66 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
     totalComputingTime = currentComputingTime();
   }
 
+  /**
+   * Returns a checkpoint with the population, the archive of the evaluation (if any), the number of
+   * evaluations, the computing time, the state of the pseudo-random generator and the state of the
+   * components implementing {@link CheckpointableComponent} (e.g., the ideal point and the sequence
+   * generator of the subproblems of the replacement of MOEA/D). It must be
+   * invoked by the thread running the algorithm (e.g., by an observer such as {@link
+   * org.uma.jmetal.util.observer.impl.CheckpointObserver}).
+   */
+  public Checkpoint<S> checkpoint() {
+    var checkpoint =
+        new Checkpoint<>(evaluations, currentComputingTime(), population)
+            .setComponentStates(checkpointableComponents());
+    Archive<S> archive = archive();
+    if (archive != null) {
+      checkpoint.setArchive(archive.solutions());
+    }
+
+    return checkpoint;
+  }
+
+  /**
+   * Makes the next {@link #run()} continue the run saved in a checkpoint instead of creating an
+   * initial population. The algorithm must be built with the same components as the one that
+   * created the checkpoint, and its archive (if any) must be empty. The pseudo-random generator
+   * used by the thread running the algorithm (the one of its task, its stream or the shared one) is
+   * replaced by the one of the checkpoint (see {@link JMetalRandom#replaceRandomGenerator}), so the
+   * run must be continued in the same context it was started (e.g., in a task of {@link
+   * JMetalRandom#runWith}). The state of the components implementing {@link
+   * CheckpointableComponent} is restored, so the continuation is exact as long as the rest of the
+   * components do not keep state between iterations.
+   */
+  public void restore(Checkpoint<S> checkpoint) {
+    Check.notNull(checkpoint);
+    this.restoredCheckpoint = checkpoint;
+  }
+
+  /** Returns the components of the algorithm whose state is saved in the checkpoints */
+  private List<CheckpointableComponent> checkpointableComponents() {
+    List<CheckpointableComponent> components = new ArrayList<>();
+    for (Object component :
+        Arrays.asList(
+            createInitialPopulation, evaluation, termination, selection, variation, replacement)) {
+      if (component instanceof CheckpointableComponent checkpointableComponent) {
+        components.add(checkpointableComponent);
+      }
+    }
+
+    return components;
+  }
+
+  private Archive<S> archive() {
+    if (evaluation instanceof SequentialEvaluationWithArchive<S> evaluationWithArchive) {
+      return evaluationWithArchive.archive();
+    } else if (evaluation instanceof MultiThreadedEvaluationWithArchive<S> evaluationWithArchive) {
+      return evaluationWithArchive.archive();
+    }
+
+    return null;
+  }
+
   public long currentComputingTime() {
     return System.currentTimeMillis() - initTime;
   }
@@ -159,6 +263,17 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
     return observable;
   }
 
+  /**
+   * Replaces the observable of the algorithm (e.g., by an {@link AsynchronousObservable}, so that
+   * slow observers do not delay the algorithm). The observers registered in the previous observable
+   * are not transferred. When the algorithm finishes, it waits for the asynchronous observers to
+   * receive the pending notifications.
+   */
+  public void observable(Observable<Map<String, Object>> observable) {
+    Check.notNull(observable);
+    this.observable = observable;
+  }
+
   public void termination(Termination termination) {
     this.termination = termination ;
   }
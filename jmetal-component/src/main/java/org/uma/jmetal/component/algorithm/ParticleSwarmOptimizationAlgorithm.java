@@ -1,5 +1,7 @@
 package org.uma.jmetal.component.algorithm;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,10 +21,15 @@ import org.uma.jmetal.component.catalogue.pso.velocityinitialization.VelocityIni
 import org.uma.jmetal.component.catalogue.pso.velocityupdate.VelocityUpdate;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
+import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.observable.Observable;
 import org.uma.jmetal.util.observable.ObservableEntity;
+import org.uma.jmetal.util.observable.impl.AsynchronousObservable;
 import org.uma.jmetal.util.observable.impl.DefaultObservable;
 import org.uma.jmetal.util.observer.Observer;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 /**
  * Template for particle swarm optimization algorithms. Its mains features are:
@@ -31,6 +38,8 @@ import org.uma.jmetal.util.observer.Observer;
  * - The {@link #observable} element is a map of  pairs (String, Object), which is initialized and
  *   updated by the {@link #initProgress()} and {@link #updateProgress()} methods.
  * - It is assumed than an external archive is used to store the global best particles
+ * - The state of a run can be saved with {@link #checkpoint()} and restored in a new algorithm
+ *   with {@link #restore(Checkpoint)}, so that the run can be continued.
  *
  * @author Antonio J. Nebro (ajnebro@uma.es)
  */
@@ -60,6 +69,7 @@ public class ParticleSwarmOptimizationAlgorithm
   private long totalComputingTime;
   private int evaluations;
   private Observable<Map<String, Object>> observable;
+  private Checkpoint<DoubleSolution> restoredCheckpoint;
 
   private final String name;
   /**
@@ -121,24 +131,35 @@ public class ParticleSwarmOptimizationAlgorithm
   public void run() {
     initTime = System.currentTimeMillis();
 
-    swarm = createInitialSwarm.create();
-    swarm = evaluation.evaluate(swarm);
-    speed = velocityInitialization.initialize(swarm);
-    localBest = localBestInitialization.initialize(swarm);
-    globalBest = globalBestInitialization.initialize(swarm, globalBest);
-
-    initProgress();
-    while (!termination.isMet(attributes)) {
-      speed = velocityUpdate.update(swarm, speed, localBest, globalBest, globalBestSelection,
-          inertiaWeightComputingStrategy);
-      swarm = positionUpdate.update(swarm, speed);
-      swarm = perturbation.perturb(swarm);
-      swarm = evaluation.evaluate(swarm);
-      globalBest = globalBestUpdate.update(swarm, globalBest);
-      localBest = localBestUpdate.update(swarm, localBest);
-      updateProgress();
+    try {
+      if (restoredCheckpoint == null) {
+        swarm = createInitialSwarm.create();
+        swarm = evaluation.evaluate(swarm);
+        speed = velocityInitialization.initialize(swarm);
+        localBest = localBestInitialization.initialize(swarm);
+        globalBest = globalBestInitialization.initialize(swarm, globalBest);
+
+        initProgress();
+      } else {
+        restoreProgress();
+      }
+      while (!termination.isMet(attributes)) {
+        speed = velocityUpdate.update(swarm, speed, localBest, globalBest, globalBestSelection,
+            inertiaWeightComputingStrategy);
+        swarm = positionUpdate.update(swarm, speed);
+        swarm = perturbation.perturb(swarm);
+        swarm = evaluation.evaluate(swarm);
+        globalBest = globalBestUpdate.update(swarm, globalBest);
+        localBest = localBestUpdate.update(swarm, localBest);
+        updateProgress();
+      }
+    } finally {
+      evaluation.shutdown();
     }
 
+    if (observable instanceof AsynchronousObservable<?> asynchronousObservable) {
+      asynchronousObservable.awaitDelivery();
+    }
     totalComputingTime = System.currentTimeMillis() - initTime;
   }
 
@@ -151,6 +172,24 @@ public class ParticleSwarmOptimizationAlgorithm
     attributes.put("COMPUTING_TIME", currentComputingTime());
   }
 
+  /** Continues the run saved in the restored checkpoint */
+  protected void restoreProgress() {
+    swarm = new ArrayList<>(restoredCheckpoint.population());
+    speed = restoredCheckpoint.speed();
+    localBest = restoredCheckpoint.localBest().toArray(new DoubleSolution[0]);
+    restoredCheckpoint.archive().forEach(globalBest::add);
+    restoredCheckpoint.restoreComponentStates(checkpointableComponents());
+    evaluations = restoredCheckpoint.evaluations();
+    initTime -= restoredCheckpoint.computingTime();
+    JMetalRandom.getInstance().replaceRandomGenerator(restoredCheckpoint.randomGenerator());
+    restoredCheckpoint = null;
+    globalBest.computeDensityEstimator();
+
+    attributes.put("EVALUATIONS", evaluations);
+    attributes.put("POPULATION", globalBest.solutions());
+    attributes.put("COMPUTING_TIME", currentComputingTime());
+  }
+
   protected void updateProgress() {
     evaluations += swarm.size();
     globalBest.computeDensityEstimator();
@@ -165,6 +204,60 @@ public class ParticleSwarmOptimizationAlgorithm
     totalComputingTime = currentComputingTime();
   }
 
+  /**
+   * Returns a checkpoint with the swarm, the speeds, the local and global best particles, the
+   * number of evaluations, the computing time, the state of the pseudo-random generator and the
+   * state of the components implementing {@link CheckpointableComponent} (e.g., the counter of the
+   * inertia weight strategy). It must be invoked by the thread running the algorithm (e.g., by an observer such as {@link
+   * org.uma.jmetal.util.observer.impl.CheckpointObserver}).
+   */
+  public Checkpoint<DoubleSolution> checkpoint() {
+    return new Checkpoint<>(evaluations, currentComputingTime(), swarm)
+        .setSpeed(speed)
+        .setLocalBest(List.of(localBest))
+        .setArchive(globalBest.solutions())
+        .setComponentStates(checkpointableComponents());
+  }
+
+  /**
+   * Makes the next {@link #run()} continue the run saved in a checkpoint instead of creating an
+   * initial swarm. The algorithm must be built with the same components as the one that created the
+   * checkpoint, and its global best archive must be empty. The pseudo-random generator used by the
+   * thread running the algorithm (the one of its task, its stream or the shared one) is replaced by
+   * the one of the checkpoint (see {@link JMetalRandom#replaceRandomGenerator}), and the state of
+   * the components implementing {@link CheckpointableComponent} is restored.
+   */
+  public void restore(Checkpoint<DoubleSolution> checkpoint) {
+    Check.notNull(checkpoint);
+    this.restoredCheckpoint = checkpoint;
+  }
+
+  /** Returns the components of the algorithm whose state is saved in the checkpoints */
+  private List<CheckpointableComponent> checkpointableComponents() {
+    List<CheckpointableComponent> components = new ArrayList<>();
+    for (Object component :
+        Arrays.asList(
+            createInitialSwarm,
+            evaluation,
+            termination,
+            velocityInitialization,
+            localBestInitialization,
+            globalBestInitialization,
+            inertiaWeightComputingStrategy,
+            velocityUpdate,
+            positionUpdate,
+            perturbation,
+            globalBestUpdate,
+            localBestUpdate,
+            globalBestSelection)) {
+      if (component instanceof CheckpointableComponent checkpointableComponent) {
+        components.add(checkpointableComponent);
+      }
+    }
+
+    return components;
+  }
+
   public long currentComputingTime() {
     return System.currentTimeMillis() - initTime;
   }
@@ -205,6 +298,17 @@ public class ParticleSwarmOptimizationAlgorithm
     return observable;
   }
 
+  /**
+   * Replaces the observable of the algorithm (e.g., by an {@link AsynchronousObservable}, so that
+   * slow observers do not delay the algorithm). The observers registered in the previous observable
+   * are not transferred. When the algorithm finishes, it waits for the asynchronous observers to
+   * receive the pending notifications.
+   */
+  public void observable(Observable<Map<String, Object>> observable) {
+    Check.notNull(observable);
+    this.observable = observable;
+  }
+
   public void termination(Termination termination) {
     this.termination = termination ;
   }
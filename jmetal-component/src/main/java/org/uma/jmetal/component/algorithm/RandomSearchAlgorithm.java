@@ -66,12 +66,16 @@ public class RandomSearchAlgorithm<S extends Solution<?>> implements Algorithm<L
   public void run() {
     initTime = System.currentTimeMillis();
     initProgress() ;
-    while (!termination.isMet(attributes)) {
-      List<S> solutions = solutionsCreation.create();
-      evaluation.evaluate(solutions);
-      evaluatedSolutions = solutions.size() ;
-      updateBestFoundSolutions(solutions) ;
-      updateProgress();
+    try {
+      while (!termination.isMet(attributes)) {
+        List<S> solutions = solutionsCreation.create();
+        evaluation.evaluate(solutions);
+        evaluatedSolutions = solutions.size() ;
+        updateBestFoundSolutions(solutions) ;
+        updateProgress();
+      }
+    } finally {
+      evaluation.shutdown();
     }
 
     totalComputingTime = System.currentTimeMillis() - initTime;
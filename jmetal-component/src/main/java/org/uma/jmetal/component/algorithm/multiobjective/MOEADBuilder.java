@@ -9,18 +9,23 @@ import org.uma.jmetal.component.catalogue.common.solutionscreation.impl.RandomSo
 import org.uma.jmetal.component.catalogue.common.termination.Termination;
 import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
 import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
+import org.uma.jmetal.component.catalogue.ea.replacement.impl.MOEADBatchReplacement;
 import org.uma.jmetal.component.catalogue.ea.replacement.impl.MOEADReplacement;
 import org.uma.jmetal.component.catalogue.ea.replacement.subproblemupdate.SubproblemUpdateCriterion;
 import org.uma.jmetal.component.catalogue.ea.replacement.subproblemupdate.impl.AggregationCriterion;
 import org.uma.jmetal.component.catalogue.ea.selection.Selection;
+import org.uma.jmetal.component.catalogue.ea.selection.impl.BatchPopulationAndNeighborhoodSelection;
 import org.uma.jmetal.component.catalogue.ea.selection.impl.PopulationAndNeighborhoodSelection;
 import org.uma.jmetal.component.catalogue.ea.variation.Variation;
+import org.uma.jmetal.component.catalogue.ea.variation.impl.BatchVariation;
 import org.uma.jmetal.component.catalogue.ea.variation.impl.CrossoverAndMutationVariation;
+import org.uma.jmetal.component.catalogue.ea.variation.impl.DifferentialEvolutionCrossoverVariation;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.aggregationfunction.AggregationFunction;
+import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.aggregationfunction.impl.PenaltyBoundaryIntersection;
 import org.uma.jmetal.util.neighborhood.impl.WeightVectorNeighborhood;
@@ -49,6 +54,7 @@ public class MOEADBuilder<S extends Solution<?>> {
   private WeightVectorNeighborhood<S> neighborhood;
   private SubproblemUpdateCriterion<S> subproblemUpdateCriterion = new AggregationCriterion<>();
   private boolean normalize;
+  private int batchSize = 1;
 
   public MOEADBuilder(Problem<S> problem, int populationSize,
       CrossoverOperator<S> crossover, MutationOperator<S> mutation, String weightVectorDirectory,
@@ -158,6 +164,22 @@ public class MOEADBuilder<S extends Solution<?>> {
         subproblemUpdateCriterion);
   }
 
+  /**
+   * Sets the number of subproblems whose offspring are created (in parallel) before updating the
+   * population. With more than one subproblem, the algorithm uses a {@link BatchVariation} and a
+   * {@link MOEADBatchReplacement}, so the offspring can also be evaluated concurrently by a
+   * multi-threaded evaluation (e.g., {@link
+   * org.uma.jmetal.component.catalogue.common.evaluation.impl.MultiThreadedEvaluation}). The
+   * default value is 1 (steady-state MOEA/D). The batch mode cannot be used with a {@link
+   * DifferentialEvolutionCrossoverVariation}.
+   */
+  public MOEADBuilder<S> setBatchSize(int batchSize) {
+    Check.that(batchSize > 0, "The batch size is not a positive value: " + batchSize);
+    this.batchSize = batchSize;
+
+    return this;
+  }
+
   public MOEADBuilder<S> setVariation(Variation<S> variation) {
     this.variation = variation;
 
@@ -171,6 +193,31 @@ public class MOEADBuilder<S extends Solution<?>> {
   }
 
   public EvolutionaryAlgorithm<S> build() {
+    if (batchSize > 1) {
+      Check.that(
+          selection instanceof PopulationAndNeighborhoodSelection<S>,
+          "The batch mode requires a population and neighborhood selection");
+      Check.that(
+          !(variation instanceof DifferentialEvolutionCrossoverVariation),
+          "The batch mode does not support a DifferentialEvolutionCrossoverVariation, which takes "
+              + "the current solution from its own sequence generator instead of the subproblems "
+              + "of the batch");
+      var batchSelection =
+          new BatchPopulationAndNeighborhoodSelection<>(
+              (PopulationAndNeighborhoodSelection<S>) selection, batchSize);
+      var batchReplacement =
+          new MOEADBatchReplacement<>(
+              batchSelection,
+              neighborhood,
+              aggregationFunction,
+              maximumNumberOfReplacedSolutions,
+              normalize,
+              subproblemUpdateCriterion);
+
+      return new EvolutionaryAlgorithm<>(name, createInitialPopulation, evaluation, termination,
+          batchSelection, new BatchVariation<>(variation, batchSize), batchReplacement);
+    }
+
     return new EvolutionaryAlgorithm<>(name, createInitialPopulation, evaluation, termination,
         selection, variation, replacement);
   }
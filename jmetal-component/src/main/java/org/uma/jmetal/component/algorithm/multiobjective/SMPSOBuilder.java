@@ -147,6 +147,13 @@ public class SMPSOBuilder {
     return this ;
   }
 
+  public SMPSOBuilder setInertiaWeightComputingStrategy(
+      InertiaWeightComputingStrategy inertiaWeightComputingStrategy) {
+    this.inertiaWeightComputingStrategy = inertiaWeightComputingStrategy ;
+
+    return this ;
+  }
+
   public ParticleSwarmOptimizationAlgorithm build() {
     return new ParticleSwarmOptimizationAlgorithm(name, swarmInitialization, evaluation, termination,
         velocityInitialization,
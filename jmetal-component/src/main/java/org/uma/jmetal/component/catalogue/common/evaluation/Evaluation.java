@@ -15,4 +15,20 @@ public interface Evaluation<S extends Solution<?>> {
   List<S> evaluate(List<S> solutionList) ;
   int computedEvaluations() ;
   Problem<S> problem() ;
+
+  /**
+   * Releases the resources used by the evaluation (e.g., its threads). It is called by the
+   * algorithms at the end of their runs; the evaluation can still be used afterwards.
+   */
+  default void shutdown() {
+  }
+
+  /**
+   * Returns the population an algorithm has to return as its result, given the one it has at the
+   * end of its run. It is the same population unless the evaluation does not compute the
+   * objectives of all the solutions (e.g., when they are estimated with a surrogate model).
+   */
+  default List<S> finalPopulation(List<S> population) {
+    return population;
+  }
 }
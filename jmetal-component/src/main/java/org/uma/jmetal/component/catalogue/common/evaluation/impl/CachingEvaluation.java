@@ -0,0 +1,82 @@
+package org.uma.jmetal.component.catalogue.common.evaluation.impl;
+
+import java.util.List;
+import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
+import org.uma.jmetal.problem.DynamicProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.evaluator.EvaluationCache;
+
+/**
+ * Decorator of an {@link Evaluation} that does not evaluate again the solutions whose variables
+ * are in an {@link EvaluationCache}, which is useful with discrete encodings (binary, permutation
+ * and integer problems). The decorated evaluation only receives the solutions that are not in the
+ * cache, so it can be a {@link MultiThreadedEvaluation}.
+ *
+ * <p>{@link #computedEvaluations()} returns the number of solutions of the last list that have
+ * been evaluated by the problem, and {@link #cachedEvaluations()} the number of them that have
+ * been taken from the cache. If the problem is a {@link DynamicProblem} that has changed, the cache
+ * is cleared.
+ *
+ * @author Antonio J. Nebro
+ * @param <S>
+ */
+public class CachingEvaluation<S extends Solution<?>> implements Evaluation<S> {
+  private final Evaluation<S> evaluation;
+  private final EvaluationCache<S> cache;
+  private int computedEvaluations;
+  private int cachedEvaluations;
+
+  public CachingEvaluation(Evaluation<S> evaluation, int cacheSize) {
+    this(evaluation, new EvaluationCache<>(cacheSize));
+  }
+
+  public CachingEvaluation(Evaluation<S> evaluation, EvaluationCache<S> cache) {
+    Check.notNull(evaluation);
+    Check.notNull(cache);
+    this.evaluation = evaluation;
+    this.cache = cache;
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList) {
+    Check.notNull(solutionList);
+
+    if (problem() instanceof DynamicProblem<?, ?> dynamicProblem && dynamicProblem.hasChanged()) {
+      cache.clear();
+    }
+    computedEvaluations = cache.evaluate(solutionList, evaluation::evaluate);
+    cachedEvaluations = solutionList.size() - computedEvaluations;
+
+    return solutionList;
+  }
+
+  @Override
+  public int computedEvaluations() {
+    return computedEvaluations;
+  }
+
+  /** Number of solutions of the last list whose objectives have been taken from the cache */
+  public int cachedEvaluations() {
+    return cachedEvaluations;
+  }
+
+  public EvaluationCache<S> cache() {
+    return cache;
+  }
+
+  public Evaluation<S> evaluation() {
+    return evaluation;
+  }
+
+  @Override
+  public Problem<S> problem() {
+    return evaluation.problem();
+  }
+
+  @Override
+  public void shutdown() {
+    evaluation.shutdown();
+  }
+}
@@ -5,9 +5,13 @@ import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.evaluator.impl.ExecutorSolutionListEvaluator;
 
 /**
- * Class that evaluates a list of solutions using threads.
+ * Class that evaluates a list of solutions using threads. The threads are managed by an {@link
+ * ExecutorSolutionListEvaluator}, which by default uses a pool with the given number of threads and
+ * can be configured with virtual threads, batches and evaluation timeouts. The batches of batch
+ * evaluable problems are evaluated with a single call to their batch evaluation.
  *
  * @author Antonio J. Nebro (ajnebro@uma.es)
  *
@@ -17,6 +21,7 @@ public class MultiThreadedEvaluation<S extends Solution<?>> implements Evaluatio
   private int computedEvaluations;
   private final Problem<S> problem;
   private final int numberOfThreads ;
+  private final ExecutorSolutionListEvaluator<S> evaluator ;
 
   public MultiThreadedEvaluation(int numberOfThreads, Problem<S> problem) {
     Check.that(numberOfThreads >= 0, "The number of threads is a negative value: " + numberOfThreads) ;
@@ -25,18 +30,33 @@ public class MultiThreadedEvaluation<S extends Solution<?>> implements Evaluatio
     if (numberOfThreads == 0) {
       numberOfThreads = Runtime.getRuntime().availableProcessors();
     }
-    System.setProperty("java.util.concurrent.ForkJoinPool.common.parallelism",
-        "" + numberOfThreads);
 
+    this.evaluator = new ExecutorSolutionListEvaluator<>(numberOfThreads) ;
     this.numberOfThreads = numberOfThreads ;
     this.problem = problem;
     computedEvaluations = 0;
   }
 
+  /**
+   * Constructor
+   *
+   * @param evaluator Evaluator configuring the executor, the batches and the timeouts
+   * @param problem Problem to evaluate
+   */
+  public MultiThreadedEvaluation(ExecutorSolutionListEvaluator<S> evaluator, Problem<S> problem) {
+    Check.notNull(evaluator);
+    Check.notNull(problem);
+
+    this.evaluator = evaluator ;
+    this.numberOfThreads = evaluator.numberOfThreads() ;
+    this.problem = problem;
+    computedEvaluations = 0;
+  }
+
   @Override
   public List<S> evaluate(List<S> solutionList) {
     Check.notNull(solutionList);
-    solutionList.parallelStream().forEach(problem::evaluate);
+    evaluator.evaluate(solutionList, problem);
     computedEvaluations = solutionList.size();
 
     return solutionList;
@@ -51,6 +71,16 @@ public class MultiThreadedEvaluation<S extends Solution<?>> implements Evaluatio
     return numberOfThreads ;
   }
 
+  public ExecutorSolutionListEvaluator<S> evaluator() {
+    return evaluator ;
+  }
+
+  /** Shuts down the threads of the evaluator, which are created again if it is used again */
+  @Override
+  public void shutdown() {
+    evaluator.shutdown() ;
+  }
+
   @Override
   public Problem<S> problem() {
     return problem ;
@@ -6,9 +6,12 @@ import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.evaluator.impl.ExecutorSolutionListEvaluator;
 
 /**
- * Class that evaluates a list of solutions using threads.
+ * Class that evaluates a list of solutions using threads. The threads are managed by an {@link
+ * ExecutorSolutionListEvaluator}, which by default uses a pool with the given number of threads and
+ * can be configured with virtual threads, batches and evaluation timeouts.
  *
  * @author Antonio J. Nebro (ajnebro@uma.es)
  *
@@ -18,6 +21,7 @@ public class MultiThreadedEvaluationWithArchive<S extends Solution<?>> implement
   private int computedEvaluations;
   private final Problem<S> problem;
   private final int numberOfThreads ;
+  private final ExecutorSolutionListEvaluator<S> evaluator ;
   private Archive<S> archive ;
 
 
@@ -30,18 +34,29 @@ public class MultiThreadedEvaluationWithArchive<S extends Solution<?>> implement
     if (numberOfThreads == 0) {
       numberOfThreads = Runtime.getRuntime().availableProcessors();
     }
-    System.setProperty("java.util.concurrent.ForkJoinPool.common.parallelism",
-        "" + numberOfThreads);
 
+    this.evaluator = new ExecutorSolutionListEvaluator<>(numberOfThreads) ;
     this.numberOfThreads = numberOfThreads ;
     this.problem = problem;
     computedEvaluations = 0;
   }
 
+  public MultiThreadedEvaluationWithArchive(ExecutorSolutionListEvaluator<S> evaluator,
+      Problem<S> problem, Archive<S> archive) {
+    Check.notNull(evaluator);
+    Check.notNull(problem);
+
+    this.archive = archive ;
+    this.evaluator = evaluator ;
+    this.numberOfThreads = evaluator.numberOfThreads() ;
+    this.problem = problem;
+    computedEvaluations = 0;
+  }
+
   @Override
   public List<S> evaluate(List<S> solutionList) {
     Check.notNull(solutionList);
-    solutionList.parallelStream().forEach(problem::evaluate);
+    evaluator.evaluate(solutionList, problem);
     computedEvaluations = solutionList.size();
 
     solutionList.forEach(solution -> archive.add((S)solution.copy()));
@@ -58,6 +73,20 @@ public class MultiThreadedEvaluationWithArchive<S extends Solution<?>> implement
     return numberOfThreads ;
   }
 
+  public Archive<S> archive() {
+    return archive ;
+  }
+
+  public ExecutorSolutionListEvaluator<S> evaluator() {
+    return evaluator ;
+  }
+
+  /** Shuts down the threads of the evaluator, which are created again if it is used again */
+  @Override
+  public void shutdown() {
+    evaluator.shutdown() ;
+  }
+
   @Override
   public Problem<S> problem() {
     return problem ;
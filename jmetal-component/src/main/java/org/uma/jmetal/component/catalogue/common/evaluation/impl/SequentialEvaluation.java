@@ -5,9 +5,11 @@ import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.evaluator.BatchEvaluationUtils;
 
 /**
- * Class that evaluates a list of solutions sequentially.
+ * Class that evaluates a list of solutions sequentially. If the problem is batch evaluable, the
+ * solutions are evaluated in chunks (see {@link BatchEvaluationUtils}).
  *
  * @author Antonio J. Nebro (ajnebro@uma.es)
  *
@@ -27,7 +29,7 @@ public class SequentialEvaluation<S extends Solution<?>> implements Evaluation<S
   @Override
   public List<S> evaluate(List<S> solutionList) {
     Check.notNull(solutionList);
-    solutionList.forEach(problem::evaluate);
+    BatchEvaluationUtils.evaluate(solutionList, problem);
     computedEvaluations = solutionList.size();
 
     return solutionList;
@@ -0,0 +1,325 @@
+package org.uma.jmetal.component.catalogue.common.evaluation.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluationBudget;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.attribute.AttributeKey;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.surrogate.RBFSurrogateModel;
+
+/**
+ * Evaluation for expensive problems that pre-screens the solutions with a surrogate model ({@link
+ * RBFSurrogateModel}) trained with all the solutions evaluated by the problem. Once the model has
+ * enough points, only a given number of solutions of each list are evaluated by the problem (with
+ * the decorated evaluation); the objectives of the rest are the ones predicted by the model, and
+ * they are marked as estimated (see {@link #isEstimated(Solution)}). All the solutions of the list
+ * are returned, so the evaluation can be used by any algorithm. Only the objectives are estimated.
+ *
+ * <p>The solutions to evaluate are chosen with the lower confidence bounds of their objectives
+ * (the predictions minus the exploration weight times their standard deviations), which favour
+ * both the promising solutions and the ones whose objectives are uncertain. They are ranked with
+ * non-dominated sorting of their bounds, and the ties of the last front are broken by choosing the
+ * most uncertain solutions.
+ *
+ * <p>The total number of evaluations of the problem can be limited: once it is reached, the
+ * objectives of all the solutions are estimated. An algorithm can be stopped at that point with a
+ * {@link TerminationByEvaluationBudget}.
+ *
+ * <p>The solutions whose objectives have been estimated are not part of the result of an algorithm
+ * (see {@link #finalPopulation(List)}): the ones of the final population are evaluated by the
+ * problem while the maximum number of evaluations is not reached, and the rest are replaced by
+ * non-dominated solutions among all those evaluated by the problem.
+ *
+ * @author Antonio J. Nebro
+ */
+public class SurrogateAssistedEvaluation implements Evaluation<DoubleSolution> {
+  private static final AttributeKey<Integer> estimatedKey =
+      AttributeKey.integerKey(SurrogateAssistedEvaluation.class.getName());
+
+  private final Evaluation<DoubleSolution> evaluation;
+  private final int numberOfEvaluationsPerCall;
+  private int maximumNumberOfEvaluations = Integer.MAX_VALUE;
+  private int minimumNumberOfPointsOfTheModel;
+  private int maximumNumberOfPointsOfTheModel = 300;
+  private double explorationWeight = 1.0;
+
+  private RBFSurrogateModel model;
+  private final NonDominatedSolutionListArchive<DoubleSolution> evaluatedSolutionsArchive =
+      new NonDominatedSolutionListArchive<>();
+  private int computedEvaluations;
+  private int totalComputedEvaluations;
+  private int estimatedSolutions;
+
+  /**
+   * Constructor
+   *
+   * @param evaluation Evaluation of the solutions with the problem
+   * @param numberOfEvaluationsPerCall Number of solutions of each list that are evaluated with the
+   *     problem once the model has enough points
+   */
+  public SurrogateAssistedEvaluation(
+      Evaluation<DoubleSolution> evaluation, int numberOfEvaluationsPerCall) {
+    Check.notNull(evaluation);
+    Check.that(
+        numberOfEvaluationsPerCall > 0,
+        "The number of evaluations per call must be positive: " + numberOfEvaluationsPerCall);
+
+    this.evaluation = evaluation;
+    this.numberOfEvaluationsPerCall = numberOfEvaluationsPerCall;
+    this.minimumNumberOfPointsOfTheModel = 2 * (evaluation.problem().numberOfVariables() + 1);
+  }
+
+  /** Sets the maximum number of evaluations of the problem */
+  public SurrogateAssistedEvaluation setMaximumNumberOfEvaluations(
+      int maximumNumberOfEvaluations) {
+    Check.that(maximumNumberOfEvaluations >= 0, "The maximum number of evaluations is negative");
+    this.maximumNumberOfEvaluations = maximumNumberOfEvaluations;
+
+    return this;
+  }
+
+  /** Sets the number of points the model needs before the solutions are pre-screened */
+  public SurrogateAssistedEvaluation setMinimumNumberOfPointsOfTheModel(
+      int minimumNumberOfPointsOfTheModel) {
+    Check.that(
+        minimumNumberOfPointsOfTheModel > 0, "The minimum number of points must be positive");
+    this.minimumNumberOfPointsOfTheModel = minimumNumberOfPointsOfTheModel;
+
+    return this;
+  }
+
+  /** Sets the number of evaluated solutions kept by the model (the most recent ones) */
+  public SurrogateAssistedEvaluation setMaximumNumberOfPointsOfTheModel(
+      int maximumNumberOfPointsOfTheModel) {
+    Check.that(model == null, "The model has already been created");
+    Check.that(
+        maximumNumberOfPointsOfTheModel > 0, "The maximum number of points must be positive");
+    this.maximumNumberOfPointsOfTheModel = maximumNumberOfPointsOfTheModel;
+
+    return this;
+  }
+
+  /** Sets the weight of the uncertainty of the predictions when choosing the solutions */
+  public SurrogateAssistedEvaluation setExplorationWeight(double explorationWeight) {
+    Check.that(
+        explorationWeight >= 0.0, "The exploration weight is negative: " + explorationWeight);
+    this.explorationWeight = explorationWeight;
+
+    return this;
+  }
+
+  @Override
+  public List<DoubleSolution> evaluate(List<DoubleSolution> solutionList) {
+    Check.notNull(solutionList);
+
+    int remainingEvaluations = remainingEvaluations();
+    Check.that(
+        model != null || remainingEvaluations > 0 || solutionList.isEmpty(),
+        "The objectives cannot be estimated because no solution has been evaluated");
+    List<DoubleSolution> solutionsToEvaluate;
+    if (model == null || model.size() < minimumNumberOfPointsOfTheModel) {
+      solutionsToEvaluate = solutionList;
+    } else {
+      solutionsToEvaluate =
+          preScreen(solutionList, Math.min(numberOfEvaluationsPerCall, remainingEvaluations));
+    }
+    if (solutionsToEvaluate.size() > remainingEvaluations) {
+      solutionsToEvaluate = new ArrayList<>(solutionsToEvaluate.subList(0, remainingEvaluations));
+    }
+
+    if (!solutionsToEvaluate.isEmpty()) {
+      evaluation.evaluate(solutionsToEvaluate);
+      updateModel(solutionsToEvaluate);
+    }
+
+    Set<DoubleSolution> evaluatedSolutions = Collections.newSetFromMap(new IdentityHashMap<>());
+    evaluatedSolutions.addAll(solutionsToEvaluate);
+    for (DoubleSolution solution : solutionList) {
+      if (evaluatedSolutions.contains(solution)) {
+        estimatedKey.setInt(solution, 0);
+      } else {
+        estimate(solution);
+      }
+    }
+
+    computedEvaluations = solutionsToEvaluate.size();
+    totalComputedEvaluations += computedEvaluations;
+    estimatedSolutions += solutionList.size() - computedEvaluations;
+
+    return solutionList;
+  }
+
+  /**
+   * Returns the final population without estimated solutions. The estimated solutions are
+   * evaluated by the problem in the order of the population while the maximum number of
+   * evaluations is not reached; the rest are removed, and the population is completed, up to its
+   * original size, with copies of the non-dominated solutions evaluated by the problem that are not
+   * already in it.
+   */
+  @Override
+  public List<DoubleSolution> finalPopulation(List<DoubleSolution> population) {
+    Check.notNull(population);
+
+    List<DoubleSolution> estimatedPopulation =
+        population.stream().filter(SurrogateAssistedEvaluation::isEstimated).toList();
+    int numberOfEvaluations = Math.min(estimatedPopulation.size(), remainingEvaluations());
+    if (numberOfEvaluations > 0) {
+      List<DoubleSolution> solutionsToEvaluate =
+          new ArrayList<>(estimatedPopulation.subList(0, numberOfEvaluations));
+      evaluation.evaluate(solutionsToEvaluate);
+      updateModel(solutionsToEvaluate);
+      solutionsToEvaluate.forEach(solution -> estimatedKey.setInt(solution, 0));
+      totalComputedEvaluations += numberOfEvaluations;
+    }
+
+    List<DoubleSolution> finalPopulation = new ArrayList<>();
+    for (DoubleSolution solution : population) {
+      if (!isEstimated(solution)) {
+        finalPopulation.add(solution);
+      }
+    }
+    for (DoubleSolution solution : evaluatedSolutionsArchive.solutions()) {
+      if (finalPopulation.size() < population.size() && !finalPopulation.contains(solution)) {
+        finalPopulation.add((DoubleSolution) solution.copy());
+      }
+    }
+
+    return finalPopulation;
+  }
+
+  /** Sets the objectives of a solution to the ones predicted by the model */
+  private void estimate(DoubleSolution solution) {
+    RBFSurrogateModel.Prediction prediction = model.predict(variables(solution));
+    System.arraycopy(
+        prediction.objectives(), 0, solution.objectives(), 0, prediction.objectives().length);
+    estimatedKey.setInt(solution, 1);
+  }
+
+  /**
+   * Returns true if the objectives of a solution have been estimated by the model instead of being
+   * computed by the problem
+   */
+  public static boolean isEstimated(Solution<?> solution) {
+    return estimatedKey.getInt(solution, 0) == 1;
+  }
+
+  /** Returns the given number of solutions chosen with the lower confidence bounds */
+  private List<DoubleSolution> preScreen(List<DoubleSolution> solutionList, int numberOfSolutions) {
+    if (solutionList.size() <= numberOfSolutions) {
+      return solutionList;
+    }
+    if (numberOfSolutions == 0) {
+      return new ArrayList<>();
+    }
+
+    // The ranking is computed with copies of the solutions whose objectives are the bounds
+    Map<DoubleSolution, DoubleSolution> originalSolutions = new IdentityHashMap<>();
+    Map<DoubleSolution, Double> uncertainties = new IdentityHashMap<>();
+    List<DoubleSolution> estimatedSolutions = new ArrayList<>();
+    for (DoubleSolution solution : solutionList) {
+      RBFSurrogateModel.Prediction prediction = model.predict(variables(solution));
+      DoubleSolution estimatedSolution = (DoubleSolution) solution.copy();
+      double uncertainty = 0.0;
+      for (int j = 0; j < prediction.objectives().length; j++) {
+        estimatedSolution.objectives()[j] =
+            prediction.objectives()[j] - explorationWeight * prediction.standardDeviations()[j];
+        uncertainty += prediction.standardDeviations()[j];
+      }
+      originalSolutions.put(estimatedSolution, solution);
+      uncertainties.put(estimatedSolution, uncertainty);
+      estimatedSolutions.add(estimatedSolution);
+    }
+
+    Ranking<DoubleSolution> ranking = new FastNonDominatedSortRanking<>();
+    ranking.compute(estimatedSolutions);
+
+    List<DoubleSolution> chosenSolutions = new ArrayList<>();
+    for (int rank = 0; chosenSolutions.size() < numberOfSolutions; rank++) {
+      List<DoubleSolution> front = new ArrayList<>(ranking.getSubFront(rank));
+      front.sort(Comparator.comparing(uncertainties::get, Comparator.reverseOrder()));
+      for (DoubleSolution solution : front) {
+        if (chosenSolutions.size() < numberOfSolutions) {
+          chosenSolutions.add(originalSolutions.get(solution));
+        }
+      }
+    }
+
+    return chosenSolutions;
+  }
+
+  private void updateModel(List<DoubleSolution> evaluatedSolutions) {
+    if (model == null) {
+      DoubleSolution solution = evaluatedSolutions.get(0);
+      double[] lowerBounds = new double[solution.variables().size()];
+      double[] upperBounds = new double[solution.variables().size()];
+      for (int i = 0; i < lowerBounds.length; i++) {
+        lowerBounds[i] = solution.getBounds(i).getLowerBound();
+        upperBounds[i] = solution.getBounds(i).getUpperBound();
+      }
+      model =
+          new RBFSurrogateModel(
+              lowerBounds,
+              upperBounds,
+              solution.objectives().length,
+              maximumNumberOfPointsOfTheModel);
+    }
+
+    for (DoubleSolution solution : evaluatedSolutions) {
+      model.add(variables(solution), solution.objectives());
+      DoubleSolution evaluatedSolution = (DoubleSolution) solution.copy();
+      estimatedKey.setInt(evaluatedSolution, 0);
+      evaluatedSolutionsArchive.add(evaluatedSolution);
+    }
+  }
+
+  private static double[] variables(DoubleSolution solution) {
+    return solution.variables().stream().mapToDouble(Double::doubleValue).toArray();
+  }
+
+  /** Number of solutions of the last list that have been evaluated by the problem */
+  @Override
+  public int computedEvaluations() {
+    return computedEvaluations;
+  }
+
+  /** Total number of solutions that have been evaluated by the problem */
+  public int totalComputedEvaluations() {
+    return totalComputedEvaluations;
+  }
+
+  /** Total number of solutions whose objectives have been estimated by the model */
+  public int estimatedSolutions() {
+    return estimatedSolutions;
+  }
+
+  /** Number of evaluations of the problem that can still be computed */
+  public int remainingEvaluations() {
+    return maximumNumberOfEvaluations - totalComputedEvaluations;
+  }
+
+  public RBFSurrogateModel model() {
+    return model;
+  }
+
+  @Override
+  public Problem<DoubleSolution> problem() {
+    return evaluation.problem();
+  }
+
+  @Override
+  public void shutdown() {
+    evaluation.shutdown();
+  }
+}
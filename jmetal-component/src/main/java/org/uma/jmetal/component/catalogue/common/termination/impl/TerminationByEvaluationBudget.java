@@ -0,0 +1,32 @@
+package org.uma.jmetal.component.catalogue.common.termination.impl;
+
+import java.util.Map;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.SurrogateAssistedEvaluation;
+import org.uma.jmetal.component.catalogue.common.termination.Termination;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Class that allows to check the termination condition based on the evaluation budget of a {@link
+ * SurrogateAssistedEvaluation}: it is met when all the evaluations of the problem allowed by the
+ * evaluation have been computed, independently of the number of solutions whose objectives have
+ * been estimated by the surrogate model.
+ *
+ * @author Antonio J. Nebro
+ */
+public class TerminationByEvaluationBudget implements Termination {
+  private final SurrogateAssistedEvaluation evaluation;
+
+  public TerminationByEvaluationBudget(SurrogateAssistedEvaluation evaluation) {
+    Check.notNull(evaluation);
+    this.evaluation = evaluation;
+  }
+
+  @Override
+  public boolean isMet(Map<String, Object> algorithmStatusData) {
+    return evaluation.remainingEvaluations() <= 0;
+  }
+
+  public SurrogateAssistedEvaluation getEvaluation() {
+    return evaluation;
+  }
+}
@@ -0,0 +1,31 @@
+package org.uma.jmetal.component.catalogue.ea.replacement;
+
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Replacement depending on a state of the algorithm at the time the offspring were created (e.g.,
+ * the subproblem whose neighbors were selected as parents in MOEA/D). Algorithms that do not
+ * replace the offspring right after creating them, such as the asynchronous ones, capture the
+ * state after each variation and restore it when the offspring are integrated into the population.
+ *
+ * @author Antonio J. Nebro
+ * @param <S> Type of the solutions
+ * @param <T> Type of the state
+ */
+public interface StatefulReplacement<S extends Solution<?>, T> extends Replacement<S> {
+  /**
+   * Returns the state of the offspring created by the last variation, and advances the state as
+   * {@link #replace(List, List)} does, so the next selection works on the next state
+   */
+  T captureState();
+
+  /**
+   * Replaces the offspring created in a given state, which is not advanced
+   *
+   * @param population Population
+   * @param offspringPopulation Offspring
+   * @param state State returned by {@link #captureState()} when the offspring were created
+   */
+  List<S> replace(List<S> population, List<S> offspringPopulation, T state);
+}
@@ -0,0 +1,74 @@
+package org.uma.jmetal.component.catalogue.ea.replacement.impl;
+
+import java.util.List;
+import org.uma.jmetal.component.catalogue.ea.replacement.subproblemupdate.SubproblemUpdateCriterion;
+import org.uma.jmetal.component.catalogue.ea.selection.impl.BatchPopulationAndNeighborhoodSelection;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.aggregationfunction.AggregationFunction;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.neighborhood.impl.WeightVectorNeighborhood;
+
+/**
+ * Replacement of MOEA/D for the offspring of a batch of subproblems, selected by a {@link
+ * BatchPopulationAndNeighborhoodSelection}. The offspring are created and evaluated concurrently,
+ * but they update the ideal and nadir points and the neighborhoods of their subproblems in the
+ * order of the subproblems in the batch, as the offspring of the steady-state MOEA/D do. This way,
+ * when two offspring compete for the same subproblem, the result is always the same regardless of
+ * the threads that created and evaluated them.
+ *
+ * @author Antonio J. Nebro
+ * @param <S> Type of the solutions
+ */
+public class MOEADBatchReplacement<S extends Solution<?>> extends MOEADReplacement<S> {
+  private final BatchPopulationAndNeighborhoodSelection<S> batchSelection;
+
+  public MOEADBatchReplacement(
+      BatchPopulationAndNeighborhoodSelection<S> batchSelection,
+      WeightVectorNeighborhood<S> weightVectorNeighborhood,
+      AggregationFunction aggregationFunction,
+      int maximumNumberOfReplacedSolutions,
+      boolean normalize,
+      SubproblemUpdateCriterion<S> subproblemUpdateCriterion) {
+    super(
+        batchSelection.selection(),
+        weightVectorNeighborhood,
+        aggregationFunction,
+        batchSelection.selection().getSolutionIndexGenerator(),
+        maximumNumberOfReplacedSolutions,
+        normalize,
+        subproblemUpdateCriterion);
+    this.batchSelection = batchSelection;
+  }
+
+  /** The sequence of subproblems has already been advanced by the selection */
+  @Override
+  public List<S> replace(List<S> population, List<S> offspringPopulation) {
+    int numberOfSubproblems = batchSelection.numberOfSubproblems();
+    Check.that(
+        offspringPopulation.size() % numberOfSubproblems == 0,
+        "The number of offspring ("
+            + offspringPopulation.size()
+            + ") is not a multiple of the number of subproblems ("
+            + numberOfSubproblems
+            + ")");
+
+    int offspringPerSubproblem = offspringPopulation.size() / numberOfSubproblems;
+    for (int i = 0; i < offspringPopulation.size(); i++) {
+      int subproblem = i / offspringPerSubproblem;
+      update(
+          population,
+          offspringPopulation.get(i),
+          batchSelection.subproblem(subproblem),
+          batchSelection.neighborType(subproblem));
+    }
+
+    return population;
+  }
+
+  /** The offspring of a batch are replaced together, so they cannot be replaced one by one */
+  @Override
+  public Subproblem captureState() {
+    throw new JMetalException("The offspring of a batch of subproblems cannot be replaced apart");
+  }
+}
@@ -1,13 +1,17 @@
 package org.uma.jmetal.component.catalogue.ea.replacement.impl;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.List;
-import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
+import org.uma.jmetal.component.catalogue.ea.replacement.StatefulReplacement;
 import org.uma.jmetal.component.catalogue.ea.replacement.subproblemupdate.SubproblemUpdateCriterion;
 import org.uma.jmetal.component.catalogue.ea.replacement.subproblemupdate.impl.AggregationCriterion;
 import org.uma.jmetal.component.catalogue.ea.selection.impl.PopulationAndNeighborhoodSelection;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.aggregationfunction.AggregationFunction;
 import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
 import org.uma.jmetal.util.neighborhood.Neighborhood;
 import org.uma.jmetal.util.neighborhood.impl.WeightVectorNeighborhood;
 import org.uma.jmetal.util.point.impl.IdealPoint;
@@ -15,7 +19,26 @@ import org.uma.jmetal.util.point.impl.NadirPoint;
 import org.uma.jmetal.util.sequencegenerator.SequenceGenerator;
 import org.uma.jmetal.util.sequencegenerator.impl.RandomPermutationCycle;
 
-public class MOEADReplacement<S extends Solution<?>> implements Replacement<S> {
+/**
+ * Replacement of MOEA/D, which updates the ideal point (and, if the objectives are normalized, the
+ * nadir point computed from the non-dominated solutions found so far) with each new solution, and
+ * replaces with it the solutions of the neighborhood of the subproblem it was produced for. Its
+ * state (the ideal point, the non-dominated solutions and the state of the sequence generator of
+ * the subproblems) is saved in the checkpoints of the algorithms.
+ *
+ * @author Antonio J. Nebro
+ * @param <S> Type of the solutions
+ */
+public class MOEADReplacement<S extends Solution<?>>
+    implements StatefulReplacement<S, MOEADReplacement.Subproblem>, CheckpointableComponent {
+
+  /**
+   * Subproblem whose neighbors were selected as parents of an offspring solution
+   *
+   * @param index Index of the subproblem
+   * @param neighborType Type of neighborhood used to select the parents
+   */
+  public record Subproblem(int index, Neighborhood.NeighborType neighborType) {}
 
   private final PopulationAndNeighborhoodSelection<S> matingPoolSelection;
   private final WeightVectorNeighborhood<S> weightVectorNeighborhood;
@@ -29,6 +52,8 @@ public class MOEADReplacement<S extends Solution<?>> implements Replacement<S> {
   private NadirPoint nadirPoint = null;
   private NonDominatedSolutionListArchive<S> nonDominatedSolutionListArchive;
   private boolean firstReplacement = true;
+  private double[][] restoredNonDominatedObjectives;
+  private double[][] restoredNonDominatedConstraints;
 
   public MOEADReplacement(
       PopulationAndNeighborhoodSelection<S> matingPoolSelection,
@@ -70,12 +95,49 @@ public class MOEADReplacement<S extends Solution<?>> implements Replacement<S> {
       List<S> population, List<S> offspringPopulation) {
     S newSolution = offspringPopulation.get(0);
 
+    update(
+        population,
+        newSolution,
+        sequenceGenerator.getValue(),
+        matingPoolSelection.getNeighborType());
+
+    sequenceGenerator.generateNext();
+    return population;
+  }
+
+  @Override
+  public Subproblem captureState() {
+    Subproblem subproblem =
+        new Subproblem(sequenceGenerator.getValue(), matingPoolSelection.getNeighborType());
+    sequenceGenerator.generateNext();
+
+    return subproblem;
+  }
+
+  @Override
+  public List<S> replace(
+      List<S> population, List<S> offspringPopulation, Subproblem subproblem) {
+    update(population, offspringPopulation.get(0), subproblem.index(), subproblem.neighborType());
+
+    return population;
+  }
+
+  /**
+   * Updates the ideal and nadir points with a new solution, and replaces with it the solutions of
+   * the neighborhood of a subproblem (or of the population) that it improves
+   *
+   * @param population Population
+   * @param newSolution New solution
+   * @param subproblem Index of the subproblem whose parents produced the new solution
+   * @param neighborType Type of neighborhood used to select the parents
+   */
+  protected void update(
+      List<S> population, S newSolution, int subproblem, Neighborhood.NeighborType neighborType) {
     updateIdealPoint(population, newSolution);
     updateNadirPoint(population, newSolution);
 
     subproblemUpdateCriterion.update(population, newSolution);
 
-    Neighborhood.NeighborType neighborType = matingPoolSelection.getNeighborType();
     RandomPermutationCycle randomPermutation =
         new RandomPermutationCycle(
             neighborType.equals(Neighborhood.NeighborType.NEIGHBOR)
@@ -90,9 +152,7 @@ public class MOEADReplacement<S extends Solution<?>> implements Replacement<S> {
         i++) {
       int k;
       if (neighborType.equals(Neighborhood.NeighborType.NEIGHBOR)) {
-        k =
-            weightVectorNeighborhood
-                .getNeighborhood()[sequenceGenerator.getValue()][randomPermutation.getValue()];
+        k = weightVectorNeighborhood.getNeighborhood()[subproblem][randomPermutation.getValue()];
       } else {
         k = randomPermutation.getValue();
       }
@@ -115,9 +175,6 @@ public class MOEADReplacement<S extends Solution<?>> implements Replacement<S> {
         replacements++;
       }
     }
-
-    sequenceGenerator.generateNext();
-    return population;
   }
 
   private void updateIdealPoint(List<S> population, S newSolution) {
@@ -130,10 +187,35 @@ public class MOEADReplacement<S extends Solution<?>> implements Replacement<S> {
         nonDominatedSolutionListArchive.add(newSolution);
       }
       firstReplacement = false;
+    } else if (restoredNonDominatedObjectives != null) {
+      restoreNonDominatedSolutions(population.get(0));
     }
     idealPoint.update(newSolution.objectives());
   }
 
+  /**
+   * Creates the archive of non-dominated solutions read from a checkpoint. Only the objectives and
+   * the constraints of the solutions are saved (they are the only values used to compute the nadir
+   * point), so they are set in copies of a solution of the population.
+   */
+  private void restoreNonDominatedSolutions(S solution) {
+    nonDominatedSolutionListArchive = new NonDominatedSolutionListArchive<>();
+    for (int i = 0; i < restoredNonDominatedObjectives.length; i++) {
+      @SuppressWarnings("unchecked")
+      S nonDominatedSolution = (S) solution.copy();
+      nonDominatedSolution.attributes().clear();
+      System.arraycopy(
+          restoredNonDominatedObjectives[i], 0, nonDominatedSolution.objectives(), 0,
+          restoredNonDominatedObjectives[i].length);
+      System.arraycopy(
+          restoredNonDominatedConstraints[i], 0, nonDominatedSolution.constraints(), 0,
+          restoredNonDominatedConstraints[i].length);
+      nonDominatedSolutionListArchive.add(nonDominatedSolution);
+    }
+    restoredNonDominatedObjectives = null;
+    restoredNonDominatedConstraints = null;
+  }
+
   private void updateNadirPoint(List<S> population, S newSolution) {
     if (normalize) {
       nadirPoint = new NadirPoint(population.get(0).objectives().length);
@@ -143,5 +225,63 @@ public class MOEADReplacement<S extends Solution<?>> implements Replacement<S> {
       }
     }
   }
-}
 
+  @Override
+  public void writeState(DataOutput output) throws IOException {
+    CheckpointableComponent.writeStateOf(sequenceGenerator, output);
+    output.writeBoolean(firstReplacement);
+    if (!firstReplacement) {
+      writeValues(output, idealPoint.values());
+      if (normalize && restoredNonDominatedObjectives != null) {
+        output.writeInt(restoredNonDominatedObjectives.length);
+        for (int i = 0; i < restoredNonDominatedObjectives.length; i++) {
+          writeValues(output, restoredNonDominatedObjectives[i]);
+          writeValues(output, restoredNonDominatedConstraints[i]);
+        }
+      } else if (normalize) {
+        List<S> nonDominatedSolutions = nonDominatedSolutionListArchive.solutions();
+        output.writeInt(nonDominatedSolutions.size());
+        for (S solution : nonDominatedSolutions) {
+          writeValues(output, solution.objectives());
+          writeValues(output, solution.constraints());
+        }
+      }
+    }
+  }
+
+  @Override
+  public void readState(DataInput input) throws IOException {
+    CheckpointableComponent.readStateOf(sequenceGenerator, input);
+    firstReplacement = input.readBoolean();
+    if (!firstReplacement) {
+      double[] idealPointValues = readValues(input);
+      idealPoint = new IdealPoint(idealPointValues.length);
+      idealPoint.set(idealPointValues);
+      if (normalize) {
+        int numberOfSolutions = input.readInt();
+        restoredNonDominatedObjectives = new double[numberOfSolutions][];
+        restoredNonDominatedConstraints = new double[numberOfSolutions][];
+        for (int i = 0; i < numberOfSolutions; i++) {
+          restoredNonDominatedObjectives[i] = readValues(input);
+          restoredNonDominatedConstraints[i] = readValues(input);
+        }
+      }
+    }
+  }
+
+  private static void writeValues(DataOutput output, double[] values) throws IOException {
+    output.writeInt(values.length);
+    for (double value : values) {
+      output.writeDouble(value);
+    }
+  }
+
+  private static double[] readValues(DataInput input) throws IOException {
+    double[] values = new double[input.readInt()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = input.readDouble();
+    }
+
+    return values;
+  }
+}
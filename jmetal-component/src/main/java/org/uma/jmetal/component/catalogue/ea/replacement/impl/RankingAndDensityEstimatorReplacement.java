@@ -1,14 +1,58 @@
 package org.uma.jmetal.component.catalogue.ea.replacement.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
 import org.uma.jmetal.component.util.RankingAndDensityEstimatorPreference;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.attribute.AttributeKey;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.populationmatrix.PopulationMatrix;
+import org.uma.jmetal.util.populationmatrix.PopulationMatrixDensityEstimator;
+import org.uma.jmetal.util.populationmatrix.PopulationMatrixRanking;
 import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.MergeNonDominatedSortRanking;
 
+/**
+ * Replacement that keeps the best solutions of the joint population (population plus offspring)
+ * according to a ranking and, within the last sub-front that fits, to a density estimator.
+ *
+ * <p>If the population matrix is enabled (see {@link #setPopulationMatrix(boolean)}), the ranking
+ * implements {@link PopulationMatrixRanking} and the density estimator implements {@link
+ * PopulationMatrixDensityEstimator}, the joint population is packed into a {@link
+ * PopulationMatrix} and all the computations are carried out on it. The selected solutions, the
+ * sub-fronts of the ranking and the rank and density attributes of the solutions are the same as
+ * with the list-based computation.
+ *
+ * <p>In steady-state algorithms the joint population differs from the previous one in a few
+ * solutions, so ranking it again from scratch (O(MN^2)) in each step is wasteful. If the ranking
+ * is a non-dominated sorting based on the Pareto dominance ({@link FastNonDominatedSortRanking}
+ * with a {@link DefaultDominanceComparator}, or {@link MergeNonDominatedSortRanking}), the density
+ * estimator is a {@link CrowdingDistanceDensityEstimator}, and the number of offspring solutions
+ * does not exceed a threshold set with {@link #setIncrementalUpdateThreshold(int)}, the sub-fronts
+ * of the population are kept between calls in an {@link IncrementalNonDominatedSortRanking}.
+ * Then, the offspring solutions are inserted in it, the worst
+ * solutions are removed one at a time, and the ranks and crowding distances are only updated in
+ * the sub-fronts that have changed; with two objectives, the crowding distances are computed
+ * without sorting, because the solutions of each sub-front are kept sorted. The incremental update
+ * is only used if the population passed to {@link #replace(List, List)} contains the solutions
+ * returned by the previous call in the same order; otherwise the sub-fronts are computed again.
+ * Solutions are removed as in the {@link RemovalPolicy#SEQUENTIAL} policy, which removes the same
+ * solution as {@link RemovalPolicy#ONE_SHOT} when there is only one offspring solution, so with the
+ * latter the incremental update is only applied to single offspring solutions.
+ * The list-based methods of the ranking ({@link Ranking#getSubFront(int)}) are not updated. The
+ * incremental update is disabled by default because, although the selected solutions are the same,
+ * the order of the solutions in the returned population (and so the breaking of ties in later
+ * selections) can differ from the one of the full computation.
+ */
 public class RankingAndDensityEstimatorReplacement<S extends Solution<?>>
     implements Replacement<S> {
   public enum RemovalPolicy {SEQUENTIAL, ONE_SHOT}
@@ -16,6 +60,12 @@ public class RankingAndDensityEstimatorReplacement<S extends Solution<?>>
   private Ranking<S> ranking;
   private DensityEstimator<S> densityEstimator;
   private RemovalPolicy removalPolicy;
+  private boolean populationMatrix = false;
+
+  private int incrementalUpdateThreshold = 0;
+  private IncrementalNonDominatedSortRanking<S> incrementalRanking;
+  private List<S> population;
+  private int subFrontWithOutdatedDensities;
 
   public RankingAndDensityEstimatorReplacement(
       Ranking<S> ranking, DensityEstimator<S> densityEstimator) {
@@ -36,11 +86,49 @@ public class RankingAndDensityEstimatorReplacement<S extends Solution<?>>
     this.removalPolicy = removalPolicy;
   }
 
+  /**
+   * Sets the maximum number of offspring solutions for which the population is updated
+   * incrementally. A value of 0, the default one, disables the incremental update.
+   */
+  public RankingAndDensityEstimatorReplacement<S> setIncrementalUpdateThreshold(
+      int maximumNumberOfOffspringSolutions) {
+    Check.that(
+        maximumNumberOfOffspringSolutions >= 0,
+        "The threshold is negative: " + maximumNumberOfOffspringSolutions);
+    this.incrementalUpdateThreshold = maximumNumberOfOffspringSolutions;
+    return this;
+  }
+
+  /**
+   * Sets whether the joint population is packed into a {@link PopulationMatrix} when the ranking
+   * and the density estimator support it. Default: false
+   */
+  public RankingAndDensityEstimatorReplacement<S> setPopulationMatrix(boolean populationMatrix) {
+    this.populationMatrix = populationMatrix;
+    return this;
+  }
+
   public List<S> replace(List<S> solutionList, List<S> offspringList) {
+    if (incrementalUpdateIsApplicable(offspringList)) {
+      return incrementalReplace(solutionList, offspringList);
+    }
+    incrementalRanking = null;
+    population = null;
+
     List<S> jointPopulation = new ArrayList<>();
     jointPopulation.addAll(solutionList);
     jointPopulation.addAll(offspringList);
 
+    if (populationMatrix
+        && ranking instanceof PopulationMatrixRanking<S> matrixRanking
+        && densityEstimator instanceof PopulationMatrixDensityEstimator<S> matrixDensityEstimator) {
+      return replace(
+          new PopulationMatrix<>(jointPopulation),
+          matrixRanking,
+          matrixDensityEstimator,
+          solutionList.size());
+    }
+
     List<S> resultList;
     ranking.compute(jointPopulation);
 
@@ -52,6 +140,183 @@ public class RankingAndDensityEstimatorReplacement<S extends Solution<?>>
     return resultList;
   }
 
+  private List<S> replace(
+      PopulationMatrix<S> matrix,
+      PopulationMatrixRanking<S> matrixRanking,
+      PopulationMatrixDensityEstimator<S> matrixDensityEstimator,
+      int sizeOfTheResultingSolutionList) {
+    matrixRanking.compute(matrix);
+
+    int[] selectedRows = new int[sizeOfTheResultingSolutionList];
+    int numberOfSelectedRows = 0;
+    int rankingId = 0;
+    List<int[]> rowsWithDensity = new ArrayList<>();
+    while (numberOfSelectedRows < sizeOfTheResultingSolutionList) {
+      int[] currentRankRows = matrix.subFront(rankingId);
+      matrixDensityEstimator.compute(matrix, currentRankRows);
+      rowsWithDensity.add(currentRankRows.clone());
+
+      int remaining = sizeOfTheResultingSolutionList - numberOfSelectedRows;
+      if (currentRankRows.length < remaining) {
+        System.arraycopy(
+            currentRankRows, 0, selectedRows, numberOfSelectedRows, currentRankRows.length);
+        numberOfSelectedRows += currentRankRows.length;
+      } else {
+        int[] truncatedRows;
+        if (removalPolicy == RemovalPolicy.ONE_SHOT) {
+          matrix.sortByDescendingDensity(currentRankRows);
+          truncatedRows = currentRankRows;
+          // The list-based truncation sorts the sub-front of the ranking in the same way
+          List<S> subFront = matrixRanking.getSubFront(rankingId);
+          for (int i = 0; i < currentRankRows.length; i++) {
+            subFront.set(i, matrix.solution(currentRankRows[i]));
+          }
+        } else {
+          truncatedRows = currentRankRows;
+          while (truncatedRows.length > remaining) {
+            matrix.sortByDescendingDensity(truncatedRows);
+            truncatedRows = Arrays.copyOf(truncatedRows, truncatedRows.length - 1);
+            matrixDensityEstimator.compute(matrix, truncatedRows);
+          }
+        }
+        System.arraycopy(truncatedRows, 0, selectedRows, numberOfSelectedRows, remaining);
+        numberOfSelectedRows += remaining;
+      }
+      rankingId++;
+    }
+
+    // As in the list-based truncation, the removed solutions keep their last density value
+    for (int[] rows : rowsWithDensity) {
+      for (int row : rows) {
+        matrixDensityEstimator.setValue(matrix.solution(row), matrix.density(row));
+      }
+    }
+
+    List<S> resultList = new ArrayList<>(sizeOfTheResultingSolutionList);
+    for (int row : selectedRows) {
+      resultList.add(matrix.solution(row));
+    }
+
+    return resultList;
+  }
+
+  private boolean incrementalUpdateIsApplicable(List<S> offspringList) {
+    return !offspringList.isEmpty()
+        && offspringList.size() <= incrementalUpdateThreshold
+        && (offspringList.size() == 1 || removalPolicy == RemovalPolicy.SEQUENTIAL)
+        && densityEstimator instanceof CrowdingDistanceDensityEstimator
+        && (ranking instanceof MergeNonDominatedSortRanking
+            || (ranking instanceof FastNonDominatedSortRanking<S> fastNonDominatedSortRanking
+                && fastNonDominatedSortRanking.dominanceComparator().getClass()
+                    == DefaultDominanceComparator.class));
+  }
+
+  private List<S> incrementalReplace(List<S> solutionList, List<S> offspringList) {
+    if (incrementalRanking == null || !isThePreviousPopulation(solutionList)) {
+      incrementalRanking = new IncrementalNonDominatedSortRanking<>();
+      incrementalRanking.compute(solutionList);
+      subFrontWithOutdatedDensities = -1;
+    }
+
+    var crowdingDistance = (CrowdingDistanceDensityEstimator<S>) densityEstimator;
+    AttributeKey<Integer> rankKey = AttributeKey.integerKey(ranking.getAttributedId());
+    offspringList.forEach(incrementalRanking::add);
+    int truncatedSubFront = -1;
+    while (incrementalRanking.size() > solutionList.size()) {
+      int worstRank = incrementalRanking.getNumberOfSubFronts() - 1;
+      List<S> worstSubFront = incrementalRanking.getSubFront(worstRank);
+      computeCrowdingDistance(worstSubFront, crowdingDistance);
+
+      // As in the sequential truncation, ties are broken in favor of the first solutions
+      S worstSolution = worstSubFront.get(0);
+      for (S solution : worstSubFront) {
+        if (crowdingDistance.value(solution) <= crowdingDistance.value(worstSolution)) {
+          worstSolution = solution;
+        }
+      }
+      rankKey.setInt(worstSolution, worstRank);
+      incrementalRanking.remove(worstSolution);
+      truncatedSubFront = worstRank;
+    }
+
+    BitSet modifiedSubFronts = incrementalRanking.modifiedSubFronts();
+    if (subFrontWithOutdatedDensities >= 0) {
+      modifiedSubFronts.set(subFrontWithOutdatedDensities);
+    }
+    for (int rank = modifiedSubFronts.nextSetBit(0);
+        rank >= 0 && rank < incrementalRanking.getNumberOfSubFronts();
+        rank = modifiedSubFronts.nextSetBit(rank + 1)) {
+      List<S> subFront = incrementalRanking.getSubFront(rank);
+      for (S solution : subFront) {
+        rankKey.setInt(solution, rank);
+      }
+      // With the one-shot policy, the distances of the truncated sub-front are not updated
+      if (rank != truncatedSubFront || removalPolicy == RemovalPolicy.SEQUENTIAL) {
+        computeCrowdingDistance(subFront, crowdingDistance);
+      }
+    }
+    incrementalRanking.clearModifiedSubFronts();
+    subFrontWithOutdatedDensities =
+        removalPolicy == RemovalPolicy.ONE_SHOT
+                && truncatedSubFront < incrementalRanking.getNumberOfSubFronts()
+            ? truncatedSubFront
+            : -1;
+
+    population = new ArrayList<>(solutionList.size());
+    for (int rank = 0; rank < incrementalRanking.getNumberOfSubFronts(); rank++) {
+      population.addAll(incrementalRanking.getSubFront(rank));
+    }
+
+    return new ArrayList<>(population);
+  }
+
+  private boolean isThePreviousPopulation(List<S> solutionList) {
+    if (solutionList.size() != population.size()) {
+      return false;
+    }
+    for (int i = 0; i < solutionList.size(); i++) {
+      if (solutionList.get(i) != population.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Computes the crowding distances of a sub-front of the incremental ranking. With two
+   * objectives, the sub-front is sorted by the first objective and in reverse order by the second
+   * one, so the distances are computed in a single pass.
+   */
+  private void computeCrowdingDistance(
+      List<S> subFront, CrowdingDistanceDensityEstimator<S> crowdingDistance) {
+    int size = subFront.size();
+    if (size <= 2 || subFront.get(0).objectives().length != 2) {
+      crowdingDistance.compute(subFront);
+      return;
+    }
+
+    double[] distances = new double[size];
+    double[] first = subFront.get(0).objectives();
+    double[] last = subFront.get(size - 1).objectives();
+    for (int i = 0; i < 2; i++) {
+      double range = Math.abs(last[i] - first[i]);
+      if (range == 0.0) {
+        continue;
+      }
+      distances[0] = Double.POSITIVE_INFINITY;
+      distances[size - 1] = Double.POSITIVE_INFINITY;
+      for (int j = 1; j < size - 1; j++) {
+        double distance =
+            subFront.get(j + 1).objectives()[i] - subFront.get(j - 1).objectives()[i];
+        distances[j] += Math.abs(distance) / range;
+      }
+    }
+
+    for (int j = 0; j < size; j++) {
+      crowdingDistance.setValue(subFront.get(j), distances[j]);
+    }
+  }
+
   private List<S> oneShotTruncation(int rankingId, int sizeOfTheResultingSolutionList) {
     List<S> currentRankSolutions = ranking.getSubFront(rankingId);
     densityEstimator.compute(currentRankSolutions);
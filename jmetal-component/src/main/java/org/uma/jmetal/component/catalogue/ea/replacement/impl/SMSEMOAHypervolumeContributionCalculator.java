@@ -4,14 +4,22 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.Hypervolume3D;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.MonteCarloHypervolume;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.errorchecking.Check;
 
 /**
- * Computes hypervolume contributions for SMS-EMOA replacement.
+ * Computes hypervolume contributions for SMS-EMOA replacement. The contributions are exact up to
+ * {@link #MAXIMUM_NUMBER_OF_OBJECTIVES_OF_EXACT_CONTRIBUTIONS} objectives; beyond that, the cost of
+ * the exact computation grows exponentially and they are estimated with a {@link
+ * MonteCarloHypervolume}.
  */
 final class SMSEMOAHypervolumeContributionCalculator {
+  static final int MAXIMUM_NUMBER_OF_OBJECTIVES_OF_EXACT_CONTRIBUTIONS = 5;
+  // Number of samples used by default in HypE
+  static final long NUMBER_OF_SAMPLES = 10000;
+
   private double[][] pointBuffer = new double[0][0];
   private double[] contributionBuffer = new double[0];
 
@@ -35,6 +43,12 @@ final class SMSEMOAHypervolumeContributionCalculator {
       return new Hypervolume3D(referencePoint).computeContributions(points);
     }
 
+    if (numberOfObjectives > MAXIMUM_NUMBER_OF_OBJECTIVES_OF_EXACT_CONTRIBUTIONS) {
+      return new MonteCarloHypervolume(referencePoint)
+          .setNumberOfSamples(NUMBER_OF_SAMPLES)
+          .computeHypervolumeContribution(points);
+    }
+
     return computeExactContributionsWithWfg(points, referencePoint);
   }
 
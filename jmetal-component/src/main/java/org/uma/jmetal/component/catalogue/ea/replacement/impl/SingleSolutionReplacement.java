@@ -1,9 +1,13 @@
 package org.uma.jmetal.component.catalogue.ea.replacement.impl;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
 import org.uma.jmetal.util.sequencegenerator.SequenceGenerator;
 
 /**
@@ -15,7 +19,8 @@ import org.uma.jmetal.util.sequencegenerator.SequenceGenerator;
  *
  * @param <S>
  */
-public class SingleSolutionReplacement<S extends Solution<?>> implements Replacement<S> {
+public class SingleSolutionReplacement<S extends Solution<?>>
+    implements Replacement<S>, CheckpointableComponent {
   private final SequenceGenerator<Integer> sequenceGenerator;
   private final Comparator<S> comparator ;
 
@@ -37,4 +42,14 @@ public class SingleSolutionReplacement<S extends Solution<?>> implements Replace
     
     return population;
   }
+
+  @Override
+  public void writeState(DataOutput output) throws IOException {
+    CheckpointableComponent.writeStateOf(sequenceGenerator, output);
+  }
+
+  @Override
+  public void readState(DataInput input) throws IOException {
+    CheckpointableComponent.readStateOf(sequenceGenerator, input);
+  }
 }
@@ -0,0 +1,93 @@
+package org.uma.jmetal.component.catalogue.ea.selection.impl;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.uma.jmetal.component.catalogue.ea.selection.Selection;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.neighborhood.Neighborhood;
+import org.uma.jmetal.util.sequencegenerator.SequenceGenerator;
+
+/**
+ * Selection of the parents of a batch of subproblems of MOEA/D, so that their offspring can be
+ * created and evaluated concurrently. The parents of each subproblem are selected with a {@link
+ * PopulationAndNeighborhoodSelection}, and the mating pool contains the parents of the subproblems
+ * one after the other. The subproblems are given by the sequence generator of that selection,
+ * which is advanced after each one, and they are recorded together with the type of neighborhood
+ * used to select their parents, so that the replacement can update their neighborhoods.
+ *
+ * @author Antonio J. Nebro
+ * @param <S> Type of the solutions
+ */
+public class BatchPopulationAndNeighborhoodSelection<S extends Solution<?>>
+    implements Selection<S>, CheckpointableComponent {
+  private final PopulationAndNeighborhoodSelection<S> selection;
+  private final int numberOfSubproblems;
+  private final int[] subproblems;
+  private final Neighborhood.NeighborType[] neighborTypes;
+
+  /**
+   * Constructor
+   *
+   * @param selection Selection of the parents of each subproblem
+   * @param numberOfSubproblems Number of subproblems of each batch
+   */
+  public BatchPopulationAndNeighborhoodSelection(
+      PopulationAndNeighborhoodSelection<S> selection, int numberOfSubproblems) {
+    Check.notNull(selection);
+    Check.that(
+        numberOfSubproblems > 0,
+        "The number of subproblems is not a positive value: " + numberOfSubproblems);
+    this.selection = selection;
+    this.numberOfSubproblems = numberOfSubproblems;
+    this.subproblems = new int[numberOfSubproblems];
+    this.neighborTypes = new Neighborhood.NeighborType[numberOfSubproblems];
+  }
+
+  @Override
+  public List<S> select(List<S> solutionList) {
+    SequenceGenerator<Integer> sequenceGenerator = selection.getSolutionIndexGenerator();
+
+    List<S> matingPool = new ArrayList<>();
+    for (int i = 0; i < numberOfSubproblems; i++) {
+      matingPool.addAll(selection.select(solutionList));
+      subproblems[i] = sequenceGenerator.getValue();
+      neighborTypes[i] = selection.getNeighborType();
+      sequenceGenerator.generateNext();
+    }
+
+    return matingPool;
+  }
+
+  public int numberOfSubproblems() {
+    return numberOfSubproblems;
+  }
+
+  /** Returns the index of the i-th subproblem of the last batch */
+  public int subproblem(int i) {
+    return subproblems[i];
+  }
+
+  /** Returns the type of neighborhood used to select the parents of the i-th subproblem */
+  public Neighborhood.NeighborType neighborType(int i) {
+    return neighborTypes[i];
+  }
+
+  public PopulationAndNeighborhoodSelection<S> selection() {
+    return selection;
+  }
+
+  @Override
+  public void writeState(DataOutput output) throws IOException {
+    CheckpointableComponent.writeStateOf(selection, output);
+  }
+
+  @Override
+  public void readState(DataInput input) throws IOException {
+    CheckpointableComponent.readStateOf(selection, input);
+  }
+}
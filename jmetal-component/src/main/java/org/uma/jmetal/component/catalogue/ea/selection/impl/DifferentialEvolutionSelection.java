@@ -1,15 +1,19 @@
 package org.uma.jmetal.component.catalogue.ea.selection.impl;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import org.uma.jmetal.component.catalogue.ea.selection.Selection;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.sequencegenerator.SequenceGenerator;
 
 
 public class DifferentialEvolutionSelection
-    implements Selection<DoubleSolution> {
+    implements Selection<DoubleSolution>, CheckpointableComponent {
   private org.uma.jmetal.operator.selection.impl.DifferentialEvolutionSelection selectionOperator;
   private int matingPoolSize;
   private SequenceGenerator<Integer> solutionIndexGenerator ;
@@ -44,4 +48,14 @@ public class DifferentialEvolutionSelection
 
     return matingPool;
   }
+
+  @Override
+  public void writeState(DataOutput output) throws IOException {
+    CheckpointableComponent.writeStateOf(solutionIndexGenerator, output);
+  }
+
+  @Override
+  public void readState(DataInput input) throws IOException {
+    CheckpointableComponent.readStateOf(solutionIndexGenerator, input);
+  }
 }
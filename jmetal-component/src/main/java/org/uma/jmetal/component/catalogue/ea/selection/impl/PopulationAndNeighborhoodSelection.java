@@ -1,10 +1,14 @@
 package org.uma.jmetal.component.catalogue.ea.selection.impl;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.List;
 import org.uma.jmetal.component.catalogue.ea.selection.Selection;
 import org.uma.jmetal.operator.selection.SelectionOperator;
 import org.uma.jmetal.operator.selection.impl.NaryRandomSelection;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.neighborhood.Neighborhood;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -19,7 +23,7 @@ import org.uma.jmetal.util.sequencegenerator.SequenceGenerator;
  * @param <S> Type of the solutions
  */
 public class PopulationAndNeighborhoodSelection<S extends Solution<?>>
-    implements Selection<S> {
+    implements Selection<S>, CheckpointableComponent {
   private SelectionOperator<List<S>, List<S>> selectionOperator;
   private int matingPoolSize;
 
@@ -80,4 +84,14 @@ public class PopulationAndNeighborhoodSelection<S extends Solution<?>>
   public SequenceGenerator<Integer> getSolutionIndexGenerator() {
     return solutionIndexGenerator;
   }
+
+  @Override
+  public void writeState(DataOutput output) throws IOException {
+    CheckpointableComponent.writeStateOf(solutionIndexGenerator, output);
+  }
+
+  @Override
+  public void readState(DataInput input) throws IOException {
+    CheckpointableComponent.readStateOf(solutionIndexGenerator, input);
+  }
 }
@@ -0,0 +1,93 @@
+package org.uma.jmetal.component.catalogue.ea.variation.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.uma.jmetal.component.catalogue.ea.variation.Variation;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomStreams;
+
+/**
+ * Variation applying another variation to each of a number of groups of parents (e.g., the
+ * parents of the subproblems of a batch selected by {@link
+ * org.uma.jmetal.component.catalogue.ea.selection.impl.BatchPopulationAndNeighborhoodSelection}).
+ * The mating pool contains the parents of the groups one after the other, and the offspring
+ * population contains their offspring in the same order.
+ *
+ * <p>The groups are varied in parallel. Each group uses its own pseudo-random generator (see
+ * {@link JMetalRandom#callWith}), whose seed only depends on a seed drawn from {@link JMetalRandom}
+ * the first time and on the number of groups varied before it, so the offspring are the same
+ * regardless of the threads varying them. The operators of the variation must not keep any state
+ * between calls.
+ *
+ * @author Antonio J. Nebro
+ * @param <S> Type of the solutions
+ */
+public class BatchVariation<S extends Solution<?>> implements Variation<S> {
+  private final Variation<S> variation;
+  private final int numberOfGroups;
+  private RandomStreams randomStreams;
+  private long numberOfVariedGroups;
+
+  /**
+   * Constructor
+   *
+   * @param variation Variation of each group of parents
+   * @param numberOfGroups Number of groups of parents
+   */
+  public BatchVariation(Variation<S> variation, int numberOfGroups) {
+    Check.notNull(variation);
+    Check.that(
+        numberOfGroups > 0, "The number of groups is not a positive value: " + numberOfGroups);
+    this.variation = variation;
+    this.numberOfGroups = numberOfGroups;
+  }
+
+  @Override
+  public List<S> variate(List<S> solutionList, List<S> matingPool) {
+    Check.that(
+        matingPool.size() == matingPoolSize(),
+        "The mating pool size " + matingPool.size() + " is not equal to " + matingPoolSize());
+
+    if (randomStreams == null) {
+      randomStreams =
+          new RandomStreams(JMetalRandom.getInstance().nextInt(0, Integer.MAX_VALUE - 1));
+    }
+    long firstGroup = numberOfVariedGroups;
+    numberOfVariedGroups += numberOfGroups;
+
+    List<List<S>> offspring = new ArrayList<>(numberOfGroups);
+    for (int i = 0; i < numberOfGroups; i++) {
+      offspring.add(null);
+    }
+    IntStream.range(0, numberOfGroups)
+        .parallel()
+        .forEach(i -> offspring.set(i, variate(solutionList, matingPool, i, firstGroup + i)));
+
+    List<S> offspringPopulation = new ArrayList<>(offspringPopulationSize());
+    offspring.forEach(offspringPopulation::addAll);
+
+    return offspringPopulation;
+  }
+
+  /** Varies the i-th group of parents of the mating pool with the generator of the group */
+  private List<S> variate(List<S> solutionList, List<S> matingPool, int i, long group) {
+    int groupSize = variation.matingPoolSize();
+    List<S> parents = matingPool.subList(i * groupSize, (i + 1) * groupSize);
+
+    return JMetalRandom.getInstance()
+        .callWith(randomStreams.generator(group), () -> variation.variate(solutionList, parents));
+  }
+
+  @Override
+  public int matingPoolSize() {
+    return numberOfGroups * variation.matingPoolSize();
+  }
+
+  @Override
+  public int offspringPopulationSize() {
+    return numberOfGroups * variation.offspringPopulationSize();
+  }
+}
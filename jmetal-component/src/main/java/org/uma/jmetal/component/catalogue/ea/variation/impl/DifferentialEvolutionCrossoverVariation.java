@@ -1,5 +1,8 @@
 package org.uma.jmetal.component.catalogue.ea.variation.impl;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import org.uma.jmetal.component.catalogue.ea.variation.Variation;
@@ -7,10 +10,12 @@ import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.mutation.impl.NullMutation;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
 import org.uma.jmetal.util.sequencegenerator.SequenceGenerator;
 
 /** */
-public class DifferentialEvolutionCrossoverVariation implements Variation<DoubleSolution> {
+public class DifferentialEvolutionCrossoverVariation
+    implements Variation<DoubleSolution>, CheckpointableComponent {
   private int matingPoolSize;
   private int offspringPopulationSize;
   private SequenceGenerator<Integer> solutionIndexGenerator ;
@@ -75,4 +80,14 @@ public class DifferentialEvolutionCrossoverVariation implements Variation<Double
   public int offspringPopulationSize() {
     return offspringPopulationSize;
   }
+
+  @Override
+  public void writeState(DataOutput output) throws IOException {
+    CheckpointableComponent.writeStateOf(solutionIndexGenerator, output);
+  }
+
+  @Override
+  public void readState(DataInput input) throws IOException {
+    CheckpointableComponent.readStateOf(solutionIndexGenerator, input);
+  }
 }
@@ -25,9 +25,7 @@ public class DefaultGlobalBestInitialization implements GlobalBestInitialization
     Check.notNull(globalBest);
     Check.that(!swarm.isEmpty(), "The swarm size is empty: " + swarm.size());
 
-    for (DoubleSolution particle : swarm) {
-      globalBest.add((DoubleSolution) particle.copy());
-    }
+    globalBest.addAll(swarm.stream().map(particle -> (DoubleSolution) particle.copy()).toList());
 
     return globalBest;
   }
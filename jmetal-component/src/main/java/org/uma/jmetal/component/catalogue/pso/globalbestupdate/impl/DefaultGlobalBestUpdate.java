@@ -25,7 +25,7 @@ public class DefaultGlobalBestUpdate implements GlobalBestUpdate {
     Check.notNull(globalBest);
     Check.that(!swarm.isEmpty(), "The swarm size is empty: " + swarm.size());
 
-    swarm.stream().map(particle -> (DoubleSolution) particle.copy()).forEach(globalBest::add);
+    globalBest.addAll(swarm.stream().map(particle -> (DoubleSolution) particle.copy()).toList());
     return globalBest;
   }
 }
\ No newline at end of file
@@ -1,8 +1,13 @@
 package org.uma.jmetal.component.catalogue.pso.inertiaweightcomputingstrategy.impl;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
 import org.uma.jmetal.util.errorchecking.Check;
 
-public class LinearIncreasingStrategy implements InertiaWeightRangeBasedComputingStrategy {
+public class LinearIncreasingStrategy
+    implements InertiaWeightRangeBasedComputingStrategy, CheckpointableComponent {
   protected final double minimumWeight ;
   protected final double maximumWeight ;
   protected final int maximumNumberOfIterations;
@@ -47,4 +52,14 @@ public class LinearIncreasingStrategy implements InertiaWeightRangeBasedComputin
   public int getComputeCounter() {
     return computeCounter;
   }
+
+  @Override
+  public void writeState(DataOutput output) throws IOException {
+    output.writeInt(computeCounter);
+  }
+
+  @Override
+  public void readState(DataInput input) throws IOException {
+    computeCounter = input.readInt();
+  }
 }
@@ -0,0 +1,101 @@
+package org.uma.jmetal.component.examples.multiobjective.nsgaii;
+
+import static java.lang.Math.sin;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.uma.jmetal.component.algorithm.AsynchronousEvolutionaryAlgorithm;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.component.algorithm.multiobjective.NSGAIIBuilder;
+import org.uma.jmetal.component.catalogue.common.termination.Termination;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.qualityindicator.QualityIndicatorUtils;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Class to configure and run an asynchronous steady-state version of NSGA-II by using the {@link
+ * AsynchronousEvolutionaryAlgorithm} template. The evaluation time of the problem varies randomly,
+ * so the threads would be idle at the end of each generation in the generational version.
+ *
+ * @author Antonio J. Nebro
+ */
+public class AsynchronousNSGAIIExample {
+  public static void main(String[] args) throws JMetalException, IOException {
+    DoubleProblem problem = new ZDT1() {
+      @Override
+      public DoubleSolution evaluate(DoubleSolution solution) {
+        super.evaluate(solution);
+        computingDelay();
+
+        return solution;
+      }
+
+      private void computingDelay() {
+        long iterations = ThreadLocalRandom.current().nextInt(100, 2000);
+        for (long i = 0; i < iterations; i++)
+          for (long j = 0; j < 10000; j++) {
+            double dummy = sin(i) * Math.cos(j);
+          }
+      }
+    };
+
+    String referenceParetoFront = "resources/referenceFrontsCSV/ZDT1.csv";
+
+    double crossoverProbability = 0.9;
+    double crossoverDistributionIndex = 20.0;
+    var crossover = new SBXCrossover(crossoverProbability, crossoverDistributionIndex);
+
+    double mutationProbability = 1.0 / problem.numberOfVariables();
+    double mutationDistributionIndex = 20.0;
+    var mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex);
+
+    int populationSize = 100;
+    int offspringPopulationSize = populationSize;
+
+    Termination termination = new TerminationByEvaluations(25000);
+
+    EvolutionaryAlgorithm<DoubleSolution> generationalNSGAII = new NSGAIIBuilder<>(
+        problem,
+        populationSize,
+        offspringPopulationSize,
+        crossover,
+        mutation)
+        .setTermination(termination)
+        .build();
+
+    int numberOfConcurrentEvaluations = 8;
+    var nsgaii = new AsynchronousEvolutionaryAlgorithm<>(generationalNSGAII,
+        numberOfConcurrentEvaluations);
+
+    nsgaii.run();
+
+    List<DoubleSolution> population = nsgaii.result();
+    JMetalLogger.logger.info("Total execution time : " + nsgaii.totalComputingTime() + "ms");
+    JMetalLogger.logger.info("Number of evaluations: " + nsgaii.numberOfEvaluations());
+
+    new SolutionListOutput(population)
+        .setVarFileOutputContext(new DefaultFileOutputContext("VAR.csv", ","))
+        .setFunFileOutputContext(new DefaultFileOutputContext("FUN.csv", ","))
+        .print();
+
+    JMetalLogger.logger.info("Random seed: " + JMetalRandom.getInstance().getSeed());
+    JMetalLogger.logger.info("Objectives values have been written to file FUN.csv");
+    JMetalLogger.logger.info("Variables values have been written to file VAR.csv");
+
+    QualityIndicatorUtils.printQualityIndicators(
+        SolutionListUtils.getMatrixWithObjectiveValues(population),
+        VectorUtils.readVectors(referenceParetoFront, ","));
+  }
+}
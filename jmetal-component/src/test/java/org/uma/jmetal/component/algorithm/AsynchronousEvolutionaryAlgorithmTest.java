@@ -0,0 +1,264 @@
+package org.uma.jmetal.component.algorithm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.component.algorithm.multiobjective.MOEADBuilder;
+import org.uma.jmetal.component.algorithm.multiobjective.NSGAIIBuilder;
+import org.uma.jmetal.component.algorithm.multiobjective.SMSEMOABuilder;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.MultiThreadedEvaluation;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.SequentialEvaluationWithArchive;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.component.catalogue.ea.replacement.StatefulReplacement;
+import org.uma.jmetal.component.catalogue.ea.variation.Variation;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.sequencegenerator.impl.RandomPermutationCycle;
+
+class AsynchronousEvolutionaryAlgorithmTest {
+  private static final double[][] ZDT1_REFERENCE_FRONT = {{0.0, 1.0}, {1.0, 0.0}};
+
+  private static NSGAIIBuilder<DoubleSolution> nsgaiiBuilder(
+      DoubleProblem problem, int maxEvaluations) {
+    return new NSGAIIBuilder<>(
+            problem,
+            100,
+            100,
+            new SBXCrossover(0.9, 20.0),
+            new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0))
+        .setTermination(new TerminationByEvaluations(maxEvaluations));
+  }
+
+  private static double hypervolume(List<DoubleSolution> population) {
+    return new PISAHypervolume(ZDT1_REFERENCE_FRONT)
+        .compute(SolutionListUtils.getMatrixWithObjectiveValues(population));
+  }
+
+  @Test
+  void theConstructorTakesTheComponentsOfAnEvolutionaryAlgorithm() {
+    EvolutionaryAlgorithm<DoubleSolution> nsgaii = nsgaiiBuilder(new ZDT1(), 1000).build();
+
+    var algorithm = new AsynchronousEvolutionaryAlgorithm<>(nsgaii, 4);
+
+    assertThat(algorithm.name()).isEqualTo(nsgaii.name());
+    assertThat(algorithm.numberOfConcurrentEvaluations()).isEqualTo(4);
+    assertThat(algorithm.createInitialPopulation()).isSameAs(nsgaii.createInitialPopulation());
+    assertThat(algorithm.evaluation()).isSameAs(nsgaii.evaluation());
+    assertThat(algorithm.termination()).isSameAs(nsgaii.termination());
+    assertThat(algorithm.selection()).isSameAs(nsgaii.selection());
+    assertThat(algorithm.variation()).isSameAs(nsgaii.variation());
+    assertThat(algorithm.replacement()).isSameAs(nsgaii.replacement());
+  }
+
+  @Test
+  void theConstructorRaisesAnExceptionIfTheNumberOfConcurrentEvaluationsIsNotPositive() {
+    EvolutionaryAlgorithm<DoubleSolution> nsgaii = nsgaiiBuilder(new ZDT1(), 1000).build();
+
+    assertThatThrownBy(() -> new AsynchronousEvolutionaryAlgorithm<>(nsgaii, 0))
+        .isInstanceOf(InvalidConditionException.class);
+  }
+
+  @Test
+  void anAsynchronousNSGAIIPerformsTheMaximumNumberOfEvaluationsAndConverges() {
+    int maxEvaluations = 15000;
+    var algorithm =
+        new AsynchronousEvolutionaryAlgorithm<>(nsgaiiBuilder(new ZDT1(), maxEvaluations).build(), 4);
+
+    algorithm.run();
+
+    assertThat(algorithm.numberOfEvaluations()).isEqualTo(maxEvaluations);
+    assertThat(algorithm.attributes()).containsEntry("EVALUATIONS", maxEvaluations);
+    assertThat(algorithm.result()).hasSize(100);
+    assertThat(hypervolume(algorithm.result())).isGreaterThan(0.6);
+  }
+
+  @Test
+  void anAsynchronousSMSEMOACanUseAnExecutorProvidedByTheUser() {
+    DoubleProblem problem = new ZDT1();
+    int maxEvaluations = 5000;
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    EvolutionaryAlgorithm<DoubleSolution> smsemoa =
+        new SMSEMOABuilder<>(
+                problem,
+                50,
+                new SBXCrossover(0.9, 20.0),
+                new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0))
+            .setTermination(new TerminationByEvaluations(maxEvaluations))
+            .build();
+
+    var algorithm = new AsynchronousEvolutionaryAlgorithm<>(smsemoa, 8, executor);
+    algorithm.run();
+
+    assertThat(algorithm.numberOfEvaluations()).isEqualTo(maxEvaluations);
+    assertThat(algorithm.result()).hasSize(50);
+    assertThat(executor.isShutdown()).isFalse();
+    executor.shutdown();
+  }
+
+  @Test
+  void eachOffspringIsReplacedInTheStateInWhichItWasCreated() {
+    EvolutionaryAlgorithm<DoubleSolution> nsgaii = nsgaiiBuilder(new ZDT1(), 3000).build();
+    Map<DoubleSolution, Integer> stateOfTheOffspring = new IdentityHashMap<>();
+    AtomicInteger state = new AtomicInteger();
+    AtomicInteger numberOfReplacements = new AtomicInteger();
+
+    Variation<DoubleSolution> variation =
+        new Variation<>() {
+          @Override
+          public List<DoubleSolution> variate(
+              List<DoubleSolution> solutionList, List<DoubleSolution> matingPool) {
+            List<DoubleSolution> offspring = nsgaii.variation().variate(solutionList, matingPool);
+            offspring.forEach(solution -> stateOfTheOffspring.put(solution, state.get()));
+            return offspring;
+          }
+
+          @Override
+          public int matingPoolSize() {
+            return nsgaii.variation().matingPoolSize();
+          }
+
+          @Override
+          public int offspringPopulationSize() {
+            return nsgaii.variation().offspringPopulationSize();
+          }
+        };
+    StatefulReplacement<DoubleSolution, Integer> replacement =
+        new StatefulReplacement<>() {
+          @Override
+          public Integer captureState() {
+            return state.getAndIncrement();
+          }
+
+          @Override
+          public List<DoubleSolution> replace(
+              List<DoubleSolution> population, List<DoubleSolution> offspring, Integer state) {
+            assertThat(state).isEqualTo(stateOfTheOffspring.get(offspring.get(0)));
+            numberOfReplacements.incrementAndGet();
+            return nsgaii.replacement().replace(population, offspring);
+          }
+
+          @Override
+          public List<DoubleSolution> replace(
+              List<DoubleSolution> population, List<DoubleSolution> offspring) {
+            throw new AssertionError("The state of the offspring has not been restored");
+          }
+        };
+
+    var algorithm =
+        new AsynchronousEvolutionaryAlgorithm<>(
+            nsgaii.name(),
+            nsgaii.createInitialPopulation(),
+            nsgaii.evaluation(),
+            nsgaii.termination(),
+            nsgaii.selection(),
+            variation,
+            replacement,
+            8);
+    algorithm.run();
+
+    assertThat(numberOfReplacements.get()).isEqualTo(3000 - 100);
+    assertThat(state.get()).isGreaterThan(1);
+  }
+
+  @Test
+  void anAsynchronousMOEADConverges() {
+    DoubleProblem problem = new ZDT1();
+    EvolutionaryAlgorithm<DoubleSolution> moead =
+        new MOEADBuilder<>(
+                problem,
+                100,
+                new SBXCrossover(1.0, 20.0),
+                new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0),
+                "",
+                new RandomPermutationCycle(100),
+                false)
+            .setTermination(new TerminationByEvaluations(15000))
+            .build();
+
+    var algorithm = new AsynchronousEvolutionaryAlgorithm<>(moead, 4);
+    algorithm.run();
+
+    assertThat(algorithm.numberOfEvaluations()).isEqualTo(15000);
+    assertThat(algorithm.result()).hasSize(100);
+    assertThat(hypervolume(algorithm.result())).isGreaterThan(0.6);
+  }
+
+  @Test
+  void theConstructorRaisesAnExceptionIfTheReplacementIsTheBatchOneOfMOEAD() {
+    DoubleProblem problem = new ZDT1();
+    EvolutionaryAlgorithm<DoubleSolution> moead =
+        new MOEADBuilder<>(
+                problem,
+                100,
+                new SBXCrossover(1.0, 20.0),
+                new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0),
+                "",
+                new RandomPermutationCycle(100),
+                false)
+            .setBatchSize(10)
+            .build();
+
+    assertThatThrownBy(() -> new AsynchronousEvolutionaryAlgorithm<>(moead, 4))
+        .isInstanceOf(InvalidConditionException.class);
+  }
+
+  @Test
+  void theConstructorRaisesAnExceptionIfTheEvaluationWouldBeBypassed() {
+    DoubleProblem problem = new ZDT1();
+    EvolutionaryAlgorithm<DoubleSolution> nsgaii =
+        nsgaiiBuilder(problem, 1000)
+            .setEvaluation(
+                new SequentialEvaluationWithArchive<>(
+                    problem, new NonDominatedSolutionListArchive<>()))
+            .build();
+
+    assertThatThrownBy(() -> new AsynchronousEvolutionaryAlgorithm<>(nsgaii, 4))
+        .isInstanceOf(InvalidConditionException.class);
+  }
+
+  @Test
+  void theConstructorAcceptsAMultiThreadedEvaluation() {
+    DoubleProblem problem = new ZDT1();
+    EvolutionaryAlgorithm<DoubleSolution> nsgaii =
+        nsgaiiBuilder(problem, 1000)
+            .setEvaluation(new MultiThreadedEvaluation<>(2, problem))
+            .build();
+
+    var algorithm = new AsynchronousEvolutionaryAlgorithm<>(nsgaii, 4);
+    algorithm.run();
+
+    assertThat(algorithm.result()).hasSize(100);
+  }
+
+  @Test
+  void anExceptionRaisedWhenEvaluatingASolutionIsPropagated() {
+    var failingProblem =
+        new ZDT1() {
+          @Override
+          public DoubleSolution evaluate(DoubleSolution solution) {
+            throw new IllegalStateException("Simulator not available");
+          }
+        };
+    var algorithm =
+        new AsynchronousEvolutionaryAlgorithm<>(
+            nsgaiiBuilder(failingProblem, 1000).build(), 2);
+
+    assertThatThrownBy(algorithm::run)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Simulator not available");
+  }
+}
@@ -3,14 +3,34 @@ package org.uma.jmetal.component.algorithm;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.jmetal.component.algorithm.multiobjective.MOEADBuilder;
+import org.uma.jmetal.component.algorithm.multiobjective.NSGAIIBuilder;
 import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.MultiThreadedEvaluation;
 import org.uma.jmetal.component.catalogue.common.solutionscreation.SolutionsCreation;
 import org.uma.jmetal.component.catalogue.common.termination.Termination;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
 import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
 import org.uma.jmetal.component.catalogue.ea.selection.Selection;
 import org.uma.jmetal.component.catalogue.ea.variation.Variation;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.observable.impl.AsynchronousObservable;
+import org.uma.jmetal.util.observer.impl.CheckpointObserver;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomStreams;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+import org.uma.jmetal.util.sequencegenerator.impl.RandomPermutationCycle;
 
 class EvolutionaryAlgorithmTest {
 
@@ -38,4 +58,177 @@ class EvolutionaryAlgorithmTest {
     assertThat(replacement).isSameAs(evolutionaryAlgorithm.replacement()) ;
   }
 
-}
\ No newline at end of file
+  @Test
+  void theEvaluationIsShutDownAtTheEndOfEachRun() {
+    var problem = new ZDT1();
+    var shutdowns = new AtomicInteger();
+    var evaluation =
+        new MultiThreadedEvaluation<DoubleSolution>(2, problem) {
+          @Override
+          public void shutdown() {
+            shutdowns.incrementAndGet();
+            super.shutdown();
+          }
+        };
+    EvolutionaryAlgorithm<DoubleSolution> nsgaii =
+        new NSGAIIBuilder<>(
+                problem,
+                20,
+                20,
+                new SBXCrossover(0.9, 20.0),
+                new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0))
+            .setTermination(new TerminationByEvaluations(200))
+            .setEvaluation(evaluation)
+            .build();
+
+    nsgaii.run();
+    assertThat(shutdowns).hasValue(1);
+
+    nsgaii.run();
+    assertThat(shutdowns).hasValue(2);
+    assertThat(nsgaii.result()).hasSize(20);
+  }
+
+  @Test
+  void theAsynchronousObserversReceiveAllTheSnapshotsBeforeTheAlgorithmEnds() {
+    var problem = new ZDT1();
+    EvolutionaryAlgorithm<DoubleSolution> nsgaii =
+        new NSGAIIBuilder<>(
+                problem,
+                20,
+                20,
+                new SBXCrossover(0.9, 20.0),
+                new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0))
+            .setTermination(new TerminationByEvaluations(1000))
+            .build();
+
+    List<Map<String, Object>> snapshots = new CopyOnWriteArrayList<>();
+    try (var observable =
+        AsynchronousObservable.ofAttributes("NSGA-II")
+            .setOverflowPolicy(AsynchronousObservable.OverflowPolicy.BLOCK)) {
+      observable.register((source, data) -> snapshots.add(data));
+      nsgaii.observable(observable);
+
+      nsgaii.run();
+
+      assertThat(nsgaii.observable()).isSameAs(observable);
+      assertThat(snapshots).hasSize(49);
+      assertThat(snapshots.get(48).get("EVALUATIONS")).isEqualTo(1000);
+      assertThat(snapshots.get(48).get("POPULATION")).isNotSameAs(nsgaii.result());
+    }
+  }
+
+  private static EvolutionaryAlgorithm<DoubleSolution> nsgaii(ZDT1 problem, int evaluations) {
+    return new NSGAIIBuilder<>(
+            problem,
+            20,
+            20,
+            new SBXCrossover(0.9, 20.0),
+            new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0))
+        .setTermination(new TerminationByEvaluations(evaluations))
+        .build();
+  }
+
+  @Test
+  void aRunRestoredFromACheckpointContinuesAsTheOriginalRun(@TempDir Path directory) {
+    var problem = new ZDT1();
+    Path file = directory.resolve("NSGAII.checkpoint");
+
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(1));
+    var interruptedRun = nsgaii(problem, 1000);
+    try (var observer =
+        new CheckpointObserver<>(interruptedRun::checkpoint, file).setEvaluationInterval(500)) {
+      interruptedRun.observable().register(observer);
+      interruptedRun.run();
+    }
+    var restoredRun = nsgaii(problem, 2000);
+    restoredRun.restore(Checkpoint.read(file, problem));
+    restoredRun.run();
+
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(1));
+    var run = nsgaii(problem, 2000);
+    run.run();
+
+    assertThat(restoredRun.numberOfEvaluations()).isEqualTo(2000);
+    assertThat(restoredRun.result()).hasSameSizeAs(run.result());
+    for (int i = 0; i < run.result().size(); i++) {
+      assertThat(restoredRun.result().get(i).variables())
+          .isEqualTo(run.result().get(i).variables());
+      assertThat(restoredRun.result().get(i).objectives())
+          .isEqualTo(run.result().get(i).objectives());
+    }
+  }
+
+  @Test
+  void aRunOfATaskRestoredFromACheckpointContinuesAsTheOriginalRun(@TempDir Path directory) {
+    var problem = new ZDT1();
+    Path file = directory.resolve("NSGAII.checkpoint");
+    var streams = new RandomStreams(1).derive(2);
+
+    var interruptedRun = nsgaii(problem, 1000);
+    try (var observer =
+        new CheckpointObserver<>(interruptedRun::checkpoint, file).setEvaluationInterval(500)) {
+      interruptedRun.observable().register(observer);
+      JMetalRandom.getInstance().runWith(streams.generator(0), interruptedRun::run);
+    }
+    var restoredRun = nsgaii(problem, 2000);
+    restoredRun.restore(Checkpoint.read(file, problem));
+    JMetalRandom.getInstance().runWith(streams.generator(0), restoredRun::run);
+
+    var run = nsgaii(problem, 2000);
+    JMetalRandom.getInstance().runWith(streams.generator(0), run::run);
+
+    assertThat(restoredRun.numberOfEvaluations()).isEqualTo(2000);
+    assertThat(restoredRun.result()).hasSameSizeAs(run.result());
+    for (int i = 0; i < run.result().size(); i++) {
+      assertThat(restoredRun.result().get(i).variables())
+          .isEqualTo(run.result().get(i).variables());
+      assertThat(restoredRun.result().get(i).objectives())
+          .isEqualTo(run.result().get(i).objectives());
+    }
+  }
+
+  private static EvolutionaryAlgorithm<DoubleSolution> moead(ZDT1 problem, int evaluations) {
+    int populationSize = 20;
+    return new MOEADBuilder<>(
+            problem,
+            populationSize,
+            new SBXCrossover(1.0, 20.0),
+            new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0),
+            "",
+            new RandomPermutationCycle(populationSize),
+            true)
+        .setTermination(new TerminationByEvaluations(evaluations))
+        .build();
+  }
+
+  @Test
+  void aRunOfMOEADRestoredFromACheckpointContinuesAsTheOriginalRun(@TempDir Path directory) {
+    var problem = new ZDT1();
+    Path file = directory.resolve("MOEAD.checkpoint");
+
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(1));
+    var interruptedRun = moead(problem, 1000);
+    try (var observer =
+        new CheckpointObserver<>(interruptedRun::checkpoint, file).setEvaluationInterval(500)) {
+      interruptedRun.observable().register(observer);
+      interruptedRun.run();
+    }
+    var restoredRun = moead(problem, 2000);
+    restoredRun.restore(Checkpoint.read(file, problem));
+    restoredRun.run();
+
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(1));
+    var run = moead(problem, 2000);
+    run.run();
+
+    assertThat(restoredRun.numberOfEvaluations()).isEqualTo(2000);
+    assertThat(restoredRun.result()).hasSameSizeAs(run.result());
+    for (int i = 0; i < run.result().size(); i++) {
+      assertThat(restoredRun.result().get(i).variables())
+          .isEqualTo(run.result().get(i).variables());
+      assertThat(restoredRun.result().get(i).objectives())
+          .isEqualTo(run.result().get(i).objectives());
+    }
+  }
+}
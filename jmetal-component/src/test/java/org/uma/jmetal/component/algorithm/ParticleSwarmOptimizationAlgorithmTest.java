@@ -0,0 +1,78 @@
+package org.uma.jmetal.component.algorithm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.jmetal.component.algorithm.multiobjective.SMPSOBuilder;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.component.catalogue.pso.inertiaweightcomputingstrategy.impl.LinearDecreasingStrategy;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+class ParticleSwarmOptimizationAlgorithmTest {
+  private static SMPSOBuilder smpso(ZDT1 problem, int evaluations) {
+    return new SMPSOBuilder(problem, 20).setTermination(new TerminationByEvaluations(evaluations));
+  }
+
+  @Test
+  void aRunRestoredFromACheckpointContinuesAsTheOriginalRun(@TempDir Path directory) {
+    var problem = new ZDT1();
+    Path file = directory.resolve("SMPSO.checkpoint");
+
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(1));
+    var interruptedRun = smpso(problem, 1000).build();
+    interruptedRun.run();
+    interruptedRun.checkpoint().write(file);
+
+    var restoredRun = smpso(problem, 2000).build();
+    restoredRun.restore(Checkpoint.read(file, problem));
+    restoredRun.run();
+
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(1));
+    var run = smpso(problem, 2000).build();
+    run.run();
+
+    assertThat(restoredRun.numberOfEvaluations()).isEqualTo(2000);
+    assertThat(restoredRun.result()).hasSameSizeAs(run.result());
+    for (int i = 0; i < run.result().size(); i++) {
+      assertThat(restoredRun.result().get(i).objectives())
+          .isEqualTo(run.result().get(i).objectives());
+    }
+  }
+
+  @Test
+  void theCounterOfTheInertiaWeightStrategyIsRestoredFromACheckpoint(@TempDir Path directory) {
+    var problem = new ZDT1();
+    Path file = directory.resolve("SMPSO.checkpoint");
+
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(1));
+    var interruptedRun =
+        smpso(problem, 1000)
+            .setInertiaWeightComputingStrategy(new LinearDecreasingStrategy(0.1, 0.5, 100, 13))
+            .build();
+    interruptedRun.run();
+    interruptedRun.checkpoint().write(file);
+
+    var restoredStrategy = new LinearDecreasingStrategy(0.1, 0.5, 100, 13);
+    var restoredRun =
+        smpso(problem, 2000).setInertiaWeightComputingStrategy(restoredStrategy).build();
+    restoredRun.restore(Checkpoint.read(file, problem));
+    restoredRun.run();
+
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(1));
+    var strategy = new LinearDecreasingStrategy(0.1, 0.5, 100, 13);
+    var run = smpso(problem, 2000).setInertiaWeightComputingStrategy(strategy).build();
+    run.run();
+
+    assertThat(restoredStrategy.getComputeCounter()).isEqualTo(strategy.getComputeCounter());
+    assertThat(restoredRun.result()).hasSameSizeAs(run.result());
+    for (int i = 0; i < run.result().size(); i++) {
+      assertThat(restoredRun.result().get(i).objectives())
+          .isEqualTo(run.result().get(i).objectives());
+    }
+  }
+}
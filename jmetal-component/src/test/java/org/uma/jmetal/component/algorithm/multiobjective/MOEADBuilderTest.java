@@ -0,0 +1,88 @@
+package org.uma.jmetal.component.algorithm.multiobjective;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.MultiThreadedEvaluation;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.component.catalogue.ea.variation.impl.DifferentialEvolutionCrossoverVariation;
+import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.sequencegenerator.impl.RandomPermutationCycle;
+
+class MOEADBuilderTest {
+  private static final int POPULATION_SIZE = 100;
+
+  private MOEADBuilder<DoubleSolution> builder(ZDT1 problem) {
+    return new MOEADBuilder<>(
+        problem,
+        POPULATION_SIZE,
+        new SBXCrossover(1.0, 20.0),
+        new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0),
+        "",
+        new RandomPermutationCycle(POPULATION_SIZE),
+        false)
+        .setTermination(new TerminationByEvaluations(5000));
+  }
+
+  private List<double[]> runBatchMOEAD(long seed) {
+    JMetalRandom.getInstance().setSeed(seed);
+    var problem = new ZDT1();
+    var evaluation = new MultiThreadedEvaluation<>(4, problem);
+    try {
+      EvolutionaryAlgorithm<DoubleSolution> moead =
+          builder(problem).setEvaluation(evaluation).setBatchSize(10).build();
+      moead.run();
+
+      assertThat(moead.result()).hasSize(POPULATION_SIZE);
+      assertThat(moead.numberOfEvaluations()).isEqualTo(5000);
+      return moead.result().stream().map(DoubleSolution::objectives).toList();
+    } finally {
+      evaluation.shutdown();
+    }
+  }
+
+  @Test
+  void theBatchModeGivesTheSameResultsWithTheSameSeed() {
+    var front = runBatchMOEAD(1);
+    var otherFront = runBatchMOEAD(1);
+
+    assertThat(otherFront).hasSameSizeAs(front);
+    for (int i = 0; i < front.size(); i++) {
+      assertThat(otherFront.get(i)).containsExactly(front.get(i));
+    }
+  }
+
+  @Test
+  void aNonPositiveBatchSizeRaisesAnException() {
+    var builder = builder(new ZDT1());
+
+    assertThatThrownBy(() -> builder.setBatchSize(0))
+        .isInstanceOf(InvalidConditionException.class);
+  }
+
+  @Test
+  void theBatchModeRaisesAnExceptionIfTheVariationIsTheDifferentialEvolutionOne() {
+    var problem = new ZDT1();
+    var variation =
+        new DifferentialEvolutionCrossoverVariation(
+            1,
+            new DifferentialEvolutionCrossover(
+                1.0, 0.5, DifferentialEvolutionCrossover.DE_VARIANT.RAND_1_BIN),
+            new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0),
+            new RandomPermutationCycle(POPULATION_SIZE));
+    var builder = builder(problem).setVariation(variation).setBatchSize(10);
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(InvalidConditionException.class)
+        .hasMessageContaining("DifferentialEvolutionCrossoverVariation");
+  }
+}
@@ -0,0 +1,95 @@
+package org.uma.jmetal.component.catalogue.common.evaluation;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.CachingEvaluation;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.MultiThreadedEvaluation;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.SequentialEvaluation;
+import org.uma.jmetal.problem.permutationproblem.impl.FakeIntegerPermutationProblem;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.util.errorchecking.exception.NullParameterException;
+
+class CachingEvaluationTest {
+  /** Permutation problem counting its evaluations, whose objective is the first element */
+  private static class CountingPermutationProblem extends FakeIntegerPermutationProblem {
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    CountingPermutationProblem() {
+      super(10, 1);
+    }
+
+    @Override
+    public PermutationSolution<Integer> evaluate(PermutationSolution<Integer> solution) {
+      evaluations.incrementAndGet();
+      solution.objectives()[0] = solution.variables().get(0);
+      return solution;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<PermutationSolution<Integer>> copies(
+      PermutationSolution<Integer> solution, int numberOfCopies) {
+    List<PermutationSolution<Integer>> solutions = new ArrayList<>();
+    for (int i = 0; i < numberOfCopies; i++) {
+      solutions.add((PermutationSolution<Integer>) solution.copy());
+    }
+    return solutions;
+  }
+
+  @Test
+  void invokeTheConstructorWithANullEvaluationRaisesAnException() {
+    assertThatThrownBy(() -> new CachingEvaluation<PermutationSolution<Integer>>(null, 10))
+        .isInstanceOf(NullParameterException.class);
+  }
+
+  @Test
+  void theComputedEvaluationsAreOnlyTheOnesOfTheSolutionsThatAreNotInTheCache() {
+    var problem = new CountingPermutationProblem();
+    var evaluation = new CachingEvaluation<>(new SequentialEvaluation<>(problem), 100);
+    PermutationSolution<Integer> solution = problem.createSolution();
+
+    evaluation.evaluate(copies(solution, 3));
+
+    assertThat(evaluation.computedEvaluations()).isEqualTo(1);
+    assertThat(evaluation.cachedEvaluations()).isEqualTo(2);
+
+    List<PermutationSolution<Integer>> solutions = copies(solution, 2);
+    solutions.add(problem.createSolution());
+    solutions.add(problem.createSolution());
+    evaluation.evaluate(solutions);
+
+    assertThat(evaluation.computedEvaluations() + evaluation.cachedEvaluations()).isEqualTo(4);
+    assertThat(evaluation.computedEvaluations()).isEqualTo(problem.evaluations.get() - 1);
+    for (PermutationSolution<Integer> evaluatedSolution : solutions) {
+      assertThat(evaluatedSolution.objectives()[0])
+          .isEqualTo((double) evaluatedSolution.variables().get(0));
+    }
+  }
+
+  @Test
+  void theCacheCanDecorateAMultiThreadedEvaluation() {
+    var problem = new CountingPermutationProblem();
+    var multiThreadedEvaluation = new MultiThreadedEvaluation<>(4, problem);
+    var evaluation = new CachingEvaluation<>(multiThreadedEvaluation, 100);
+
+    List<PermutationSolution<Integer>> solutions = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      solutions.addAll(copies(problem.createSolution(), 5));
+    }
+    try {
+      evaluation.evaluate(solutions);
+    } finally {
+      multiThreadedEvaluation.shutdown();
+    }
+
+    assertThat(evaluation.computedEvaluations()).isEqualTo(problem.evaluations.get());
+    assertThat(evaluation.computedEvaluations()).isLessThanOrEqualTo(20);
+    assertThat(evaluation.cache().hits()).isEqualTo(100L - evaluation.computedEvaluations());
+    assertThat(evaluation.problem()).isSameAs(problem);
+  }
+}
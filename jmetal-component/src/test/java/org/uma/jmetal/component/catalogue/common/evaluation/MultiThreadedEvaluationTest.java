@@ -19,6 +19,7 @@ import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
 import org.uma.jmetal.util.errorchecking.exception.NullParameterException;
+import org.uma.jmetal.util.evaluator.impl.ExecutorSolutionListEvaluator;
 
 class MultiThreadedEvaluationTest {
 
@@ -115,4 +116,23 @@ class MultiThreadedEvaluationTest {
     assertSame(problem, evaluation.problem()) ;
     assertEquals(8, evaluation.numberOfThreads()) ;
   }
-}
\ No newline at end of file
+
+  @Test
+  void theConstructorWithAnEvaluatorUsesItToEvaluateTheSolutions() {
+    DoubleProblem problem = mock(DoubleProblem.class);
+    ExecutorSolutionListEvaluator<DoubleSolution> evaluator =
+        ExecutorSolutionListEvaluator.withVirtualThreads();
+    var evaluation = new MultiThreadedEvaluation<>(evaluator.setBatchSize(3), problem);
+
+    int numberOfSolutions = 10;
+    List<DoubleSolution> solutions = new ArrayList<>(numberOfSolutions);
+    IntStream.range(0, numberOfSolutions).forEach(i -> solutions.add(mock(DoubleSolution.class)));
+
+    evaluation.evaluate(solutions);
+
+    assertSame(evaluator, evaluation.evaluator());
+    assertThat(evaluation.computedEvaluations()).isEqualTo(numberOfSolutions);
+    verify(problem, times(numberOfSolutions)).evaluate(Mockito.any());
+    evaluation.shutdown();
+  }
+}
@@ -0,0 +1,297 @@
+package org.uma.jmetal.component.catalogue.common.evaluation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.component.algorithm.multiobjective.MOEADBuilder;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.SequentialEvaluation;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.SurrogateAssistedEvaluation;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluationBudget;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.sequencegenerator.impl.RandomPermutationCycle;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+class SurrogateAssistedEvaluationTest {
+  /** Problem counting its evaluations, whose objectives are the distances to (0, 0) and (1, 1) */
+  @SuppressWarnings("serial")
+  private static class CountingProblem extends FakeDoubleProblem {
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    CountingProblem() {
+      super(2, 2, 0);
+    }
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      evaluations.incrementAndGet();
+      double x = solution.variables().get(0);
+      double y = solution.variables().get(1);
+      solution.objectives()[0] = x * x + y * y;
+      solution.objectives()[1] = (x - 1.0) * (x - 1.0) + (y - 1.0) * (y - 1.0);
+      return solution;
+    }
+  }
+
+  private static List<DoubleSolution> solutions(CountingProblem problem, int numberOfSolutions) {
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < numberOfSolutions; i++) {
+      solutions.add(problem.createSolution());
+    }
+    return solutions;
+  }
+
+  @Test
+  void invokeTheConstructorWithANonPositiveNumberOfEvaluationsRaisesAnException() {
+    var evaluation = new SequentialEvaluation<>(new CountingProblem());
+
+    assertThatThrownBy(() -> new SurrogateAssistedEvaluation(evaluation, 0))
+        .isInstanceOf(InvalidConditionException.class);
+  }
+
+  @Test
+  void allTheSolutionsAreEvaluatedUntilTheModelHasEnoughPoints() {
+    var problem = new CountingProblem();
+    var evaluation =
+        new SurrogateAssistedEvaluation(new SequentialEvaluation<>(problem), 5)
+            .setMinimumNumberOfPointsOfTheModel(20);
+
+    List<DoubleSolution> evaluatedSolutions = evaluation.evaluate(solutions(problem, 20));
+
+    assertThat(evaluatedSolutions).hasSize(20);
+    assertThat(evaluation.computedEvaluations()).isEqualTo(20);
+    assertThat(evaluation.model().size()).isEqualTo(20);
+  }
+
+  @Test
+  void onlyTheChosenSolutionsAreEvaluatedOnceTheModelHasEnoughPoints() {
+    var problem = new CountingProblem();
+    var evaluation =
+        new SurrogateAssistedEvaluation(new SequentialEvaluation<>(problem), 5)
+            .setMinimumNumberOfPointsOfTheModel(20);
+    evaluation.evaluate(solutions(problem, 20));
+
+    List<DoubleSolution> evaluatedSolutions = evaluation.evaluate(solutions(problem, 50));
+
+    assertThat(evaluatedSolutions).hasSize(50);
+    assertThat(evaluatedSolutions.stream().filter(SurrogateAssistedEvaluation::isEstimated))
+        .hasSize(45);
+    assertThat(evaluation.computedEvaluations()).isEqualTo(5);
+    assertThat(evaluation.totalComputedEvaluations())
+        .isEqualTo(25)
+        .isEqualTo(problem.evaluations.get());
+    assertThat(evaluation.estimatedSolutions()).isEqualTo(45);
+    assertThat(evaluation.model().size()).isEqualTo(25);
+  }
+
+  @Test
+  void theChosenSolutionsArePromisingWhenTheUncertaintyIsIgnored() {
+    var problem = new CountingProblem();
+    var evaluation =
+        new SurrogateAssistedEvaluation(new SequentialEvaluation<>(problem), 1)
+            .setMinimumNumberOfPointsOfTheModel(30)
+            .setExplorationWeight(0.0);
+    evaluation.evaluate(solutions(problem, 30));
+
+    List<DoubleSolution> candidates = solutions(problem, 20);
+    // A solution on the Pareto front (the segment from (0, 0) to (1, 1)) and others far from it
+    candidates.get(7).variables().set(0, 0.5);
+    candidates.get(7).variables().set(1, 0.5);
+    for (int i = 0; i < candidates.size(); i++) {
+      if (i != 7) {
+        candidates.get(i).variables().set(0, i % 2 == 0 ? 0.9 : 0.1);
+        candidates.get(i).variables().set(1, i % 2 == 0 ? 0.1 : 0.9);
+      }
+    }
+    DoubleSolution promisingSolution = candidates.get(7);
+
+    assertThat(evaluation.evaluate(candidates)).hasSize(20);
+    assertThat(candidates)
+        .filteredOn(solution -> !SurrogateAssistedEvaluation.isEstimated(solution))
+        .containsExactly(promisingSolution);
+  }
+
+  @Test
+  void theObjectivesOfTheSolutionsThatAreNotEvaluatedAreTheOnesPredictedByTheModel() {
+    var problem = new CountingProblem();
+    var evaluation =
+        new SurrogateAssistedEvaluation(new SequentialEvaluation<>(problem), 1)
+            .setMinimumNumberOfPointsOfTheModel(30);
+    evaluation.evaluate(solutions(problem, 30));
+
+    List<DoubleSolution> candidates = solutions(problem, 10);
+    evaluation.evaluate(candidates);
+
+    for (DoubleSolution solution : candidates) {
+      if (SurrogateAssistedEvaluation.isEstimated(solution)) {
+        double[] variables = {solution.variables().get(0), solution.variables().get(1)};
+        assertThat(solution.objectives())
+            .containsExactly(evaluation.model().predict(variables).objectives());
+      }
+    }
+  }
+
+  @Test
+  void theMarkOfTheEstimatedSolutionsIsClearedWhenTheyAreEvaluated() {
+    var problem = new CountingProblem();
+    var evaluation =
+        new SurrogateAssistedEvaluation(new SequentialEvaluation<>(problem), 1)
+            .setMinimumNumberOfPointsOfTheModel(10);
+    evaluation.evaluate(solutions(problem, 10));
+    List<DoubleSolution> candidates = solutions(problem, 2);
+    evaluation.evaluate(candidates);
+    DoubleSolution estimatedSolution =
+        SurrogateAssistedEvaluation.isEstimated(candidates.get(0))
+            ? candidates.get(0)
+            : candidates.get(1);
+
+    evaluation.evaluate(List.of(estimatedSolution));
+
+    assertThat(SurrogateAssistedEvaluation.isEstimated(estimatedSolution)).isFalse();
+  }
+
+  @Test
+  void theSolutionsAreEstimatedOnceTheMaximumNumberOfEvaluationsIsReached() {
+    var problem = new CountingProblem();
+    var evaluation =
+        new SurrogateAssistedEvaluation(new SequentialEvaluation<>(problem), 5)
+            .setMaximumNumberOfEvaluations(12);
+
+    assertThat(evaluation.evaluate(solutions(problem, 10))).hasSize(10);
+    assertThat(evaluation.evaluate(solutions(problem, 10))).hasSize(10);
+    assertThat(evaluation.computedEvaluations()).isEqualTo(2);
+    assertThat(evaluation.evaluate(solutions(problem, 10))).hasSize(10);
+    assertThat(evaluation.computedEvaluations()).isZero();
+    assertThat(evaluation.remainingEvaluations()).isZero();
+    assertThat(evaluation.estimatedSolutions()).isEqualTo(18);
+    assertThat(problem.evaluations.get()).isEqualTo(12);
+  }
+
+  @Test
+  void theSolutionsThatExceedTheMaximumNumberOfEvaluationsAreEstimatedFromTheFirstCall() {
+    var problem = new CountingProblem();
+    var evaluation =
+        new SurrogateAssistedEvaluation(new SequentialEvaluation<>(problem), 5)
+            .setMaximumNumberOfEvaluations(6);
+
+    List<DoubleSolution> evaluatedSolutions = evaluation.evaluate(solutions(problem, 10));
+
+    assertThat(evaluatedSolutions).hasSize(10);
+    assertThat(evaluatedSolutions.stream().filter(SurrogateAssistedEvaluation::isEstimated))
+        .hasSize(4);
+    assertThat(problem.evaluations.get()).isEqualTo(6);
+  }
+
+  @Test
+  void evaluatingWithoutRemainingEvaluationsBeforeCreatingTheModelRaisesAnException() {
+    var problem = new CountingProblem();
+    var evaluation =
+        new SurrogateAssistedEvaluation(new SequentialEvaluation<>(problem), 5)
+            .setMaximumNumberOfEvaluations(0);
+
+    assertThatThrownBy(() -> evaluation.evaluate(solutions(problem, 3)))
+        .isInstanceOf(InvalidConditionException.class);
+  }
+
+  @Test
+  void theEstimatedSolutionsOfTheFinalPopulationAreEvaluatedIfTheBudgetAllowsIt() {
+    var problem = new CountingProblem();
+    var evaluation =
+        new SurrogateAssistedEvaluation(new SequentialEvaluation<>(problem), 2)
+            .setMinimumNumberOfPointsOfTheModel(10)
+            .setMaximumNumberOfEvaluations(15);
+    evaluation.evaluate(solutions(problem, 10));
+    List<DoubleSolution> population = evaluation.evaluate(solutions(problem, 10));
+
+    List<DoubleSolution> finalPopulation = evaluation.finalPopulation(population);
+
+    assertThat(finalPopulation)
+        .hasSizeLessThanOrEqualTo(10)
+        .noneMatch(SurrogateAssistedEvaluation::isEstimated);
+    assertThat(population).filteredOn(finalPopulation::contains).hasSize(5);
+    assertThat(problem.evaluations.get()).isEqualTo(15);
+    assertThat(evaluation.remainingEvaluations()).isZero();
+  }
+
+  @Test
+  void theEstimatedSolutionsOfTheFinalPopulationAreReplacedOnceTheBudgetIsExhausted() {
+    var problem = new CountingProblem();
+    var evaluation =
+        new SurrogateAssistedEvaluation(new SequentialEvaluation<>(problem), 2)
+            .setMinimumNumberOfPointsOfTheModel(10)
+            .setMaximumNumberOfEvaluations(10);
+    List<DoubleSolution> evaluatedSolutions = evaluation.evaluate(solutions(problem, 10));
+    List<DoubleSolution> population = evaluation.evaluate(solutions(problem, 10));
+
+    List<DoubleSolution> finalPopulation = evaluation.finalPopulation(population);
+
+    assertThat(finalPopulation).isNotEmpty().noneMatch(SurrogateAssistedEvaluation::isEstimated);
+    assertThat(evaluatedSolutions).containsAll(finalPopulation);
+    assertThat(problem.evaluations.get()).isEqualTo(10);
+  }
+
+  @Test
+  void moeadCanBeRunAfterTheMaximumNumberOfEvaluationsIsReached() {
+    var problem = new ZDT1(4);
+    var evaluation =
+        new SurrogateAssistedEvaluation(new SequentialEvaluation<>(problem), 1)
+            .setMaximumNumberOfEvaluations(20);
+    int populationSize = 30;
+    EvolutionaryAlgorithm<DoubleSolution> moead =
+        new MOEADBuilder<>(
+                problem,
+                populationSize,
+                new SBXCrossover(1.0, 20.0),
+                new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0),
+                "",
+                new RandomPermutationCycle(populationSize),
+                false)
+            .setEvaluation(evaluation)
+            .setTermination(new TerminationByEvaluations(500))
+            .build();
+
+    moead.run();
+
+    assertThat(moead.result()).isNotEmpty().hasSizeLessThanOrEqualTo(populationSize);
+    assertThat(moead.result()).noneMatch(SurrogateAssistedEvaluation::isEstimated);
+    assertThat(moead.numberOfEvaluations()).isGreaterThanOrEqualTo(500);
+    assertThat(evaluation.totalComputedEvaluations()).isEqualTo(20);
+  }
+
+  @Test
+  void moeadStopsWhenTheEvaluationBudgetIsExhausted() {
+    var problem = new ZDT1(4);
+    var evaluation =
+        new SurrogateAssistedEvaluation(new SequentialEvaluation<>(problem), 1)
+            .setMaximumNumberOfEvaluations(100);
+    int populationSize = 30;
+    EvolutionaryAlgorithm<DoubleSolution> moead =
+        new MOEADBuilder<>(
+                problem,
+                populationSize,
+                new SBXCrossover(1.0, 20.0),
+                new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0),
+                "",
+                new RandomPermutationCycle(populationSize),
+                false)
+            .setEvaluation(evaluation)
+            .setTermination(new TerminationByEvaluationBudget(evaluation))
+            .build();
+
+    moead.run();
+
+    assertThat(moead.result()).isNotEmpty().hasSizeLessThanOrEqualTo(populationSize);
+    assertThat(moead.result()).noneMatch(SurrogateAssistedEvaluation::isEstimated);
+    assertThat(evaluation.remainingEvaluations()).isZero();
+    assertThat(moead.numberOfEvaluations()).isEqualTo(100);
+  }
+}
@@ -1,16 +1,24 @@
 package org.uma.jmetal.component.catalogue.ea.replacement;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.uma.jmetal.component.catalogue.ea.replacement.impl.RankingAndDensityEstimatorReplacement;
 import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.populationmatrix.PopulationMatrix;
 import org.uma.jmetal.util.ranking.Ranking;
 import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
 
@@ -112,4 +120,286 @@ class RankingAndDensityEstimatorReplacementTest {
 
     assertEquals(8, nextPopulation.size());
   }
+
+  @ParameterizedTest
+  @EnumSource(RankingAndDensityEstimatorReplacement.RemovalPolicy.class)
+  void replacementBasedOnPopulationMatrixGivesTheSameResultsAsTheListBasedOne(
+      RankingAndDensityEstimatorReplacement.RemovalPolicy removalPolicy) {
+    DoubleProblem problem = new FakeDoubleProblem(2, 3, 0);
+    Random random = new Random(1);
+
+    // The objectives are rounded to have ties and duplicated solutions
+    List<DoubleSolution> solutionList = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < solution.objectives().length; j++) {
+        solution.objectives()[j] = Math.round(random.nextDouble() * 30) / 30.0;
+      }
+      solutionList.add(solution);
+    }
+    solutionList.set(150, (DoubleSolution) solutionList.get(10).copy());
+    List<DoubleSolution> copies =
+        solutionList.stream().map(solution -> (DoubleSolution) solution.copy()).toList();
+
+    var matrixRanking = new FastNonDominatedSortRanking<DoubleSolution>();
+    var matrixCrowdingDistance = new CrowdingDistanceDensityEstimator<DoubleSolution>();
+    var matrixBasedReplacement =
+        new RankingAndDensityEstimatorReplacement<>(
+                matrixRanking, matrixCrowdingDistance, removalPolicy)
+            .setPopulationMatrix(true);
+    var listRanking = listBasedRanking();
+    var listCrowdingDistance = listBasedCrowdingDistance();
+    var listBasedReplacement =
+        new RankingAndDensityEstimatorReplacement<>(
+            listRanking, listCrowdingDistance, removalPolicy);
+
+    var expected = listBasedReplacement.replace(copies.subList(0, 100), copies.subList(100, 200));
+    var actual =
+        matrixBasedReplacement.replace(
+            solutionList.subList(0, 100), solutionList.subList(100, 200));
+
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertSame(copies.get(indexOfSolution(solutionList, actual.get(i))), expected.get(i));
+    }
+
+    assertEquals(listRanking.getNumberOfSubFronts(), matrixRanking.getNumberOfSubFronts());
+    for (int rank = 0; rank < listRanking.getNumberOfSubFronts(); rank++) {
+      List<DoubleSolution> expectedSubFront = listRanking.getSubFront(rank);
+      List<DoubleSolution> subFront = matrixRanking.getSubFront(rank);
+      assertEquals(expectedSubFront.size(), subFront.size());
+      for (int i = 0; i < subFront.size(); i++) {
+        assertSame(
+            copies.get(indexOfSolution(solutionList, subFront.get(i))), expectedSubFront.get(i));
+      }
+    }
+
+    for (int i = 0; i < solutionList.size(); i++) {
+      assertEquals(listRanking.getRank(copies.get(i)), matrixRanking.getRank(solutionList.get(i)));
+      assertEquals(
+          listCrowdingDistance.value(copies.get(i)),
+          matrixCrowdingDistance.value(solutionList.get(i)));
+    }
+  }
+
+  @Test
+  void replacementIsListBasedByDefault() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+    Random random = new Random(1);
+    List<DoubleSolution> solutionList = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      solutionList.add(randomSolution(problem, random));
+    }
+
+    var ranking = new FastNonDominatedSortRanking<DoubleSolution>() {
+      @Override
+      public void compute(PopulationMatrix<DoubleSolution> matrix) {
+        throw new AssertionError("The population matrix has been used");
+      }
+    };
+    var replacement =
+        new RankingAndDensityEstimatorReplacement<>(
+            ranking,
+            new CrowdingDistanceDensityEstimator<DoubleSolution>(),
+            RankingAndDensityEstimatorReplacement.RemovalPolicy.ONE_SHOT);
+
+    assertEquals(
+        10, replacement.replace(solutionList.subList(0, 10), solutionList.subList(10, 20)).size());
+  }
+
+  @Test
+  void theIncrementalUpdateIsDisabledByDefault() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+    Random random = new Random(1);
+    var replacement =
+        new RankingAndDensityEstimatorReplacement<>(
+            new FastNonDominatedSortRanking<DoubleSolution>(),
+            new CrowdingDistanceDensityEstimator<DoubleSolution>(),
+            RankingAndDensityEstimatorReplacement.RemovalPolicy.ONE_SHOT);
+
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      population.add(randomSolution(problem, random));
+    }
+    for (int step = 0; step < 50; step++) {
+      List<DoubleSolution> jointPopulation = new ArrayList<>(population);
+      jointPopulation.add(randomSolution(problem, random));
+      List<DoubleSolution> copies =
+          jointPopulation.stream().map(solution -> (DoubleSolution) solution.copy()).toList();
+
+      List<DoubleSolution> expected =
+          new RankingAndDensityEstimatorReplacement<>(
+                  listBasedRanking(),
+                  listBasedCrowdingDistance(),
+                  RankingAndDensityEstimatorReplacement.RemovalPolicy.ONE_SHOT)
+              .replace(copies.subList(0, 20), copies.subList(20, 21));
+      population =
+          replacement.replace(jointPopulation.subList(0, 20), jointPopulation.subList(20, 21));
+
+      assertEquals(expected.size(), population.size());
+      for (int i = 0; i < population.size(); i++) {
+        assertSame(copies.get(indexOfSolution(jointPopulation, population.get(i))), expected.get(i));
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({"2, ONE_SHOT", "2, SEQUENTIAL", "3, ONE_SHOT", "3, SEQUENTIAL"})
+  void incrementalReplacementOfOneSolutionSelectsTheSameSolutionsAsTheFullReplacement(
+      int numberOfObjectives, RankingAndDensityEstimatorReplacement.RemovalPolicy removalPolicy) {
+    compareIncrementalAndFullReplacement(numberOfObjectives, removalPolicy, 1);
+  }
+
+  @Test
+  void incrementalReplacementOfSeveralSolutionsSelectsTheSameSolutionsAsTheFullReplacement() {
+    compareIncrementalAndFullReplacement(
+        2, RankingAndDensityEstimatorReplacement.RemovalPolicy.SEQUENTIAL, 5);
+  }
+
+  /**
+   * Runs a steady-state loop with an incremental replacement and checks, in each step, that a
+   * replacement that recomputes the ranking (applied to copies of the solutions) removes an
+   * equivalent solution and assigns the same ranks and crowding distances.
+   */
+  private static void compareIncrementalAndFullReplacement(
+      int numberOfObjectives,
+      RankingAndDensityEstimatorReplacement.RemovalPolicy removalPolicy,
+      int numberOfOffspringSolutions) {
+    DoubleProblem problem = new FakeDoubleProblem(2, numberOfObjectives, 0);
+    Random random = new Random(numberOfObjectives);
+    var crowdingDistance = new CrowdingDistanceDensityEstimator<DoubleSolution>();
+    var ranking = new FastNonDominatedSortRanking<DoubleSolution>();
+    var incrementalReplacement =
+        new RankingAndDensityEstimatorReplacement<>(
+                new FastNonDominatedSortRanking<DoubleSolution>(),
+                new CrowdingDistanceDensityEstimator<DoubleSolution>(),
+                removalPolicy)
+            .setIncrementalUpdateThreshold(numberOfOffspringSolutions);
+
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      population.add(randomSolution(problem, random));
+    }
+
+    for (int step = 0; step < 500; step++) {
+      List<DoubleSolution> offspringPopulation = new ArrayList<>();
+      for (int i = 0; i < numberOfOffspringSolutions; i++) {
+        offspringPopulation.add(randomSolution(problem, random));
+      }
+      List<DoubleSolution> jointPopulation = new ArrayList<>(population);
+      jointPopulation.addAll(offspringPopulation);
+      List<DoubleSolution> copies =
+          jointPopulation.stream().map(solution -> (DoubleSolution) solution.copy()).toList();
+
+      var fullReplacement =
+          new RankingAndDensityEstimatorReplacement<>(
+              listBasedRanking(), listBasedCrowdingDistance(), removalPolicy);
+      List<DoubleSolution> expected =
+          fullReplacement.replace(
+              copies.subList(0, population.size()),
+              copies.subList(population.size(), copies.size()));
+      population = incrementalReplacement.replace(population, offspringPopulation);
+
+      assertEquals(expected.size(), population.size());
+      List<Integer> expectedRanksOfTheRemovedSolutions = new ArrayList<>();
+      List<Integer> ranksOfTheRemovedSolutions = new ArrayList<>();
+      boolean sameSolutions = true;
+      for (int i = 0; i < jointPopulation.size(); i++) {
+        boolean removedCopy = !containsSolution(expected, copies.get(i));
+        boolean removedSolution = !containsSolution(population, jointPopulation.get(i));
+        if (removedCopy) {
+          expectedRanksOfTheRemovedSolutions.add(ranking.getRank(copies.get(i)));
+        }
+        if (removedSolution) {
+          ranksOfTheRemovedSolutions.add(ranking.getRank(jointPopulation.get(i)));
+        }
+        sameSolutions &= removedCopy == removedSolution;
+      }
+      expectedRanksOfTheRemovedSolutions.sort(Comparator.naturalOrder());
+      ranksOfTheRemovedSolutions.sort(Comparator.naturalOrder());
+      assertEquals(expectedRanksOfTheRemovedSolutions, ranksOfTheRemovedSolutions);
+
+      // The removed solutions can only differ if there are ties in the crowding distance
+      if (sameSolutions) {
+        for (int i = 0; i < population.size(); i++) {
+          DoubleSolution solution = population.get(i);
+          DoubleSolution copy = copies.get(indexOfSolution(jointPopulation, solution));
+          assertEquals(ranking.getRank(copy), ranking.getRank(solution));
+          assertEquals(crowdingDistance.value(copy), crowdingDistance.value(solution), 1e-10);
+        }
+      }
+    }
+  }
+
+  private static boolean containsSolution(List<DoubleSolution> solutions, DoubleSolution solution) {
+    return indexOfSolution(solutions, solution) >= 0;
+  }
+
+  private static int indexOfSolution(List<DoubleSolution> solutions, DoubleSolution solution) {
+    for (int i = 0; i < solutions.size(); i++) {
+      if (solutions.get(i) == solution) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static DoubleSolution randomSolution(DoubleProblem problem, Random random) {
+    DoubleSolution solution = problem.createSolution();
+    for (int i = 0; i < solution.objectives().length; i++) {
+      solution.objectives()[i] = random.nextDouble();
+    }
+    return solution;
+  }
+
+  private static Ranking<DoubleSolution> listBasedRanking() {
+    var ranking = new FastNonDominatedSortRanking<DoubleSolution>();
+    return new Ranking<>() {
+      @Override
+      public Ranking<DoubleSolution> compute(List<DoubleSolution> solutionList) {
+        ranking.compute(solutionList);
+        return this;
+      }
+
+      @Override
+      public List<DoubleSolution> getSubFront(int rank) {
+        return ranking.getSubFront(rank);
+      }
+
+      @Override
+      public int getNumberOfSubFronts() {
+        return ranking.getNumberOfSubFronts();
+      }
+
+      @Override
+      public Integer getRank(DoubleSolution solution) {
+        return ranking.getRank(solution);
+      }
+
+      @Override
+      public Object getAttributedId() {
+        return ranking.getAttributedId();
+      }
+    };
+  }
+
+  private static DensityEstimator<DoubleSolution> listBasedCrowdingDistance() {
+    var crowdingDistance = new CrowdingDistanceDensityEstimator<DoubleSolution>();
+    return new DensityEstimator<>() {
+      @Override
+      public void compute(List<DoubleSolution> solutionSet) {
+        crowdingDistance.compute(solutionSet);
+      }
+
+      @Override
+      public Double value(DoubleSolution solution) {
+        return crowdingDistance.value(solution);
+      }
+
+      @Override
+      public Comparator<DoubleSolution> comparator() {
+        return crowdingDistance.comparator();
+      }
+    };
+  }
 }
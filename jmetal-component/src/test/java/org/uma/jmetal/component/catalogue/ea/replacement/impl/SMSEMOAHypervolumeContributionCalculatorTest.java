@@ -0,0 +1,42 @@
+package org.uma.jmetal.component.catalogue.ea.replacement.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+class SMSEMOAHypervolumeContributionCalculatorTest {
+  @Test
+  void shouldEstimateTheContributionsWithManyObjectives() {
+    int numberOfObjectives = 8;
+    var problem = new FakeDoubleProblem(2, numberOfObjectives, 0);
+    Random random = new Random(1);
+    List<DoubleSolution> front = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.objectives()[j] = random.nextDouble();
+      }
+      front.add(solution);
+    }
+    double[] referencePoint = new double[numberOfObjectives];
+    Arrays.fill(referencePoint, 1.1);
+
+    double[] contributions =
+        new SMSEMOAHypervolumeContributionCalculator().compute(front, referencePoint);
+
+    double[][] points = front.stream().map(DoubleSolution::objectives).toArray(double[][]::new);
+    double[] exactContributions =
+        new WFGHypervolume(referencePoint).computeHypervolumeContribution(points);
+    double hypervolume = new WFGHypervolume(referencePoint).compute(points);
+    for (int i = 0; i < front.size(); i++) {
+      assertEquals(exactContributions[i], contributions[i], 0.05 * hypervolume);
+    }
+  }
+}
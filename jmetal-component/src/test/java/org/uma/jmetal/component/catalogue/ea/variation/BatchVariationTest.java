@@ -0,0 +1,66 @@
+package org.uma.jmetal.component.catalogue.ea.variation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.component.catalogue.ea.variation.impl.BatchVariation;
+import org.uma.jmetal.component.catalogue.ea.variation.impl.CrossoverAndMutationVariation;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+class BatchVariationTest {
+  private final ZDT1 problem = new ZDT1(10);
+
+  private BatchVariation<DoubleSolution> batchVariation(int numberOfGroups) {
+    var variation =
+        new CrossoverAndMutationVariation<>(
+            1, new SBXCrossover(1.0, 20.0), new PolynomialMutation(1.0, 20.0));
+    return new BatchVariation<>(variation, numberOfGroups);
+  }
+
+  private List<DoubleSolution> matingPool(int size) {
+    List<DoubleSolution> matingPool = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      matingPool.add(problem.createSolution());
+    }
+    return matingPool;
+  }
+
+  @Test
+  void theSizesAreTheSizesOfTheVariationOfEachGroupTimesTheNumberOfGroups() {
+    var variation = batchVariation(8);
+
+    assertThat(variation.matingPoolSize()).isEqualTo(16);
+    assertThat(variation.offspringPopulationSize()).isEqualTo(8);
+    assertThat(variation.variate(new ArrayList<>(), matingPool(16))).hasSize(8);
+  }
+
+  @Test
+  void theOffspringDoNotDependOnTheThreadsVaryingTheGroups() {
+    var matingPool = matingPool(64);
+
+    JMetalRandom.getInstance().setSeed(1);
+    var offspring = batchVariation(32).variate(new ArrayList<>(), matingPool);
+    JMetalRandom.getInstance().setSeed(1);
+    var otherOffspring = batchVariation(32).variate(new ArrayList<>(), matingPool);
+
+    for (int i = 0; i < offspring.size(); i++) {
+      assertThat(otherOffspring.get(i).variables()).isEqualTo(offspring.get(i).variables());
+    }
+  }
+
+  @Test
+  void aMatingPoolOfAnotherSizeRaisesAnException() {
+    var variation = batchVariation(4);
+
+    assertThatThrownBy(() -> variation.variate(new ArrayList<>(), matingPool(6)))
+        .isInstanceOf(InvalidConditionException.class);
+  }
+}
@@ -2,9 +2,9 @@ package org.uma.jmetal.operator.crossover.impl;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.IntStream;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution;
 import org.uma.jmetal.solution.doublesolution.repairsolution.RepairDoubleSolution;
 import org.uma.jmetal.solution.doublesolution.repairsolution.impl.RepairDoubleSolutionWithBoundValue;
 import org.uma.jmetal.util.bounds.Bounds;
@@ -278,21 +278,26 @@ public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleS
     int numberOfVariables = parentSolutions.get(0).variables().size();
     int jrand = jRandomGenerator.getRandomValue(0, numberOfVariables - 1);
 
-    Double[][] parent = new Double[numberOfRequiredParents()][];
+    double[][] parent = new double[numberOfRequiredParents()][];
 
-    IntStream.range(0, numberOfRequiredParents())
-            .forEach(
-                    i -> {
-                      parent[i] = new Double[numberOfVariables];
-                      parentSolutions.get(i).variables().toArray(parent[i]);
-                    });
+    for (int i = 0; i < numberOfRequiredParents(); i++) {
+      DoubleSolution parentSolution = parentSolutions.get(i);
+      if (parentSolution instanceof ArrayDoubleSolution arrayDoubleSolution) {
+        parent[i] = arrayDoubleSolution.variablesArray();
+      } else {
+        parent[i] = new double[numberOfVariables];
+        for (int j = 0; j < numberOfVariables; j++) {
+          parent[i][j] = parentSolution.variableValue(j);
+        }
+      }
+    }
 
     if (crossoverType.equals(DE_CROSSOVER_TYPE.BIN)) {
       for (int j = 0; j < numberOfVariables; j++) {
         if (crRandomGenerator.getRandomValue(0.0, 1.0) < cr || j == jrand) {
           double value = mutate(parent, j);
 
-          child.variables().set(j, value);
+          child.variableValue(j, value);
         }
       }
     } else if (crossoverType.equals(DE_CROSSOVER_TYPE.EXP)) {
@@ -302,7 +307,7 @@ public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleS
       do {
         double value = mutate(parent, j);
 
-        child.variables().set(j, value);
+        child.variableValue(j, value);
 
         j = (j + 1) % numberOfVariables;
         l++;
@@ -317,18 +322,17 @@ public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleS
   }
 
   private void repairVariableValues(DoubleSolution solution) {
-    IntStream.range(0, solution.variables().size())
-            .forEach(
-                    i -> {
-                      Bounds<Double> bounds = solution.getBounds(i);
-                      solution.variables().set(
-                              i,
-                              solutionRepair.repairSolutionVariableValue(
-                                      solution.variables().get(i), bounds.getLowerBound(), bounds.getUpperBound()));
-                    });
+    int numberOfVariables = solution.variables().size();
+    for (int i = 0; i < numberOfVariables; i++) {
+      Bounds<Double> bounds = solution.getBounds(i);
+      solution.variableValue(
+              i,
+              solutionRepair.repairSolutionVariableValue(
+                      solution.variableValue(i), bounds.getLowerBound(), bounds.getUpperBound()));
+    }
   }
 
-  private double mutate(Double[][] parent, int index) {
+  private double mutate(double[][] parent, int index) {
     double value = 0;
     if (mutationType.equals(DE_MUTATION_TYPE.RAND)) {
       value = randMutation(parent, index, numberOfDifferenceVectors);
@@ -341,7 +345,7 @@ public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleS
     return value;
   }
 
-  private double randMutation(Double[][] parent, int index, int numberOfDifferenceVectors) {
+  private double randMutation(double[][] parent, int index, int numberOfDifferenceVectors) {
     if (numberOfDifferenceVectors == 1) {
       return parent[2][index] + f * (parent[0][index] - parent[1][index]);
     } else if (numberOfDifferenceVectors == 2) {
@@ -354,12 +358,12 @@ public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleS
     }
   }
 
-  private double bestMutation(Double[][] parent, int index, int numberOfDifferenceVectors) {
+  private double bestMutation(double[][] parent, int index, int numberOfDifferenceVectors) {
     Check.notNull(bestSolution);
     if (numberOfDifferenceVectors == 1) {
-      return bestSolution.variables().get(index) + f * (parent[0][index] - parent[1][index]);
+      return bestSolution.variableValue(index) + f * (parent[0][index] - parent[1][index]);
     } else if (numberOfDifferenceVectors == 2) {
-      return bestSolution.variables().get(index)
+      return bestSolution.variableValue(index)
               + f * (parent[0][index] - parent[1][index])
               + f * (parent[2][index] - parent[3][index]);
     } else {
@@ -368,11 +372,11 @@ public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleS
     }
   }
 
-  private double bestRandToBestMutation(Double[][] parent, int index) {
+  private double bestRandToBestMutation(double[][] parent, int index) {
     Check.notNull(bestSolution);
     Check.notNull(currentSolution);
-    return currentSolution.variables().get(index)
-            + f * (bestSolution.variables().get(index) - currentSolution.variables().get(index))
+    return currentSolution.variableValue(index)
+            + f * (bestSolution.variableValue(index) - currentSolution.variableValue(index))
             + f * (parent[0][index] - parent[1][index]);
   }
 
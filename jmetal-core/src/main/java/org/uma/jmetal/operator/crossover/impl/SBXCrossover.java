@@ -140,10 +140,14 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
     double alpha, beta, betaq;
     double valueX1, valueX2;
 
+    DoubleSolution offspring1 = offspring.get(0);
+    DoubleSolution offspring2 = offspring.get(1);
+
     if (randomGenerator.getRandomValue() <= probability) {
-      for (i = 0; i < parent1.variables().size(); i++) {
-        valueX1 = parent1.variables().get(i);
-        valueX2 = parent2.variables().get(i);
+      int numberOfVariables = parent1.variables().size();
+      for (i = 0; i < numberOfVariables; i++) {
+        valueX1 = parent1.variableValue(i);
+        valueX2 = parent2.variableValue(i);
         if (randomGenerator.getRandomValue() <= 0.5) {
           if (Math.abs(valueX1 - valueX2) > EPS) {
             if (valueX1 < valueX2) {
@@ -183,19 +187,19 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
             c2 = solutionRepair.repairSolutionVariableValue(c2, lowerBound, upperBound);
 
             if (randomGenerator.getRandomValue() <= 0.5) {
-              offspring.get(0).variables().set(i, c2);
-              offspring.get(1).variables().set(i, c1);
+              offspring1.variableValue(i, c2);
+              offspring2.variableValue(i, c1);
             } else {
-              offspring.get(0).variables().set(i, c1);
-              offspring.get(1).variables().set(i, c2);
+              offspring1.variableValue(i, c1);
+              offspring2.variableValue(i, c2);
             }
           } else {
-            offspring.get(0).variables().set(i, valueX1);
-            offspring.get(1).variables().set(i, valueX2);
+            offspring1.variableValue(i, valueX1);
+            offspring2.variableValue(i, valueX2);
           }
         } else {
-          offspring.get(0).variables().set(i, valueX2);
-          offspring.get(1).variables().set(i, valueX1);
+          offspring1.variableValue(i, valueX2);
+          offspring2.variableValue(i, valueX1);
         }
       }
     }
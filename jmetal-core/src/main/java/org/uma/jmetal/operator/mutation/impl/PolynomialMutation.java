@@ -126,9 +126,10 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
   /** Perform the mutation operation */
   private void doMutation(DoubleSolution solution) {
 
-    for (int i = 0; i < solution.variables().size(); i++) {
+    int numberOfVariables = solution.variables().size();
+    for (int i = 0; i < numberOfVariables; i++) {
       if (randomGenerator.getRandomValue() <= mutationProbability) {
-        double y = solution.variables().get(i);
+        double y = solution.variableValue(i);
         Bounds<Double> bounds = solution.getBounds(i);
         double yl = bounds.getLowerBound();
         double yu = bounds.getUpperBound();
@@ -154,7 +155,7 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
           y = y + deltaq * (yu - yl);
           y = solutionRepair.repairSolutionVariableValue(y, yl, yu);
         }
-        solution.variables().set(i, y);
+        solution.variableValue(i, y);
       }
     }
   }
@@ -0,0 +1,24 @@
+package org.uma.jmetal.problem.doubleproblem;
+
+/**
+ * Interface representing continuous problems that can evaluate a whole population at once. The
+ * variables of the solutions are given as a matrix with a row per solution, and the objectives
+ * are stored in another matrix, so the evaluation can be done with tight loops on primitive arrays
+ * instead of accessing the variables of the solutions one by one.
+ *
+ * <p>The batch evaluation must compute the same objectives as {@code evaluate(DoubleSolution)}.
+ * Only the objectives are computed, so problems with constraints should not implement this
+ * interface. The evaluators only use the batch evaluation if {@code evaluate(DoubleSolution)} has
+ * not been overridden by a subclass of the class implementing {@link #evaluateBatch}.
+ *
+ * @author Antonio J. Nebro
+ */
+public interface BatchEvaluableProblem extends DoubleProblem {
+  /**
+   * Evaluates a population
+   *
+   * @param variables Matrix with the variables of a solution in each row
+   * @param objectives Matrix where the objectives of the solution of each row are stored
+   */
+  void evaluateBatch(double[][] variables, double[][] objectives);
+}
@@ -1,5 +1,6 @@
 package org.uma.jmetal.qualityindicator;
 
+import org.uma.jmetal.util.distance.KdTree;
 import org.uma.jmetal.util.errorchecking.Check;
 
 /**
@@ -11,6 +12,10 @@ import org.uma.jmetal.util.errorchecking.Check;
 public abstract class QualityIndicator {
   protected double[][] referenceFront ;
 
+  // K-d tree of the reference front, built the first time it is needed. The indicators can be
+  // computed concurrently, so the tree and the front it was built from are replaced together
+  private volatile ReferenceFrontTree referenceFrontTree ;
+
   protected QualityIndicator() {
   }
 
@@ -34,8 +39,36 @@ public abstract class QualityIndicator {
     return referenceFront;
   }
 
+  /**
+   * Returns a k-d tree of a set of points, used to compute the distances to their closest points.
+   * The tree of the reference front is cached, so it is built only once if the reference front is
+   * not replaced (the reference front is assumed not to be modified in place).
+   */
+  protected KdTree kdTree(double[][] points) {
+    if (points != referenceFront) {
+      return new KdTree(points) ;
+    }
+
+    ReferenceFrontTree cachedTree = referenceFrontTree ;
+    if (cachedTree == null || cachedTree.referenceFront != points) {
+      cachedTree = new ReferenceFrontTree(points, new KdTree(points)) ;
+      referenceFrontTree = cachedTree ;
+    }
+    return cachedTree.tree ;
+  }
+
   public abstract QualityIndicator newInstance() ;
 
   public abstract String name() ;
   public abstract String description() ;
+
+  private static class ReferenceFrontTree {
+    private final double[][] referenceFront ;
+    private final KdTree tree ;
+
+    private ReferenceFrontTree(double[][] referenceFront, KdTree tree) {
+      this.referenceFront = referenceFront ;
+      this.tree = tree ;
+    }
+  }
 }
@@ -1,7 +1,7 @@
 package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.qualityindicator.QualityIndicator;
-import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.distance.KdTree;
 import org.uma.jmetal.util.errorchecking.Check;
 
 /**
@@ -60,13 +60,15 @@ public class AverageHausdorffDistance extends QualityIndicator {
     double sumGD = 0.0;
     double sumIGD = 0.0;
 
-    for (int i = 0; i < front.length; i++) {
-      sumGD += VectorUtils.distanceToClosestVector(front[i], referenceFront);
+    for (double distance :
+        kdTree(referenceFront).distancesToClosestPoints(front, KdTree.Metric.EUCLIDEAN)) {
+      sumGD += distance;
     }
     double valueGD = sumGD / front.length;
 
-    for (int i = 0; i < referenceFront.length; i++) {
-      sumIGD += VectorUtils.distanceToClosestVector(referenceFront[i], front);
+    for (double distance :
+        kdTree(front).distancesToClosestPoints(referenceFront, KdTree.Metric.EUCLIDEAN)) {
+      sumIGD += distance;
     }
     double valueIGD = sumIGD / referenceFront.length;
 
@@ -1,6 +1,7 @@
 package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.util.distance.KdTree;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
@@ -57,7 +58,9 @@ public class Epsilon extends QualityIndicator {
   }
 
   /**
-   * Returns the value of the epsilon indicator.
+   * Returns the value of the epsilon indicator. For each point of the reference front, the point
+   * of the front with the lowest epsilon is searched in a k-d tree of the front, whose boxes are
+   * discarded if their lower corner has a higher epsilon than the best point found so far.
    *
    * @param front Solution front
    * @param referenceFront Reference Pareto front
@@ -65,31 +68,14 @@ public class Epsilon extends QualityIndicator {
    * @throws JMetalException
    */
   private double epsilon(double[][] front, double[][] referenceFront) throws JMetalException {
-    int numberOfObjectives = front[0].length ;
     double eps = Double.MIN_VALUE;
+    if (referenceFront.length > 0) {
+      double[] epsilons =
+          kdTree(front).distancesToClosestPoints(referenceFront, KdTree.Metric.ADDITIVE_EPSILON);
 
-    double epsJ = 0.0;
-    double epsK = 0.0;
-    for (int i = 0; i < referenceFront.length; i++) {
-      for (int j = 0; j < front.length; j++) {
-        for (int k = 0; k < numberOfObjectives; k++) {
-          double epsTemp = front[j][k] - referenceFront[i][k];
-          if (k == 0) {
-            epsK = epsTemp;
-          } else if (epsK < epsTemp) {
-            epsK = epsTemp;
-          }
-        }
-        if (j == 0) {
-          epsJ = epsK;
-        } else if (epsJ > epsK) {
-          epsJ = epsK;
-        }
-      }
-      if (i == 0) {
-        eps = epsJ;
-      } else if (eps < epsJ) {
-        eps = epsJ;
+      eps = epsilons[0];
+      for (int i = 1; i < epsilons.length; i++) {
+        eps = Math.max(eps, epsilons[i]);
       }
     }
     return eps;
@@ -1,7 +1,7 @@
 package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.qualityindicator.QualityIndicator;
-import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.distance.KdTree;
 import org.uma.jmetal.util.errorchecking.Check;
 
 /**
@@ -56,9 +56,12 @@ public class GenerationalDistance extends QualityIndicator {
    * @param referenceFront The reference pareto front
    */
   public double generationalDistance(double[][] front, double[][] referenceFront) {
+    double[] distances =
+        kdTree(referenceFront).distancesToClosestPoints(front, KdTree.Metric.EUCLIDEAN);
+
     double sum = 0.0;
-    for (int i = 0; i < front.length;  i++) {
-      sum += Math.pow(VectorUtils.distanceToClosestVector(front[i], referenceFront), pow);
+    for (double distance : distances) {
+      sum += Math.pow(distance, pow);
     }
 
     sum = Math.pow(sum, 1.0 / pow);
@@ -2,7 +2,7 @@ package org.uma.jmetal.qualityindicator.impl;
 
 import java.io.FileNotFoundException;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
-import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.distance.KdTree;
 import org.uma.jmetal.util.errorchecking.Check;
 
 /**
@@ -69,9 +69,12 @@ public class InvertedGenerationalDistance extends QualityIndicator {
    * @param referenceFront The reference pareto front
    */
   public double invertedGenerationalDistance(double[][] front, double[][] referenceFront) {
+    double[] distances =
+        kdTree(front).distancesToClosestPoints(referenceFront, KdTree.Metric.EUCLIDEAN);
+
     double sum = 0.0;
-    for (double[] vector : referenceFront) {
-      sum += Math.pow(VectorUtils.distanceToClosestVector(vector, front), pow);
+    for (double distance : distances) {
+      sum += Math.pow(distance, pow);
     }
 
     sum = Math.pow(sum, 1.0 / pow);
@@ -2,8 +2,7 @@ package org.uma.jmetal.qualityindicator.impl;
 
 import java.io.FileNotFoundException;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
-import org.uma.jmetal.util.VectorUtils;
-import org.uma.jmetal.util.distance.impl.DominanceDistanceBetweenVectors;
+import org.uma.jmetal.util.distance.KdTree;
 import org.uma.jmetal.util.errorchecking.Check;
 
 /**
@@ -56,9 +55,12 @@ public class InvertedGenerationalDistancePlus extends QualityIndicator {
    */
   public double invertedGenerationalDistancePlus(double[][] front, double[][] referenceFront) {
 
+    double[] distances =
+        kdTree(front).distancesToClosestPoints(referenceFront, KdTree.Metric.DOMINANCE);
+
     double sum = 0.0;
-    for (int i = 0 ; i < referenceFront.length; i++) {
-      sum += VectorUtils.distanceToClosestVector(referenceFront[i], front, new DominanceDistanceBetweenVectors());
+    for (double distance : distances) {
+      sum += distance;
     }
 
     // STEP 4. Divide the sum by the maximum number of points of the reference Pareto front
@@ -0,0 +1,596 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.HypervolumeContribution2D;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Exact hypervolume based on the WFG algorithm [1], which computes the same values as {@link
+ * WFGHypervolume} (up to floating-point rounding) but is designed to be fast and thread-safe:
+ *
+ * <ul>
+ *   <li>The points are stored in flat {@code double[]} arrays, and all the buffers needed by the
+ *       recursion (one per number of objectives) are allocated once per computation, so no objects
+ *       are created while recursing.
+ *   <li>The recursion ends in specialized algorithms: a sweep with two objectives, a dimension
+ *       sweep over a staircase with three objectives, and, with four objectives, a sweep along the
+ *       fourth objective where the three-objective exclusive volume of each point is computed by
+ *       visiting the previous points in a single order by the third objective, in the spirit of
+ *       HV4D+ [2].
+ *   <li>The hypervolume is the sum of independent slices (one per point, along the last
+ *       objective), so if a {@link ForkJoinPool} is set the slices are distributed among its
+ *       threads when there are four or more objectives. The slices are added up in the same
+ *       order as in the sequential computation, so the result does not depend on the pool.
+ * </ul>
+ *
+ * <p>Contrary to {@link WFGHypervolume}, the contribution of a point is computed directly as its
+ * exclusive volume instead of as the difference of two hypervolumes, which is faster and more
+ * accurate, and the computation of the contributions of the points is also distributed in the
+ * pool. The points that are not better than the reference point in all the objectives do not
+ * contribute.
+ *
+ * <p>[1] L. While, L. Bradstreet and L. Barone. A Fast Way of Calculating Exact Hypervolumes. IEEE
+ * Transactions on Evolutionary Computation 16(1):86-95, 2012.
+ *
+ * <p>[2] A. P. Guerreiro and C. M. Fonseca. Computing and Updating Hypervolume Contributions in Up
+ * to Four Dimensions. IEEE Transactions on Evolutionary Computation 22(3):449-463, 2018.
+ *
+ * @author Antonio J. Nebro
+ */
+@SuppressWarnings("serial")
+public class FastWFGHypervolume extends Hypervolume {
+  /** Fronts with fewer points are computed sequentially even if there is a pool */
+  private static final int MINIMUM_NUMBER_OF_POINTS_TO_PARALLELIZE = 32;
+
+  /** Fronts with up to this number of points are computed by the inclusion-exclusion principle */
+  private static final int INCLUSION_EXCLUSION_POINTS = 4;
+
+  private static final int INSERTION_SORT_THRESHOLD = 16;
+
+  private transient ForkJoinPool pool;
+
+  public FastWFGHypervolume() {}
+
+  public FastWFGHypervolume(double[] referencePoint) {
+    super(referencePoint);
+  }
+
+  public FastWFGHypervolume(double[][] referenceFront) {
+    super(referenceFront);
+  }
+
+  /** Sets the pool used to compute the slices in parallel, or null to compute them sequentially */
+  public FastWFGHypervolume setPool(ForkJoinPool pool) {
+    this.pool = pool;
+
+    return this;
+  }
+
+  @Override
+  public QualityIndicator newInstance() {
+    return new FastWFGHypervolume().setPool(pool);
+  }
+
+  @Override
+  public String description() {
+    return "WFG Hypervolume quality indicator";
+  }
+
+  @Override
+  public double compute(double[][] front) {
+    Check.notNull(front);
+
+    double[] referencePoint = getReferencePoint();
+    int numberOfObjectives = referencePoint.length;
+    int[] activeIndices = activePoints(front, referencePoint);
+    double[] points = translate(front, activeIndices, referencePoint);
+    int numberOfPoints = activeIndices.length;
+
+    var workspace = new Workspace(numberOfPoints, numberOfObjectives);
+    workspace.sortByLastObjective(points, numberOfPoints, numberOfObjectives);
+    if (numberOfObjectives < 4
+        || pool == null
+        || numberOfPoints < MINIMUM_NUMBER_OF_POINTS_TO_PARALLELIZE) {
+      return workspace.hypervolume(points, numberOfPoints, numberOfObjectives);
+    }
+
+    // Same computation as Workspace.hypervolume(), but computing the slices in the pool
+    int last = numberOfObjectives - 1;
+    int[] order3D =
+        (numberOfObjectives == 4)
+            ? workspace.orderByThirdObjective(points, numberOfPoints)
+            : null;
+
+    double[] slices = new double[numberOfPoints];
+    runInPool(
+        INCLUSION_EXCLUSION_POINTS,
+        numberOfPoints,
+        numberOfObjectives,
+        (i, taskWorkspace) ->
+            slices[i] =
+                (numberOfObjectives == 4)
+                    ? taskWorkspace.exclusiveVolume3D(points, numberOfPoints, i, order3D)
+                    : taskWorkspace.exclusiveVolume(points, numberOfObjectives, i, last));
+
+    double volume =
+        workspace.inclusionExclusion(points, INCLUSION_EXCLUSION_POINTS, numberOfObjectives);
+    for (int i = INCLUSION_EXCLUSION_POINTS; i < numberOfPoints; i++) {
+      volume += points[i * numberOfObjectives + last] * slices[i];
+    }
+
+    return volume;
+  }
+
+  /**
+   * Computes the hypervolume contribution of each point of a front, which is the volume dominated
+   * only by that point
+   *
+   * @return An array where contributions[i] is the contribution of point i
+   */
+  public double[] computeHypervolumeContribution(double[][] front) {
+    Check.notNull(front);
+    Check.that(front.length > 0, "The front cannot be empty");
+
+    double[] referencePoint = getReferencePoint();
+    int numberOfObjectives = referencePoint.length;
+    if (numberOfObjectives == 2) {
+      return HypervolumeContribution2D.compute(front, referencePoint);
+    }
+
+    int[] activeIndices = activePoints(front, referencePoint);
+    double[] points = translate(front, activeIndices, referencePoint);
+    int numberOfPoints = activeIndices.length;
+
+    double[] contributions = new double[front.length];
+    IndexedAction contribution =
+        (i, workspace) ->
+            contributions[activeIndices[i]] =
+                workspace.contribution(points, numberOfPoints, numberOfObjectives, i);
+    if (pool == null || numberOfPoints < MINIMUM_NUMBER_OF_POINTS_TO_PARALLELIZE) {
+      var workspace = new Workspace(numberOfPoints, numberOfObjectives);
+      for (int i = 0; i < numberOfPoints; i++) {
+        contribution.run(i, workspace);
+      }
+    } else {
+      runInPool(0, numberOfPoints, numberOfObjectives, contribution);
+    }
+
+    return contributions;
+  }
+
+  @Override
+  public String name() {
+    return "HV";
+  }
+
+  /**
+   * Runs an action for the indices from..numberOfPoints-1 in the pool. Each task has its own
+   * workspace and takes the indices in steps of the number of tasks, so that the expensive slices
+   * (those of the last points, which are limited by more points) are spread among the tasks.
+   */
+  private void runInPool(
+      int from, int numberOfPoints, int numberOfObjectives, IndexedAction action) {
+    int numberOfTasks = Math.min(numberOfPoints - from, 4 * pool.getParallelism());
+    List<ForkJoinTask<?>> tasks = new ArrayList<>(numberOfTasks);
+    for (int task = 0; task < numberOfTasks; task++) {
+      int firstIndex = from + task;
+      tasks.add(
+          ForkJoinTask.adapt(
+              () -> {
+                var workspace = new Workspace(numberOfPoints, numberOfObjectives);
+                for (int i = firstIndex; i < numberOfPoints; i += numberOfTasks) {
+                  action.run(i, workspace);
+                }
+              }));
+    }
+    pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+  }
+
+  @FunctionalInterface
+  private interface IndexedAction {
+    void run(int index, Workspace workspace);
+  }
+
+  /** Returns the indices of the points better than the reference point in all the objectives */
+  private static int[] activePoints(double[][] front, double[] referencePoint) {
+    int[] indices = new int[front.length];
+    int numberOfActivePoints = 0;
+    for (int i = 0; i < front.length; i++) {
+      Check.that(
+          front[i].length == referencePoint.length,
+          "The point " + i + " has " + front[i].length + " objectives instead of "
+              + referencePoint.length);
+      boolean active = true;
+      for (int j = 0; active && j < referencePoint.length; j++) {
+        active = front[i][j] < referencePoint[j];
+      }
+      if (active) {
+        indices[numberOfActivePoints++] = i;
+      }
+    }
+
+    return Arrays.copyOf(indices, numberOfActivePoints);
+  }
+
+  /**
+   * Returns the points in a flat array, translated so that the reference point is the origin and
+   * the objectives are maximized (as assumed by the WFG algorithm)
+   */
+  private static double[] translate(double[][] front, int[] indices, double[] referencePoint) {
+    int numberOfObjectives = referencePoint.length;
+    double[] points = new double[indices.length * numberOfObjectives];
+    for (int i = 0; i < indices.length; i++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        points[i * numberOfObjectives + j] = referencePoint[j] - front[indices[i]][j];
+      }
+    }
+
+    return points;
+  }
+
+  /**
+   * Buffers and algorithms of a computation. The points are rows of flat arrays whose length is the
+   * number of objectives of the recursion level, and their objectives are maximized with the
+   * reference point at the origin. The level with d objectives stores the points limited by a point
+   * of the level above in {@code levels[d]}, so the recursion never overwrites the points of an
+   * ongoing level.
+   */
+  private static class Workspace {
+    private final double[][] levels;
+    private final double[] buffer;
+    private final double[] keys;
+    private final int[] order;
+    private final int[] mergeBuffer;
+    private final int[] order3D;
+    private final double[] intersections = new double[1 << INCLUSION_EXCLUSION_POINTS];
+    private final double[] minimums = new double[1 << INCLUSION_EXCLUSION_POINTS];
+    private final double[] staircaseX;
+    private final double[] staircaseY;
+    private int staircaseSize;
+    private double staircaseArea;
+
+    private Workspace(int capacity, int numberOfObjectives) {
+      levels = new double[numberOfObjectives + 1][];
+      for (int d = 2; d <= numberOfObjectives; d++) {
+        levels[d] = new double[capacity * d];
+      }
+      buffer = new double[capacity * numberOfObjectives];
+      keys = new double[capacity];
+      order = new int[capacity];
+      mergeBuffer = new int[capacity];
+      order3D = new int[capacity];
+      staircaseX = new double[capacity];
+      staircaseY = new double[capacity];
+    }
+
+    /**
+     * Hypervolume of the first count points (with d objectives) of an array, which must be sorted
+     * by decreasing value of the last objective
+     */
+    private double hypervolume(double[] points, int count, int d) {
+      if (count <= INCLUSION_EXCLUSION_POINTS) {
+        return inclusionExclusion(points, count, d);
+      } else if (d == 2) {
+        return hypervolume2D(points, count);
+      } else if (d == 3) {
+        return hypervolume3D(points, count);
+      }
+
+      // Slices along the last objective: each point adds the volume that it dominates and the
+      // points with a higher value of the last objective do not. The first slices are computed
+      // together, as in WFG
+      int last = d - 1;
+      int[] zOrder = (d == 4) ? orderByThirdObjective(points, count) : null;
+      double volume = inclusionExclusion(points, INCLUSION_EXCLUSION_POINTS, d);
+      for (int i = INCLUSION_EXCLUSION_POINTS; i < count; i++) {
+        double slice =
+            (d == 4)
+                ? exclusiveVolume3D(points, count, i, zOrder)
+                : exclusiveVolume(points, d, i, last);
+        volume += points[i * d + last] * slice;
+      }
+
+      return volume;
+    }
+
+    /**
+     * Volume dominated by the point i (in its first k objectives) and not by the points 0..i-1 of
+     * an array whose points have d objectives
+     */
+    private double exclusiveVolume(double[] points, int d, int i, int k) {
+      double[] limitedPoints = levels[k];
+      int count = 0;
+      for (int q = i - 1; q >= 0; q--) {
+        limit(points, d, q, i, k, limitedPoints, count++);
+      }
+      count = removeDominatedPoints(limitedPoints, count, k);
+
+      return volume(points, i * d, k) - hypervolume(limitedPoints, count, k);
+    }
+
+    /** Volume dominated only by the point i of an array whose points have d objectives */
+    private double contribution(double[] points, int count, int d, int i) {
+      double[] limitedPoints = levels[d];
+      int numberOfLimitedPoints = 0;
+      for (int q = 0; q < count; q++) {
+        if (q != i) {
+          limit(points, d, q, i, d, limitedPoints, numberOfLimitedPoints++);
+        }
+      }
+      numberOfLimitedPoints = removeDominatedPoints(limitedPoints, numberOfLimitedPoints, d);
+
+      return volume(points, i * d, d) - hypervolume(limitedPoints, numberOfLimitedPoints, d);
+    }
+
+    /** Writes the first k objectives of point q bounded by point i in row position of target */
+    private static void limit(
+        double[] points, int d, int q, int i, int k, double[] target, int position) {
+      for (int j = 0; j < k; j++) {
+        target[position * k + j] = Math.min(points[q * d + j], points[i * d + j]);
+      }
+    }
+
+    /**
+     * Moves the non-dominated points to the beginning of the array, sorted by decreasing value of
+     * the last objective, and returns their number. Each point is compared with the non-dominated
+     * points found so far, which are discarded if it dominates them, so only the points that
+     * remain are sorted.
+     */
+    private int removeDominatedPoints(double[] points, int count, int d) {
+      int numberOfNonDominatedPoints = 0;
+      for (int i = 0; i < count; i++) {
+        boolean dominated = false;
+        int q = 0;
+        while (!dominated && q < numberOfNonDominatedPoints) {
+          int comparison = compare(points, q, i, d);
+          if (comparison > 0) {
+            dominated = true;
+          } else if (comparison < 0) {
+            numberOfNonDominatedPoints--;
+            System.arraycopy(points, numberOfNonDominatedPoints * d, points, q * d, d);
+          } else {
+            q++;
+          }
+        }
+        if (!dominated) {
+          System.arraycopy(points, i * d, points, numberOfNonDominatedPoints * d, d);
+          numberOfNonDominatedPoints++;
+        }
+      }
+      sortByLastObjective(points, numberOfNonDominatedPoints, d);
+
+      return numberOfNonDominatedPoints;
+    }
+
+    /**
+     * Returns 1 if point p is not worse than point q in any objective, -1 if q dominates p and 0
+     * if they are non-dominated
+     */
+    private static int compare(double[] points, int p, int q, int d) {
+      int offsetOfP = p * d;
+      int offsetOfQ = q * d;
+      int j = 0;
+      while (j < d && points[offsetOfP + j] == points[offsetOfQ + j]) {
+        j++;
+      }
+      if (j == d) {
+        return 1;
+      } else if (points[offsetOfP + j] > points[offsetOfQ + j]) {
+        for (j++; j < d; j++) {
+          if (points[offsetOfP + j] < points[offsetOfQ + j]) {
+            return 0;
+          }
+        }
+        return 1;
+      } else {
+        for (j++; j < d; j++) {
+          if (points[offsetOfP + j] > points[offsetOfQ + j]) {
+            return 0;
+          }
+        }
+        return -1;
+      }
+    }
+
+    private static double volume(double[] points, int offset, int k) {
+      double volume = 1.0;
+      for (int j = 0; j < k; j++) {
+        volume *= points[offset + j];
+      }
+      return volume;
+    }
+
+    /**
+     * Hypervolume of the first count points of an array by the inclusion-exclusion principle. The
+     * minimum of each objective in a subset of points is obtained from the subset without its
+     * first point.
+     */
+    private double inclusionExclusion(double[] points, int count, int d) {
+      int numberOfSubsets = 1 << count;
+      Arrays.fill(intersections, 1, numberOfSubsets, 1.0);
+      for (int j = 0; j < d; j++) {
+        for (int subset = 1; subset < numberOfSubsets; subset++) {
+          int rest = subset & (subset - 1);
+          double value = points[Integer.numberOfTrailingZeros(subset) * d + j];
+          minimums[subset] = (rest == 0) ? value : Math.min(minimums[rest], value);
+          intersections[subset] *= minimums[subset];
+        }
+      }
+
+      double volume = 0.0;
+      for (int subset = 1; subset < numberOfSubsets; subset++) {
+        boolean oddSubset = Integer.bitCount(subset) % 2 == 1;
+        volume += oddSubset ? intersections[subset] : -intersections[subset];
+      }
+      return volume;
+    }
+
+    /** Sweep by decreasing second objective, keeping the maximum value of the first one */
+    private static double hypervolume2D(double[] points, int count) {
+      double volume = 0.0;
+      double maximumX = 0.0;
+      for (int i = 0; i < count; i++) {
+        double x = points[2 * i];
+        if (x > maximumX) {
+          volume += points[2 * i + 1] * (x - maximumX);
+          maximumX = x;
+        }
+      }
+      return volume;
+    }
+
+    /** Sweep by decreasing third objective, keeping the area dominated in the first two */
+    private double hypervolume3D(double[] points, int count) {
+      clearStaircase();
+      double volume = 0.0;
+      for (int i = 0; i < count; i++) {
+        insertIntoStaircase(points[3 * i], points[3 * i + 1]);
+        double nextZ = (i + 1 < count) ? points[3 * (i + 1) + 2] : 0.0;
+        volume += staircaseArea * (points[3 * i + 2] - nextZ);
+      }
+      return volume;
+    }
+
+    /**
+     * Volume dominated by the point i (in its first three objectives) and not by the points 0..i-1
+     * of an array of four-objective points. The points are visited in decreasing order of the third
+     * objective, which is not changed by bounding them by point i, so no sorting is needed.
+     */
+    private double exclusiveVolume3D(double[] points, int count, int i, int[] zOrder) {
+      double x = points[4 * i];
+      double y = points[4 * i + 1];
+      double z = points[4 * i + 2];
+      double area = x * y;
+
+      clearStaircase();
+      double coveredVolume = 0.0;
+      double previousZ = z;
+      for (int position = 0; position < count && staircaseArea < area; position++) {
+        int q = zOrder[position];
+        if (q < i) {
+          double limitedZ = Math.min(points[4 * q + 2], z);
+          coveredVolume += staircaseArea * (previousZ - limitedZ);
+          previousZ = limitedZ;
+          insertIntoStaircase(Math.min(points[4 * q], x), Math.min(points[4 * q + 1], y));
+        }
+      }
+      coveredVolume += staircaseArea * previousZ;
+
+      return area * z - coveredVolume;
+    }
+
+    private int[] orderByThirdObjective(double[] points, int count) {
+      for (int i = 0; i < count; i++) {
+        keys[i] = points[4 * i + 2];
+      }
+      sortIndices(count);
+      System.arraycopy(order, 0, order3D, 0, count);
+      return order3D;
+    }
+
+    private void clearStaircase() {
+      staircaseSize = 0;
+      staircaseArea = 0.0;
+    }
+
+    /**
+     * Adds a point to the staircase of the non-dominated points in two objectives, which is sorted
+     * by decreasing x (and so increasing y), and adds the area that it dominates alone to the area
+     * of the staircase
+     */
+    private void insertIntoStaircase(double x, double y) {
+      // Number of points with x' >= x, the last of which has the highest y' among them
+      int first = 0;
+      while (first < staircaseSize && staircaseX[first] >= x) {
+        first++;
+      }
+      double height = (first > 0) ? staircaseY[first - 1] : 0.0;
+      if (height >= y) {
+        return;
+      }
+
+      double area = 0.0;
+      double left = x;
+      int end = first;
+      while (end < staircaseSize && staircaseY[end] < y) {
+        area += (left - staircaseX[end]) * (y - height);
+        left = staircaseX[end];
+        height = staircaseY[end];
+        end++;
+      }
+      area += ((end < staircaseSize) ? left - staircaseX[end] : left) * (y - height);
+      staircaseArea += area;
+
+      // Remove the points dominated by the new one, including those with the same x or y
+      int start = (first > 0 && staircaseX[first - 1] == x) ? first - 1 : first;
+      if (end < staircaseSize && staircaseY[end] == y) {
+        end++;
+      }
+      int removed = end - start;
+      System.arraycopy(staircaseX, end, staircaseX, start + 1, staircaseSize - end);
+      System.arraycopy(staircaseY, end, staircaseY, start + 1, staircaseSize - end);
+      staircaseX[start] = x;
+      staircaseY[start] = y;
+      staircaseSize += 1 - removed;
+    }
+
+    /** Sorts the first count points of an array by decreasing value of the last objective */
+    private void sortByLastObjective(double[] points, int count, int d) {
+      for (int i = 0; i < count; i++) {
+        keys[i] = points[i * d + d - 1];
+      }
+      sortIndices(count);
+      for (int i = 0; i < count; i++) {
+        System.arraycopy(points, order[i] * d, buffer, i * d, d);
+      }
+      System.arraycopy(buffer, 0, points, 0, count * d);
+    }
+
+    /** Leaves in order[0..count-1] the indices 0..count-1 sorted by decreasing value of keys */
+    private void sortIndices(int count) {
+      for (int i = 0; i < count; i++) {
+        order[i] = i;
+      }
+      mergeSort(0, count);
+    }
+
+    private void mergeSort(int from, int to) {
+      if (to - from <= INSERTION_SORT_THRESHOLD) {
+        for (int i = from + 1; i < to; i++) {
+          int index = order[i];
+          int j = i - 1;
+          while (j >= from && keys[order[j]] < keys[index]) {
+            order[j + 1] = order[j];
+            j--;
+          }
+          order[j + 1] = index;
+        }
+        return;
+      }
+
+      int middle = (from + to) >>> 1;
+      mergeSort(from, middle);
+      mergeSort(middle, to);
+      if (keys[order[middle - 1]] >= keys[order[middle]]) {
+        return;
+      }
+
+      System.arraycopy(order, from, mergeBuffer, from, to - from);
+      int left = from;
+      int right = middle;
+      for (int i = from; i < to; i++) {
+        if (right >= to || (left < middle && keys[mergeBuffer[left]] >= keys[mergeBuffer[right]])) {
+          order[i] = mergeBuffer[left++];
+        } else {
+          order[i] = mergeBuffer[right++];
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,372 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Hypervolume estimated by Monte Carlo sampling, whose cost grows linearly with the number of
+ * objectives instead of exponentially as with the exact algorithms. The points are sampled
+ * uniformly in the box between the ideal point of the front and the reference point, and the
+ * hypervolume is the volume of the box times the fraction of the samples dominated by the front.
+ *
+ * <p>Besides the hypervolume, the hypervolume contributions (the volume dominated only by a point)
+ * and the HypE fitness values [1] are estimated from the same samples: each sample dominated by
+ * i <= k points of the front adds alpha_i / i to each of them, where alpha_i = prod_{l=1}^{i-1}
+ * (k - l) / (|P| - l). With k = 1 the fitness is the contribution, and with k = |P| the fitness
+ * values add up to the hypervolume.
+ *
+ * <p>The sampling stops when the number of samples reaches a budget or, if a target half-width of
+ * the confidence interval is set, when the interval of the estimation (the widest one when
+ * estimating contributions) is narrow enough. The samples are drawn in chunks with a fixed size,
+ * each one with its own random stream split from a seed, so the chunks can be sampled in parallel
+ * in a {@link ForkJoinPool} and the result only depends on the seed. If no seed is set, a new one
+ * is taken from {@link JMetalRandom} in each computation.
+ *
+ * <p>[1] J. Bader and E. Zitzler. HypE: An Algorithm for Fast Hypervolume-Based Many-Objective
+ * Optimization. Evolutionary Computation 19(1):45-76, 2011.
+ *
+ * @author Antonio J. Nebro
+ */
+@SuppressWarnings("serial")
+public class MonteCarloHypervolume extends Hypervolume {
+  public static final long DEFAULT_NUMBER_OF_SAMPLES = 100000;
+  public static final double DEFAULT_CONFIDENCE_LEVEL = 0.95;
+
+  private static final int SAMPLES_PER_CHUNK = 4096;
+  private static final int CHUNKS_PER_ROUND = 16;
+
+  private long maximumNumberOfSamples = DEFAULT_NUMBER_OF_SAMPLES;
+  private double targetHalfWidth = 0.0;
+  private double confidenceLevel = DEFAULT_CONFIDENCE_LEVEL;
+  private Long seed;
+  private transient ForkJoinPool pool;
+
+  private long numberOfSamples;
+  private double halfWidth;
+
+  public MonteCarloHypervolume() {}
+
+  public MonteCarloHypervolume(double[] referencePoint) {
+    super(referencePoint);
+  }
+
+  public MonteCarloHypervolume(double[][] referenceFront) {
+    super(referenceFront);
+  }
+
+  /** Sets the maximum number of samples of an estimation */
+  public MonteCarloHypervolume setNumberOfSamples(long numberOfSamples) {
+    Check.that(numberOfSamples > 0, "The number of samples is not positive: " + numberOfSamples);
+    this.maximumNumberOfSamples = numberOfSamples;
+
+    return this;
+  }
+
+  /**
+   * Makes the sampling stop as soon as the half-width of the confidence interval of the estimation
+   * is not greater than a value. The number of samples set with {@link #setNumberOfSamples(long)}
+   * is still an upper bound.
+   *
+   * @param halfWidth Half-width of the interval, in units of hypervolume
+   * @param confidenceLevel Confidence level of the interval, in (0, 1)
+   */
+  public MonteCarloHypervolume setConfidenceInterval(double halfWidth, double confidenceLevel) {
+    Check.that(halfWidth > 0, "The half-width is not positive: " + halfWidth);
+    Check.that(
+        confidenceLevel > 0 && confidenceLevel < 1,
+        "The confidence level is not in (0, 1): " + confidenceLevel);
+    this.targetHalfWidth = halfWidth;
+    this.confidenceLevel = confidenceLevel;
+
+    return this;
+  }
+
+  /** Sets the seed of the samples, so that the same front always gets the same estimation */
+  public MonteCarloHypervolume setSeed(long seed) {
+    this.seed = seed;
+
+    return this;
+  }
+
+  /** Sets the pool used to sample in parallel, or null to sample sequentially */
+  public MonteCarloHypervolume setPool(ForkJoinPool pool) {
+    this.pool = pool;
+
+    return this;
+  }
+
+  /** Number of samples drawn in the last estimation */
+  public long numberOfSamples() {
+    return numberOfSamples;
+  }
+
+  /**
+   * Half-width of the confidence interval of the last estimation, at the confidence level set with
+   * {@link #setConfidenceInterval(double, double)} (95% by default)
+   */
+  public double halfWidth() {
+    return halfWidth;
+  }
+
+  @Override
+  public QualityIndicator newInstance() {
+    MonteCarloHypervolume hypervolume = new MonteCarloHypervolume();
+    hypervolume.maximumNumberOfSamples = maximumNumberOfSamples;
+    hypervolume.targetHalfWidth = targetHalfWidth;
+    hypervolume.confidenceLevel = confidenceLevel;
+    hypervolume.seed = seed;
+    hypervolume.pool = pool;
+
+    return hypervolume;
+  }
+
+  @Override
+  public String description() {
+    return "Monte Carlo estimation of the hypervolume quality indicator";
+  }
+
+  @Override
+  public double compute(double[][] front) {
+    Check.notNull(front);
+
+    return estimate(front, 0).hypervolume;
+  }
+
+  /**
+   * Estimates the hypervolume contribution of each point of a front
+   *
+   * @return An array where contributions[i] is the contribution of point i
+   */
+  public double[] computeHypervolumeContribution(double[][] front) {
+    Check.notNull(front);
+
+    return estimate(front, 1).fitness;
+  }
+
+  /**
+   * Estimates the HypE fitness of each point of a front
+   *
+   * @param k Number of points that would be removed from the front, between 1 and its size
+   */
+  public double[] computeHypEFitness(double[][] front, int k) {
+    Check.notNull(front);
+    Check.valueIsInRange(k, 1, Math.max(1, front.length));
+
+    return estimate(front, k).fitness;
+  }
+
+  private Estimation estimate(double[][] front, int k) {
+    double[] referencePoint = getReferencePoint();
+    int numberOfObjectives = referencePoint.length;
+
+    // Only the points better than the reference point in all the objectives dominate samples
+    List<Integer> activeIndices = new ArrayList<>(front.length);
+    for (int i = 0; i < front.length; i++) {
+      Check.that(
+          front[i].length == numberOfObjectives,
+          "The point " + i + " has " + front[i].length + " objectives instead of "
+              + numberOfObjectives);
+      if (isStrictlyBetter(front[i], referencePoint)) {
+        activeIndices.add(i);
+      }
+    }
+
+    numberOfSamples = 0;
+    halfWidth = 0.0;
+    Estimation estimation = new Estimation(0.0, new double[front.length]);
+    if (activeIndices.isEmpty()) {
+      return estimation;
+    }
+
+    double[][] points = new double[activeIndices.size()][];
+    double[] lowerBound = referencePoint.clone();
+    for (int i = 0; i < points.length; i++) {
+      points[i] = front[activeIndices.get(i)];
+      for (int j = 0; j < numberOfObjectives; j++) {
+        lowerBound[j] = Math.min(lowerBound[j], points[i][j]);
+      }
+    }
+    double boxVolume = 1.0;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      boxVolume *= referencePoint[j] - lowerBound[j];
+    }
+
+    double[] alpha = alphaValues(Math.min(k, points.length), points.length);
+    double z =
+        new NormalDistribution().inverseCumulativeProbability(1.0 - (1.0 - confidenceLevel) / 2.0);
+    SplittableRandom random =
+        new SplittableRandom(
+            (seed != null) ? seed : JMetalRandom.getInstance().nextInt(0, Integer.MAX_VALUE - 1));
+
+    long dominatedSamples = 0;
+    double[] fitness = new double[points.length];
+    while (numberOfSamples < maximumNumberOfSamples) {
+      // The chunks and their random streams are created sequentially, so the estimation does not
+      // depend on whether they are sampled in parallel
+      List<SamplingTask> tasks = new ArrayList<>(CHUNKS_PER_ROUND);
+      for (int chunk = 0;
+          chunk < CHUNKS_PER_ROUND && numberOfSamples < maximumNumberOfSamples;
+          chunk++) {
+        int size = (int) Math.min(SAMPLES_PER_CHUNK, maximumNumberOfSamples - numberOfSamples);
+        tasks.add(new SamplingTask(random.split(), size));
+        numberOfSamples += size;
+      }
+
+      List<ChunkResult> results;
+      if (pool == null) {
+        results =
+            tasks.stream()
+                .map(task -> task.sample(points, lowerBound, referencePoint, alpha))
+                .toList();
+      } else {
+        results =
+            pool.submit(
+                    () ->
+                        tasks.parallelStream()
+                            .map(task -> task.sample(points, lowerBound, referencePoint, alpha))
+                            .toList())
+                .join();
+      }
+      for (ChunkResult result : results) {
+        dominatedSamples += result.dominatedSamples;
+        for (int i = 0; i < fitness.length; i++) {
+          fitness[i] += result.fitness[i];
+        }
+      }
+
+      if (k == 0) {
+        halfWidth = z * boxVolume * standardError(dominatedSamples, numberOfSamples);
+      } else {
+        halfWidth = 0.0;
+        for (double value : fitness) {
+          halfWidth = Math.max(halfWidth, z * boxVolume * standardError(value, numberOfSamples));
+        }
+      }
+      if (targetHalfWidth > 0.0 && halfWidth <= targetHalfWidth) {
+        break;
+      }
+    }
+
+    estimation.hypervolume = boxVolume * dominatedSamples / numberOfSamples;
+    for (int i = 0; i < points.length; i++) {
+      estimation.fitness[activeIndices.get(i)] = boxVolume * fitness[i] / numberOfSamples;
+    }
+
+    return estimation;
+  }
+
+  /**
+   * Standard error of a proportion. One success and one failure are added to the counts, so that
+   * the error is not zero when all the samples fall on the same side.
+   */
+  private static double standardError(double successes, long trials) {
+    double proportion = (successes + 1.0) / (trials + 2.0);
+
+    return Math.sqrt(proportion * (1.0 - proportion) / trials);
+  }
+
+  /** Returns the HypE weights alpha_i / i, for i = 1..k (index 0 is unused) */
+  private static double[] alphaValues(int k, int numberOfPoints) {
+    double[] alpha = new double[k + 1];
+    double product = 1.0;
+    for (int i = 1; i <= k; i++) {
+      if (i > 1) {
+        product *= (double) (k - (i - 1)) / (numberOfPoints - (i - 1));
+      }
+      alpha[i] = product / i;
+    }
+    return alpha;
+  }
+
+  private static boolean isStrictlyBetter(double[] vector1, double[] vector2) {
+    for (int i = 0; i < vector1.length; i++) {
+      if (vector1[i] >= vector2[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static class SamplingTask {
+    private final SplittableRandom random;
+    private final int numberOfSamples;
+
+    private SamplingTask(SplittableRandom random, int numberOfSamples) {
+      this.random = random;
+      this.numberOfSamples = numberOfSamples;
+    }
+
+    private ChunkResult sample(
+        double[][] points, double[] lowerBound, double[] upperBound, double[] alpha) {
+      int k = alpha.length - 1;
+      ChunkResult result = new ChunkResult(points.length);
+      double[] sample = new double[lowerBound.length];
+      int[] dominatingPoints = new int[Math.max(1, k)];
+
+      for (int s = 0; s < numberOfSamples; s++) {
+        for (int j = 0; j < sample.length; j++) {
+          sample[j] = lowerBound[j] + random.nextDouble() * (upperBound[j] - lowerBound[j]);
+        }
+
+        int numberOfDominatingPoints = 0;
+        for (int i = 0; i < points.length; i++) {
+          if (weaklyDominates(points[i], sample)) {
+            if (numberOfDominatingPoints < k) {
+              dominatingPoints[numberOfDominatingPoints] = i;
+            }
+            numberOfDominatingPoints++;
+            if (k == 0 || numberOfDominatingPoints > k) {
+              break;
+            }
+          }
+        }
+
+        if (numberOfDominatingPoints > 0) {
+          result.dominatedSamples++;
+        }
+        if (numberOfDominatingPoints > 0 && numberOfDominatingPoints <= k) {
+          for (int i = 0; i < numberOfDominatingPoints; i++) {
+            result.fitness[dominatingPoints[i]] += alpha[numberOfDominatingPoints];
+          }
+        }
+      }
+
+      return result;
+    }
+
+    private static boolean weaklyDominates(double[] point, double[] sample) {
+      for (int j = 0; j < point.length; j++) {
+        if (point[j] > sample[j]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static class ChunkResult {
+    private long dominatedSamples;
+    private final double[] fitness;
+
+    private ChunkResult(int numberOfPoints) {
+      this.fitness = new double[numberOfPoints];
+    }
+  }
+
+  private static class Estimation {
+    private double hypervolume;
+    private final double[] fitness;
+
+    private Estimation(double hypervolume, double[] fitness) {
+      this.hypervolume = hypervolume;
+      this.fitness = fitness;
+    }
+  }
+}
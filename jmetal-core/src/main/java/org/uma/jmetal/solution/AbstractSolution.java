@@ -1,10 +1,10 @@
 package org.uma.jmetal.solution;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.IntStream;
+import org.uma.jmetal.solution.attribute.SolutionAttributes;
 
 /**
  * Abstract class representing a generic solution
@@ -46,7 +46,7 @@ public abstract class AbstractSolution<T> implements Solution<T> {
   /** Constructor */
   protected AbstractSolution(
       int numberOfVariables, int numberOfObjectives, int numberOfConstraints) {
-    attributes = new HashMap<>();
+    attributes = new SolutionAttributes();
 
     variables = new ArrayList<>(numberOfVariables);
     IntStream.range(0, numberOfVariables).forEach(i -> variables.add(i, null));
@@ -56,8 +56,6 @@ public abstract class AbstractSolution<T> implements Solution<T> {
 
     constraints = new double[numberOfConstraints];
     IntStream.range(0, numberOfConstraints).forEach(i -> constraints[i] = 0.0);
-
-    attributes = new HashMap<>();
   }
 
   @Override
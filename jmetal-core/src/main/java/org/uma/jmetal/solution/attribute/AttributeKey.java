@@ -0,0 +1,204 @@
+package org.uma.jmetal.solution.attribute;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Typed key of a numeric solution attribute. Each key is registered in a process-wide registry
+ * that assigns it a dense slot index, so that the value of the attribute can be stored as a
+ * primitive in the arrays of a {@link SolutionAttributes} object instead of as a boxed value in a
+ * hash map.
+ *
+ * <p>A key is identified by an object (typically the name of the class computing the attribute),
+ * which is also the key used when the attribute is accessed through the {@link Map} returned by
+ * {@link Solution#attributes()}. Requesting a key twice with the same identifier returns the same
+ * instance.
+ *
+ * <p>The accessor methods of this class work with any {@link Solution}: if the attributes of the
+ * solution are not stored in a {@link SolutionAttributes} object, they fall back to the map.
+ *
+ * @author Antonio J. Nebro
+ * @param <T> Type of the attribute values
+ */
+@SuppressWarnings("serial")
+public final class AttributeKey<T> implements Serializable {
+  enum Type {
+    DOUBLE,
+    INTEGER
+  }
+
+  private static final Map<Object, AttributeKey<?>> registry = new ConcurrentHashMap<>();
+  private static final AtomicInteger numberOfDoubleSlots = new AtomicInteger();
+  private static final AtomicInteger numberOfIntegerSlots = new AtomicInteger();
+
+  private final Object id;
+  private final Type type;
+  private final int slot;
+
+  private AttributeKey(Object id, Type type, int slot) {
+    this.id = id;
+    this.type = type;
+    this.slot = slot;
+  }
+
+  /**
+   * Returns the key of a double attribute, registering it if it does not exist.
+   *
+   * @param id Identifier of the attribute
+   * @throws JMetalException if the identifier is registered as a key of a different type
+   */
+  public static AttributeKey<Double> doubleKey(Object id) {
+    return register(id, Type.DOUBLE);
+  }
+
+  /**
+   * Returns the key of an integer attribute, registering it if it does not exist.
+   *
+   * @param id Identifier of the attribute
+   * @throws JMetalException if the identifier is registered as a key of a different type
+   */
+  public static AttributeKey<Integer> integerKey(Object id) {
+    return register(id, Type.INTEGER);
+  }
+
+  /**
+   * Returns the key registered with an identifier, or null if there is none.
+   */
+  static AttributeKey<?> find(Object id) {
+    return id == null ? null : registry.get(id);
+  }
+
+  static Collection<AttributeKey<?>> registeredKeys() {
+    return registry.values();
+  }
+
+  static int numberOfDoubleSlots() {
+    return numberOfDoubleSlots.get();
+  }
+
+  static int numberOfIntegerSlots() {
+    return numberOfIntegerSlots.get();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> AttributeKey<T> register(Object id, Type type) {
+    Check.notNull(id);
+    AttributeKey<?> key =
+        registry.computeIfAbsent(
+            id,
+            k ->
+                new AttributeKey<>(
+                    k,
+                    type,
+                    type == Type.DOUBLE
+                        ? numberOfDoubleSlots.getAndIncrement()
+                        : numberOfIntegerSlots.getAndIncrement()));
+    if (key.type != type) {
+      throw new JMetalException(
+          "The attribute " + id + " is registered with type " + key.type + " instead of " + type);
+    }
+    return (AttributeKey<T>) key;
+  }
+
+  public Object id() {
+    return id;
+  }
+
+  public int slot() {
+    return slot;
+  }
+
+  Type type() {
+    return type;
+  }
+
+  /**
+   * Returns the value of a double attribute of a solution, or the default value if the solution
+   * does not have it.
+   */
+  public double getDouble(Solution<?> solution, double defaultValue) {
+    checkType(Type.DOUBLE);
+    Map<Object, Object> attributes = solution.attributes();
+    if (attributes instanceof SolutionAttributes solutionAttributes) {
+      return solutionAttributes.getDouble(asDoubleKey(), defaultValue);
+    }
+    return attributes.get(id) instanceof Number value ? value.doubleValue() : defaultValue;
+  }
+
+  /** Sets the value of a double attribute of a solution. */
+  public void setDouble(Solution<?> solution, double value) {
+    checkType(Type.DOUBLE);
+    Map<Object, Object> attributes = solution.attributes();
+    if (attributes instanceof SolutionAttributes solutionAttributes) {
+      solutionAttributes.setDouble(asDoubleKey(), value);
+    } else {
+      attributes.put(id, value);
+    }
+  }
+
+  /**
+   * Returns the value of an integer attribute of a solution, or the default value if the solution
+   * does not have it.
+   */
+  public int getInt(Solution<?> solution, int defaultValue) {
+    checkType(Type.INTEGER);
+    Map<Object, Object> attributes = solution.attributes();
+    if (attributes instanceof SolutionAttributes solutionAttributes) {
+      return solutionAttributes.getInt(asIntegerKey(), defaultValue);
+    }
+    return attributes.get(id) instanceof Number value ? value.intValue() : defaultValue;
+  }
+
+  /** Sets the value of an integer attribute of a solution. */
+  public void setInt(Solution<?> solution, int value) {
+    checkType(Type.INTEGER);
+    Map<Object, Object> attributes = solution.attributes();
+    if (attributes instanceof SolutionAttributes solutionAttributes) {
+      solutionAttributes.setInt(asIntegerKey(), value);
+    } else {
+      attributes.put(id, value);
+    }
+  }
+
+  /** Returns true if the solution has a value for this attribute. */
+  public boolean isSetIn(Solution<?> solution) {
+    Map<Object, Object> attributes = solution.attributes();
+    if (attributes instanceof SolutionAttributes solutionAttributes) {
+      return solutionAttributes.contains(this);
+    }
+    return attributes.get(id) != null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private AttributeKey<Double> asDoubleKey() {
+    return (AttributeKey<Double>) (AttributeKey<?>) this;
+  }
+
+  @SuppressWarnings("unchecked")
+  private AttributeKey<Integer> asIntegerKey() {
+    return (AttributeKey<Integer>) (AttributeKey<?>) this;
+  }
+
+  private void checkType(Type expectedType) {
+    if (type != expectedType) {
+      throw new JMetalException(
+          "The attribute " + id + " has type " + type + " instead of " + expectedType);
+    }
+  }
+
+  /** Keys are unique per identifier, so deserialized keys are resolved against the registry. */
+  private Object readResolve() {
+    return register(id, type);
+  }
+
+  @Override
+  public String toString() {
+    return "AttributeKey{" + id + ", " + type + ", slot=" + slot + "}";
+  }
+}
@@ -0,0 +1,338 @@
+package org.uma.jmetal.solution.attribute;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Storage of the attributes of a solution. The values of the attributes having a registered {@link
+ * AttributeKey} are kept as primitives in arrays indexed by the slot of the key, while any other
+ * attribute is kept in a hash map, which is only created when needed.
+ *
+ * <p>The class implements the {@link Map} interface so that it can be returned by {@link
+ * org.uma.jmetal.solution.Solution#attributes()}: a map access with the identifier of a
+ * registered key is redirected to the corresponding slot. Code using the keys directly (see
+ * {@link AttributeKey#getDouble} and {@link AttributeKey#getInt}) avoids both the hashing of the
+ * identifier and the boxing of the value.
+ *
+ * @author Antonio J. Nebro
+ */
+@SuppressWarnings("serial")
+public class SolutionAttributes extends AbstractMap<Object, Object> implements Serializable {
+  private static final double[] NO_DOUBLES = new double[0];
+  private static final int[] NO_INTS = new int[0];
+  private static final long[] NO_BITS = new long[0];
+
+  private transient double[] doubleValues = NO_DOUBLES;
+  private transient long[] doublePresence = NO_BITS;
+  private transient int[] intValues = NO_INTS;
+  private transient long[] intPresence = NO_BITS;
+  private transient Map<Object, Object> others;
+
+  /** Constructor */
+  public SolutionAttributes() {}
+
+  /**
+   * Creates a copy of a map of attributes. If the map is a {@link SolutionAttributes} object, the
+   * slot arrays are cloned; otherwise, the entries of the map are inserted one by one.
+   */
+  public static SolutionAttributes copyOf(Map<Object, Object> attributes) {
+    if (attributes instanceof SolutionAttributes solutionAttributes) {
+      return solutionAttributes.copy();
+    }
+    SolutionAttributes result = new SolutionAttributes();
+    if (attributes != null) {
+      result.putAll(attributes);
+    }
+    return result;
+  }
+
+  /** Returns a copy of this object, cloning the slot arrays instead of rehashing the values. */
+  public SolutionAttributes copy() {
+    SolutionAttributes copy = new SolutionAttributes();
+    if (doubleValues.length > 0) {
+      copy.doubleValues = doubleValues.clone();
+      copy.doublePresence = doublePresence.clone();
+    }
+    if (intValues.length > 0) {
+      copy.intValues = intValues.clone();
+      copy.intPresence = intPresence.clone();
+    }
+    if (others != null && !others.isEmpty()) {
+      copy.others = new HashMap<>(others);
+    }
+    return copy;
+  }
+
+  public double getDouble(AttributeKey<Double> key, double defaultValue) {
+    int slot = key.slot();
+    if (isSet(doublePresence, slot)) {
+      return doubleValues[slot];
+    }
+    return otherValue(key) instanceof Number value ? value.doubleValue() : defaultValue;
+  }
+
+  public void setDouble(AttributeKey<Double> key, double value) {
+    int slot = key.slot();
+    if (slot >= doubleValues.length) {
+      int length = Math.max(slot + 1, AttributeKey.numberOfDoubleSlots());
+      doubleValues = Arrays.copyOf(doubleValues, length);
+      doublePresence = ensureBits(doublePresence, length);
+    }
+    doubleValues[slot] = value;
+    setBit(doublePresence, slot);
+    removeOtherValue(key);
+  }
+
+  public int getInt(AttributeKey<Integer> key, int defaultValue) {
+    int slot = key.slot();
+    if (isSet(intPresence, slot)) {
+      return intValues[slot];
+    }
+    return otherValue(key) instanceof Number value ? value.intValue() : defaultValue;
+  }
+
+  public void setInt(AttributeKey<Integer> key, int value) {
+    int slot = key.slot();
+    if (slot >= intValues.length) {
+      int length = Math.max(slot + 1, AttributeKey.numberOfIntegerSlots());
+      intValues = Arrays.copyOf(intValues, length);
+      intPresence = ensureBits(intPresence, length);
+    }
+    intValues[slot] = value;
+    setBit(intPresence, slot);
+    removeOtherValue(key);
+  }
+
+  public boolean contains(AttributeKey<?> key) {
+    return slotIsSet(key) || otherValue(key) != null;
+  }
+
+  /* Map interface */
+
+  @Override
+  public Object get(Object key) {
+    AttributeKey<?> attributeKey = resolve(key);
+    if (attributeKey == null) {
+      return others == null ? null : others.get(key);
+    }
+    if (slotIsSet(attributeKey)) {
+      return slotValue(attributeKey);
+    }
+    return otherValue(attributeKey);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    AttributeKey<?> attributeKey = resolve(key);
+    if (attributeKey != null && slotIsSet(attributeKey)) {
+      return true;
+    }
+    Object id = attributeKey == null ? key : attributeKey.id();
+    return others != null && others.containsKey(id);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Object put(Object key, Object value) {
+    AttributeKey<?> attributeKey = resolve(key);
+    if (attributeKey == null) {
+      return others().put(key, value);
+    }
+
+    Object previous = get(attributeKey);
+    if (attributeKey.type() == AttributeKey.Type.DOUBLE && value instanceof Double doubleValue) {
+      setDouble((AttributeKey<Double>) attributeKey, doubleValue);
+    } else if (attributeKey.type() == AttributeKey.Type.INTEGER
+        && value instanceof Integer integerValue) {
+      setInt((AttributeKey<Integer>) attributeKey, integerValue);
+    } else {
+      // A value whose type does not match the key is kept in the map
+      clearSlot(attributeKey);
+      others().put(attributeKey.id(), value);
+    }
+    return previous;
+  }
+
+  @Override
+  public Object remove(Object key) {
+    AttributeKey<?> attributeKey = resolve(key);
+    if (attributeKey == null) {
+      return others == null ? null : others.remove(key);
+    }
+    Object previous = get(attributeKey);
+    clearSlot(attributeKey);
+    removeOtherValue(attributeKey);
+    return previous;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(doublePresence, 0L);
+    Arrays.fill(intPresence, 0L);
+    if (others != null) {
+      others.clear();
+    }
+  }
+
+  @Override
+  public int size() {
+    int size = others == null ? 0 : others.size();
+    for (long bits : doublePresence) {
+      size += Long.bitCount(bits);
+    }
+    for (long bits : intPresence) {
+      size += Long.bitCount(bits);
+    }
+    return size;
+  }
+
+  @Override
+  public Set<Entry<Object, Object>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<Object, Object>> iterator() {
+        Iterator<Entry<Object, Object>> snapshot = entries().iterator();
+        return new Iterator<>() {
+          private Entry<Object, Object> current;
+
+          @Override
+          public boolean hasNext() {
+            return snapshot.hasNext();
+          }
+
+          @Override
+          public Entry<Object, Object> next() {
+            current = snapshot.next();
+            return current;
+          }
+
+          @Override
+          public void remove() {
+            if (current == null) {
+              throw new IllegalStateException();
+            }
+            SolutionAttributes.this.remove(current.getKey());
+            current = null;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return SolutionAttributes.this.size();
+      }
+    };
+  }
+
+  /* Private methods */
+
+  private List<Entry<Object, Object>> entries() {
+    List<Entry<Object, Object>> entries = new ArrayList<>(size());
+    for (AttributeKey<?> key : AttributeKey.registeredKeys()) {
+      if (slotIsSet(key)) {
+        entries.add(new SimpleEntry<>(key.id(), slotValue(key)));
+      }
+    }
+    if (others != null) {
+      for (Entry<Object, Object> entry : others.entrySet()) {
+        entries.add(new SimpleEntry<>(entry.getKey(), entry.getValue()));
+      }
+    }
+    return entries;
+  }
+
+  private static AttributeKey<?> resolve(Object key) {
+    if (key instanceof AttributeKey<?> attributeKey) {
+      return attributeKey;
+    }
+    return AttributeKey.find(key);
+  }
+
+  private Map<Object, Object> others() {
+    if (others == null) {
+      others = new HashMap<>();
+    }
+    return others;
+  }
+
+  private Object otherValue(AttributeKey<?> key) {
+    return others == null ? null : others.get(key.id());
+  }
+
+  private void removeOtherValue(AttributeKey<?> key) {
+    if (others != null && !others.isEmpty()) {
+      others.remove(key.id());
+    }
+  }
+
+  private boolean slotIsSet(AttributeKey<?> key) {
+    return key.type() == AttributeKey.Type.DOUBLE
+        ? isSet(doublePresence, key.slot())
+        : isSet(intPresence, key.slot());
+  }
+
+  private Object slotValue(AttributeKey<?> key) {
+    return key.type() == AttributeKey.Type.DOUBLE
+        ? (Object) doubleValues[key.slot()]
+        : (Object) intValues[key.slot()];
+  }
+
+  private void clearSlot(AttributeKey<?> key) {
+    long[] presence = key.type() == AttributeKey.Type.DOUBLE ? doublePresence : intPresence;
+    int word = key.slot() >>> 6;
+    if (word < presence.length) {
+      presence[word] &= ~(1L << key.slot());
+    }
+  }
+
+  private static boolean isSet(long[] bits, int index) {
+    int word = index >>> 6;
+    return word < bits.length && (bits[word] & (1L << index)) != 0;
+  }
+
+  private static void setBit(long[] bits, int index) {
+    bits[index >>> 6] |= 1L << index;
+  }
+
+  private static long[] ensureBits(long[] bits, int numberOfBits) {
+    int words = (numberOfBits + 63) >>> 6;
+    return words > bits.length ? Arrays.copyOf(bits, words) : bits;
+  }
+
+  /* Serialization: the slots depend on the registration order, so the identifiers are written */
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    List<Entry<Object, Object>> entries = entries();
+    out.writeInt(entries.size());
+    for (Entry<Object, Object> entry : entries) {
+      out.writeObject(entry.getKey());
+      out.writeObject(entry.getValue());
+    }
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    doubleValues = NO_DOUBLES;
+    doublePresence = NO_BITS;
+    intValues = NO_INTS;
+    intPresence = NO_BITS;
+    int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      Object key = in.readObject();
+      Object value = in.readObject();
+      put(key, value);
+    }
+  }
+}
@@ -1,9 +1,9 @@
 package org.uma.jmetal.solution.binarysolution.impl;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import org.uma.jmetal.solution.AbstractSolution;
+import org.uma.jmetal.solution.attribute.SolutionAttributes;
 import org.uma.jmetal.solution.binarysolution.BinarySolution;
 import org.uma.jmetal.util.binarySet.BinarySet;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -52,7 +52,7 @@ public class DefaultBinarySolution
     Arrays.setAll(objectives(), i -> solution.objectives()[i]);
     Arrays.setAll(constraints(), i -> solution.constraints()[i]);
 
-    attributes = new HashMap<>(solution.attributes);
+    attributes = SolutionAttributes.copyOf(solution.attributes);
   }
 
   private static BinarySet createNewBinarySet(int numberOfBits, JMetalRandom randomGenerator) {
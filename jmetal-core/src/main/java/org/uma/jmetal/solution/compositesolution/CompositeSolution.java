@@ -1,10 +1,10 @@
 package org.uma.jmetal.solution.compositesolution;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.stream.IntStream;
 import org.uma.jmetal.solution.AbstractSolution;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.attribute.SolutionAttributes;
 import org.uma.jmetal.util.errorchecking.Check;
 
 /**
@@ -60,7 +60,7 @@ public class CompositeSolution extends AbstractSolution<Solution<?>> {
     IntStream.range(0, solution.objectives().length).forEach(i -> objectives()[i] = solution.objectives()[i]);
     IntStream.range(0, solution.constraints().length).forEach(i -> constraints()[i] = solution.constraints()[i]);
 
-    attributes = new HashMap<>(solution.attributes) ;
+    attributes = SolutionAttributes.copyOf(solution.attributes) ;
   }
 
   @Override
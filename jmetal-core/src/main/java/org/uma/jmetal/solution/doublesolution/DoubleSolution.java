@@ -11,4 +11,20 @@ import org.uma.jmetal.util.bounds.Bounds;
  */
 public interface DoubleSolution extends Solution<Double> {
   Bounds<Double> getBounds(int index) ;
+
+  /**
+   * Returns the value of a variable as a primitive double. Implementations storing the variables
+   * in primitive arrays override this method to avoid unboxing.
+   */
+  default double variableValue(int index) {
+    return variables().get(index) ;
+  }
+
+  /**
+   * Sets the value of a variable. Implementations storing the variables in primitive arrays
+   * override this method to avoid boxing.
+   */
+  default void variableValue(int index, double value) {
+    variables().set(index, value) ;
+  }
 }
@@ -0,0 +1,182 @@
+package org.uma.jmetal.solution.doublesolution.impl;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import org.uma.jmetal.solution.attribute.SolutionAttributes;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Implementation of the {@link DoubleSolution} interface where the variables are stored in a
+ * primitive <code>double[]</code> array instead of a list of boxed {@link Double} objects. This
+ * class is intended for large-scale problems (thousands of variables), where boxing and the
+ * per-solution allocations of {@link DefaultDoubleSolution} dominate the running time.
+ *
+ * <p>The {@link #variables()} method returns a write-through {@link List} view of the array, so
+ * the class can be used wherever a {@link DoubleSolution} is expected. Operators can avoid boxing
+ * by using {@link #variableValue(int)}, {@link #variableValue(int, double)} or the array returned
+ * by {@link #variablesArray()}. The attributes map is created lazily, and copying a solution
+ * consists of copying the arrays with {@link System#arraycopy}.
+ *
+ * @author Antonio J. Nebro
+ */
+@SuppressWarnings("serial")
+public class ArrayDoubleSolution implements DoubleSolution {
+  private final double[] variables;
+  private final double[] objectives;
+  private final double[] constraints;
+  protected List<Bounds<Double>> bounds;
+  protected Map<Object, Object> attributes;
+
+  private transient List<Double> variablesView;
+
+  /**
+   * Constructor. The variables are randomly initialized within their bounds.
+   */
+  public ArrayDoubleSolution(
+      List<Bounds<Double>> boundsList, int numberOfObjectives, int numberOfConstraints) {
+    this.bounds = boundsList;
+    this.variables = new double[boundsList.size()];
+    this.objectives = new double[numberOfObjectives];
+    this.constraints = new double[numberOfConstraints];
+
+    for (int i = 0; i < variables.length; i++) {
+      Bounds<Double> variableBounds = boundsList.get(i);
+      variables[i] =
+          JMetalRandom.getInstance()
+              .nextDouble(variableBounds.getLowerBound(), variableBounds.getUpperBound());
+    }
+  }
+
+  /**
+   * Copy constructor
+   */
+  public ArrayDoubleSolution(ArrayDoubleSolution solution) {
+    this.bounds = solution.bounds;
+    this.variables = new double[solution.variables.length];
+    this.objectives = new double[solution.objectives.length];
+    this.constraints = new double[solution.constraints.length];
+
+    System.arraycopy(solution.variables, 0, variables, 0, variables.length);
+    System.arraycopy(solution.objectives, 0, objectives, 0, objectives.length);
+    System.arraycopy(solution.constraints, 0, constraints, 0, constraints.length);
+
+    if (solution.attributes != null) {
+      attributes = SolutionAttributes.copyOf(solution.attributes);
+    }
+  }
+
+  /**
+   * Returns the array storing the variables. Changes in the array are reflected in the solution.
+   *
+   * @return The backing array of the variables
+   */
+  public double[] variablesArray() {
+    return variables;
+  }
+
+  @Override
+  public double variableValue(int index) {
+    return variables[index];
+  }
+
+  @Override
+  public void variableValue(int index, double value) {
+    variables[index] = value;
+  }
+
+  @Override
+  public List<Double> variables() {
+    if (variablesView == null) {
+      variablesView = new VariablesView();
+    }
+    return variablesView;
+  }
+
+  @Override
+  public double[] objectives() {
+    return objectives;
+  }
+
+  @Override
+  public double[] constraints() {
+    return constraints;
+  }
+
+  @Override
+  public Map<Object, Object> attributes() {
+    if (attributes == null) {
+      attributes = new SolutionAttributes();
+    }
+    return attributes;
+  }
+
+  @Override
+  public Bounds<Double> getBounds(int index) {
+    return bounds.get(index);
+  }
+
+  @Override
+  public ArrayDoubleSolution copy() {
+    return new ArrayDoubleSolution(this);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder result = new StringBuilder("Variables: ");
+    for (double variable : variables) {
+      result.append(variable).append(" ");
+    }
+    result.append("Objectives: ");
+    for (double objective : objectives) {
+      result.append(objective).append(" ");
+    }
+    result.append("Constraints: ");
+    for (double constraint : constraints) {
+      result.append(constraint).append(" ");
+    }
+    result.append("\t");
+    result.append("AlgorithmAttributes: ").append(attributes()).append("\n");
+
+    return result.toString();
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) return true;
+    if (object == null || getClass() != object.getClass()) return false;
+
+    return Arrays.equals(variables, ((ArrayDoubleSolution) object).variables);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(variables);
+  }
+
+  /**
+   * Fixed-size list view of the variables array. Setting an element writes through to the array.
+   */
+  private class VariablesView extends AbstractList<Double> implements RandomAccess {
+    @Override
+    public Double get(int index) {
+      return variables[index];
+    }
+
+    @Override
+    public Double set(int index, Double value) {
+      double previous = variables[index];
+      variables[index] = value;
+      return previous;
+    }
+
+    @Override
+    public int size() {
+      return variables.length;
+    }
+  }
+}
@@ -1,9 +1,9 @@
 package org.uma.jmetal.solution.doublesolution.impl;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.stream.IntStream;
 import org.uma.jmetal.solution.AbstractSolution;
+import org.uma.jmetal.solution.attribute.SolutionAttributes;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.bounds.Bounds;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -43,7 +43,7 @@ public class DefaultDoubleSolution extends AbstractSolution<Double> implements D
     IntStream.range(0, solution.constraints().length).forEach(i -> constraints()[i] = solution.constraints()[i]);
 
     bounds = solution.bounds;
-    attributes = new HashMap<>(solution.attributes);
+    attributes = SolutionAttributes.copyOf(solution.attributes);
   }
 
   @Override
@@ -1,9 +1,9 @@
 package org.uma.jmetal.solution.integersolution.impl;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.stream.IntStream;
 import org.uma.jmetal.solution.AbstractSolution;
+import org.uma.jmetal.solution.attribute.SolutionAttributes;
 import org.uma.jmetal.solution.integersolution.IntegerSolution;
 import org.uma.jmetal.util.bounds.Bounds;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -41,7 +41,7 @@ public class DefaultIntegerSolution extends AbstractSolution<Integer> implements
 
     bounds = solution.bounds;
 
-    attributes = new HashMap<>(solution.attributes);
+    attributes = SolutionAttributes.copyOf(solution.attributes);
   }
 
   @Override
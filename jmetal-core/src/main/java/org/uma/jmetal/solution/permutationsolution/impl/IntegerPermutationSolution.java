@@ -1,10 +1,10 @@
 package org.uma.jmetal.solution.permutationsolution.impl;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.stream.IntStream;
 import org.uma.jmetal.solution.AbstractSolution;
+import org.uma.jmetal.solution.attribute.SolutionAttributes;
 import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
 
 /**
@@ -43,7 +43,7 @@ public class IntegerPermutationSolution extends AbstractSolution<Integer>
     IntStream.range(0, solution.objectives().length).forEach(i -> objectives()[i] = solution.objectives()[i]);
     IntStream.range(0, solution.constraints().length).forEach(i -> constraints()[i] = solution.constraints()[i]);
 
-    attributes = new HashMap<>(solution.attributes);
+    attributes = SolutionAttributes.copyOf(solution.attributes);
   }
 
   @Override
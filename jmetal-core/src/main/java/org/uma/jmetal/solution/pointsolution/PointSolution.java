@@ -2,10 +2,10 @@ package org.uma.jmetal.solution.pointsolution;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.attribute.SolutionAttributes;
 
 /**
  * Solution used to wrap a point, i.e., an array of double values which are considered as objective
@@ -16,7 +16,7 @@ import org.uma.jmetal.solution.Solution;
 public class PointSolution implements Solution<Double> {
   final private int numberOfObjectives;
   private double[] objectives;
-  protected Map<Object, Object> attributes = new HashMap<>();
+  protected Map<Object, Object> attributes = new SolutionAttributes();
 
   @Override
   public List<Double> variables() {
@@ -46,7 +46,7 @@ public class PointSolution implements Solution<Double> {
   public PointSolution(int numberOfObjectives) {
     this.numberOfObjectives = numberOfObjectives;
     objectives = new double[numberOfObjectives];
-    attributes = new HashMap<>();
+    attributes = new SolutionAttributes();
   }
 
   /**
@@ -1,7 +1,7 @@
 package org.uma.jmetal.solution.sequencesolution.impl;
 
-import java.util.HashMap;
 import org.uma.jmetal.solution.AbstractSolution;
+import org.uma.jmetal.solution.attribute.SolutionAttributes;
 import org.uma.jmetal.solution.sequencesolution.SequenceSolution;
 
 /**
@@ -36,7 +36,7 @@ public class CharSequenceSolution extends AbstractSolution<Character> implements
       constraints()[i] =  solution.constraints()[i];
     }
 
-    attributes = new HashMap<>(solution.attributes);
+    attributes = SolutionAttributes.copyOf(solution.attributes);
   }
 
   @Override
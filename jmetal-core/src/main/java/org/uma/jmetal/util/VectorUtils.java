@@ -10,6 +10,7 @@ import org.uma.jmetal.util.distance.Distance;
 import org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.fileinput.BinaryVectorFileUtils;
 
 public class VectorUtils {
 
@@ -43,6 +44,9 @@ public class VectorUtils {
   }
 
   /**
+   * Reads the vectors of a text file, with a vector per line, or of a binary vector file (see
+   * {@link BinaryVectorFileUtils}), which is detected automatically.
+   *
    * @param filePath the file need to read
    * @return referenceVectors. referenceVectors[i][j] means the i-th vector's j-th value
    * @throws JMetalException if error while read file
@@ -60,6 +64,10 @@ public class VectorUtils {
       }
     }
 
+    if (BinaryVectorFileUtils.isBinaryVectorFile(Paths.get(path))) {
+      return BinaryVectorFileUtils.readVectors(Paths.get(path));
+    }
+
     List<String> vectorStrList = Files.readAllLines(Paths.get(path));
 
     referenceVectors = new double[vectorStrList.size()][];
@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.archive;
 
 import java.util.Comparator;
+import java.util.List;
 
 /**
  * Interface representing a bounded archive of solutions
@@ -11,4 +12,14 @@ public interface BoundedArchive<S> extends Archive<S> {
   int maximumSize() ;
   Comparator<S> comparator() ;
   void computeDensityEstimator() ;
+
+  /**
+   * Adds a list of solutions to the archive. Implementations can take advantage of inserting
+   * several solutions at once to reduce the number of times the archive is pruned.
+   */
+  default Archive<S> addAll(List<S> solutionList) {
+    solutionList.forEach(this::add);
+
+    return this;
+  }
 }
@@ -1,13 +1,25 @@
 package org.uma.jmetal.util.archive.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.archive.BoundedArchive;
 import org.uma.jmetal.util.comparator.dominanceComparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.densityestimator.IncrementalDensityEstimator;
 
 /**
+ * Bounded archive based on a {@link NonDominatedSolutionListArchive}. Subclasses implement the
+ * {@link #prune()} method, which removes a solution when the maximum size is exceeded.
+ *
+ * <p>Method {@link #addAll(List)} inserts all the solutions in the underlying archive first and
+ * then prunes it until its size is the maximum one, so subclasses whose density estimator is
+ * costly to compute from scratch can update it incrementally between consecutive removals.
+ *
  * @author Antonio J. Nebro
  * @param <S>
  */
@@ -54,10 +66,75 @@ public abstract class AbstractBoundedArchive<S extends Solution<?>> implements B
     return maxSize;
   }
 
+  /**
+   * Adds a list of solutions and prunes the archive once all of them have been inserted. The
+   * resulting archive can differ from the one obtained by adding the solutions one by one, because
+   * a solution pruned in between could dominate some of the subsequent ones.
+   */
+  @Override
+  public Archive<S> addAll(List<S> solutionList) {
+    boolean success = false;
+    for (S solution : solutionList) {
+      success |= archive.add(solution);
+    }
+    if (success) {
+      pruneToMaximumSize();
+    }
+
+    return this;
+  }
+
   public abstract void prune();
 
+  /** Calls {@link #prune()} until the size of the archive does not exceed the maximum size */
+  protected void pruneToMaximumSize() {
+    int size = size();
+    while (size > maxSize) {
+      prune();
+      if (size() == size) {
+        break;
+      }
+      size = size();
+    }
+  }
+
+  /**
+   * Updates an incremental density estimator with the solutions inserted in and removed from the
+   * archive since the last update. As the list of solutions can be modified from outside the
+   * archive, the changes are found by comparing the solutions of the estimator with those of the
+   * archive. If many solutions have changed, the estimator is computed again from scratch.
+   */
+  protected void updateDensityEstimator(IncrementalDensityEstimator<S> densityEstimator) {
+    List<S> solutions = solutions();
+    List<S> addedSolutions = new ArrayList<>();
+    for (S solution : solutions) {
+      if (!densityEstimator.contains(solution)) {
+        addedSolutions.add(solution);
+      }
+    }
+    int numberOfRemovedSolutions =
+        densityEstimator.size() - (solutions.size() - addedSolutions.size());
+
+    // Computing the estimator again is cheaper than a large number of incremental updates
+    if (4 * (numberOfRemovedSolutions + addedSolutions.size()) > solutions.size()) {
+      densityEstimator.compute(solutions);
+      return;
+    }
+
+    if (numberOfRemovedSolutions > 0) {
+      Set<S> currentSolutions = Collections.newSetFromMap(new IdentityHashMap<>());
+      currentSolutions.addAll(solutions);
+      for (S solution : densityEstimator.solutions()) {
+        if (!currentSolutions.contains(solution)) {
+          densityEstimator.remove(solution);
+        }
+      }
+    }
+    addedSolutions.forEach(densityEstimator::add);
+  }
+
   public Archive<S> join(Archive<S> archive) {
-    archive.solutions().forEach(this::add);
+    addAll(archive.solutions());
 
     return archive;
   }
@@ -5,21 +5,25 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.dominanceComparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
-import org.uma.jmetal.util.densityestimator.DensityEstimator;
-import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.IncrementalCrowdingDistanceDensityEstimator;
 
 /**
+ * Bounded archive that removes the solution with the lowest crowding distance when it is full.
+ * The crowding distances are maintained by an {@link IncrementalCrowdingDistanceDensityEstimator},
+ * which is updated with the solutions inserted in and removed from the archive since the last time
+ * it was pruned, so usually only the distances of their neighbours are computed again.
+ *
  * Created by Antonio J. Nebro on 24/09/14.
  * Modified by Juanjo on 07/04/2015
  */
 @SuppressWarnings("serial")
 public class CrowdingDistanceArchive<S extends Solution<?>> extends AbstractBoundedArchive<S> {
   private Comparator<S> crowdingDistanceComparator;
-  private DensityEstimator<S> crowdingDistance ;
+  private IncrementalCrowdingDistanceDensityEstimator<S> crowdingDistance ;
 
   public CrowdingDistanceArchive(int maxSize, DominanceComparator<S> dominanceComparator) {
     super(maxSize, dominanceComparator);
-    crowdingDistance = new CrowdingDistanceDensityEstimator<>();
+    crowdingDistance = new IncrementalCrowdingDistanceDensityEstimator<>();
     crowdingDistanceComparator = Comparator.comparing(crowdingDistance::value).reversed() ;
   }
 
@@ -33,6 +37,7 @@ public class CrowdingDistanceArchive<S extends Solution<?>> extends AbstractBoun
       computeDensityEstimator();
       S worst = new SolutionListUtils().findWorstSolution(solutions(), crowdingDistanceComparator) ;
       solutions().remove(worst);
+      crowdingDistance.remove(worst);
     }
   }
 
@@ -41,8 +46,9 @@ public class CrowdingDistanceArchive<S extends Solution<?>> extends AbstractBoun
     return crowdingDistanceComparator ;
   }
 
+  /** Updates the crowding distances with the solutions added and removed since the last call */
   @Override
   public void computeDensityEstimator() {
-    crowdingDistance.compute(solutions());
+    updateDensityEstimator(crowdingDistance);
   }
 }
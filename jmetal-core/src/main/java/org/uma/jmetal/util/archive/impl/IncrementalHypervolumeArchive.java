@@ -0,0 +1,65 @@
+package org.uma.jmetal.util.archive.impl;
+
+import java.util.Comparator;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.densityestimator.impl.IncrementalHypervolumeContributionDensityEstimator;
+
+/**
+ * Bounded archive that removes the solution with the lowest hypervolume contribution when it is
+ * full. Contrary to {@link HypervolumeArchive}, which computes the contributions of all the
+ * solutions from scratch each time it is pruned, the contributions are maintained by an {@link
+ * IncrementalHypervolumeContributionDensityEstimator}, so only those of the solutions affected by
+ * the insertions and removals are computed again (exactly with two and three objectives, and
+ * estimated by Monte Carlo sampling with more objectives). This makes it suitable for large
+ * archives.
+ *
+ * <p>By default, the reference point is the nadir point of the archive plus an offset of {@link
+ * IncrementalHypervolumeContributionDensityEstimator#DEFAULT_OFFSET}, which is also the reference
+ * point used by {@link HypervolumeArchive} with the legacy hypervolume implementations (these
+ * normalize the contributions, but that does not change which solution contributes the least).
+ *
+ * @author Antonio J. Nebro
+ */
+@SuppressWarnings("serial")
+public class IncrementalHypervolumeArchive<S extends Solution<?>>
+    extends AbstractBoundedArchive<S> {
+  private final IncrementalHypervolumeContributionDensityEstimator<S> hypervolumeContribution;
+  private final Comparator<S> comparator;
+
+  public IncrementalHypervolumeArchive(
+      int maxSize, IncrementalHypervolumeContributionDensityEstimator<S> hypervolumeContribution) {
+    super(maxSize);
+    this.hypervolumeContribution = hypervolumeContribution;
+    this.comparator = hypervolumeContribution.comparator();
+  }
+
+  public IncrementalHypervolumeArchive(int maxSize, double[] referencePoint) {
+    this(maxSize, new IncrementalHypervolumeContributionDensityEstimator<>(referencePoint));
+  }
+
+  public IncrementalHypervolumeArchive(int maxSize) {
+    this(maxSize, new IncrementalHypervolumeContributionDensityEstimator<>());
+  }
+
+  @Override
+  public void prune() {
+    if (solutions().size() > maximumSize()) {
+      computeDensityEstimator();
+      S worst = new SolutionListUtils().findWorstSolution(solutions(), comparator);
+      solutions().remove(worst);
+      hypervolumeContribution.remove(worst);
+    }
+  }
+
+  @Override
+  public Comparator<S> comparator() {
+    return comparator;
+  }
+
+  /** Updates the contributions with the solutions added and removed since the last call */
+  @Override
+  public void computeDensityEstimator() {
+    updateDensityEstimator(hypervolumeContribution);
+  }
+}
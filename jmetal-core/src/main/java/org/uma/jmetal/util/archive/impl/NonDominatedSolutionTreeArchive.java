@@ -0,0 +1,440 @@
+package org.uma.jmetal.util.archive.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.comparator.EqualSolutionsComparator;
+import org.uma.jmetal.util.comparator.constraintcomparator.ConstraintComparator;
+import org.uma.jmetal.util.comparator.constraintcomparator.impl.OverallConstraintViolationDegreeComparator;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Archive of non-dominated solutions backed by an ND-Tree, a spatial index of the objective vectors
+ * whose nodes keep approximations of the ideal and nadir points of the solutions they contain. A
+ * node whose nadir point weakly dominates a new solution, or whose ideal point is dominated by it,
+ * is resolved without visiting its solutions, so the dominance queries are sub-linear in the size
+ * of the archive. This makes the class suitable for unbounded archives growing to a large number of
+ * solutions, where {@link NonDominatedSolutionListArchive} becomes a bottleneck.
+ *
+ * <p>The archive has the same semantics as a {@link NonDominatedSolutionListArchive} using a {@link
+ * org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator}: a
+ * solution is not inserted if it is dominated by, or has the same objective values (according to
+ * {@link EqualSolutionsComparator}) as, a solution of the archive. Since a solution having a better
+ * constraint value dominates any solution having a worse one, all the solutions of the archive are
+ * equivalent according to the constraint comparator, and only the Pareto dominance has to be
+ * indexed. The order of the list returned by {@link #solutions()} is the insertion order of the
+ * solutions in the archive, as in the list-based archive.
+ *
+ * <p>Reference: A. Jaszkiewicz, T. Lust. ND-Tree-Based Update: A Fast Algorithm for the Dynamic
+ * Nondominance Problem. IEEE Transactions on Evolutionary Computation 22(5): 778-791 (2018).
+ *
+ * @author Antonio J. Nebro
+ * @param <S> Type of the solutions
+ */
+@SuppressWarnings("serial")
+public class NonDominatedSolutionTreeArchive<S extends Solution<?>> implements Archive<S> {
+  public static final int DEFAULT_MAX_LEAF_SIZE = 20;
+
+  private final ConstraintComparator<S> constraintComparator;
+  private final Comparator<S> equalSolutions = new EqualSolutionsComparator<>();
+  private final int maxLeafSize;
+
+  private Node<S> root;
+  private S representative;
+  private int size;
+
+  /* Doubly linked list of the entries, keeping the insertion order */
+  private Entry<S> first;
+  private Entry<S> last;
+  private List<S> solutionList = Collections.emptyList();
+  private boolean solutionListUpdated = true;
+
+  /** Constructor. The constraints are compared with the overall constraint violation degree. */
+  public NonDominatedSolutionTreeArchive() {
+    this(new OverallConstraintViolationDegreeComparator<>());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param constraintComparator Comparator applied before the Pareto dominance, or null to ignore
+   *     the constraints (as in {@link
+   *     org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator})
+   */
+  public NonDominatedSolutionTreeArchive(ConstraintComparator<S> constraintComparator) {
+    this(constraintComparator, DEFAULT_MAX_LEAF_SIZE);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param constraintComparator Comparator applied before the Pareto dominance, or null to ignore
+   *     the constraints
+   * @param maxLeafSize Maximum number of solutions of a leaf of the tree before it is split
+   */
+  public NonDominatedSolutionTreeArchive(
+      ConstraintComparator<S> constraintComparator, int maxLeafSize) {
+    Check.that(maxLeafSize > 1, "The maximum leaf size must be greater than one: " + maxLeafSize);
+    this.constraintComparator = constraintComparator;
+    this.maxLeafSize = maxLeafSize;
+  }
+
+  /**
+   * Inserts a solution in the archive
+   *
+   * @param solution The solution to be inserted.
+   * @return true if the operation success, and false if the solution is dominated or if an
+   *     identical individual exists.
+   */
+  @Override
+  public boolean add(S solution) {
+    Check.notNull(solution);
+    if (root != null && constraintComparator != null) {
+      int flag = constraintComparator.compare(solution, representative);
+      if (flag > 0) {
+        return false;
+      } else if (flag < 0) {
+        clear();
+      }
+    }
+
+    Entry<S> entry = new Entry<>(solution);
+    if (root == null) {
+      root = new Node<>(entry.point.length);
+    } else {
+      Check.that(
+          entry.point.length == root.ideal.length,
+          "The solution has " + entry.point.length + " objectives instead of "
+              + root.ideal.length);
+      if (!update(root, entry)) {
+        return false;
+      }
+      if (root.isEmpty()) {
+        root = new Node<>(entry.point.length);
+      }
+    }
+
+    insert(root, entry);
+    link(entry);
+    representative = solution;
+    return true;
+  }
+
+  public Archive<S> join(Archive<S> archive) {
+    return this.addAll(archive.solutions());
+  }
+
+  public Archive<S> addAll(List<S> list) {
+    for (S solution : list) {
+      this.add(solution);
+    }
+
+    return this;
+  }
+
+  /**
+   * Returns the solutions of the archive in insertion order. The list is a read-only snapshot that
+   * is rebuilt after the archive changes.
+   */
+  @Override
+  public List<S> solutions() {
+    if (!solutionListUpdated) {
+      List<S> list = new ArrayList<>(size);
+      for (Entry<S> entry = first; entry != null; entry = entry.next) {
+        list.add(entry.solution);
+      }
+      solutionList = Collections.unmodifiableList(list);
+      solutionListUpdated = true;
+    }
+    return solutionList;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public S get(int index) {
+    return solutions().get(index);
+  }
+
+  private void clear() {
+    root = null;
+    first = null;
+    last = null;
+    size = 0;
+    solutionListUpdated = false;
+  }
+
+  /**
+   * Checks a new entry against the entries of a node, removing those dominated by it.
+   *
+   * @return false if the entry is dominated by, or equal to, an entry of the node
+   */
+  private boolean update(Node<S> node, Entry<S> entry) {
+    double[] point = entry.point;
+    if (weaklyDominates(node.nadir, point)) {
+      // All the entries of the node weakly dominate the new one
+      return false;
+    } else if (weaklyDominates(point, node.ideal) && !Arrays.equals(point, node.ideal)) {
+      // The new entry dominates all the entries of the node
+      removeAll(node);
+      return true;
+    } else if (weaklyDominates(node.ideal, point) || weaklyDominates(point, node.nadir)) {
+      if (node.isLeaf()) {
+        for (int i = node.entries.size() - 1; i >= 0; i--) {
+          Entry<S> nodeEntry = node.entries.get(i);
+          if (weaklyDominates(nodeEntry.point, point)) {
+            if (dominates(nodeEntry.point, point)
+                || equalSolutions.compare(entry.solution, nodeEntry.solution) == 0) {
+              return false;
+            }
+          } else if (weaklyDominates(point, nodeEntry.point)) {
+            node.entries.remove(i);
+            unlink(nodeEntry);
+          }
+        }
+      } else {
+        for (int i = node.children.size() - 1; i >= 0; i--) {
+          Node<S> child = node.children.get(i);
+          if (!update(child, entry)) {
+            return false;
+          }
+          if (child.isEmpty()) {
+            node.children.remove(i);
+          }
+        }
+        if (node.children.size() == 1) {
+          node.replaceWith(node.children.get(0));
+        }
+      }
+    }
+    return true;
+  }
+
+  /** Inserts an entry which is not dominated by any entry of the archive. */
+  private void insert(Node<S> node, Entry<S> entry) {
+    node.include(entry.point);
+    if (node.isLeaf()) {
+      node.entries.add(entry);
+      if (node.entries.size() > maxLeafSize) {
+        split(node);
+      }
+    } else {
+      insert(node.closestChild(entry.point), entry);
+    }
+  }
+
+  /**
+   * Splits a leaf into <code>numberOfObjectives + 1</code> children. The first child is seeded with
+   * the entry having the highest average distance to the other ones, and each of the next children
+   * with the entry farthest from the seeds already selected. The remaining entries are then
+   * assigned to the child whose middle point is the closest one.
+   */
+  private void split(Node<S> node) {
+    List<Entry<S>> entries = node.entries;
+    int numberOfChildren = Math.min(node.ideal.length + 1, entries.size());
+
+    int seed = 0;
+    double maxDistance = -1.0;
+    for (int i = 0; i < entries.size(); i++) {
+      double distance = 0.0;
+      for (Entry<S> other : entries) {
+        distance += distance(entries.get(i).point, other.point);
+      }
+      if (distance > maxDistance) {
+        maxDistance = distance;
+        seed = i;
+      }
+    }
+
+    List<Entry<S>> pending = new ArrayList<>(entries);
+    List<Node<S>> children = new ArrayList<>(numberOfChildren);
+    double[] distanceToSeeds = new double[pending.size()];
+    Arrays.fill(distanceToSeeds, Double.POSITIVE_INFINITY);
+    while (true) {
+      Entry<S> seedEntry = pending.get(seed);
+      Node<S> child = new Node<>(node.ideal.length);
+      child.include(seedEntry.point);
+      child.entries.add(seedEntry);
+      children.add(child);
+
+      int lastIndex = pending.size() - 1;
+      pending.set(seed, pending.get(lastIndex));
+      distanceToSeeds[seed] = distanceToSeeds[lastIndex];
+      pending.remove(lastIndex);
+
+      if (children.size() == numberOfChildren) {
+        break;
+      }
+
+      seed = 0;
+      maxDistance = -1.0;
+      for (int i = 0; i < pending.size(); i++) {
+        distanceToSeeds[i] =
+            Math.min(distanceToSeeds[i], distance(pending.get(i).point, seedEntry.point));
+        if (distanceToSeeds[i] > maxDistance) {
+          maxDistance = distanceToSeeds[i];
+          seed = i;
+        }
+      }
+    }
+
+    node.entries = null;
+    node.children = children;
+    for (Entry<S> entry : pending) {
+      Node<S> child = node.closestChild(entry.point);
+      child.include(entry.point);
+      child.entries.add(entry);
+    }
+  }
+
+  private void removeAll(Node<S> node) {
+    if (node.isLeaf()) {
+      for (Entry<S> entry : node.entries) {
+        unlink(entry);
+      }
+      node.entries.clear();
+    } else {
+      for (Node<S> child : node.children) {
+        removeAll(child);
+      }
+      node.children.clear();
+    }
+  }
+
+  private void link(Entry<S> entry) {
+    if (last == null) {
+      first = entry;
+    } else {
+      last.next = entry;
+      entry.previous = last;
+    }
+    last = entry;
+    size++;
+    solutionListUpdated = false;
+  }
+
+  private void unlink(Entry<S> entry) {
+    if (entry.previous == null) {
+      first = entry.next;
+    } else {
+      entry.previous.next = entry.next;
+    }
+    if (entry.next == null) {
+      last = entry.previous;
+    } else {
+      entry.next.previous = entry.previous;
+    }
+    entry.previous = null;
+    entry.next = null;
+    size--;
+    solutionListUpdated = false;
+  }
+
+  private static boolean weaklyDominates(double[] point1, double[] point2) {
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] > point2[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean dominates(double[] point1, double[] point2) {
+    boolean strictlyBetter = false;
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] > point2[i]) {
+        return false;
+      } else if (point1[i] < point2[i]) {
+        strictlyBetter = true;
+      }
+    }
+    return strictlyBetter;
+  }
+
+  private static double distance(double[] point1, double[] point2) {
+    double sum = 0.0;
+    for (int i = 0; i < point1.length; i++) {
+      double difference = point1[i] - point2[i];
+      sum += difference * difference;
+    }
+    return Math.sqrt(sum);
+  }
+
+  private static final class Entry<S> implements Serializable {
+    private final S solution;
+    private final double[] point;
+    private Entry<S> previous;
+    private Entry<S> next;
+
+    Entry(S solution) {
+      this.solution = solution;
+      this.point = ((Solution<?>) solution).objectives().clone();
+    }
+  }
+
+  /**
+   * Node of the tree. A leaf contains entries and an internal node contains children; the ideal and
+   * nadir points are bounds of the objective vectors of the entries below the node, which are only
+   * enlarged when an entry is inserted.
+   */
+  private static final class Node<S> implements Serializable {
+    private double[] ideal;
+    private double[] nadir;
+    private List<Entry<S>> entries = new ArrayList<>();
+    private List<Node<S>> children;
+
+    Node(int numberOfObjectives) {
+      ideal = new double[numberOfObjectives];
+      nadir = new double[numberOfObjectives];
+      Arrays.fill(ideal, Double.POSITIVE_INFINITY);
+      Arrays.fill(nadir, Double.NEGATIVE_INFINITY);
+    }
+
+    boolean isLeaf() {
+      return children == null;
+    }
+
+    boolean isEmpty() {
+      return isLeaf() ? entries.isEmpty() : children.isEmpty();
+    }
+
+    void include(double[] point) {
+      for (int i = 0; i < point.length; i++) {
+        ideal[i] = Math.min(ideal[i], point[i]);
+        nadir[i] = Math.max(nadir[i], point[i]);
+      }
+    }
+
+    void replaceWith(Node<S> node) {
+      ideal = node.ideal;
+      nadir = node.nadir;
+      entries = node.entries;
+      children = node.children;
+    }
+
+    Node<S> closestChild(double[] point) {
+      Node<S> closest = null;
+      double minDistance = Double.POSITIVE_INFINITY;
+      for (Node<S> child : children) {
+        double sum = 0.0;
+        for (int i = 0; i < point.length; i++) {
+          double difference = point[i] - (child.ideal[i] + child.nadir[i]) / 2.0;
+          sum += difference * difference;
+        }
+        if (sum < minDistance) {
+          minDistance = sum;
+          closest = child;
+        }
+      }
+      return closest;
+    }
+  }
+}
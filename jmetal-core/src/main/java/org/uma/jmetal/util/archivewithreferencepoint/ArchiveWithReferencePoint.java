@@ -4,6 +4,7 @@ import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.archive.impl.AbstractBoundedArchive;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
@@ -71,6 +72,14 @@ public abstract class ArchiveWithReferencePoint <S extends Solution<?>> extends
     return result;
   }
 
+  /** Each solution is checked against the reference point, so they are added one by one */
+  @Override
+  public synchronized Archive<S> addAll(List<S> solutionList) {
+    solutionList.forEach(this::add);
+
+    return this;
+  }
+
   @Override
   public synchronized void prune() {
     if (solutions().size() > maximumSize()) {
@@ -0,0 +1,463 @@
+package org.uma.jmetal.util.checkpoint;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+/**
+ * Snapshot of the state of a running algorithm, which can be written to a binary file and restored
+ * later to continue the run. It contains the number of evaluations, the computing time, the
+ * population, the archive, the local best solutions and speeds of the particles (for PSO
+ * algorithms), the state of the pseudo-random generator and the internal state of the components of
+ * the algorithm implementing {@link CheckpointableComponent}.
+ *
+ * <p>The solutions are written in a compact binary format: their variables ({@link Double}, {@link
+ * Integer} or {@link BinarySet} values), objectives, constraints and the attributes with a {@link
+ * String} key and a numeric, boolean or string value (the rest of attributes are not written, as
+ * they are computed again by the components of the algorithms). When read, they are created with
+ * the problem and their fields are overwritten with the stored ones. The pseudo-random generator
+ * is stored with Java serialization, as it is the only way of getting its internal state.
+ *
+ * @author Antonio J. Nebro
+ * @param <S> Type of the solutions
+ */
+public class Checkpoint<S extends Solution<?>> {
+  private static final int MAGIC_NUMBER = 0x4A4D4350;
+  private static final int VERSION = 2;
+
+  private static final byte DOUBLE = 'D';
+  private static final byte INTEGER = 'I';
+  private static final byte LONG = 'L';
+  private static final byte BOOLEAN = 'Z';
+  private static final byte STRING = 'S';
+  private static final byte BINARY_SET = 'B';
+
+  private final int evaluations;
+  private final long computingTime;
+  private final List<S> population;
+  private List<S> archive = List.of();
+  private List<S> localBest = List.of();
+  private double[][] speed = new double[0][];
+  private List<byte[]> componentStates = List.of();
+  private final byte[] randomGeneratorState;
+
+  /**
+   * Creates a checkpoint with the current state of an algorithm. The solutions are copied and the
+   * state of the pseudo-random generator used by the current thread is saved, so the checkpoint
+   * must be created by the thread running the algorithm.
+   *
+   * @param evaluations Number of evaluations
+   * @param computingTime Computing time (in milliseconds)
+   * @param population Population (or swarm) of the algorithm
+   */
+  public Checkpoint(int evaluations, long computingTime, List<S> population) {
+    this(
+        evaluations,
+        computingTime,
+        copyOf(population),
+        serialize(JMetalRandom.getInstance().getRandomGenerator()));
+  }
+
+  private Checkpoint(
+      int evaluations, long computingTime, List<S> population, byte[] randomGeneratorState) {
+    Check.that(evaluations >= 0, "The number of evaluations is negative: " + evaluations);
+    this.evaluations = evaluations;
+    this.computingTime = computingTime;
+    this.population = population;
+    this.randomGeneratorState = randomGeneratorState;
+  }
+
+  /** Sets the solutions of the archive of the algorithm, which are copied */
+  public Checkpoint<S> setArchive(List<S> archive) {
+    this.archive = copyOf(archive);
+
+    return this;
+  }
+
+  /** Sets the local best solutions of the particles of a PSO algorithm, which are copied */
+  public Checkpoint<S> setLocalBest(List<S> localBest) {
+    this.localBest = copyOf(localBest);
+
+    return this;
+  }
+
+  /** Sets the speeds of the particles of a PSO algorithm, which are copied */
+  public Checkpoint<S> setSpeed(double[][] speed) {
+    Check.notNull(speed);
+    this.speed = new double[speed.length][];
+    for (int i = 0; i < speed.length; i++) {
+      this.speed[i] = speed[i].clone();
+    }
+
+    return this;
+  }
+
+  /**
+   * Saves the internal state of the components of the algorithm, which must be restored with
+   * {@link #restoreComponentStates(List)} in the same order
+   */
+  public Checkpoint<S> setComponentStates(List<? extends CheckpointableComponent> components) {
+    Check.notNull(components);
+    componentStates = new ArrayList<>(components.size());
+    for (CheckpointableComponent component : components) {
+      var bytes = new ByteArrayOutputStream();
+      try (var outputStream = new DataOutputStream(bytes)) {
+        component.writeState(outputStream);
+      } catch (IOException e) {
+        throw new JMetalException(
+            "Error saving the state of the component " + component.getClass().getName(), e);
+      }
+      componentStates.add(bytes.toByteArray());
+    }
+
+    return this;
+  }
+
+  /**
+   * Restores the internal state of the components of an algorithm, which must be the same (and be
+   * given in the same order) as the ones whose state was saved
+   */
+  public void restoreComponentStates(List<? extends CheckpointableComponent> components) {
+    Check.notNull(components);
+    Check.that(
+        components.size() == componentStates.size(),
+        "The checkpoint contains the state of "
+            + componentStates.size()
+            + " components instead of "
+            + components.size());
+    for (int i = 0; i < components.size(); i++) {
+      CheckpointableComponent component = components.get(i);
+      var bytes = new ByteArrayInputStream(componentStates.get(i));
+      try (var inputStream = new DataInputStream(bytes)) {
+        component.readState(inputStream);
+      } catch (IOException e) {
+        throw new JMetalException(
+            "Error restoring the state of the component " + component.getClass().getName(), e);
+      }
+      Check.that(
+          bytes.available() == 0,
+          "The state of the component "
+              + component.getClass().getName()
+              + " does not match the one in the checkpoint");
+    }
+  }
+
+  public int evaluations() {
+    return evaluations;
+  }
+
+  public long computingTime() {
+    return computingTime;
+  }
+
+  public List<S> population() {
+    return population;
+  }
+
+  public List<S> archive() {
+    return archive;
+  }
+
+  public List<S> localBest() {
+    return localBest;
+  }
+
+  public double[][] speed() {
+    return speed;
+  }
+
+  /** Returns a new pseudo-random generator in the state it was when the checkpoint was created */
+  public PseudoRandomGenerator randomGenerator() {
+    try (var inputStream =
+        new ObjectInputStream(new ByteArrayInputStream(randomGeneratorState))) {
+      return (PseudoRandomGenerator) inputStream.readObject();
+    } catch (IOException | ClassNotFoundException e) {
+      throw new JMetalException("Error restoring the pseudo-random generator", e);
+    }
+  }
+
+  /**
+   * Writes the checkpoint to a file. It is written to a temporary file first, which then replaces
+   * the file, so the file always contains a complete checkpoint even if the JVM dies while writing.
+   */
+  public void write(Path file) {
+    Check.notNull(file);
+    Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try (var outputStream =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+      outputStream.writeInt(MAGIC_NUMBER);
+      outputStream.writeInt(VERSION);
+      outputStream.writeInt(evaluations);
+      outputStream.writeLong(computingTime);
+      outputStream.writeInt(randomGeneratorState.length);
+      outputStream.write(randomGeneratorState);
+      writeSolutions(outputStream, population);
+      writeSolutions(outputStream, archive);
+      writeSolutions(outputStream, localBest);
+      outputStream.writeInt(speed.length);
+      for (double[] particleSpeed : speed) {
+        outputStream.writeInt(particleSpeed.length);
+        for (double value : particleSpeed) {
+          outputStream.writeDouble(value);
+        }
+      }
+      outputStream.writeInt(componentStates.size());
+      for (byte[] componentState : componentStates) {
+        outputStream.writeInt(componentState.length);
+        outputStream.write(componentState);
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error writing the checkpoint file " + file, e);
+    }
+
+    try {
+      Files.move(
+          temporaryFile,
+          file,
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new JMetalException("Error replacing the checkpoint file " + file, e);
+    }
+  }
+
+  /**
+   * Reads a checkpoint from a file
+   *
+   * @param file Checkpoint file
+   * @param problem Problem used to create the solutions, which must be the problem of the algorithm
+   *     that created the checkpoint
+   */
+  public static <S extends Solution<?>> Checkpoint<S> read(Path file, Problem<S> problem) {
+    Check.notNull(file);
+    Check.notNull(problem);
+    try (var inputStream =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      Check.that(
+          inputStream.readInt() == MAGIC_NUMBER, "The file " + file + " is not a checkpoint file");
+      int version = inputStream.readInt();
+      Check.that(
+          version == 1 || version == VERSION, "Unsupported checkpoint version: " + version);
+
+      int evaluations = inputStream.readInt();
+      long computingTime = inputStream.readLong();
+      byte[] randomGeneratorState = new byte[inputStream.readInt()];
+      inputStream.readFully(randomGeneratorState);
+
+      var checkpoint =
+          new Checkpoint<>(
+              evaluations,
+              computingTime,
+              readSolutions(inputStream, problem),
+              randomGeneratorState);
+      checkpoint.archive = readSolutions(inputStream, problem);
+      checkpoint.localBest = readSolutions(inputStream, problem);
+      checkpoint.speed = new double[inputStream.readInt()][];
+      for (int i = 0; i < checkpoint.speed.length; i++) {
+        checkpoint.speed[i] = new double[inputStream.readInt()];
+        for (int j = 0; j < checkpoint.speed[i].length; j++) {
+          checkpoint.speed[i][j] = inputStream.readDouble();
+        }
+      }
+      if (version > 1) {
+        int numberOfComponents = inputStream.readInt();
+        checkpoint.componentStates = new ArrayList<>(numberOfComponents);
+        for (int i = 0; i < numberOfComponents; i++) {
+          byte[] componentState = new byte[inputStream.readInt()];
+          inputStream.readFully(componentState);
+          checkpoint.componentStates.add(componentState);
+        }
+      }
+
+      return checkpoint;
+    } catch (IOException e) {
+      throw new JMetalException("Error reading the checkpoint file " + file, e);
+    }
+  }
+
+  private static <S extends Solution<?>> List<S> copyOf(List<S> solutions) {
+    Check.notNull(solutions);
+    List<S> copy = new ArrayList<>(solutions.size());
+    for (S solution : solutions) {
+      @SuppressWarnings("unchecked")
+      S solutionCopy = (S) solution.copy();
+      copy.add(solutionCopy);
+    }
+
+    return copy;
+  }
+
+  private static byte[] serialize(PseudoRandomGenerator randomGenerator) {
+    var bytes = new ByteArrayOutputStream();
+    try (var outputStream = new ObjectOutputStream(bytes)) {
+      outputStream.writeObject(randomGenerator);
+    } catch (IOException e) {
+      throw new JMetalException("Error saving the state of the pseudo-random generator", e);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  private static void writeSolutions(
+      DataOutputStream outputStream, List<? extends Solution<?>> solutions) throws IOException {
+    outputStream.writeInt(solutions.size());
+    for (Solution<?> solution : solutions) {
+      outputStream.writeInt(solution.variables().size());
+      for (Object variable : solution.variables()) {
+        writeVariable(outputStream, variable);
+      }
+      writeDoubles(outputStream, solution.objectives());
+      writeDoubles(outputStream, solution.constraints());
+
+      List<Map.Entry<Object, Object>> attributes = new ArrayList<>();
+      for (Map.Entry<Object, Object> attribute : solution.attributes().entrySet()) {
+        if (attribute.getKey() instanceof String && isWritable(attribute.getValue())) {
+          attributes.add(attribute);
+        }
+      }
+      outputStream.writeInt(attributes.size());
+      for (Map.Entry<Object, Object> attribute : attributes) {
+        outputStream.writeUTF((String) attribute.getKey());
+        writeValue(outputStream, attribute.getValue());
+      }
+    }
+  }
+
+  private static <S extends Solution<?>> List<S> readSolutions(
+      DataInputStream inputStream, Problem<S> problem) throws IOException {
+    int numberOfSolutions = inputStream.readInt();
+    List<S> solutions = new ArrayList<>(numberOfSolutions);
+    for (int i = 0; i < numberOfSolutions; i++) {
+      S solution = problem.createSolution();
+
+      int numberOfVariables = inputStream.readInt();
+      Check.that(
+          numberOfVariables == solution.variables().size(),
+          "The solutions of the problem have "
+              + solution.variables().size()
+              + " variables instead of "
+              + numberOfVariables);
+      @SuppressWarnings("unchecked")
+      List<Object> variables = (List<Object>) solution.variables();
+      for (int j = 0; j < numberOfVariables; j++) {
+        variables.set(j, readValue(inputStream));
+      }
+      readDoubles(inputStream, solution.objectives());
+      readDoubles(inputStream, solution.constraints());
+
+      solution.attributes().clear();
+      int numberOfAttributes = inputStream.readInt();
+      for (int j = 0; j < numberOfAttributes; j++) {
+        String key = inputStream.readUTF();
+        solution.attributes().put(key, readValue(inputStream));
+      }
+
+      solutions.add(solution);
+    }
+
+    return solutions;
+  }
+
+  private static void writeDoubles(DataOutputStream outputStream, double[] values)
+      throws IOException {
+    outputStream.writeInt(values.length);
+    for (double value : values) {
+      outputStream.writeDouble(value);
+    }
+  }
+
+  private static void readDoubles(DataInputStream inputStream, double[] values)
+      throws IOException {
+    int length = inputStream.readInt();
+    Check.that(length == values.length, "Unexpected number of values: " + length);
+    for (int i = 0; i < length; i++) {
+      values[i] = inputStream.readDouble();
+    }
+  }
+
+  private static void writeVariable(DataOutputStream outputStream, Object variable)
+      throws IOException {
+    if (variable instanceof BinarySet binarySet) {
+      long[] words = binarySet.toLongArray();
+      outputStream.writeByte(BINARY_SET);
+      outputStream.writeInt(binarySet.getBinarySetLength());
+      outputStream.writeInt(words.length);
+      for (long word : words) {
+        outputStream.writeLong(word);
+      }
+    } else if (variable instanceof Double || variable instanceof Integer) {
+      writeValue(outputStream, variable);
+    } else {
+      throw new JMetalException(
+          "Variables of type " + variable.getClass().getName() + " cannot be checkpointed");
+    }
+  }
+
+  private static boolean isWritable(Object value) {
+    return value instanceof Double
+        || value instanceof Integer
+        || value instanceof Long
+        || value instanceof Boolean
+        || value instanceof String;
+  }
+
+  private static void writeValue(DataOutputStream outputStream, Object value) throws IOException {
+    if (value instanceof Double doubleValue) {
+      outputStream.writeByte(DOUBLE);
+      outputStream.writeDouble(doubleValue);
+    } else if (value instanceof Integer integerValue) {
+      outputStream.writeByte(INTEGER);
+      outputStream.writeInt(integerValue);
+    } else if (value instanceof Long longValue) {
+      outputStream.writeByte(LONG);
+      outputStream.writeLong(longValue);
+    } else if (value instanceof Boolean booleanValue) {
+      outputStream.writeByte(BOOLEAN);
+      outputStream.writeBoolean(booleanValue);
+    } else {
+      outputStream.writeByte(STRING);
+      outputStream.writeUTF((String) value);
+    }
+  }
+
+  private static Object readValue(DataInputStream inputStream) throws IOException {
+    byte type = inputStream.readByte();
+    return switch (type) {
+      case DOUBLE -> inputStream.readDouble();
+      case INTEGER -> inputStream.readInt();
+      case LONG -> inputStream.readLong();
+      case BOOLEAN -> inputStream.readBoolean();
+      case STRING -> inputStream.readUTF();
+      case BINARY_SET -> {
+        var binarySet = new BinarySet(inputStream.readInt());
+        long[] words = new long[inputStream.readInt()];
+        for (int i = 0; i < words.length; i++) {
+          words[i] = inputStream.readLong();
+        }
+        binarySet.or(BitSet.valueOf(words));
+        yield binarySet;
+      }
+      default -> throw new JMetalException("Unknown type of value in checkpoint: " + type);
+    };
+  }
+}
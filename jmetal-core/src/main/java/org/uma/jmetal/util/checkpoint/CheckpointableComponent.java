@@ -0,0 +1,44 @@
+package org.uma.jmetal.util.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Interface representing components of an algorithm whose internal state changes during a run
+ * (e.g., the ideal point of MOEA/D, the permutation of a sequence generator or the counter of an
+ * inertia weight strategy). The algorithms save the state of their components implementing it in
+ * their checkpoints (see {@link Checkpoint#setComponentStates}), so that a restored run
+ * continues exactly as the original one.
+ *
+ * <p>Components containing other stateful objects (e.g., a selection with a sequence generator)
+ * write and read their state with {@link #writeStateOf(Object, DataOutput)} and {@link
+ * #readStateOf(Object, DataInput)}.
+ *
+ * @author Antonio J. Nebro
+ */
+public interface CheckpointableComponent {
+  /** Writes the internal state of the component */
+  void writeState(DataOutput output) throws IOException;
+
+  /**
+   * Reads the internal state written by {@link #writeState(DataOutput)}, which replaces the
+   * current one. The component must have been created with the same parameters as the one whose
+   * state was written.
+   */
+  void readState(DataInput input) throws IOException;
+
+  /** Writes the state of an object if it is a {@link CheckpointableComponent} */
+  static void writeStateOf(Object object, DataOutput output) throws IOException {
+    if (object instanceof CheckpointableComponent component) {
+      component.writeState(output);
+    }
+  }
+
+  /** Reads the state of an object if it is a {@link CheckpointableComponent} */
+  static void readStateOf(Object object, DataInput input) throws IOException {
+    if (object instanceof CheckpointableComponent component) {
+      component.readState(input);
+    }
+  }
+}
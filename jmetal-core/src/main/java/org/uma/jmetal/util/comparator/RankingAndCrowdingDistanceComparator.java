@@ -19,7 +19,7 @@ public class RankingAndCrowdingDistanceComparator<S extends Solution<?>>
   private final Comparator<S> crowdingDistanceComparator;
 
   public RankingAndCrowdingDistanceComparator(Ranking<S> ranking) {
-    rankComparator = Comparator.comparing(ranking::getRank);
+    rankComparator = Comparator.comparingInt(ranking::getRank);
     CrowdingDistanceDensityEstimator<S> crowdingDistanceDensityEstimator =
         new CrowdingDistanceDensityEstimator<>();
     crowdingDistanceComparator = crowdingDistanceDensityEstimator.comparator();
@@ -23,7 +23,7 @@ public class RankingAndDirScoreDistanceComparator<S extends Solution<?>>
   }
 
   public RankingAndDirScoreDistanceComparator(Ranking<S> ranking) {
-    rankComparator = Comparator.comparing(ranking::getRank);
+    rankComparator = Comparator.comparingInt(ranking::getRank);
     dirScoreComparator = new DirScoreComparator<>();
   }
 
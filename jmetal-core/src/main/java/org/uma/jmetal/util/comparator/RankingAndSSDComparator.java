@@ -40,7 +40,7 @@ public class RankingAndSSDComparator<S extends Solution<?>> implements Comparato
 
   public RankingAndSSDComparator(Ranking<S> ranking) {
     crowdingDistanceComparator = new SpatialSpreadDeviationComparator<>() ;
-    rankComparator = Comparator.comparing(ranking::getRank) ;
+    rankComparator = Comparator.comparingInt(ranking::getRank) ;
   }
 
 
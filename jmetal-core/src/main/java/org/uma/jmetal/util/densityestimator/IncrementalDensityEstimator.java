@@ -0,0 +1,34 @@
+package org.uma.jmetal.util.densityestimator;
+
+import java.util.List;
+
+/**
+ * Density estimator that keeps the set of solutions it has been computed on, so that its values
+ * can be updated when a solution is added to or removed from the set instead of being computed
+ * again from scratch. Method {@link #compute(List)} replaces the whole set.
+ *
+ * @author Antonio J. Nebro
+ */
+public interface IncrementalDensityEstimator<S> extends DensityEstimator<S> {
+
+  /**
+   * Adds a solution and updates the density values
+   *
+   * @return False if the solution was already included
+   */
+  boolean add(S solution);
+
+  /**
+   * Removes a solution and updates the density values of the remaining ones
+   *
+   * @return False if the solution was not included
+   */
+  boolean remove(S solution);
+
+  boolean contains(S solution);
+
+  int size();
+
+  /** Returns a list with the solutions of the estimator */
+  List<S> solutions();
+}
@@ -3,6 +3,7 @@ package org.uma.jmetal.util.densityestimator.impl;
 import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.attribute.AttributeKey;
 import org.uma.jmetal.util.NormalizeUtils;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.ObjectiveComparator;
@@ -18,6 +19,7 @@ import org.uma.jmetal.util.errorchecking.Check;
  */
 public class CosineSimilarityDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
   private final String attributeId = getClass().getName();
+  private final AttributeKey<Double> densityKey = AttributeKey.doubleKey(attributeId);
   private final double[] referencePoint;
   private final boolean normalize;
 
@@ -52,14 +54,14 @@ public class CosineSimilarityDensityEstimator<S extends Solution<?>> implements
     }
 
     if (size == 1) {
-      solutionList.get(0).attributes().put(attributeId, 0.0);
+      densityKey.setDouble(solutionList.get(0), 0.0);
     }
 
     int numberOfObjectives = solutionList.get(0).objectives().length;
 
     if (size == numberOfObjectives) {
       for (S solution : solutionList) {
-        solution.attributes().put(attributeId, 0.0);
+        densityKey.setDouble(solution, 0.0);
       }
 
       return;
@@ -105,14 +107,14 @@ public class CosineSimilarityDensityEstimator<S extends Solution<?>> implements
       // Convert similarity to angular distance: 1 - similarity
       // Higher angular distance = more diverse = higher density value (should be kept)
       double angularDistance = (2.0 - highestSimilarity - secondHighestSimilarity);
-      solutionList.get(i).attributes().put(attributeId, angularDistance);
+      densityKey.setDouble(solutionList.get(i), angularDistance);
     }
 
     // Protect extreme solutions by setting their density to maximum (most diverse)
     for (int i = 0; i < solutionList.get(0).objectives().length; i++) {
       solutionList.sort(new ObjectiveComparator<>(i));
-      solutionList.get(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
-      solutionList.get(solutionList.size() - 1).attributes().put(attributeId, Double.POSITIVE_INFINITY);
+      densityKey.setDouble(solutionList.get(0), Double.POSITIVE_INFINITY);
+      densityKey.setDouble(solutionList.get(solutionList.size() - 1), Double.POSITIVE_INFINITY);
     }
   }
 
@@ -120,15 +122,12 @@ public class CosineSimilarityDensityEstimator<S extends Solution<?>> implements
   public Double value(S solution) {
     Check.notNull(solution);
 
-    Double result = 0.0 ;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Double) solution.attributes().get(attributeId) ;
-    }
-    return result ;
+    return densityKey.getDouble(solution, 0.0);
   }
 
   @Override
   public Comparator<S> comparator() {
-    return Comparator.comparing(this::value) ;
+    return (solution1, solution2) ->
+        Double.compare(densityKey.getDouble(solution1, 0.0), densityKey.getDouble(solution2, 0.0));
   }
 }
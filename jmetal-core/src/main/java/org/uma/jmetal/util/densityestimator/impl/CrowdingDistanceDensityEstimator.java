@@ -4,18 +4,23 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.attribute.AttributeKey;
 import org.uma.jmetal.util.comparator.ObjectiveComparator;
-import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.populationmatrix.PopulationMatrix;
+import org.uma.jmetal.util.populationmatrix.PopulationMatrixDensityEstimator;
 
 /**
- * This class implements the crowding distance
+ * This class implements the crowding distance. It can be applied either to a list of solutions,
+ * storing the distances as solution attributes, or to the rows of a {@link PopulationMatrix}.
  *
  * @author Antonio J. Nebro
  */
-public class CrowdingDistanceDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
+public class CrowdingDistanceDensityEstimator<S extends Solution<?>>
+    implements PopulationMatrixDensityEstimator<S> {
 
   private final String attributeId = getClass().getName();
+  private final AttributeKey<Double> densityKey = AttributeKey.doubleKey(attributeId);
 
   /**
    * Assigns crowding distances to all population in a <code>SolutionSet</code>.
@@ -31,13 +36,13 @@ public class CrowdingDistanceDensityEstimator<S extends Solution<?>> implements
     }
 
     if (size == 1) {
-      solutionList.get(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
+      densityKey.setDouble(solutionList.get(0), Double.POSITIVE_INFINITY);
       return;
     }
 
     if (size == 2) {
-      solutionList.get(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
-      solutionList.get(1).attributes().put(attributeId, Double.POSITIVE_INFINITY);
+      densityKey.setDouble(solutionList.get(0), Double.POSITIVE_INFINITY);
+      densityKey.setDouble(solutionList.get(1), Double.POSITIVE_INFINITY);
       return;
     }
 
@@ -45,7 +50,7 @@ public class CrowdingDistanceDensityEstimator<S extends Solution<?>> implements
     List<S> front = new ArrayList<>(solutionList);
 
     for (int i = 0; i < size; i++) {
-      front.get(i).attributes().put(attributeId, 0.0);
+      densityKey.setDouble(front.get(i), 0.0);
     }
 
     int numberOfObjectives = solutionList.get(0).objectives().length ;
@@ -66,32 +71,77 @@ public class CrowdingDistanceDensityEstimator<S extends Solution<?>> implements
       }
 
       // Set the crowding distance for the extreme points
-      front.get(0).attributes().put(attributeId, Double.POSITIVE_INFINITY);
-      front.get(size - 1).attributes().put(attributeId, Double.POSITIVE_INFINITY);
+      densityKey.setDouble(front.get(0), Double.POSITIVE_INFINITY);
+      densityKey.setDouble(front.get(size - 1), Double.POSITIVE_INFINITY);
 
       // Increase the crowding distances for all the intermediate points
       for (int j = 1; j < size - 1; j++) {
         double distance = front.get(j + 1).objectives()[i] - front.get(j - 1).objectives()[i];
         distance = distance / (maxObjective - minObjective);
-        distance += (double) front.get(j).attributes().get(attributeId);
-        front.get(j).attributes().put(attributeId, distance);
+        distance += densityKey.getDouble(front.get(j), 0.0);
+        densityKey.setDouble(front.get(j), distance);
       }
     }
   }
 
+  @Override
+  public void compute(PopulationMatrix<S> matrix, int[] rows) {
+    int size = rows.length;
+    double[] densities = matrix.densities();
+
+    if (size == 0) {
+      return;
+    }
+
+    if (size <= 2) {
+      for (int row : rows) {
+        densities[row] = Double.POSITIVE_INFINITY;
+      }
+      return;
+    }
+
+    // Use a copy to avoid altering the order of the rows
+    int[] front = rows.clone();
+
+    for (int row : front) {
+      densities[row] = 0.0;
+    }
+
+    for (int i = 0; i < matrix.numberOfObjectives(); i++) {
+      matrix.sortByObjective(front, i);
+
+      double minObjective = matrix.objective(front[0], i);
+      double maxObjective = matrix.objective(front[size - 1], i);
+      if (minObjective == maxObjective) {
+        continue;
+      }
+
+      densities[front[0]] = Double.POSITIVE_INFINITY;
+      densities[front[size - 1]] = Double.POSITIVE_INFINITY;
+
+      for (int j = 1; j < size - 1; j++) {
+        double distance = matrix.objective(front[j + 1], i) - matrix.objective(front[j - 1], i);
+        distance = distance / (maxObjective - minObjective);
+        densities[front[j]] += distance;
+      }
+    }
+  }
+
+  @Override
+  public void setValue(S solution, double value) {
+    densityKey.setDouble(solution, value);
+  }
+
   @Override
   public Double value(S solution) {
     Check.notNull(solution);
 
-    Double result = 0.0 ;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Double) solution.attributes().get(attributeId) ;
-    }
-    return result ;
+    return densityKey.getDouble(solution, 0.0);
   }
 
   @Override
   public Comparator<S> comparator() {
-    return Comparator.comparing(this::value).reversed() ;
+    return (solution1, solution2) ->
+        Double.compare(densityKey.getDouble(solution2, 0.0), densityKey.getDouble(solution1, 0.0));
   }
 }
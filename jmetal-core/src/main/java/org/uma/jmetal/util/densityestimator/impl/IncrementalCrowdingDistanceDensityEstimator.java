@@ -0,0 +1,250 @@
+package org.uma.jmetal.util.densityestimator.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.attribute.AttributeKey;
+import org.uma.jmetal.util.densityestimator.IncrementalDensityEstimator;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Crowding distance of a set of solutions that changes by adding and removing one solution at a
+ * time. The solutions are kept sorted by each objective, so adding or removing a solution only
+ * requires updating the distances of its neighbours in each of the orders, instead of sorting the
+ * whole set once per objective as {@link CrowdingDistanceDensityEstimator} does. If the solution
+ * is an extreme in any objective, the normalization range can change and the distances of all the
+ * solutions are computed again, but without sorting.
+ *
+ * <p>The distances are computed as in {@link CrowdingDistanceDensityEstimator} and are stored in
+ * the same attribute, so they can be read with any instance of that class. Method {@link
+ * #compute(List)} replaces the set of solutions by a given list.
+ *
+ * <p>The objective values of a solution are copied when it is added, and the orders and distances
+ * are based on them, so the solutions must be removed and added again if their objective values
+ * change.
+ *
+ * @author Antonio J. Nebro
+ */
+@SuppressWarnings("serial")
+public class IncrementalCrowdingDistanceDensityEstimator<S extends Solution<?>>
+    implements IncrementalDensityEstimator<S> {
+  private final AttributeKey<Double> densityKey =
+      AttributeKey.doubleKey(CrowdingDistanceDensityEstimator.class.getName());
+
+  private final Map<S, double[]> objectiveValues = new IdentityHashMap<>();
+  private List<List<S>> sortedSolutions = new ArrayList<>();
+
+  /** Replaces the solutions of the estimator and computes their crowding distances */
+  @Override
+  public void compute(List<S> solutionList) {
+    Check.notNull(solutionList);
+    objectiveValues.clear();
+    solutionList.forEach(solution -> objectiveValues.put(solution, solution.objectives().clone()));
+
+    int numberOfObjectives = solutionList.isEmpty() ? 0 : solutionList.get(0).objectives().length;
+    sortedSolutions = new ArrayList<>(numberOfObjectives);
+    for (int i = 0; i < numberOfObjectives; i++) {
+      List<S> order = new ArrayList<>(objectiveValues.keySet());
+      int objective = i;
+      order.sort(Comparator.comparingDouble(solution -> objective(solution, objective)));
+      sortedSolutions.add(order);
+    }
+
+    computeAllDistances();
+  }
+
+  @Override
+  public boolean add(S solution) {
+    Check.notNull(solution);
+    if (objectiveValues.containsKey(solution)) {
+      return false;
+    }
+    double[] objectives = solution.objectives().clone();
+    objectiveValues.put(solution, objectives);
+    if (sortedSolutions.isEmpty()) {
+      for (int i = 0; i < objectives.length; i++) {
+        sortedSolutions.add(new ArrayList<>());
+      }
+    }
+
+    boolean isExtreme = false;
+    for (int i = 0; i < sortedSolutions.size(); i++) {
+      List<S> order = sortedSolutions.get(i);
+      int position = upperBound(order, objectives[i], i);
+      order.add(position, solution);
+      isExtreme |= (position == 0) || (position == order.size() - 1);
+    }
+
+    if (isExtreme || objectiveValues.size() <= 3) {
+      computeAllDistances();
+    } else {
+      List<S> affectedSolutions = new ArrayList<>(2 * sortedSolutions.size() + 1);
+      affectedSolutions.add(solution);
+      for (int i = 0; i < sortedSolutions.size(); i++) {
+        List<S> order = sortedSolutions.get(i);
+        int position = positionOf(solution, i);
+        affectedSolutions.add(order.get(position - 1));
+        affectedSolutions.add(order.get(position + 1));
+      }
+      affectedSolutions.forEach(this::computeDistance);
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean remove(S solution) {
+    Check.notNull(solution);
+    if (!objectiveValues.containsKey(solution)) {
+      return false;
+    }
+
+    boolean isExtreme = false;
+    List<S> affectedSolutions = new ArrayList<>(2 * sortedSolutions.size());
+    for (int i = 0; i < sortedSolutions.size(); i++) {
+      List<S> order = sortedSolutions.get(i);
+      int position = positionOf(solution, i);
+      order.remove(position);
+      if ((position == 0) || (position == order.size())) {
+        isExtreme = true;
+      } else {
+        affectedSolutions.add(order.get(position - 1));
+        affectedSolutions.add(order.get(position));
+      }
+    }
+
+    objectiveValues.remove(solution);
+
+    if (isExtreme || objectiveValues.size() <= 2) {
+      computeAllDistances();
+    } else {
+      affectedSolutions.forEach(this::computeDistance);
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean contains(S solution) {
+    return objectiveValues.containsKey(solution);
+  }
+
+  @Override
+  public int size() {
+    return objectiveValues.size();
+  }
+
+  @Override
+  public List<S> solutions() {
+    return new ArrayList<>(objectiveValues.keySet());
+  }
+
+  @Override
+  public Double value(S solution) {
+    Check.notNull(solution);
+
+    return densityKey.getDouble(solution, 0.0);
+  }
+
+  @Override
+  public Comparator<S> comparator() {
+    return (solution1, solution2) ->
+        Double.compare(densityKey.getDouble(solution2, 0.0), densityKey.getDouble(solution1, 0.0));
+  }
+
+  private void computeAllDistances() {
+    int size = objectiveValues.size();
+    if (size <= 2) {
+      objectiveValues.keySet()
+          .forEach(solution -> densityKey.setDouble(solution, Double.POSITIVE_INFINITY));
+      return;
+    }
+
+    objectiveValues.keySet().forEach(solution -> densityKey.setDouble(solution, 0.0));
+    for (int i = 0; i < sortedSolutions.size(); i++) {
+      List<S> order = sortedSolutions.get(i);
+      double minObjective = objective(order.get(0), i);
+      double maxObjective = objective(order.get(size - 1), i);
+      if (minObjective == maxObjective) {
+        continue;
+      }
+
+      densityKey.setDouble(order.get(0), Double.POSITIVE_INFINITY);
+      densityKey.setDouble(order.get(size - 1), Double.POSITIVE_INFINITY);
+      for (int j = 1; j < size - 1; j++) {
+        double distance = objective(order.get(j + 1), i) - objective(order.get(j - 1), i);
+        distance = distance / (maxObjective - minObjective);
+        densityKey.setDouble(order.get(j), densityKey.getDouble(order.get(j), 0.0) + distance);
+      }
+    }
+  }
+
+  /** Computes the distance of a solution, assuming that the set has more than two solutions */
+  private void computeDistance(S solution) {
+    double distance = 0.0;
+    for (int i = 0; i < sortedSolutions.size(); i++) {
+      List<S> order = sortedSolutions.get(i);
+      double minObjective = objective(order.get(0), i);
+      double maxObjective = objective(order.get(order.size() - 1), i);
+      if (minObjective == maxObjective) {
+        continue;
+      }
+
+      int position = positionOf(solution, i);
+      if ((position == 0) || (position == order.size() - 1)) {
+        distance = Double.POSITIVE_INFINITY;
+      } else {
+        distance +=
+            (objective(order.get(position + 1), i) - objective(order.get(position - 1), i))
+                / (maxObjective - minObjective);
+      }
+    }
+    densityKey.setDouble(solution, distance);
+  }
+
+  private double objective(S solution, int objective) {
+    return objectiveValues.get(solution)[objective];
+  }
+
+  private int positionOf(S solution, int objective) {
+    List<S> order = sortedSolutions.get(objective);
+    int position = lowerBound(order, objective(solution, objective), objective);
+    while (order.get(position) != solution) {
+      position++;
+    }
+    return position;
+  }
+
+  /** Returns the position of the first solution whose objective value is not lower than a value */
+  private int lowerBound(List<S> order, double value, int objective) {
+    int low = 0;
+    int high = order.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (objective(order.get(middle), objective) < value) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /** Returns the position of the first solution whose objective value is greater than a value */
+  private int upperBound(List<S> order, double value, int objective) {
+    int low = 0;
+    int high = order.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (objective(order.get(middle), objective) <= value) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+}
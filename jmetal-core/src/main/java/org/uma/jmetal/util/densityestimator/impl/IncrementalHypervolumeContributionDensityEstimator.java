@@ -0,0 +1,649 @@
+package org.uma.jmetal.util.densityestimator.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.Hypervolume3D;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.attribute.AttributeKey;
+import org.uma.jmetal.util.densityestimator.IncrementalDensityEstimator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomGenerator;
+
+/**
+ * Hypervolume contribution (the volume dominated only by a solution) of a set of solutions that
+ * changes by adding and removing one solution at a time. Only the contributions of the solutions
+ * affected by a change are computed again:
+ *
+ * <p>- Two objectives: the solutions are kept sorted by the first objective, so the contribution
+ * of a solution is the rectangle delimited by its two neighbours, and only the neighbours of the
+ * added or removed solution are updated.
+ * - Three objectives: the contribution of a solution changes only if the region dominated jointly
+ * by it and the added or removed solution is not dominated by any other solution. In that case,
+ * the change of the contribution is the volume of that region, which is computed with a
+ * dimension-sweep algorithm. When all the contributions are computed from scratch, {@link
+ * Hypervolume3D#computeContributions(double[][])} is used.
+ * - More objectives: the contributions are estimated by Monte Carlo sampling in a box bounding the
+ * region dominated only by each solution, so the error of an estimation with N samples is lower
+ * than the volume of the box times sqrt(ln(2/delta)/(2N)) with probability 1-delta. The
+ * contributions of the affected solutions are estimated again.
+ *
+ * <p>With more than two objectives, the box bounding the region dominated only by each solution is
+ * kept, and only the solutions whose box intersects the region dominated by the added or removed
+ * solution are checked. The boxes are updated in O(M) per solution when a solution is added, and
+ * recomputed in O(MN) only for the solutions whose box was limited by a removed solution, so the
+ * cost of a change is linear in the number of solutions plus the cost of updating the affected
+ * ones, usually the neighbours of the changed solution. The boxes are computed in O(MN^2) in the
+ * first change after computing all the contributions.
+ *
+ * <p>The reference point can be fixed or, by default, be the nadir point of the set plus an
+ * offset. In the latter case, a change of the nadir point affects the contributions of the
+ * extreme solutions, which are then updated (all of them with more than two objectives).
+ *
+ * <p>The solutions are assumed to be mutually non-dominated, as in an archive. As in {@link
+ * IncrementalCrowdingDistanceDensityEstimator}, the objective values of a solution are copied when
+ * it is added. The higher the contribution the better.
+ *
+ * @author Antonio J. Nebro
+ */
+@SuppressWarnings("serial")
+public class IncrementalHypervolumeContributionDensityEstimator<S extends Solution<?>>
+    implements IncrementalDensityEstimator<S> {
+  public static final double DEFAULT_OFFSET = 100.0;
+  public static final int DEFAULT_NUMBER_OF_SAMPLES = 1000;
+
+  private final AttributeKey<Double> densityKey = AttributeKey.doubleKey(getClass().getName());
+
+  private final double[] fixedReferencePoint;
+  private final double offset;
+  private double[] referencePoint;
+  private int numberOfSamples = DEFAULT_NUMBER_OF_SAMPLES;
+  private RandomGenerator<Double> randomGenerator = () -> JMetalRandom.getInstance().nextDouble();
+
+  private final Map<S, double[]> objectiveValues = new IdentityHashMap<>();
+  private final List<S> sortedSolutions = new ArrayList<>();
+  private final Map<S, double[]> upperBounds = new IdentityHashMap<>();
+  private boolean upperBoundsAreComputed;
+  private int numberOfObjectives;
+
+  /** The reference point is the nadir point of the solutions plus {@link #DEFAULT_OFFSET} */
+  public IncrementalHypervolumeContributionDensityEstimator() {
+    this(DEFAULT_OFFSET);
+  }
+
+  /** The reference point is the nadir point of the solutions plus an offset */
+  public IncrementalHypervolumeContributionDensityEstimator(double offset) {
+    Check.that(offset > 0, "The offset is not positive: " + offset);
+    this.offset = offset;
+    this.fixedReferencePoint = null;
+  }
+
+  public IncrementalHypervolumeContributionDensityEstimator(double[] referencePoint) {
+    Check.notNull(referencePoint);
+    this.offset = 0.0;
+    this.fixedReferencePoint = referencePoint.clone();
+    this.referencePoint = fixedReferencePoint;
+    this.numberOfObjectives = referencePoint.length;
+  }
+
+  /** Sets the number of samples of the estimations with more than three objectives */
+  public IncrementalHypervolumeContributionDensityEstimator<S> setNumberOfSamples(
+      int numberOfSamples) {
+    Check.that(numberOfSamples > 0, "The number of samples is not positive: " + numberOfSamples);
+    this.numberOfSamples = numberOfSamples;
+
+    return this;
+  }
+
+  public IncrementalHypervolumeContributionDensityEstimator<S> setRandomGenerator(
+      RandomGenerator<Double> randomGenerator) {
+    Check.notNull(randomGenerator);
+    this.randomGenerator = randomGenerator;
+
+    return this;
+  }
+
+  /** Replaces the solutions of the estimator and computes their contributions */
+  @Override
+  public void compute(List<S> solutionList) {
+    Check.notNull(solutionList);
+    objectiveValues.clear();
+    sortedSolutions.clear();
+    clearUpperBounds();
+    for (S solution : solutionList) {
+      if (!objectiveValues.containsKey(solution)) {
+        objectiveValues.put(solution, objectivesOf(solution));
+        sortedSolutions.add(solution);
+      }
+    }
+    if (objectiveValues.isEmpty()) {
+      return;
+    }
+
+    updateReferencePoint();
+    if (numberOfObjectives == 2) {
+      sortedSolutions.sort(twoDimensionalOrder());
+    } else {
+      sortedSolutions.clear();
+    }
+    computeAllContributions();
+  }
+
+  @Override
+  public boolean add(S solution) {
+    Check.notNull(solution);
+    if (objectiveValues.containsKey(solution)) {
+      return false;
+    }
+    double[] objectives = objectivesOf(solution);
+    objectiveValues.put(solution, objectives);
+    boolean referencePointHasChanged = updateReferencePoint();
+
+    if (numberOfObjectives == 2) {
+      int position = upperBound(objectives);
+      sortedSolutions.add(position, solution);
+      updateTwoDimensionalContributions(position - 1, position + 1, referencePointHasChanged);
+    } else if (referencePointHasChanged) {
+      computeAllContributions();
+    } else {
+      if (!upperBoundsAreComputed) {
+        computeUpperBounds(solution);
+      }
+      // The contributions of the rest of solutions can only decrease
+      for (Map.Entry<S, double[]> entry : upperBounds.entrySet()) {
+        double[] otherObjectives = objectiveValues.get(entry.getKey());
+        updateContribution(entry.getKey(), entry.getValue(), objectives, solution, -1.0);
+        int worseObjective = worseObjectiveOf(objectives, otherObjectives);
+        if (worseObjective >= 0) {
+          entry.getValue()[worseObjective] =
+              Math.min(entry.getValue()[worseObjective], objectives[worseObjective]);
+        }
+      }
+      upperBounds.put(solution, upperBound(objectives, solution, null));
+      densityKey.setDouble(solution, contribution(objectives, solution, null));
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean remove(S solution) {
+    Check.notNull(solution);
+    double[] objectives = objectiveValues.get(solution);
+    if (objectives == null) {
+      return false;
+    }
+    int position = (numberOfObjectives == 2) ? positionOf(solution, objectives) : -1;
+    objectiveValues.remove(solution);
+    if (objectiveValues.isEmpty()) {
+      sortedSolutions.clear();
+      clearUpperBounds();
+      return true;
+    }
+    boolean referencePointHasChanged = updateReferencePoint();
+
+    if (numberOfObjectives == 2) {
+      sortedSolutions.remove(position);
+      updateTwoDimensionalContributions(position - 1, position, referencePointHasChanged);
+    } else if (referencePointHasChanged) {
+      computeAllContributions();
+    } else {
+      updateUpperBoundsAfterRemoving(solution, objectives);
+      // The contributions of the rest of solutions can only increase
+      for (Map.Entry<S, double[]> entry : upperBounds.entrySet()) {
+        updateContribution(entry.getKey(), entry.getValue(), objectives, solution, 1.0);
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean contains(S solution) {
+    return objectiveValues.containsKey(solution);
+  }
+
+  @Override
+  public int size() {
+    return objectiveValues.size();
+  }
+
+  @Override
+  public List<S> solutions() {
+    return new ArrayList<>(objectiveValues.keySet());
+  }
+
+  /** Returns a copy of the current reference point, or null if it has not been set yet */
+  public double[] referencePoint() {
+    return (referencePoint == null) ? null : referencePoint.clone();
+  }
+
+  @Override
+  public Double value(S solution) {
+    Check.notNull(solution);
+
+    return densityKey.getDouble(solution, 0.0);
+  }
+
+  @Override
+  public Comparator<S> comparator() {
+    return (solution1, solution2) ->
+        Double.compare(densityKey.getDouble(solution2, 0.0), densityKey.getDouble(solution1, 0.0));
+  }
+
+  private double[] objectivesOf(S solution) {
+    double[] objectives = solution.objectives().clone();
+    if (numberOfObjectives == 0) {
+      numberOfObjectives = objectives.length;
+    }
+    Check.that(
+        objectives.length == numberOfObjectives,
+        "The solution has " + objectives.length + " objectives instead of " + numberOfObjectives);
+
+    return objectives;
+  }
+
+  /**
+   * Sets the reference point to the nadir point plus the offset, if it is not fixed
+   *
+   * @return True if the reference point has changed
+   */
+  private boolean updateReferencePoint() {
+    if (fixedReferencePoint != null || objectiveValues.isEmpty()) {
+      return false;
+    }
+
+    double[] nadirPoint = new double[numberOfObjectives];
+    Arrays.fill(nadirPoint, Double.NEGATIVE_INFINITY);
+    for (double[] objectives : objectiveValues.values()) {
+      for (int i = 0; i < numberOfObjectives; i++) {
+        nadirPoint[i] = Math.max(nadirPoint[i], objectives[i]);
+      }
+    }
+    for (int i = 0; i < numberOfObjectives; i++) {
+      nadirPoint[i] += offset;
+    }
+
+    boolean referencePointHasChanged = !Arrays.equals(nadirPoint, referencePoint);
+    referencePoint = nadirPoint;
+
+    return referencePointHasChanged;
+  }
+
+  private void computeAllContributions() {
+    clearUpperBounds();
+    if (numberOfObjectives == 2) {
+      updateTwoDimensionalContributions(0, sortedSolutions.size() - 1, false);
+    } else if (numberOfObjectives == 3) {
+      // The front is translated so that the reference point is (1, 1, 1), as Hypervolume3D takes
+      // the maximum between zero and the reference point
+      List<S> solutions = solutions();
+      double[][] front = new double[solutions.size()][];
+      for (int i = 0; i < front.length; i++) {
+        double[] objectives = objectiveValues.get(solutions.get(i));
+        front[i] = new double[3];
+        for (int j = 0; j < 3; j++) {
+          front[i][j] = objectives[j] - referencePoint[j] + 1.0;
+        }
+      }
+      double[] contributions =
+          new Hypervolume3D(new double[] {1.0, 1.0, 1.0}).computeContributions(front);
+      for (int i = 0; i < front.length; i++) {
+        densityKey.setDouble(solutions.get(i), contributions[i]);
+      }
+    } else {
+      objectiveValues.forEach(
+          (solution, objectives) ->
+              densityKey.setDouble(solution, contribution(objectives, solution, null)));
+    }
+  }
+
+  /**
+   * Computes the contributions of the solutions between two positions of the sorted list, as well
+   * as those of the extreme solutions if the reference point has changed
+   */
+  private void updateTwoDimensionalContributions(
+      int firstPosition, int lastPosition, boolean referencePointHasChanged) {
+    int size = sortedSolutions.size();
+    for (int i = Math.max(0, firstPosition); i <= Math.min(size - 1, lastPosition); i++) {
+      computeTwoDimensionalContribution(i);
+    }
+    if (referencePointHasChanged) {
+      computeTwoDimensionalContribution(0);
+      computeTwoDimensionalContribution(size - 1);
+    }
+  }
+
+  private void computeTwoDimensionalContribution(int position) {
+    int lastPosition = sortedSolutions.size() - 1;
+    double[] point = objectiveValues.get(sortedSolutions.get(position));
+    double[] nextPoint =
+        (position == lastPosition)
+            ? referencePoint
+            : objectiveValues.get(sortedSolutions.get(position + 1));
+    double[] previousPoint =
+        (position == 0) ? referencePoint : objectiveValues.get(sortedSolutions.get(position - 1));
+
+    double width =
+        Math.min(nextPoint[0], referencePoint[0]) - Math.min(point[0], referencePoint[0]);
+    double height =
+        Math.min(previousPoint[1], referencePoint[1]) - Math.min(point[1], referencePoint[1]);
+    densityKey.setDouble(sortedSolutions.get(position), width * height);
+  }
+
+  private Comparator<S> twoDimensionalOrder() {
+    return Comparator.comparingDouble((S solution) -> objectiveValues.get(solution)[0])
+        .thenComparingDouble(solution -> -objectiveValues.get(solution)[1]);
+  }
+
+  /** Returns the position of the first solution that follows a point in the sorted list */
+  private int upperBound(double[] point) {
+    int low = 0;
+    int high = sortedSolutions.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      double[] objectives = objectiveValues.get(sortedSolutions.get(middle));
+      if (objectives[0] < point[0] || (objectives[0] == point[0] && objectives[1] >= point[1])) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private int positionOf(S solution, double[] point) {
+    int position = upperBound(point) - 1;
+    while (sortedSolutions.get(position) != solution) {
+      position--;
+    }
+    return position;
+  }
+
+  private void clearUpperBounds() {
+    upperBounds.clear();
+    upperBoundsAreComputed = false;
+  }
+
+  /** Computes the boxes bounding the regions dominated only by the solutions but an excluded one */
+  private void computeUpperBounds(S excludedSolution) {
+    upperBounds.clear();
+    objectiveValues.forEach(
+        (solution, objectives) -> {
+          if (solution != excludedSolution) {
+            upperBounds.put(solution, upperBound(objectives, solution, excludedSolution));
+          }
+        });
+    upperBoundsAreComputed = true;
+  }
+
+  /** Computes again the boxes that were limited by a removed solution */
+  private void updateUpperBoundsAfterRemoving(S removedSolution, double[] removedPoint) {
+    if (!upperBoundsAreComputed) {
+      computeUpperBounds(null);
+      return;
+    }
+
+    upperBounds.remove(removedSolution);
+    for (Map.Entry<S, double[]> entry : upperBounds.entrySet()) {
+      double[] objectives = objectiveValues.get(entry.getKey());
+      int worseObjective = worseObjectiveOf(removedPoint, objectives);
+      if (worseObjective >= 0
+          && removedPoint[worseObjective] == entry.getValue()[worseObjective]) {
+        entry.setValue(upperBound(objectives, entry.getKey(), null));
+      }
+    }
+  }
+
+  /**
+   * Returns the upper corner of a box containing the region dominated by a point and not by any
+   * solution but the excluded ones. The upper bound of the box in an objective is given by the
+   * solutions that are better than the point in all the other objectives.
+   */
+  private double[] upperBound(double[] point, S excludedSolution, S otherExcludedSolution) {
+    double[] upperBound = referencePoint.clone();
+    for (Map.Entry<S, double[]> entry : objectiveValues.entrySet()) {
+      if (entry.getKey() != excludedSolution && entry.getKey() != otherExcludedSolution) {
+        int worseObjective = worseObjectiveOf(entry.getValue(), point);
+        if (worseObjective >= 0) {
+          upperBound[worseObjective] =
+              Math.min(upperBound[worseObjective], entry.getValue()[worseObjective]);
+        }
+      }
+    }
+
+    return upperBound;
+  }
+
+  /**
+   * Updates the contribution of a solution after adding another one (sign -1) or after removing it
+   * (sign 1). The change is the volume of the region dominated by both solutions and by none of the
+   * rest, which is empty if it does not intersect the box bounding the region dominated only by the
+   * solution without the added one (or with the removed one); with more than three objectives, the
+   * contribution is estimated again if that region is not empty.
+   */
+  private void updateContribution(
+      S solution, double[] upperBound, double[] changedPoint, S changedSolution, double sign) {
+    double[] objectives = objectiveValues.get(solution);
+    double[] jointPoint = new double[numberOfObjectives];
+    for (int i = 0; i < numberOfObjectives; i++) {
+      jointPoint[i] = Math.max(objectives[i], changedPoint[i]);
+    }
+    if (!isStrictlyBetter(jointPoint, upperBound)
+        || isCovered(jointPoint, solution, changedSolution)) {
+      return;
+    }
+
+    if (numberOfObjectives == 3) {
+      double change = exclusiveVolume(jointPoint, solution, changedSolution);
+      densityKey.setDouble(
+          solution, Math.max(0.0, densityKey.getDouble(solution, 0.0) + sign * change));
+    } else {
+      densityKey.setDouble(solution, contribution(objectives, solution, null));
+    }
+  }
+
+  /** Returns the contribution of a point with respect to the solutions but the excluded ones */
+  private double contribution(double[] point, S excludedSolution, S otherExcludedSolution) {
+    if (isCovered(point, excludedSolution, otherExcludedSolution)) {
+      return 0.0;
+    }
+
+    return (numberOfObjectives == 3)
+        ? exclusiveVolume(point, excludedSolution, otherExcludedSolution)
+        : estimateExclusiveVolume(point, excludedSolution);
+  }
+
+  /**
+   * Checks whether a point is not strictly better than the reference point or is weakly dominated
+   * by any solution but the excluded ones
+   */
+  private boolean isCovered(double[] point, S excludedSolution, S otherExcludedSolution) {
+    if (!isStrictlyBetter(point, referencePoint)) {
+      return true;
+    }
+    for (Map.Entry<S, double[]> entry : objectiveValues.entrySet()) {
+      if (entry.getKey() != excludedSolution
+          && entry.getKey() != otherExcludedSolution
+          && weaklyDominates(entry.getValue(), point)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Volume dominated by a three-dimensional point and not by any solution but the excluded ones:
+   * the volume of the box defined by the point minus the hypervolume of the solutions projected
+   * onto that box
+   */
+  private double exclusiveVolume(double[] point, S excludedSolution, S otherExcludedSolution) {
+    List<double[]> projectedPoints = new ArrayList<>();
+    for (Map.Entry<S, double[]> entry : objectiveValues.entrySet()) {
+      if (entry.getKey() != excludedSolution && entry.getKey() != otherExcludedSolution) {
+        double[] projectedPoint = new double[3];
+        for (int i = 0; i < 3; i++) {
+          projectedPoint[i] = Math.max(point[i], entry.getValue()[i]);
+        }
+        if (isStrictlyBetter(projectedPoint, referencePoint)) {
+          projectedPoints.add(projectedPoint);
+        }
+      }
+    }
+
+    double boxVolume =
+        (referencePoint[0] - point[0])
+            * (referencePoint[1] - point[1])
+            * (referencePoint[2] - point[2]);
+
+    return Math.max(0.0, boxVolume - hypervolume3D(projectedPoints, referencePoint));
+  }
+
+  /**
+   * Hypervolume of a set of three-dimensional points strictly better than the reference point. The
+   * points are swept in increasing order of the third objective, keeping the non-dominated
+   * staircase of their projections onto the first two objectives.
+   */
+  private static double hypervolume3D(List<double[]> points, double[] referencePoint) {
+    points.sort(Comparator.comparingDouble(point -> point[2]));
+    TreeMap<Double, Double> staircase = new TreeMap<>();
+    double volume = 0.0;
+    double area = 0.0;
+    double previousZ = 0.0;
+    for (double[] point : points) {
+      if (!staircase.isEmpty()) {
+        volume += area * (point[2] - previousZ);
+      }
+      previousZ = point[2];
+      area += addToStaircase(staircase, point[0], point[1], referencePoint);
+    }
+    if (!points.isEmpty()) {
+      volume += area * (referencePoint[2] - previousZ);
+    }
+
+    return volume;
+  }
+
+  /**
+   * Inserts a point into a staircase of mutually non-dominated two-dimensional points, sorted by
+   * the first coordinate, and removes the points it dominates
+   *
+   * @return The area added to the region dominated by the staircase
+   */
+  private static double addToStaircase(
+      TreeMap<Double, Double> staircase, double x, double y, double[] referencePoint) {
+    Map.Entry<Double, Double> floor = staircase.floorEntry(x);
+    if (floor != null && floor.getValue() <= y) {
+      return 0.0;
+    }
+
+    double addedArea = 0.0;
+    double currentX = x;
+    double currentY = (floor == null) ? referencePoint[1] : floor.getValue();
+    Map.Entry<Double, Double> next = staircase.ceilingEntry(x);
+    while (next != null && next.getValue() >= y) {
+      addedArea += (next.getKey() - currentX) * (currentY - y);
+      currentX = next.getKey();
+      currentY = next.getValue();
+      staircase.remove(next.getKey());
+      next = staircase.higherEntry(currentX);
+    }
+    double limitX = (next == null) ? referencePoint[0] : next.getKey();
+    addedArea += (limitX - currentX) * (currentY - y);
+    staircase.put(x, y);
+
+    return addedArea;
+  }
+
+  /**
+   * Estimates the volume dominated by a point and not by any solution but the excluded one by
+   * sampling uniformly a box that contains that region (see {@link #upperBound(double[], Solution,
+   * Solution)})
+   */
+  private double estimateExclusiveVolume(double[] point, S excludedSolution) {
+    double[] upperBound = upperBound(point, excludedSolution, null);
+
+    double boxVolume = 1.0;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      boxVolume *= upperBound[i] - point[i];
+    }
+
+    List<double[]> dominatingPoints = new ArrayList<>();
+    for (Map.Entry<S, double[]> entry : objectiveValues.entrySet()) {
+      if (entry.getKey() != excludedSolution) {
+        double[] projectedPoint = new double[numberOfObjectives];
+        for (int i = 0; i < numberOfObjectives; i++) {
+          projectedPoint[i] = Math.max(point[i], entry.getValue()[i]);
+        }
+        if (isStrictlyBetter(projectedPoint, upperBound)) {
+          dominatingPoints.add(projectedPoint);
+        }
+      }
+    }
+    if (dominatingPoints.isEmpty()) {
+      return boxVolume;
+    }
+
+    double[] sample = new double[numberOfObjectives];
+    int nonDominatedSamples = 0;
+    for (int k = 0; k < numberOfSamples; k++) {
+      for (int i = 0; i < numberOfObjectives; i++) {
+        sample[i] = point[i] + randomGenerator.getRandomValue() * (upperBound[i] - point[i]);
+      }
+      if (!isWeaklyDominatedByAny(sample, dominatingPoints)) {
+        nonDominatedSamples++;
+      }
+    }
+
+    return boxVolume * nonDominatedSamples / numberOfSamples;
+  }
+
+  /**
+   * Returns the only objective in which a vector is worse than a point, -1 if there are none or
+   * more than one
+   */
+  private int worseObjectiveOf(double[] vector, double[] point) {
+    int worseObjective = -1;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      if (vector[i] > point[i]) {
+        if (worseObjective >= 0) {
+          return -1;
+        }
+        worseObjective = i;
+      }
+    }
+    return worseObjective;
+  }
+
+  private static boolean isWeaklyDominatedByAny(double[] point, List<double[]> points) {
+    for (double[] otherPoint : points) {
+      if (weaklyDominates(otherPoint, point)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean weaklyDominates(double[] vector1, double[] vector2) {
+    for (int i = 0; i < vector1.length; i++) {
+      if (vector1[i] > vector2[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isStrictlyBetter(double[] vector1, double[] vector2) {
+    for (int i = 0; i < vector1.length; i++) {
+      if (vector1[i] >= vector2[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -3,6 +3,7 @@ package org.uma.jmetal.util.densityestimator.impl;
 import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.attribute.AttributeKey;
 import org.uma.jmetal.util.KNearestDistanceCalculator;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
@@ -16,6 +17,7 @@ import org.uma.jmetal.util.errorchecking.Check;
 public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
 
   private final String attributeId = getClass().getName();
+  private final AttributeKey<Double> densityKey = AttributeKey.doubleKey(attributeId);
   private final KNearestDistanceCalculator kNearestDistanceCalculator;
   private final int k;
 
@@ -50,7 +52,7 @@ public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstima
 
     /* Get the k-nearest distance of all the solutions */
     for (int i = 0; i < solutionList.size(); i++) {
-      solutionList.get(i).attributes().put(attributeId, distances[i]);
+      densityKey.setDouble(solutionList.get(i), distances[i]);
     }
   }
 
@@ -58,15 +60,12 @@ public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstima
   public Double value(S solution) {
     Check.notNull(solution);
 
-    Double result = 0.0;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Double) solution.attributes().get(attributeId);
-    }
-    return result;
+    return densityKey.getDouble(solution, 0.0);
   }
 
   @Override
   public Comparator<S> comparator() {
-    return Comparator.comparing(this::value);
+    return (solution1, solution2) ->
+        Double.compare(densityKey.getDouble(solution1, 0.0), densityKey.getDouble(solution2, 0.0));
   }
 }
@@ -0,0 +1,469 @@
+package org.uma.jmetal.util.distance;
+
+import java.util.stream.IntStream;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * K-d tree of a set of points, used to find the distance from a query point to the closest point
+ * of the set without comparing it with all of them. The tree is built once (in O(n log n) time) and
+ * can then be queried concurrently.
+ *
+ * <p>Besides the Euclidean distance, the tree supports the other "distances" used by the quality
+ * indicators, given by a {@link Metric}: a metric only needs to provide a lower bound of its value
+ * for the points inside a box, which is used to discard the nodes of the tree that cannot contain
+ * a closer point. The points are stored in a flat array in the order of the leaves of the tree.
+ *
+ * <p>The tree can also find the k closest points to a query point (e.g., the neighbourhoods of the
+ * weight vectors of MOEA/D), returning their indices in the array given to the constructor.
+ *
+ * @author Antonio J. Nebro
+ */
+public class KdTree {
+  private static final int MAXIMUM_POINTS_PER_LEAF = 8;
+  /** Number of queries from which {@link #distancesToClosestPoints} runs them in parallel */
+  private static final int MINIMUM_NUMBER_OF_QUERIES_TO_PARALLELIZE = 1024;
+
+  private final int dimension;
+  private final int numberOfPoints;
+  private final double[] points;
+  // Index in the array given to the constructor of each point of the flat array
+  private final int[] indices;
+
+  // Nodes of the tree: the range of points of each node, its children (-1 if it is a leaf) and
+  // the bounding box of its points
+  private int numberOfNodes;
+  private int[] firstPoint;
+  private int[] lastPoint;
+  private int[] leftChild;
+  private int[] rightChild;
+  private double[] lowerBounds;
+  private double[] upperBounds;
+
+  /**
+   * Metric between a query point and the points of the tree. The values are compared to find the
+   * closest point, and {@link #value(double)} transforms the smallest one into the distance (e.g.,
+   * the Euclidean metric compares squared distances).
+   */
+  public enum Metric {
+    /** Euclidean distance */
+    EUCLIDEAN {
+      @Override
+      double compare(double[] query, double[] points, int offset) {
+        double sum = 0.0;
+        for (int j = 0; j < query.length; j++) {
+          double difference = query[j] - points[offset + j];
+          sum += difference * difference;
+        }
+        return sum;
+      }
+
+      @Override
+      double lowerBound(double[] query, double[] lower, double[] upper, int offset) {
+        double sum = 0.0;
+        for (int j = 0; j < query.length; j++) {
+          double difference = 0.0;
+          if (query[j] < lower[offset + j]) {
+            difference = lower[offset + j] - query[j];
+          } else if (query[j] > upper[offset + j]) {
+            difference = query[j] - upper[offset + j];
+          }
+          sum += difference * difference;
+        }
+        return sum;
+      }
+
+      @Override
+      public double value(double comparedValue) {
+        return Math.sqrt(comparedValue);
+      }
+    },
+
+    /**
+     * Distance used by the IGD+ indicator: Euclidean distance counting only the objectives in
+     * which the point of the tree is worse than the query point (minimization is assumed). Only
+     * the lower corner of a box is needed to bound it, so the boxes of points that are better than
+     * the query point in all the objectives are not explored once a point at distance zero is
+     * found.
+     */
+    DOMINANCE {
+      @Override
+      double compare(double[] query, double[] points, int offset) {
+        double sum = 0.0;
+        for (int j = 0; j < query.length; j++) {
+          double difference = Math.max(points[offset + j] - query[j], 0.0);
+          sum += difference * difference;
+        }
+        return sum;
+      }
+
+      @Override
+      double lowerBound(double[] query, double[] lower, double[] upper, int offset) {
+        return compare(query, lower, offset);
+      }
+
+      @Override
+      public double value(double comparedValue) {
+        return Math.sqrt(comparedValue);
+      }
+    },
+
+    /**
+     * Additive epsilon of a point of the tree with respect to the query point: the minimum value
+     * that has to be subtracted from all the objectives of the point so that it weakly dominates
+     * the query point (minimization is assumed). It can be negative.
+     */
+    ADDITIVE_EPSILON {
+      @Override
+      double compare(double[] query, double[] points, int offset) {
+        double epsilon = points[offset] - query[0];
+        for (int j = 1; j < query.length; j++) {
+          epsilon = Math.max(epsilon, points[offset + j] - query[j]);
+        }
+        return epsilon;
+      }
+
+      @Override
+      double lowerBound(double[] query, double[] lower, double[] upper, int offset) {
+        return compare(query, lower, offset);
+      }
+
+      @Override
+      public double value(double comparedValue) {
+        return comparedValue;
+      }
+    };
+
+    /** Value compared to find the closest point */
+    abstract double compare(double[] query, double[] points, int offset);
+
+    /** Lower bound of the compared value for any point inside a box */
+    abstract double lowerBound(double[] query, double[] lower, double[] upper, int offset);
+
+    /** Transforms a compared value into the distance */
+    public abstract double value(double comparedValue);
+  }
+
+  public KdTree(double[][] points) {
+    Check.notNull(points);
+    Check.that(points.length > 0, "The set of points is empty");
+
+    dimension = points[0].length;
+    numberOfPoints = points.length;
+    this.points = new double[numberOfPoints * dimension];
+
+    int[] order = new int[numberOfPoints];
+    for (int i = 0; i < numberOfPoints; i++) {
+      Check.that(
+          points[i].length == dimension,
+          "The point " + i + " has dimension " + points[i].length + " instead of " + dimension);
+      order[i] = i;
+    }
+
+    int maximumNumberOfNodes = 2 * Math.max(1, numberOfPoints / (MAXIMUM_POINTS_PER_LEAF / 2));
+    firstPoint = new int[maximumNumberOfNodes];
+    lastPoint = new int[maximumNumberOfNodes];
+    leftChild = new int[maximumNumberOfNodes];
+    rightChild = new int[maximumNumberOfNodes];
+    lowerBounds = new double[maximumNumberOfNodes * dimension];
+    upperBounds = new double[maximumNumberOfNodes * dimension];
+
+    build(points, order, 0, numberOfPoints);
+
+    for (int i = 0; i < numberOfPoints; i++) {
+      System.arraycopy(points[order[i]], 0, this.points, i * dimension, dimension);
+    }
+    indices = order;
+  }
+
+  public int size() {
+    return numberOfPoints;
+  }
+
+  public int dimension() {
+    return dimension;
+  }
+
+  /** Returns the distance from a point to the closest point of the tree according to a metric */
+  public double distanceToClosestPoint(double[] query, Metric metric) {
+    Check.notNull(query);
+    Check.that(
+        query.length == dimension,
+        "The point has dimension " + query.length + " instead of " + dimension);
+
+    return metric.value(search(0, query, metric, Double.POSITIVE_INFINITY));
+  }
+
+  /**
+   * Returns the distances from a set of points to the closest points of the tree. If there are
+   * many points, they are queried in parallel.
+   */
+  public double[] distancesToClosestPoints(double[][] queries, Metric metric) {
+    Check.notNull(queries);
+
+    double[] distances = new double[queries.length];
+    IntStream indices = IntStream.range(0, queries.length);
+    if (queries.length >= MINIMUM_NUMBER_OF_QUERIES_TO_PARALLELIZE) {
+      indices = indices.parallel();
+    }
+    indices.forEach(i -> distances[i] = distanceToClosestPoint(queries[i], metric));
+
+    return distances;
+  }
+
+  /**
+   * Returns the indices of the k closest points of the tree to a point according to a metric,
+   * sorted by their distances. The ties are broken by choosing the points with the lowest indices.
+   */
+  public int[] indicesOfClosestPoints(double[] query, int k, Metric metric) {
+    Check.notNull(query);
+    Check.that(
+        query.length == dimension,
+        "The point has dimension " + query.length + " instead of " + dimension);
+    Check.that(
+        k > 0 && k <= numberOfPoints,
+        "The number of points to find (" + k + ") is not between 1 and " + numberOfPoints);
+
+    ClosestPoints closestPoints = new ClosestPoints(k);
+    search(0, query, metric, closestPoints);
+
+    return closestPoints.sortedIndices();
+  }
+
+  /**
+   * Returns the indices of the k closest points of the tree to each point of a set (see {@link
+   * #indicesOfClosestPoints(double[], int, Metric)}). If there are many points, they are queried
+   * in parallel.
+   */
+  public int[][] indicesOfClosestPoints(double[][] queries, int k, Metric metric) {
+    Check.notNull(queries);
+
+    int[][] closestPoints = new int[queries.length][];
+    IntStream indices = IntStream.range(0, queries.length);
+    if (queries.length >= MINIMUM_NUMBER_OF_QUERIES_TO_PARALLELIZE) {
+      indices = indices.parallel();
+    }
+    indices.forEach(i -> closestPoints[i] = indicesOfClosestPoints(queries[i], k, metric));
+
+    return closestPoints;
+  }
+
+  /** Builds the subtree of the points order[from..to-1] and returns its node */
+  private int build(double[][] points, int[] order, int from, int to) {
+    int node = numberOfNodes++;
+    firstPoint[node] = from;
+    lastPoint[node] = to;
+    leftChild[node] = -1;
+    rightChild[node] = -1;
+
+    int offset = node * dimension;
+    for (int j = 0; j < dimension; j++) {
+      lowerBounds[offset + j] = Double.POSITIVE_INFINITY;
+      upperBounds[offset + j] = Double.NEGATIVE_INFINITY;
+    }
+    for (int i = from; i < to; i++) {
+      for (int j = 0; j < dimension; j++) {
+        lowerBounds[offset + j] = Math.min(lowerBounds[offset + j], points[order[i]][j]);
+        upperBounds[offset + j] = Math.max(upperBounds[offset + j], points[order[i]][j]);
+      }
+    }
+
+    if (to - from > MAXIMUM_POINTS_PER_LEAF) {
+      // Split by the median of the dimension with the widest range
+      int splitDimension = 0;
+      for (int j = 1; j < dimension; j++) {
+        if (upperBounds[offset + j] - lowerBounds[offset + j]
+            > upperBounds[offset + splitDimension] - lowerBounds[offset + splitDimension]) {
+          splitDimension = j;
+        }
+      }
+      int middle = (from + to) >>> 1;
+      select(points, order, from, to - 1, middle, splitDimension);
+
+      leftChild[node] = build(points, order, from, middle);
+      rightChild[node] = build(points, order, middle, to);
+    }
+
+    return node;
+  }
+
+  /**
+   * Reorders order[from..to] so that the point at position k is the one that would be there if
+   * they were sorted by a dimension, with the smaller ones before it and the larger ones after it
+   */
+  private static void select(
+      double[][] points, int[] order, int from, int to, int k, int dimension) {
+    while (from < to) {
+      double pivot = points[order[(from + to) >>> 1]][dimension];
+      int i = from;
+      int j = to;
+      while (i <= j) {
+        while (points[order[i]][dimension] < pivot) {
+          i++;
+        }
+        while (points[order[j]][dimension] > pivot) {
+          j--;
+        }
+        if (i <= j) {
+          int swap = order[i];
+          order[i] = order[j];
+          order[j] = swap;
+          i++;
+          j--;
+        }
+      }
+      if (k <= j) {
+        to = j;
+      } else if (k >= i) {
+        from = i;
+      } else {
+        return;
+      }
+    }
+  }
+
+  /** Returns the smallest compared value in a subtree if it is lower than the best one so far */
+  private double search(int node, double[] query, Metric metric, double best) {
+    if (leftChild[node] < 0) {
+      for (int i = firstPoint[node]; i < lastPoint[node]; i++) {
+        best = Math.min(best, metric.compare(query, points, i * dimension));
+      }
+      return best;
+    }
+
+    // The child with the lowest bound is explored first, as it is more likely to have the closest
+    // point
+    int left = leftChild[node];
+    int right = rightChild[node];
+    double leftBound = metric.lowerBound(query, lowerBounds, upperBounds, left * dimension);
+    double rightBound = metric.lowerBound(query, lowerBounds, upperBounds, right * dimension);
+    if (rightBound < leftBound) {
+      int swap = left;
+      left = right;
+      right = swap;
+      double swapBound = leftBound;
+      leftBound = rightBound;
+      rightBound = swapBound;
+    }
+
+    if (leftBound < best) {
+      best = search(left, query, metric, best);
+    }
+    if (rightBound < best) {
+      best = search(right, query, metric, best);
+    }
+    return best;
+  }
+
+  /** Adds to the set of closest points the points of a subtree that are closer than its worst */
+  private void search(int node, double[] query, Metric metric, ClosestPoints closestPoints) {
+    if (leftChild[node] < 0) {
+      for (int i = firstPoint[node]; i < lastPoint[node]; i++) {
+        closestPoints.offer(metric.compare(query, points, i * dimension), indices[i]);
+      }
+      return;
+    }
+
+    int left = leftChild[node];
+    int right = rightChild[node];
+    double leftBound = metric.lowerBound(query, lowerBounds, upperBounds, left * dimension);
+    double rightBound = metric.lowerBound(query, lowerBounds, upperBounds, right * dimension);
+    if (rightBound < leftBound) {
+      int swap = left;
+      left = right;
+      right = swap;
+      double swapBound = leftBound;
+      leftBound = rightBound;
+      rightBound = swapBound;
+    }
+
+    // The nodes whose bound is equal to the worst value are explored, as they can have points
+    // with the same value and lower indices
+    if (closestPoints.mayContain(leftBound)) {
+      search(left, query, metric, closestPoints);
+    }
+    if (closestPoints.mayContain(rightBound)) {
+      search(right, query, metric, closestPoints);
+    }
+  }
+
+  /**
+   * The k closest points found so far, stored in a max-heap ordered by their compared values and
+   * then by their indices, so the worst point is at the root
+   */
+  private static class ClosestPoints {
+    private final double[] values;
+    private final int[] pointIndices;
+    private int size;
+
+    ClosestPoints(int k) {
+      values = new double[k];
+      pointIndices = new int[k];
+    }
+
+    boolean mayContain(double bound) {
+      return size < values.length || bound <= values[0];
+    }
+
+    void offer(double value, int index) {
+      if (size < values.length) {
+        int position = size++;
+        while (position > 0) {
+          int parent = (position - 1) / 2;
+          if (!isWorse(value, index, values[parent], pointIndices[parent])) {
+            break;
+          }
+          values[position] = values[parent];
+          pointIndices[position] = pointIndices[parent];
+          position = parent;
+        }
+        values[position] = value;
+        pointIndices[position] = index;
+      } else if (isWorse(values[0], pointIndices[0], value, index)) {
+        siftDown(value, index);
+      }
+    }
+
+    /** Replaces the root by a point and restores the heap */
+    private void siftDown(double value, int index) {
+      int position = 0;
+      while (2 * position + 1 < size) {
+        int child = 2 * position + 1;
+        int sibling = child + 1;
+        if (sibling < size && isWorse(sibling, child)) {
+          child = sibling;
+        }
+        if (!isWorse(values[child], pointIndices[child], value, index)) {
+          break;
+        }
+        values[position] = values[child];
+        pointIndices[position] = pointIndices[child];
+        position = child;
+      }
+      values[position] = value;
+      pointIndices[position] = index;
+    }
+
+    /** Returns true if the point at a position of the heap is worse than the one at another */
+    private boolean isWorse(int position1, int position2) {
+      return isWorse(
+          values[position1], pointIndices[position1], values[position2], pointIndices[position2]);
+    }
+
+    private static boolean isWorse(double value1, int index1, double value2, int index2) {
+      return value1 > value2 || (value1 == value2 && index1 > index2);
+    }
+
+    /** Returns the indices of the points sorted from the closest one, emptying the heap */
+    int[] sortedIndices() {
+      int[] sortedIndices = new int[size];
+      while (size > 0) {
+        sortedIndices[size - 1] = pointIndices[0];
+        size--;
+        if (size > 0) {
+          siftDown(values[size], pointIndices[size]);
+        }
+      }
+      return sortedIndices;
+    }
+  }
+}
@@ -0,0 +1,187 @@
+package org.uma.jmetal.util.evaluator;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.doubleproblem.BatchEvaluableProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Methods to evaluate lists of solutions with problems implementing {@link BatchEvaluableProblem}.
+ * The solutions are evaluated in chunks: the variables of the solutions of a chunk are copied into
+ * a matrix, which is evaluated by the problem, and the resulting objectives are copied back to the
+ * solutions. Problems that are not batch evaluable are evaluated solution by solution.
+ *
+ * @author Antonio J. Nebro
+ */
+public class BatchEvaluationUtils {
+  /** Default number of solutions of the chunks, small enough for the matrices to fit in cache */
+  public static final int DEFAULT_CHUNK_SIZE = 256;
+
+  private static final ClassValue<Boolean> BATCH_EVALUABLE_CLASSES =
+      new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+          if (!BatchEvaluableProblem.class.isAssignableFrom(type)) {
+            return false;
+          }
+          try {
+            Class<?> evaluateClass =
+                type.getMethod("evaluate", DoubleSolution.class).getDeclaringClass();
+            Class<?> evaluateBatchClass =
+                type.getMethod("evaluateBatch", double[][].class, double[][].class)
+                    .getDeclaringClass();
+            return evaluateClass.isAssignableFrom(evaluateBatchClass)
+                && overridesPairedMethodsTogether(type, evaluateBatchClass);
+          } catch (NoSuchMethodException e) {
+            return false;
+          }
+        }
+      };
+
+  private BatchEvaluationUtils() {}
+
+  /**
+   * Returns true if the subclasses of the class implementing the batch evaluation override the
+   * methods computing a value of a solution (e.g., {@code evalG(DoubleSolution)} in the ZDT
+   * problems) together with their counterparts computing it from an array with its variables
+   * (e.g., {@code evalG(double[])}), which are the ones used by the batch evaluation. Otherwise,
+   * the evaluation of a solution and the batch evaluation would compute different values.
+   */
+  private static boolean overridesPairedMethodsTogether(
+      Class<?> type, Class<?> evaluateBatchClass) {
+    for (Class<?> subclass = type;
+        subclass != evaluateBatchClass;
+        subclass = subclass.getSuperclass()) {
+      for (Method method : subclass.getDeclaredMethods()) {
+        if (method.isSynthetic()
+            || Modifier.isStatic(method.getModifiers())
+            || Modifier.isPrivate(method.getModifiers())) {
+          continue;
+        }
+        Class<?>[] counterpartParameterTypes = method.getParameterTypes().clone();
+        boolean hasCounterpart = false;
+        for (int i = 0; i < counterpartParameterTypes.length; i++) {
+          if (counterpartParameterTypes[i] == DoubleSolution.class) {
+            counterpartParameterTypes[i] = double[].class;
+            hasCounterpart = true;
+          }
+        }
+        if (hasCounterpart
+            && declaresMethod(evaluateBatchClass, null, method.getName(), counterpartParameterTypes)
+            && !declaresMethod(
+                type, evaluateBatchClass, method.getName(), counterpartParameterTypes)) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns true if a class or one of its superclasses below a given one (or all of them if it is
+   * null) declares a method
+   */
+  private static boolean declaresMethod(
+      Class<?> type, Class<?> stopClass, String name, Class<?>[] parameterTypes) {
+    for (Class<?> currentClass = type;
+        currentClass != stopClass;
+        currentClass = currentClass.getSuperclass()) {
+      try {
+        currentClass.getDeclaredMethod(name, parameterTypes);
+        return true;
+      } catch (NoSuchMethodException e) {
+        // The method is looked for in the superclass
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns true if the problem implements {@link BatchEvaluableProblem} and its batch evaluation
+   * is consistent with the evaluation of a solution, i.e., the method evaluating a solution has not
+   * been overridden by a subclass of the class implementing the batch evaluation (as it happens,
+   * e.g., when a subclass adds constraints or changes the sign of the objectives), and neither has
+   * a method computing a value of a solution without its counterpart used by the batch evaluation
+   * (e.g., {@code evalG(DoubleSolution)} without {@code evalG(double[])} in a subclass of ZDT1).
+   */
+  public static boolean isBatchEvaluable(Problem<?> problem) {
+    Check.notNull(problem);
+    return BATCH_EVALUABLE_CLASSES.get(problem.getClass());
+  }
+
+  /** Evaluates a list of solutions, in chunks if the problem is batch evaluable */
+  public static <S> List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    return evaluate(solutionList, problem, DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Evaluates a list of solutions, in chunks if the problem is batch evaluable
+   *
+   * @param solutionList Solutions to evaluate
+   * @param problem Problem
+   * @param chunkSize Maximum number of solutions evaluated by each call to the batch evaluation
+   */
+  public static <S> List<S> evaluate(List<S> solutionList, Problem<S> problem, int chunkSize) {
+    Check.notNull(solutionList);
+    Check.that(chunkSize > 0, "The chunk size is not a positive value: " + chunkSize);
+
+    if (isBatchEvaluable(problem)) {
+      for (int from = 0; from < solutionList.size(); from += chunkSize) {
+        evaluate(solutionList, from, Math.min(from + chunkSize, solutionList.size()), problem);
+      }
+    } else {
+      solutionList.forEach(problem::evaluate);
+    }
+
+    return solutionList;
+  }
+
+  /**
+   * Evaluates the solutions of a sublist with a single call to the batch evaluation if the problem
+   * is batch evaluable, or one by one otherwise
+   *
+   * @param solutionList Solutions
+   * @param from Index of the first solution to evaluate (inclusive)
+   * @param to Index of the last solution to evaluate (exclusive)
+   * @param problem Problem
+   */
+  @SuppressWarnings("unchecked")
+  public static <S> void evaluate(List<S> solutionList, int from, int to, Problem<S> problem) {
+    Check.notNull(solutionList);
+    Check.that(
+        0 <= from && from <= to && to <= solutionList.size(),
+        "Invalid range of solutions: [" + from + ", " + to + ")");
+
+    if (!isBatchEvaluable(problem)) {
+      for (int i = from; i < to; i++) {
+        problem.evaluate(solutionList.get(i));
+      }
+      return;
+    }
+
+    List<DoubleSolution> solutions = (List<DoubleSolution>) solutionList;
+    int numberOfVariables = problem.numberOfVariables();
+    int numberOfObjectives = problem.numberOfObjectives();
+    double[][] variables = new double[to - from][numberOfVariables];
+    double[][] objectives = new double[to - from][numberOfObjectives];
+    for (int i = from; i < to; i++) {
+      List<Double> solutionVariables = solutions.get(i).variables();
+      double[] row = variables[i - from];
+      for (int j = 0; j < numberOfVariables; j++) {
+        row[j] = solutionVariables.get(j);
+      }
+    }
+
+    ((BatchEvaluableProblem) problem).evaluateBatch(variables, objectives);
+
+    for (int i = from; i < to; i++) {
+      System.arraycopy(
+          objectives[i - from], 0, solutions.get(i).objectives(), 0, numberOfObjectives);
+    }
+  }
+}
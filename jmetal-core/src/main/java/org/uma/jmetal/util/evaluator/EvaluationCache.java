@@ -0,0 +1,266 @@
+package org.uma.jmetal.util.evaluator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Bounded cache of the objectives and constraints of already evaluated solutions, indexed by their
+ * variables. It is intended for discrete encodings (binary, permutation and integer problems), in
+ * which the variation operators often produce solutions that have already been evaluated.
+ *
+ * <p>The variables are packed into a {@link Key} (the words of the {@link BinarySet}s, the values
+ * of the integers, and the bits of the doubles), whose hash code is computed once. The entries are
+ * distributed in segments by their hash code, each one being a least recently used (LRU) map
+ * guarded by its own lock, so the cache can be used concurrently with little contention.
+ *
+ * <p>A solution found in the cache is not evaluated, so the cache must only be used with problems
+ * whose {@code evaluate()} method is a deterministic function of the variables that only sets the
+ * objectives and the constraints.
+ *
+ * @author Antonio J. Nebro
+ * @param <S> Solution
+ */
+public class EvaluationCache<S extends Solution<?>> {
+  private static final int NUMBER_OF_SEGMENTS = 16;
+
+  private final int maximumSize;
+  private final Segment[] segments;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public EvaluationCache(int maximumSize) {
+    Check.that(maximumSize > 0, "The maximum size must be positive: " + maximumSize);
+    this.maximumSize = maximumSize;
+
+    int numberOfSegments = Math.min(NUMBER_OF_SEGMENTS, maximumSize);
+    segments = new Segment[numberOfSegments];
+    for (int i = 0; i < numberOfSegments; i++) {
+      int segmentSize = maximumSize / numberOfSegments;
+      if (i < maximumSize % numberOfSegments) {
+        segmentSize++;
+      }
+      segments[i] = new Segment(segmentSize);
+    }
+  }
+
+  /**
+   * Evaluates a list of solutions using the cache. The evaluator only receives the solutions that
+   * are not in the cache, once per different variables, and the other solutions with the same
+   * variables are copied from them.
+   *
+   * @param solutions Solutions to evaluate
+   * @param evaluator Function evaluating a list of solutions
+   * @return The number of solutions that have been evaluated by the evaluator
+   */
+  public int evaluate(List<S> solutions, Consumer<List<S>> evaluator) {
+    Check.notNull(solutions);
+    Check.notNull(evaluator);
+
+    List<S> solutionsToEvaluate = new ArrayList<>();
+    List<Key> keysToEvaluate = new ArrayList<>();
+    Map<Key, S> pendingSolutions = new HashMap<>();
+    List<S> repeatedSolutions = new ArrayList<>();
+    List<S> originalSolutions = new ArrayList<>();
+    for (S solution : solutions) {
+      Key key = key(solution);
+      S pendingSolution = pendingSolutions.get(key);
+      if (pendingSolution != null) {
+        hits.increment();
+        repeatedSolutions.add(solution);
+        originalSolutions.add(pendingSolution);
+      } else if (!restore(key, solution)) {
+        pendingSolutions.put(key, solution);
+        solutionsToEvaluate.add(solution);
+        keysToEvaluate.add(key);
+      }
+    }
+
+    if (!solutionsToEvaluate.isEmpty()) {
+      evaluator.accept(solutionsToEvaluate);
+    }
+
+    for (int i = 0; i < solutionsToEvaluate.size(); i++) {
+      store(keysToEvaluate.get(i), solutionsToEvaluate.get(i));
+    }
+    for (int i = 0; i < repeatedSolutions.size(); i++) {
+      copy(originalSolutions.get(i), repeatedSolutions.get(i));
+    }
+
+    return solutionsToEvaluate.size();
+  }
+
+  private static void copy(Solution<?> source, Solution<?> target) {
+    System.arraycopy(source.objectives(), 0, target.objectives(), 0, source.objectives().length);
+    System.arraycopy(
+        source.constraints(), 0, target.constraints(), 0, source.constraints().length);
+  }
+
+  /** Returns the key of the variables of a solution */
+  public Key key(S solution) {
+    Check.notNull(solution);
+    return new Key(solution.variables());
+  }
+
+  /**
+   * Copies the objectives and the constraints of the cached solution with a key into a solution.
+   * Returns false if there is no cached solution with that key.
+   */
+  public boolean restore(Key key, S solution) {
+    Entry entry = segment(key).get(key);
+    if (entry == null) {
+      misses.increment();
+      return false;
+    }
+
+    hits.increment();
+    System.arraycopy(entry.objectives, 0, solution.objectives(), 0, entry.objectives.length);
+    System.arraycopy(entry.constraints, 0, solution.constraints(), 0, entry.constraints.length);
+    return true;
+  }
+
+  /** Stores the objectives and the constraints of an evaluated solution */
+  public void store(Key key, S solution) {
+    segment(key)
+        .put(key, new Entry(solution.objectives().clone(), solution.constraints().clone()));
+  }
+
+  public void clear() {
+    for (Segment segment : segments) {
+      segment.clear();
+    }
+  }
+
+  public int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  public int maximumSize() {
+    return maximumSize;
+  }
+
+  /** Number of times a solution has been found in the cache */
+  public long hits() {
+    return hits.sum();
+  }
+
+  /** Number of times a solution has not been found in the cache */
+  public long misses() {
+    return misses.sum();
+  }
+
+  public double hitRate() {
+    long hits = hits();
+    long lookups = hits + misses();
+    return lookups == 0 ? 0.0 : (double) hits / lookups;
+  }
+
+  private Segment segment(Key key) {
+    // The lowest bits of the hash code are used by the maps of the segments
+    return segments[Math.floorMod(Integer.rotateRight(key.hashCode, 16), segments.length)];
+  }
+
+  /** Variables of a solution, packed into an array of longs */
+  public static final class Key {
+    private final long[] values;
+    private final int hashCode;
+
+    private Key(List<?> variables) {
+      long[] values = new long[variables.size()];
+      int size = 0;
+      for (Object variable : variables) {
+        if (variable instanceof BinarySet binarySet) {
+          // The trailing words that are zero are not returned by toLongArray(), so the unused
+          // ones are left as zeros to keep the variables in the same positions
+          int numberOfWords = (binarySet.getBinarySetLength() + 63) >>> 6;
+          long[] words = binarySet.toLongArray();
+          values = ensureCapacity(values, size + numberOfWords + 1);
+          values[size++] = binarySet.getBinarySetLength();
+          System.arraycopy(words, 0, values, size, words.length);
+          size += numberOfWords;
+        } else {
+          values = ensureCapacity(values, size + 1);
+          if (variable instanceof Integer || variable instanceof Long) {
+            values[size++] = ((Number) variable).longValue();
+          } else if (variable instanceof Double value) {
+            values[size++] = Double.doubleToLongBits(value);
+          } else if (variable instanceof Boolean value) {
+            values[size++] = value ? 1 : 0;
+          } else {
+            throw new JMetalException(
+                "The variables of type "
+                    + (variable == null ? "null" : variable.getClass().getName())
+                    + " cannot be cached");
+          }
+        }
+      }
+
+      this.values = size == values.length ? values : Arrays.copyOf(values, size);
+      this.hashCode = Arrays.hashCode(this.values);
+    }
+
+    private static long[] ensureCapacity(long[] values, int capacity) {
+      return capacity <= values.length
+          ? values
+          : Arrays.copyOf(values, Math.max(capacity, 2 * values.length));
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      return object instanceof Key key
+          && hashCode == key.hashCode
+          && Arrays.equals(values, key.values);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private record Entry(double[] objectives, double[] constraints) {}
+
+  /** LRU map guarded by its own lock */
+  private static class Segment {
+    private final Map<Key, Entry> entries;
+
+    Segment(int maximumSize) {
+      entries =
+          new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+              return size() > maximumSize;
+            }
+          };
+    }
+
+    synchronized Entry get(Key key) {
+      return entries.get(key);
+    }
+
+    synchronized void put(Key key, Entry entry) {
+      entries.put(key, entry);
+    }
+
+    synchronized void clear() {
+      entries.clear();
+    }
+
+    synchronized int size() {
+      return entries.size();
+    }
+  }
+}
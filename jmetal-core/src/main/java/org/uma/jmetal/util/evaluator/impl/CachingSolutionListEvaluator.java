@@ -0,0 +1,65 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import java.util.List;
+import org.uma.jmetal.problem.DynamicProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.evaluator.EvaluationCache;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+/**
+ * Decorator of a {@link SolutionListEvaluator} that does not evaluate again the solutions whose
+ * variables are in an {@link EvaluationCache}. The decorated evaluator only receives the solutions
+ * that are not in the cache, so it can evaluate them in parallel. If the problem is a {@link
+ * DynamicProblem} that has changed, the cache is cleared.
+ *
+ * @author Antonio J. Nebro
+ */
+@SuppressWarnings("serial")
+public class CachingSolutionListEvaluator<S extends Solution<?>>
+    implements SolutionListEvaluator<S> {
+  private final SolutionListEvaluator<S> evaluator;
+  private final EvaluationCache<S> cache;
+  private long computedEvaluations;
+
+  public CachingSolutionListEvaluator(SolutionListEvaluator<S> evaluator, int cacheSize) {
+    this(evaluator, new EvaluationCache<>(cacheSize));
+  }
+
+  public CachingSolutionListEvaluator(
+      SolutionListEvaluator<S> evaluator, EvaluationCache<S> cache) {
+    Check.notNull(evaluator);
+    Check.notNull(cache);
+    this.evaluator = evaluator;
+    this.cache = cache;
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    Check.notNull(solutionList);
+    Check.notNull(problem);
+
+    if (problem instanceof DynamicProblem<?, ?> dynamicProblem && dynamicProblem.hasChanged()) {
+      cache.clear();
+    }
+    computedEvaluations +=
+        cache.evaluate(solutionList, solutions -> evaluator.evaluate(solutions, problem));
+
+    return solutionList;
+  }
+
+  /** Number of solutions that have been evaluated by the problem */
+  public long computedEvaluations() {
+    return computedEvaluations;
+  }
+
+  public EvaluationCache<S> cache() {
+    return cache;
+  }
+
+  @Override
+  public void shutdown() {
+    evaluator.shutdown();
+  }
+}
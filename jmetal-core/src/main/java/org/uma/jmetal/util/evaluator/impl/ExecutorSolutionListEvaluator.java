@@ -0,0 +1,372 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.evaluator.BatchEvaluationUtils;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+/**
+ * Evaluator that submits the solutions to an {@link ExecutorService}, which can be a pool with a
+ * fixed number of threads, an executor creating a virtual thread per task (recommended when the
+ * evaluation of the problem is I/O bound, e.g., it calls an external simulator), or an executor
+ * provided by the user. Contrary to {@link MultiThreadedSolutionListEvaluator}, which runs a
+ * parallel stream in a {@link ForkJoinPool}, the solutions are evaluated in batches of a given size
+ * and their evaluations can have a timeout.
+ *
+ * <p>The solutions are grouped into batches, each of them being evaluated sequentially by a task.
+ * By default, the size of the batches is chosen to have a few tasks per thread, or one task per
+ * solution if the number of threads is unknown (virtual threads or user executors). If the problem
+ * is batch evaluable and no timeout has been set, each batch is evaluated with a single call to its
+ * batch evaluation (see {@link BatchEvaluationUtils}).
+ *
+ * <p>A timeout can be set for the evaluations. In that case, each solution is evaluated by its own
+ * task (the batch size is ignored), which has a deadline of <code>timeout</code> measured from the
+ * start of the evaluation of the solution; when it expires, the task is cancelled (its thread is
+ * interrupted) and the solution is assigned a penalty objective vector, so a slow solution does not
+ * penalize the others. To prevent a late evaluation from overwriting the
+ * penalty, the problem evaluates copies of the solutions, whose variables, objectives, constraints
+ * and attributes are copied back once evaluated, so problems repairing the variables of the
+ * solutions in their evaluation are supported.
+ *
+ * <p>The executors created by the evaluator use daemon threads, are started on the first
+ * evaluation and are closed with {@link #shutdown()}; if the evaluator is used again afterwards
+ * (e.g., when an algorithm is run again), they are created again. Executors given by the user are
+ * never shut down by the evaluator, which cannot be used once they have been shut down.
+ *
+ * @author Antonio J. Nebro
+ * @param <S> Type of the solutions
+ */
+@SuppressWarnings("serial")
+public class ExecutorSolutionListEvaluator<S extends Solution<?>>
+    implements SolutionListEvaluator<S> {
+  private static final int TASKS_PER_THREAD = 4;
+
+  private transient ExecutorService executor;
+  private final transient Supplier<ExecutorService> executorFactory;
+  private final int numberOfThreads;
+
+  private int batchSize;
+  private long timeout;
+  private TimeUnit timeUnit;
+  private double[] penaltyObjectives;
+  private transient ScheduledExecutorService watchdog;
+  private int numberOfTimeouts;
+
+  /**
+   * Creates an evaluator with a pool having a fixed number of threads
+   *
+   * @param numberOfThreads Number of threads. If 0, the number of available processors is used.
+   */
+  public ExecutorSolutionListEvaluator(int numberOfThreads) {
+    Check.that(
+        numberOfThreads >= 0, "The number of threads is a negative value: " + numberOfThreads);
+    if (numberOfThreads == 0) {
+      numberOfThreads = Runtime.getRuntime().availableProcessors();
+    }
+    int poolSize = numberOfThreads;
+    this.numberOfThreads = numberOfThreads;
+    this.executorFactory = () -> Executors.newFixedThreadPool(poolSize, daemonThreadFactory());
+  }
+
+  /**
+   * Creates an evaluator using an executor provided by the user, which is not shut down by the
+   * evaluator.
+   *
+   * @param executor The executor
+   */
+  public ExecutorSolutionListEvaluator(ExecutorService executor) {
+    Check.notNull(executor);
+    this.executor = executor;
+    this.executorFactory = null;
+    if (executor instanceof ThreadPoolExecutor threadPoolExecutor) {
+      numberOfThreads = threadPoolExecutor.getMaximumPoolSize();
+    } else if (executor instanceof ForkJoinPool forkJoinPool) {
+      numberOfThreads = forkJoinPool.getParallelism();
+    } else {
+      numberOfThreads = 0;
+    }
+  }
+
+  /**
+   * Creates an evaluator starting a new virtual thread per task, which is suited for problems
+   * whose evaluation is blocked waiting for I/O.
+   */
+  public static <S extends Solution<?>> ExecutorSolutionListEvaluator<S> withVirtualThreads() {
+    return new ExecutorSolutionListEvaluator<>(Executors::newVirtualThreadPerTaskExecutor);
+  }
+
+  private ExecutorSolutionListEvaluator(Supplier<ExecutorService> executorFactory) {
+    this.executorFactory = executorFactory;
+    this.numberOfThreads = 0;
+  }
+
+  /**
+   * Sets the number of solutions evaluated by each task
+   *
+   * @param batchSize Size of the batches. If 0, the size is chosen automatically. It is ignored if
+   *     a timeout has been set, as each solution is then evaluated by its own task.
+   */
+  public ExecutorSolutionListEvaluator<S> setBatchSize(int batchSize) {
+    Check.that(batchSize >= 0, "The batch size is a negative value: " + batchSize);
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  /**
+   * Sets the maximum time allowed to evaluate a solution
+   *
+   * @param timeout Maximum time per solution
+   * @param timeUnit Unit of the timeout
+   * @param penaltyObjectives Objective values assigned to the solutions whose evaluation exceeds
+   *     the timeout
+   */
+  public ExecutorSolutionListEvaluator<S> setTimeout(
+      long timeout, TimeUnit timeUnit, double[] penaltyObjectives) {
+    Check.that(timeout > 0, "The timeout is not a positive value: " + timeout);
+    Check.notNull(timeUnit);
+    Check.notNull(penaltyObjectives);
+    this.timeout = timeout;
+    this.timeUnit = timeUnit;
+    this.penaltyObjectives = penaltyObjectives.clone();
+    return this;
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    Check.notNull(solutionList);
+    Check.notNull(problem);
+    if (solutionList.isEmpty()) {
+      return solutionList;
+    }
+
+    boolean timeoutEnabled = timeout > 0;
+    if (timeoutEnabled) {
+      Check.that(
+          penaltyObjectives.length == problem.numberOfObjectives(),
+          "The penalty vector has "
+              + penaltyObjectives.length
+              + " objectives instead of "
+              + problem.numberOfObjectives());
+    }
+    startExecutors(timeoutEnabled);
+
+    int numberOfSolutions = solutionList.size();
+    int size = batchSize(numberOfSolutions);
+    AtomicReferenceArray<S> evaluatedCopies =
+        timeoutEnabled ? new AtomicReferenceArray<>(numberOfSolutions) : null;
+
+    List<BatchTask> tasks = new ArrayList<>();
+    for (int from = 0; from < numberOfSolutions; from += size) {
+      int to = Math.min(from + size, numberOfSolutions);
+      BatchTask task = new BatchTask(solutionList, problem, from, to, evaluatedCopies);
+      tasks.add(task);
+      executor.execute(task);
+    }
+
+    for (BatchTask task : tasks) {
+      try {
+        task.get();
+      } catch (CancellationException e) {
+        // The timeout of the solution of the task has expired; it is penalized below
+      } catch (InterruptedException e) {
+        tasks.forEach(batchTask -> batchTask.cancel(true));
+        Thread.currentThread().interrupt();
+        throw new JMetalException("The evaluation has been interrupted", e);
+      } catch (ExecutionException e) {
+        tasks.forEach(batchTask -> batchTask.cancel(true));
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        } else if (e.getCause() instanceof Error error) {
+          throw error;
+        }
+        throw new JMetalException("Error evaluating a solution", e);
+      }
+    }
+
+    if (timeoutEnabled) {
+      for (int i = 0; i < numberOfSolutions; i++) {
+        S solution = solutionList.get(i);
+        // The solution itself is stored to discard the copies of the evaluations that exceeded
+        // their deadline, which can finish after their task has been cancelled
+        S copy = evaluatedCopies.getAndSet(i, solution);
+        if (copy == null) {
+          System.arraycopy(
+              penaltyObjectives, 0, solution.objectives(), 0, penaltyObjectives.length);
+          numberOfTimeouts++;
+          JMetalLogger.logger.warning("Timeout evaluating solution " + i + " of the list");
+        } else {
+          copyVariables(copy, solution);
+          System.arraycopy(
+              copy.objectives(), 0, solution.objectives(), 0, copy.objectives().length);
+          System.arraycopy(
+              copy.constraints(), 0, solution.constraints(), 0, copy.constraints().length);
+          solution.attributes().putAll(copy.attributes());
+        }
+      }
+    }
+
+    return solutionList;
+  }
+
+  /** Creates the executors owned by the evaluator if they have not been created or are shut down */
+  private synchronized void startExecutors(boolean timeoutEnabled) {
+    if (executorFactory != null && (executor == null || executor.isShutdown())) {
+      executor = executorFactory.get();
+    }
+    Check.that(
+        executor != null && !executor.isShutdown(),
+        "The executor of the evaluator has been shut down");
+
+    if (timeoutEnabled && (watchdog == null || watchdog.isShutdown())) {
+      watchdog = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void copyVariables(Solution<?> source, Solution<?> target) {
+    List<Object> variables = (List<Object>) target.variables();
+    for (int i = 0; i < variables.size(); i++) {
+      variables.set(i, source.variables().get(i));
+    }
+  }
+
+  private int batchSize(int numberOfSolutions) {
+    if (timeout > 0) {
+      return 1;
+    } else if (batchSize > 0) {
+      return batchSize;
+    } else if (numberOfThreads == 0) {
+      return 1;
+    }
+    int numberOfTasks = numberOfThreads * TASKS_PER_THREAD;
+    return Math.max(1, (numberOfSolutions + numberOfTasks - 1) / numberOfTasks);
+  }
+
+  /**
+   * Shuts down the executor and the timeout watchdog if they were created by this evaluator. The
+   * evaluations still running, which can only be those that exceeded their timeout, are
+   * interrupted.
+   */
+  @Override
+  public synchronized void shutdown() {
+    if (executorFactory != null && executor != null) {
+      executor.shutdownNow();
+    }
+    if (watchdog != null) {
+      watchdog.shutdownNow();
+    }
+  }
+
+  public int numberOfThreads() {
+    return numberOfThreads;
+  }
+
+  public int batchSize() {
+    return batchSize;
+  }
+
+  public int numberOfTimeouts() {
+    return numberOfTimeouts;
+  }
+
+  private static ThreadFactory daemonThreadFactory() {
+    return Thread.ofPlatform().name("jmetal-evaluator-", 0).daemon().factory();
+  }
+
+  /**
+   * Task evaluating the solutions of a sublist. If a timeout has been set, the sublist has a single
+   * solution, its evaluated copy is stored in an array, and the task cancels itself when the timeout
+   * expires. The copy is only stored if the task has not been cancelled when its evaluation
+   * finishes.
+   */
+  private final class BatchTask extends FutureTask<Void> {
+    BatchTask(
+        List<S> solutionList,
+        Problem<S> problem,
+        int from,
+        int to,
+        AtomicReferenceArray<S> evaluatedCopies) {
+      this(new Batch(solutionList, problem, from, to, evaluatedCopies));
+    }
+
+    private BatchTask(Batch batch) {
+      super(batch, null);
+      batch.task = this;
+    }
+
+    @Override
+    public void run() {
+      if (watchdog == null || timeout == 0) {
+        super.run();
+      } else {
+        ScheduledFuture<?> alarm = watchdog.schedule(() -> cancel(true), timeout, timeUnit);
+        try {
+          super.run();
+        } finally {
+          alarm.cancel(false);
+        }
+      }
+    }
+  }
+
+  private final class Batch implements Runnable {
+    private final List<S> solutionList;
+    private final Problem<S> problem;
+    private final int from;
+    private final int to;
+    private final AtomicReferenceArray<S> evaluatedCopies;
+    private BatchTask task;
+
+    Batch(
+        List<S> solutionList,
+        Problem<S> problem,
+        int from,
+        int to,
+        AtomicReferenceArray<S> evaluatedCopies) {
+      this.solutionList = solutionList;
+      this.problem = problem;
+      this.from = from;
+      this.to = to;
+      this.evaluatedCopies = evaluatedCopies;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void run() {
+      if (evaluatedCopies == null && BatchEvaluationUtils.isBatchEvaluable(problem)) {
+        BatchEvaluationUtils.evaluate(solutionList, from, to, problem);
+        return;
+      }
+
+      for (int i = from; i < to && !task.isCancelled(); i++) {
+        if (evaluatedCopies == null) {
+          problem.evaluate(solutionList.get(i));
+        } else {
+          S copy = (S) solutionList.get(i).copy();
+          problem.evaluate(copy);
+          if (!task.isCancelled()) {
+            evaluatedCopies.compareAndSet(i, null, copy);
+          }
+        }
+      }
+    }
+  }
+}
@@ -1,24 +1,29 @@
 package org.uma.jmetal.util.evaluator.impl;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 
 /**
+ * Evaluator based on a parallel stream. The stream is run in a {@link ForkJoinPool} owned by the
+ * evaluator, as setting the parallelism of the common pool has no effect once it is initialized. The
+ * pool is created on the first evaluation and closed with {@link #shutdown()}; if the evaluator is
+ * used again afterwards (e.g., when an algorithm is run again), it is created again.
+ *
  * @author Antonio J. Nebro
  */
 public class MultiThreadedSolutionListEvaluator<S> implements SolutionListEvaluator<S> {
 
   private final int numberOfThreads;
+  private transient ForkJoinPool pool;
 
   public MultiThreadedSolutionListEvaluator(int numberOfThreads) {
     if (numberOfThreads == 0) {
       this.numberOfThreads = Runtime.getRuntime().availableProcessors();
     } else {
       this.numberOfThreads = numberOfThreads;
-      System.setProperty("java.util.concurrent.ForkJoinPool.common.parallelism",
-          "" + this.numberOfThreads);
     }
     String message = "Number of cores: " + numberOfThreads ;
     JMetalLogger.logger.info(message);
@@ -26,17 +31,28 @@ public class MultiThreadedSolutionListEvaluator<S> implements SolutionListEvalua
 
   @Override
   public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
-    solutionList.parallelStream().forEach(problem::evaluate);
+    pool().submit(() -> solutionList.parallelStream().forEach(problem::evaluate)).join();
 
     return solutionList;
   }
 
+  /** Returns the pool, which is created if it has not been created yet or has been shut down */
+  private synchronized ForkJoinPool pool() {
+    if (pool == null || pool.isShutdown()) {
+      pool = new ForkJoinPool(numberOfThreads);
+    }
+
+    return pool;
+  }
+
   public int numberOfThreads() {
     return numberOfThreads;
   }
 
   @Override
-  public void shutdown() {
-    //This method is an intentionally-blank override.
+  public synchronized void shutdown() {
+    if (pool != null) {
+      pool.shutdown();
+    }
   }
 }
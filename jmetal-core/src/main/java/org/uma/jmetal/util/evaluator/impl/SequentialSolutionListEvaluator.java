@@ -3,9 +3,13 @@ package org.uma.jmetal.util.evaluator.impl;
 import java.util.List;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.evaluator.BatchEvaluationUtils;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 
 /**
+ * Evaluator that evaluates the solutions sequentially. If the problem is batch evaluable, the
+ * solutions are evaluated in chunks (see {@link BatchEvaluationUtils}).
+ *
  * @author Antonio J. Nebro
  */
 @SuppressWarnings("serial")
@@ -13,9 +17,7 @@ public class SequentialSolutionListEvaluator<S> implements SolutionListEvaluator
 
   @Override
   public List<S> evaluate(List<S> solutionList, Problem<S> problem) throws JMetalException {
-    solutionList.forEach(problem::evaluate);
-
-    return solutionList;
+    return BatchEvaluationUtils.evaluate(solutionList, problem);
   }
 
   @Override
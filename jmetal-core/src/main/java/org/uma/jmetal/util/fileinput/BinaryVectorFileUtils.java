@@ -0,0 +1,212 @@
+package org.uma.jmetal.util.fileinput;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Utilities to write and read matrices of values (e.g., the objectives or the variables of the
+ * solutions of a front) in a compact binary format, which is much faster to read than the CSV
+ * files when there are many large fronts. The file has a header of 16 bytes (the magic number
+ * "JMBV", the version, the {@link Type} of the values, two reserved bytes and the number of rows
+ * and columns as 32-bit integers) followed by the values of the rows, all in little-endian order.
+ *
+ * <p>The files are read by mapping them in memory, and the readers of the CSV files ({@link
+ * VectorFileUtils#readVectors(String)}, {@link org.uma.jmetal.util.VectorUtils#readVectors(String,
+ * String)} and {@link org.uma.jmetal.util.legacy.front.impl.ArrayFront#ArrayFront(String, String)})
+ * read them transparently, detecting their format by the magic number. The files are given the
+ * {@link #FILE_EXTENSION} extension so that they are not mistaken for CSV files by other tools.
+ *
+ * @author Antonio J. Nebro
+ */
+public class BinaryVectorFileUtils {
+  public static final String FILE_EXTENSION = ".bin";
+
+  private static final byte[] MAGIC_NUMBER = {'J', 'M', 'B', 'V'};
+  private static final byte VERSION = 1;
+  private static final int HEADER_SIZE = 16;
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  /** Type of the values of a file */
+  public enum Type {
+    DOUBLE(1, Double.BYTES),
+    INTEGER(2, Integer.BYTES);
+
+    private final byte code;
+    private final int size;
+
+    Type(int code, int size) {
+      this.code = (byte) code;
+      this.size = size;
+    }
+
+    private static Type of(byte code) {
+      for (Type type : values()) {
+        if (type.code == code) {
+          return type;
+        }
+      }
+      throw new JMetalException("Unknown type of values in binary vector file: " + code);
+    }
+  }
+
+  private BinaryVectorFileUtils() {}
+
+  /** Writes the vectors to a file as {@link Type#DOUBLE} values */
+  public static void writeVectors(double[][] vectors, Path file) {
+    writeVectors(vectors, Type.DOUBLE, file);
+  }
+
+  /**
+   * Writes the vectors to a file. With the {@link Type#INTEGER} type, the values are written as
+   * 32-bit integers, so they must be integer values.
+   *
+   * @param vectors Vectors to write, all with the same length
+   * @param type Type of the values
+   * @param file File to write
+   */
+  public static void writeVectors(double[][] vectors, Type type, Path file) {
+    Check.notNull(vectors);
+    Check.notNull(type);
+    Check.notNull(file);
+    int columns = vectors.length == 0 ? 0 : vectors[0].length;
+
+    try (FileChannel channel =
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      buffer.put(MAGIC_NUMBER).put(VERSION).put(type.code).putShort((short) 0);
+      buffer.putInt(vectors.length).putInt(columns);
+
+      for (double[] vector : vectors) {
+        Check.that(
+            vector.length == columns,
+            "The vectors have different lengths: " + columns + " and " + vector.length);
+        for (double value : vector) {
+          if (buffer.remaining() < type.size) {
+            flush(buffer, channel);
+          }
+          if (type == Type.DOUBLE) {
+            buffer.putDouble(value);
+          } else {
+            buffer.putInt((int) value);
+          }
+        }
+      }
+      flush(buffer, channel);
+    } catch (IOException e) {
+      throw new JMetalException("Error writing the binary vector file " + file, e);
+    }
+  }
+
+  private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  /** Returns true if the file is a binary vector file, i.e., it starts with the magic number */
+  public static boolean isBinaryVectorFile(Path file) {
+    if (!Files.isRegularFile(file)) {
+      return false;
+    }
+
+    try (InputStream inputStream = Files.newInputStream(file)) {
+      return Arrays.equals(inputStream.readNBytes(MAGIC_NUMBER.length), MAGIC_NUMBER);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Reads the vectors of a binary vector file
+   *
+   * @return The vectors: vectors[i][j] is the j-th value of the i-th vector
+   */
+  public static double[][] readVectors(Path file) {
+    ByteBuffer values = map(file);
+    Type type = Type.of(values.get(5));
+    int rows = values.getInt(8);
+    int columns = values.getInt(12);
+    values.position(HEADER_SIZE);
+
+    double[][] vectors = new double[rows][columns];
+    if (type == Type.DOUBLE) {
+      DoubleBuffer doubles = values.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+      for (double[] vector : vectors) {
+        doubles.get(vector);
+      }
+    } else {
+      IntBuffer integers = values.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+      for (double[] vector : vectors) {
+        for (int j = 0; j < columns; j++) {
+          vector[j] = integers.get();
+        }
+      }
+    }
+
+    return vectors;
+  }
+
+  /**
+   * Returns a read-only view of the {@link Type#DOUBLE} values of a binary vector file, which are
+   * not copied: the value j of the vector i is at the position i * columns + j
+   */
+  public static DoubleBuffer mapDoubles(Path file) {
+    ByteBuffer values = map(file);
+    Check.that(
+        Type.of(values.get(5)) == Type.DOUBLE,
+        "The values of the file " + file + " are not doubles");
+    values.position(HEADER_SIZE);
+
+    return values.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+  }
+
+  /** Maps a binary vector file in memory, checking its header and size */
+  private static ByteBuffer map(Path file) {
+    Check.notNull(file);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      Check.that(
+          size >= HEADER_SIZE && size <= Integer.MAX_VALUE,
+          "Invalid size of binary vector file " + file + ": " + size);
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+      byte[] magicNumber = new byte[MAGIC_NUMBER.length];
+      buffer.get(0, magicNumber);
+      Check.that(
+          Arrays.equals(magicNumber, MAGIC_NUMBER),
+          "The file " + file + " is not a binary vector file");
+      Check.that(
+          buffer.get(4) == VERSION, "Unsupported binary vector file version: " + buffer.get(4));
+
+      long rows = buffer.getInt(8);
+      long columns = buffer.getInt(12);
+      long expectedSize = HEADER_SIZE + rows * columns * Type.of(buffer.get(5)).size;
+      Check.that(
+          size == expectedSize,
+          "The size of the file " + file + " is " + size + " instead of " + expectedSize);
+
+      return buffer;
+    } catch (IOException e) {
+      throw new JMetalException("Error reading the binary vector file " + file, e);
+    }
+  }
+}
@@ -1,11 +1,20 @@
 package org.uma.jmetal.util.fileinput;
 
+import java.io.BufferedReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
 /**
@@ -14,43 +23,111 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  *
  * Modified by Antonio J. Nebro on 8/03/2019
  *
+ * <p>The vectors read with {@link #readCachedVectors(String)} are kept in a cache shared by all the
+ * threads of the process, so the weight vector files used by the MOEA/D variants are only parsed
+ * once when many runs are executed (e.g., in an experiment).
+ *
  * @author sunhaoran
  */
 public class VectorFileUtils {
+  private static final Map<String, double[][]> cachedVectors = new ConcurrentHashMap<>();
+
   /**
-   * @param filePath the file need to read
+   * @param filePath the file need to read. It is looked for in the classpath first, and then in
+   *     the file system. It can be a text file or a binary vector file (see {@link
+   *     BinaryVectorFileUtils}), which is detected automatically
    * @return referenceVectors. referenceVectors[i][j] means the i-th vector's j-th value
    * @throws JMetalException if error while read file
    */
   public static double[][] readVectors(String filePath) {
-    double[][] referenceVectors;
-    String path = filePath ;
+    Path file = localFile(filePath);
+    if (file != null && BinaryVectorFileUtils.isBinaryVectorFile(file)) {
+      return BinaryVectorFileUtils.readVectors(file);
+    }
 
-    URL url = VectorFileUtils.class.getClassLoader().getResource(filePath);
-    if (url != null) {
+    try (InputStream inputStream = open(filePath)) {
+      return readVectors(inputStream);
+    } catch (IOException | NumberFormatException e) {
+      throw new JMetalException("Error reading the vectors of file " + filePath, e);
+    }
+  }
+
+  /**
+   * Returns the vectors of a file, which is only read the first time it is requested. The vectors
+   * are cached with the given path, and the returned array is a copy that can be modified.
+   *
+   * @param filePath the file need to read (see {@link #readVectors(String)})
+   * @throws JMetalException if error while read file
+   */
+  public static double[][] readCachedVectors(String filePath) {
+    double[][] vectors = cachedVectors.computeIfAbsent(filePath, VectorFileUtils::readVectors);
+
+    double[][] copy = new double[vectors.length][];
+    for (int i = 0; i < vectors.length; i++) {
+      copy[i] = vectors[i].clone();
+    }
+    return copy;
+  }
+
+  /** Returns true if the file is in the cache, in the classpath or in the file system */
+  public static boolean exists(String filePath) {
+    return cachedVectors.containsKey(filePath)
+        || resource(filePath) != null
+        || Files.isRegularFile(Path.of(filePath));
+  }
+
+  /** Removes all the vectors from the cache */
+  public static void clearCache() {
+    cachedVectors.clear();
+  }
+
+  private static URL resource(String filePath) {
+    String resourceName = filePath.startsWith("/") ? filePath.substring(1) : filePath;
+    return VectorFileUtils.class.getClassLoader().getResource(resourceName);
+  }
+
+  /** Returns the path of the file in the file system, or null if it is inside a jar */
+  private static Path localFile(String filePath) {
+    URL url = resource(filePath);
+    if (url == null) {
+      return Path.of(filePath);
+    } else if ("file".equals(url.getProtocol())) {
       try {
-        path = Paths.get(url.toURI()).toString();
+        return Path.of(url.toURI());
       } catch (URISyntaxException e) {
-        e.printStackTrace();
+        return null;
       }
     }
 
-    List<String> vectorStrList = null;
-    try {
-      vectorStrList = Files.readAllLines(Paths.get(path));
-    } catch (IOException e) {
-      e.printStackTrace();
+    return null;
+  }
+
+  private static InputStream open(String filePath) throws IOException {
+    URL url = resource(filePath);
+    if (url != null) {
+      return url.openStream();
     }
-    referenceVectors = new double[vectorStrList.size()][];
-    for (int i = 0; i < vectorStrList.size(); i++) {
-      String vectorStr = vectorStrList.get(i);
-      String[] objectArray = vectorStr.split("\\s+");
-      referenceVectors[i] = new double[objectArray.length];
-      for (int j = 0; j < objectArray.length; j++) {
-        referenceVectors[i][j] = Double.parseDouble(objectArray[j]);
+    return new FileInputStream(filePath);
+  }
+
+  /** Reads a vector per line, skipping the empty lines */
+  private static double[][] readVectors(InputStream inputStream) throws IOException {
+    List<double[]> vectors = new ArrayList<>();
+    BufferedReader reader =
+        new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+    String line;
+    while ((line = reader.readLine()) != null) {
+      StringTokenizer tokenizer = new StringTokenizer(line);
+      if (tokenizer.hasMoreTokens()) {
+        double[] vector = new double[tokenizer.countTokens()];
+        for (int j = 0; j < vector.length; j++) {
+          vector[j] = Double.parseDouble(tokenizer.nextToken());
+        }
+        vectors.add(vector);
       }
     }
 
-    return referenceVectors;
+    return vectors.toArray(new double[0][]);
   }
 }
@@ -2,9 +2,12 @@ package org.uma.jmetal.util.fileoutput;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.fileinput.BinaryVectorFileUtils;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 
 /** @author Antonio J. Nebro  */
@@ -133,6 +136,44 @@ public class SolutionListOutput {
     }
   }
 
+  /**
+   * Writes the objectives of the solutions to a binary vector file (see {@link
+   * BinaryVectorFileUtils}), which is read much faster than a text file
+   */
+  public void printObjectivesToBinaryFile(String fileName) {
+    BinaryVectorFileUtils.writeVectors(
+        SolutionListUtils.getMatrixWithObjectiveValues(solutionList), Path.of(fileName));
+  }
+
+  /**
+   * Writes the variables of the solutions to a binary vector file (see {@link
+   * BinaryVectorFileUtils}). The variables must be numbers; if all of them are integers, they are
+   * written as integer values.
+   */
+  public void printVariablesToBinaryFile(String fileName) {
+    double[][] variables = new double[solutionList.size()][];
+    boolean integerVariables = true;
+    for (int i = 0; i < solutionList.size(); i++) {
+      List<?> solutionVariables = solutionList.get(i).variables();
+      variables[i] = new double[solutionVariables.size()];
+      for (int j = 0; j < solutionVariables.size(); j++) {
+        if (!(solutionVariables.get(j) instanceof Number variable)) {
+          throw new JMetalException(
+              "The variables cannot be written to a binary file: " + solutionVariables.get(j));
+        }
+        integerVariables &= variable instanceof Integer;
+        variables[i][j] = variable.doubleValue();
+      }
+    }
+
+    BinaryVectorFileUtils.writeVectors(
+        variables,
+        integerVariables
+            ? BinaryVectorFileUtils.Type.INTEGER
+            : BinaryVectorFileUtils.Type.DOUBLE,
+        Path.of(fileName));
+  }
+
   /*
    * Wrappers for printing with default configuration
    */
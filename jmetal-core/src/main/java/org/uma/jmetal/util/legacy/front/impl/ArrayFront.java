@@ -6,6 +6,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -13,6 +14,7 @@ import java.util.List;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.fileinput.BinaryVectorFileUtils;
 import org.uma.jmetal.util.legacy.front.Front;
 import org.uma.jmetal.util.point.Point;
 import org.uma.jmetal.util.point.impl.ArrayPoint;
@@ -89,9 +91,25 @@ public class ArrayFront implements Front {
     }
   }
 
+  /**
+   * Constructor reading the points from a file, which is either a text file with a point per line
+   * or a binary vector file (see {@link BinaryVectorFileUtils})
+   */
   public ArrayFront(String fileName, String separator) throws FileNotFoundException {
     this();
 
+    if (getClass().getResource(fileName) == null
+        && BinaryVectorFileUtils.isBinaryVectorFile(Path.of(fileName))) {
+      double[][] vectors = BinaryVectorFileUtils.readVectors(Path.of(fileName));
+      numberOfPoints = vectors.length;
+      pointDimensions = numberOfPoints == 0 ? 0 : vectors[0].length;
+      points = new Point[numberOfPoints];
+      for (int i = 0; i < numberOfPoints; i++) {
+        points[i] = new ArrayPoint(vectors[i]);
+      }
+      return;
+    }
+
     InputStream inputStream = createInputStream(fileName);
     InputStreamReader isr = new InputStreamReader(inputStream);
     BufferedReader br = new BufferedReader(isr);
@@ -1,26 +1,27 @@
 package org.uma.jmetal.util.neighborhood.impl;
 
-import java.io.BufferedReader;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.StringTokenizer;
-import org.apache.commons.math3.ml.distance.EuclideanDistance;
+import java.util.stream.IntStream;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.distance.KdTree;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.fileinput.VectorFileUtils;
 import org.uma.jmetal.util.neighborhood.Neighborhood;
 
 /**
- * This class implements a neighborhood based on the weight vectors of MOEA/D
+ * This class implements a neighborhood based on the weight vectors of MOEA/D. The neighborhood of
+ * a weight vector is made of its closest weight vectors, with the ties broken as in the original
+ * implementation of MOEA/D (see {@link #closestWeightVectors(double[][], int)}).
  *
  * @author Antonio J. Nebro
  */
 @SuppressWarnings("serial")
 public class WeightVectorNeighborhood<S extends Solution<?>> implements Neighborhood<S> {
+  private static final int MINIMUM_NUMBER_OF_VECTORS_TO_PARALLELIZE = 1024;
+
   private final int numberOfWeightVectors;
   private final int weightVectorSize;
   private final int[][] neighborhood;
@@ -61,66 +62,116 @@ public class WeightVectorNeighborhood<S extends Solution<?>> implements Neighbor
   }
 
   private void readWeightsFromFile(String vectorFileName) throws FileNotFoundException {
-    InputStream inputStream;
-    inputStream = getClass().getResourceAsStream(vectorFileName);
-    if (null == inputStream) {
-      inputStream = new FileInputStream(vectorFileName);
+    if (!VectorFileUtils.exists(vectorFileName)) {
+      throw new FileNotFoundException(vectorFileName);
     }
-    InputStreamReader isr = new InputStreamReader(inputStream);
-
-    try (BufferedReader br = new BufferedReader(isr)) {
-      int i = 0;
-      int j;
-      String aux = br.readLine();
-      while (aux != null) {
-        StringTokenizer st = new StringTokenizer(aux);
-        j = 0;
-        while (st.hasMoreTokens()) {
-          double value = Double.parseDouble(st.nextToken());
-          weightVector[i][j] = value;
-          j++;
-        }
-        aux = br.readLine();
-        i++;
-      }
-    } catch (IOException e) {
+    double[][] vectors = VectorFileUtils.readCachedVectors(vectorFileName);
+
+    if (vectors.length < numberOfWeightVectors) {
       throw new JMetalException(
-          "readWeightsFromFile: failed when reading for file: " + vectorFileName, e);
+          "readWeightsFromFile: the file " + vectorFileName + " has " + vectors.length
+              + " vectors instead of " + numberOfWeightVectors);
+    }
+    for (int i = 0; i < numberOfWeightVectors; i++) {
+      System.arraycopy(vectors[i], 0, weightVector[i], 0, weightVectorSize);
     }
   }
 
   private void initializeNeighborhood() {
-    EuclideanDistance euclideanDistance = new EuclideanDistance();
-    double[] x = new double[numberOfWeightVectors];
-    int[] idx = new int[numberOfWeightVectors];
+    int[][] closestVectors = closestWeightVectors(weightVector, neighborhoodSize);
 
     for (int i = 0; i < numberOfWeightVectors; i++) {
-      // calculate the distances based on weight vectors
-      for (int j = 0; j < numberOfWeightVectors; j++) {
-        x[j] = euclideanDistance.compute(weightVector[i], weightVector[j]);
-        idx[j] = j;
-      }
-
-      // find 'niche' nearest neighboring sub problems
-      minFastSort(x, idx, numberOfWeightVectors, neighborhoodSize);
+      System.arraycopy(closestVectors[i], 0, neighborhood[i], 0, neighborhoodSize);
+    }
+  }
 
-      System.arraycopy(idx, 0, neighborhood[i], 0, neighborhoodSize);
+  /**
+   * Returns the indices of the closest weight vectors (including itself) of each weight vector.
+   * The closest vectors are searched in a {@link KdTree} instead of sorting the Euclidean distances
+   * to all the weight vectors, and the result is the same as that of the partial selection sort of
+   * the original implementation of MOEA/D, which breaks the ties between vectors at the same
+   * distance in an order that depends on the swaps made while sorting (e.g., in a simplex lattice
+   * of three-dimensional weight vectors, a vector can be left out of a neighborhood while another
+   * one at the same distance and with a higher index is included). To reproduce it, that sort is
+   * applied to the vectors which are not farther than the farthest neighbour. If there are many
+   * weight vectors, the searches are run in parallel.
+   *
+   * @param weightVectors Weight vectors
+   * @param neighborhoodSize Number of closest vectors of each weight vector
+   */
+  public static int[][] closestWeightVectors(double[][] weightVectors, int neighborhoodSize) {
+    KdTree tree = new KdTree(weightVectors);
+
+    int[][] closestVectors = new int[weightVectors.length][];
+    IntStream indices = IntStream.range(0, weightVectors.length);
+    if (weightVectors.length >= MINIMUM_NUMBER_OF_VECTORS_TO_PARALLELIZE) {
+      indices = indices.parallel();
     }
+    indices.forEach(
+        i -> closestVectors[i] = closestWeightVectors(tree, weightVectors, i, neighborhoodSize));
+
+    return closestVectors;
   }
 
-  private void minFastSort(double[] x, int[] idx, int n, int m) {
-    for (int i = 0; i < m; i++) {
-      for (int j = i + 1; j < n; j++) {
-        if (x[i] > x[j]) {
-          double temp = x[i];
-          x[i] = x[j];
-          x[j] = temp;
-          int id = idx[i];
-          idx[i] = idx[j];
-          idx[j] = id;
+  private static int[] closestWeightVectors(
+      KdTree tree, double[][] weightVectors, int index, int neighborhoodSize) {
+    double[] vector = weightVectors[index];
+
+    // Closest vectors, until one of them is farther than the farthest neighbour
+    int numberOfCandidates = Math.min(weightVectors.length, neighborhoodSize + 1);
+    int[] candidates =
+        tree.indicesOfClosestPoints(vector, numberOfCandidates, KdTree.Metric.EUCLIDEAN);
+    double maximumDistance = distance(vector, weightVectors[candidates[neighborhoodSize - 1]]);
+    while (numberOfCandidates < weightVectors.length
+        && distance(vector, weightVectors[candidates[numberOfCandidates - 1]])
+            <= maximumDistance) {
+      numberOfCandidates = Math.min(weightVectors.length, 2 * numberOfCandidates);
+      candidates =
+          tree.indicesOfClosestPoints(vector, numberOfCandidates, KdTree.Metric.EUCLIDEAN);
+    }
+    while (distance(vector, weightVectors[candidates[numberOfCandidates - 1]]) > maximumDistance) {
+      numberOfCandidates--;
+    }
+
+    // Selection sort of the distances to the candidates in increasing order of their indices. In
+    // the sort of all the vectors, the rest of vectors are farther than any candidate, so they do
+    // not change the relative order of the candidates, and the result is the same.
+    int[] sortedCandidates = Arrays.copyOf(candidates, numberOfCandidates);
+    Arrays.sort(sortedCandidates);
+    double[] distances = new double[numberOfCandidates];
+    for (int i = 0; i < numberOfCandidates; i++) {
+      distances[i] = distance(vector, weightVectors[sortedCandidates[i]]);
+    }
+
+    for (int i = 0; i < neighborhoodSize; i++) {
+      for (int j = i + 1; j < numberOfCandidates; j++) {
+        if (distances[i] > distances[j]) {
+          swap(sortedCandidates, distances, i, j);
         }
       }
     }
+
+    int[] closestVectors = Arrays.copyOf(sortedCandidates, neighborhoodSize);
+    return closestVectors;
+  }
+
+  /** Swaps two candidates and their distances */
+  private static void swap(int[] candidates, double[] distances, int i, int j) {
+    int candidate = candidates[i];
+    candidates[i] = candidates[j];
+    candidates[j] = candidate;
+    double distance = distances[i];
+    distances[i] = distances[j];
+    distances[j] = distance;
+  }
+
+  /** Euclidean distance, computed as in the original implementation of MOEA/D */
+  private static double distance(double[] vector1, double[] vector2) {
+    double sum = 0.0;
+    for (int i = 0; i < vector1.length; i++) {
+      sum += (vector1[i] - vector2[i]) * (vector1[i] - vector2[i]);
+    }
+    return Math.sqrt(sum);
   }
 
   @Override
@@ -0,0 +1,381 @@
+package org.uma.jmetal.util.observable.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.observable.Observable;
+import org.uma.jmetal.util.observer.Observer;
+
+/**
+ * Observable that notifies its observers asynchronously, so that slow observers (e.g., those
+ * plotting fronts or computing quality indicators) do not stall the thread notifying them. Each
+ * notification is converted into a snapshot by a function applied in the notifying thread, and the
+ * snapshot is added to a bounded queue per observer. The queues are drained by the threads of an
+ * executor, each observer receiving its snapshots in order and from one thread at a time.
+ *
+ * <p>When the queue of an observer is full, the {@link OverflowPolicy} indicates whether the
+ * oldest pending snapshots are discarded, the pending snapshots are replaced by the most recent
+ * one, or the notifying thread waits until the queue has room. Observers can also be registered
+ * with a sampling rate, so that they only receive one out of a number of notifications.
+ *
+ * <p>The executor created by the observable uses daemon threads and is shut down with {@link
+ * #close()}, which also waits for the pending snapshots to be delivered; executors given by the
+ * user are never shut down by the observable. The snapshots whose delivery is rejected by the
+ * executor (e.g., because it has been shut down) are discarded and a warning is logged.
+ *
+ * @author Antonio J. Nebro
+ * @param <D> Type of the data of the notifications
+ */
+public class AsynchronousObservable<D> implements Observable<D>, AutoCloseable {
+  /** Policies to follow when the queue of an observer is full */
+  public enum OverflowPolicy {
+    /** The oldest pending snapshots are discarded */
+    DROP_OLDEST,
+    /** Only the most recent snapshot is kept, whatever the capacity of the queue */
+    CONFLATE,
+    /** The notifying thread waits until the queue has room, so no snapshot is discarded */
+    BLOCK
+  }
+
+  private static final int DEFAULT_QUEUE_CAPACITY = 16;
+
+  private final String name;
+  private final UnaryOperator<D> snapshot;
+  private final ExecutorService executor;
+  private final boolean executorOwned;
+  private final Map<Observer<D>, Subscription> subscriptions = new LinkedHashMap<>();
+  private final AtomicLong droppedNotifications = new AtomicLong();
+
+  private volatile int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+  private volatile OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+  private boolean dataHasChanged;
+  private boolean closed;
+
+  /**
+   * Creates an observable whose observers receive the notified data, without taking snapshots of
+   * it. The observers are run by a pool of daemon threads.
+   *
+   * @param name Name of the observable
+   */
+  public AsynchronousObservable(String name) {
+    this(name, UnaryOperator.identity());
+  }
+
+  /**
+   * Creates an observable whose observers are run by a pool of daemon threads
+   *
+   * @param name Name of the observable
+   * @param snapshot Function returning a copy of the notified data that can be read by the
+   *     observers while the notifying thread keeps modifying the data
+   */
+  public AsynchronousObservable(String name, UnaryOperator<D> snapshot) {
+    this(
+        name,
+        snapshot,
+        Executors.newCachedThreadPool(
+            Thread.ofPlatform().name("jmetal-observer-", 0).daemon().factory()),
+        true);
+  }
+
+  /**
+   * Creates an observable whose observers are run by an executor provided by the user, which is
+   * not shut down by the observable.
+   *
+   * @param name Name of the observable
+   * @param snapshot Function returning a copy of the notified data
+   * @param executor Executor running the observers
+   */
+  public AsynchronousObservable(String name, UnaryOperator<D> snapshot, ExecutorService executor) {
+    this(name, snapshot, executor, false);
+  }
+
+  private AsynchronousObservable(
+      String name, UnaryOperator<D> snapshot, ExecutorService executor, boolean executorOwned) {
+    Check.notNull(snapshot);
+    Check.notNull(executor);
+    this.name = name;
+    this.snapshot = snapshot;
+    this.executor = executor;
+    this.executorOwned = executorOwned;
+  }
+
+  /**
+   * Creates an observable of the attributes of an algorithm (a map of pairs (String, Object)) whose
+   * observers receive the snapshots returned by {@link #copyOfAttributes(Map)}
+   *
+   * @param name Name of the observable
+   */
+  public static AsynchronousObservable<Map<String, Object>> ofAttributes(String name) {
+    return new AsynchronousObservable<>(name, AsynchronousObservable::copyOfAttributes);
+  }
+
+  /**
+   * Returns an unmodifiable copy of the attributes of an algorithm in which the lists of solutions
+   * (e.g., the population) are replaced by unmodifiable lists with copies of the solutions, so the
+   * observers never see a population being modified by the algorithm.
+   *
+   * @param attributes Attributes of an algorithm
+   */
+  public static Map<String, Object> copyOfAttributes(Map<String, Object> attributes) {
+    Map<String, Object> copy = new HashMap<>(attributes.size());
+    attributes.forEach((key, value) -> copy.put(key, copyOfValue(value)));
+
+    return Collections.unmodifiableMap(copy);
+  }
+
+  private static Object copyOfValue(Object value) {
+    if (value instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof Solution<?>) {
+      List<Object> solutions = new ArrayList<>(list.size());
+      for (Object solution : list) {
+        solutions.add(((Solution<?>) solution).copy());
+      }
+      return Collections.unmodifiableList(solutions);
+    }
+    return value;
+  }
+
+  /** Sets the maximum number of pending snapshots per observer */
+  public AsynchronousObservable<D> setQueueCapacity(int queueCapacity) {
+    Check.that(queueCapacity > 0, "The queue capacity is not a positive value: " + queueCapacity);
+    this.queueCapacity = queueCapacity;
+    return this;
+  }
+
+  /** Sets the policy to follow when the queue of an observer is full */
+  public AsynchronousObservable<D> setOverflowPolicy(OverflowPolicy overflowPolicy) {
+    Check.notNull(overflowPolicy);
+    this.overflowPolicy = overflowPolicy;
+    return this;
+  }
+
+  @Override
+  public void register(Observer<D> observer) {
+    register(observer, 1);
+  }
+
+  /**
+   * Registers an observer that only receives one out of a number of notifications (the first one
+   * and then every <code>samplingRate</code> notifications)
+   *
+   * @param observer Observer
+   * @param samplingRate Number of notifications per notification received by the observer
+   */
+  public synchronized void register(Observer<D> observer, int samplingRate) {
+    Check.notNull(observer);
+    Check.that(samplingRate > 0, "The sampling rate is not a positive value: " + samplingRate);
+    subscriptions.put(observer, new Subscription(observer, samplingRate));
+    JMetalLogger.logger.info("AsynchronousObservable " + name + ": " + observer + " registered");
+  }
+
+  @Override
+  public synchronized void unregister(Observer<D> observer) {
+    subscriptions.remove(observer);
+  }
+
+  /**
+   * Takes a snapshot of the data, if it has changed and any observer has to receive it, and adds it
+   * to the queues of the observers. The data cannot be null.
+   */
+  @Override
+  public void notifyObservers(D data) {
+    Check.notNull(data);
+
+    List<Subscription> receivers = new ArrayList<>();
+    synchronized (this) {
+      Check.that(!closed, "The observable " + name + " has been closed");
+      if (dataHasChanged) {
+        for (Subscription subscription : subscriptions.values()) {
+          if (subscription.sample()) {
+            receivers.add(subscription);
+          }
+        }
+      }
+      dataHasChanged = false;
+    }
+
+    if (!receivers.isEmpty()) {
+      D dataSnapshot = snapshot.apply(data);
+      // The queues are filled out of the lock, as a full queue can block the notifying thread
+      receivers.forEach(subscription -> subscription.offer(dataSnapshot));
+    }
+  }
+
+  /** Waits until the pending snapshots have been delivered to the observers */
+  public void awaitDelivery() {
+    List<Subscription> pendingSubscriptions;
+    synchronized (this) {
+      pendingSubscriptions = new ArrayList<>(subscriptions.values());
+    }
+
+    try {
+      for (Subscription subscription : pendingSubscriptions) {
+        subscription.awaitIdle();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the observers", e);
+    }
+  }
+
+  /**
+   * Waits until the pending snapshots have been delivered and shuts down the executor if it was
+   * created by the observable. No more notifications are accepted.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+    }
+    awaitDelivery();
+    if (executorOwned) {
+      executor.shutdown();
+    }
+  }
+
+  /** Number of snapshots that have been discarded because the queues were full */
+  public long droppedNotifications() {
+    return droppedNotifications.get();
+  }
+
+  @Override
+  public synchronized int numberOfRegisteredObservers() {
+    return subscriptions.size();
+  }
+
+  @Override
+  public synchronized void setChanged() {
+    dataHasChanged = true;
+  }
+
+  @Override
+  public synchronized boolean hasChanged() {
+    return dataHasChanged;
+  }
+
+  @Override
+  public synchronized void clearChanged() {
+    dataHasChanged = false;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public synchronized Collection<Observer<D>> observers() {
+    return new ArrayList<>(subscriptions.keySet());
+  }
+
+  /**
+   * Queue of the snapshots of an observer. A task draining the queue is submitted to the executor
+   * when a snapshot is added to an idle queue, so at most one thread runs the observer at a time.
+   */
+  private final class Subscription implements Runnable {
+    private final Observer<D> observer;
+    private final int samplingRate;
+    private final ArrayDeque<D> queue = new ArrayDeque<>();
+    private long numberOfNotifications;
+    private boolean scheduled;
+
+    Subscription(Observer<D> observer, int samplingRate) {
+      this.observer = observer;
+      this.samplingRate = samplingRate;
+    }
+
+    /** Returns true if the observer has to receive the current notification */
+    boolean sample() {
+      return numberOfNotifications++ % samplingRate == 0;
+    }
+
+    synchronized void offer(D data) {
+      switch (overflowPolicy) {
+        case DROP_OLDEST -> {
+          while (queue.size() >= queueCapacity) {
+            queue.poll();
+            droppedNotifications.incrementAndGet();
+          }
+        }
+        case CONFLATE -> {
+          droppedNotifications.addAndGet(queue.size());
+          queue.clear();
+        }
+        case BLOCK -> {
+          try {
+            while (queue.size() >= queueCapacity) {
+              wait();
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JMetalException("Interrupted while waiting for observer " + observer, e);
+          }
+        }
+      }
+
+      queue.add(data);
+      if (!scheduled) {
+        scheduled = true;
+        try {
+          executor.execute(this);
+        } catch (RejectedExecutionException e) {
+          // The snapshots cannot be delivered (e.g., the executor has been shut down), so they are
+          // discarded to avoid waiting for them forever
+          scheduled = false;
+          droppedNotifications.addAndGet(queue.size());
+          queue.clear();
+          notifyAll();
+          JMetalLogger.logger.log(
+              Level.WARNING,
+              "AsynchronousObservable " + name + ": the executor rejected the delivery to "
+                  + observer,
+              e);
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      while (true) {
+        D data;
+        synchronized (this) {
+          data = queue.poll();
+          if (data == null) {
+            scheduled = false;
+          }
+          // Wakes up the threads waiting for room in the queue or for the queue to be idle
+          notifyAll();
+        }
+        if (data == null) {
+          return;
+        }
+
+        try {
+          observer.update(AsynchronousObservable.this, data);
+        } catch (RuntimeException e) {
+          JMetalLogger.logger.log(
+              Level.WARNING, "AsynchronousObservable " + name + ": error in " + observer, e);
+        }
+      }
+    }
+
+    synchronized void awaitIdle() throws InterruptedException {
+      while (scheduled) {
+        wait();
+      }
+    }
+  }
+}
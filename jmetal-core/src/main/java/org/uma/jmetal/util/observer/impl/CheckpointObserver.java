@@ -0,0 +1,139 @@
+package org.uma.jmetal.util.observer.impl;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.observable.Observable;
+import org.uma.jmetal.util.observer.Observer;
+
+/**
+ * Observer writing periodic checkpoints of an algorithm to a binary file (see {@link Checkpoint}),
+ * so that a run can be continued if the JVM dies. A checkpoint is taken when a number of
+ * evaluations or seconds have passed since the previous one, according to the "EVALUATIONS" and
+ * "COMPUTING_TIME" values of the notifications.
+ *
+ * <p>The checkpoints are created by the thread running the algorithm, which only copies the
+ * solutions, and are written by a background thread. If a checkpoint is taken while the previous
+ * one is still waiting to be written, only the newest one is written. As the checkpoints include
+ * the state of the pseudo-random generator of the algorithm, the observer must be registered in an
+ * observable notifying in the algorithm thread (e.g., the default one), not in an asynchronous
+ * one.
+ *
+ * @author Antonio J. Nebro
+ * @param <S> Type of the solutions
+ */
+public class CheckpointObserver<S extends Solution<?>>
+    implements Observer<Map<String, Object>>, AutoCloseable {
+  private final Supplier<Checkpoint<S>> checkpointSupplier;
+  private final Path file;
+  private int evaluationInterval = 10000;
+  private long timeInterval = 0;
+  private int lastEvaluations;
+  private long lastComputingTime;
+  private volatile int writtenCheckpoints;
+
+  private final AtomicReference<Checkpoint<S>> pendingCheckpoint = new AtomicReference<>();
+  private final ExecutorService writer =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "Checkpoint writer");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  /**
+   * Constructor
+   *
+   * @param checkpointSupplier Function creating a checkpoint of the algorithm (e.g., {@code
+   *     algorithm::checkpoint})
+   * @param file File to write the checkpoints
+   */
+  public CheckpointObserver(Supplier<Checkpoint<S>> checkpointSupplier, Path file) {
+    Check.notNull(checkpointSupplier);
+    Check.notNull(file);
+    this.checkpointSupplier = checkpointSupplier;
+    this.file = file;
+  }
+
+  /** Sets the number of evaluations between checkpoints (0 to disable it). Default: 10000 */
+  public CheckpointObserver<S> setEvaluationInterval(int evaluationInterval) {
+    Check.that(
+        evaluationInterval >= 0,
+        "The evaluation interval is a negative value: " + evaluationInterval);
+    this.evaluationInterval = evaluationInterval;
+
+    return this;
+  }
+
+  /** Sets the number of seconds between checkpoints (0 to disable it). Default: 0 */
+  public CheckpointObserver<S> setTimeInterval(long seconds) {
+    Check.that(seconds >= 0, "The time interval is a negative value: " + seconds);
+    this.timeInterval = TimeUnit.SECONDS.toMillis(seconds);
+
+    return this;
+  }
+
+  @Override
+  public void update(Observable<Map<String, Object>> observable, Map<String, Object> data) {
+    int evaluations = (int) data.get("EVALUATIONS");
+    long computingTime = (long) data.get("COMPUTING_TIME");
+
+    boolean evaluationIntervalPassed =
+        evaluationInterval > 0 && evaluations - lastEvaluations >= evaluationInterval;
+    boolean timeIntervalPassed =
+        timeInterval > 0 && computingTime - lastComputingTime >= timeInterval;
+    if (evaluationIntervalPassed || timeIntervalPassed) {
+      lastEvaluations = evaluations;
+      lastComputingTime = computingTime;
+      if (pendingCheckpoint.getAndSet(checkpointSupplier.get()) == null) {
+        writer.execute(this::writePendingCheckpoint);
+      }
+    }
+  }
+
+  private void writePendingCheckpoint() {
+    Checkpoint<S> checkpoint = pendingCheckpoint.getAndSet(null);
+    if (checkpoint != null) {
+      try {
+        checkpoint.write(file);
+        writtenCheckpoints++;
+      } catch (RuntimeException exception) {
+        JMetalLogger.logger.log(Level.WARNING, "Error writing the checkpoint", exception);
+      }
+    }
+  }
+
+  /** Returns the number of checkpoints written to the file */
+  public int writtenCheckpoints() {
+    return writtenCheckpoints;
+  }
+
+  /** Waits for the pending checkpoint to be written and stops the background thread */
+  @Override
+  public void close() {
+    writer.shutdown();
+    try {
+      writer.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public String getName() {
+    return "Checkpoint observer";
+  }
+
+  @Override
+  public String toString() {
+    return getName();
+  }
+}
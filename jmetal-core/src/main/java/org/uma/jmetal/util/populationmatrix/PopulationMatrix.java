@@ -0,0 +1,275 @@
+package org.uma.jmetal.util.populationmatrix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Flat representation of a list of solutions. The objectives and constraints of the solutions are
+ * packed in contiguous row-major arrays (row <code>i</code> corresponds to the i-th solution of the
+ * list), and the ranks and density values computed on the population are stored in parallel
+ * primitive arrays instead of in the attributes of the solutions.
+ *
+ * <p>Rankings implementing {@link PopulationMatrixRanking} and density estimators implementing
+ * {@link PopulationMatrixDensityEstimator} work directly on these arrays, which avoids the pointer
+ * chasing over the solution list and the boxing of the values stored as solution attributes.
+ *
+ * @author Antonio J. Nebro
+ * @param <S> Type of the solutions
+ */
+public class PopulationMatrix<S extends Solution<?>> {
+  private final List<S> solutions;
+  private final int size;
+  private final int numberOfObjectives;
+  private final int numberOfConstraints;
+
+  private final double[] objectives;
+  private final double[] constraints;
+  private final double[] overallConstraintViolationDegrees;
+
+  private final int[] ranks;
+  private final double[] densities;
+
+  private int[] rowsSortedByRank;
+  private int[] subFrontStarts;
+  private int numberOfSubFronts;
+
+  /**
+   * Constructor. The objective and constraint values of the solutions are copied into the matrix,
+   * so later changes in the solutions are not reflected in it.
+   *
+   * @param solutionList The solutions to pack
+   */
+  public PopulationMatrix(List<S> solutionList) {
+    Check.notNull(solutionList);
+    this.solutions = new ArrayList<>(solutionList);
+    this.size = solutions.size();
+    this.numberOfObjectives = size == 0 ? 0 : solutions.get(0).objectives().length;
+    this.numberOfConstraints = size == 0 ? 0 : solutions.get(0).constraints().length;
+
+    objectives = new double[size * numberOfObjectives];
+    constraints = new double[size * numberOfConstraints];
+    overallConstraintViolationDegrees = new double[size];
+
+    for (int i = 0; i < size; i++) {
+      S solution = solutions.get(i);
+      Check.that(
+          solution.objectives().length == numberOfObjectives,
+          "Solution " + i + " has " + solution.objectives().length + " objectives instead of "
+              + numberOfObjectives);
+      System.arraycopy(
+          solution.objectives(), 0, objectives, i * numberOfObjectives, numberOfObjectives);
+      System.arraycopy(
+          solution.constraints(), 0, constraints, i * numberOfConstraints, numberOfConstraints);
+      if (numberOfConstraints > 0) {
+        overallConstraintViolationDegrees[i] =
+            ConstraintHandling.overallConstraintViolationDegree(solution);
+      }
+    }
+
+    ranks = new int[size];
+    Arrays.fill(ranks, -1);
+    densities = new double[size];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int numberOfObjectives() {
+    return numberOfObjectives;
+  }
+
+  public int numberOfConstraints() {
+    return numberOfConstraints;
+  }
+
+  public S solution(int row) {
+    return solutions.get(row);
+  }
+
+  public List<S> solutions() {
+    return solutions;
+  }
+
+  /**
+   * Returns the flat objective array; the value of objective <code>j</code> of row <code>i</code>
+   * is located at position <code>i * numberOfObjectives() + j</code>.
+   */
+  public double[] objectives() {
+    return objectives;
+  }
+
+  /**
+   * Returns the flat constraint array; the value of constraint <code>j</code> of row <code>i</code>
+   * is located at position <code>i * numberOfConstraints() + j</code>.
+   */
+  public double[] constraints() {
+    return constraints;
+  }
+
+  public double objective(int row, int objectiveIndex) {
+    return objectives[row * numberOfObjectives + objectiveIndex];
+  }
+
+  public double constraint(int row, int constraintIndex) {
+    return constraints[row * numberOfConstraints + constraintIndex];
+  }
+
+  public double overallConstraintViolationDegree(int row) {
+    return overallConstraintViolationDegrees[row];
+  }
+
+  public int[] ranks() {
+    return ranks;
+  }
+
+  public int rank(int row) {
+    return ranks[row];
+  }
+
+  public double[] densities() {
+    return densities;
+  }
+
+  public double density(int row) {
+    return densities[row];
+  }
+
+  /**
+   * Pareto dominance test between two rows, with the same semantics as {@link
+   * org.uma.jmetal.util.VectorUtils#dominanceTest(double[], double[])}.
+   *
+   * @return -1, or 0, or 1 if row1 dominates row2, both are non-dominated, or row1 is dominated by
+   *     row2, respectively.
+   */
+  public int dominanceTest(int row1, int row2) {
+    int offset1 = row1 * numberOfObjectives;
+    int offset2 = row2 * numberOfObjectives;
+    int bestIsOne = 0;
+    int bestIsTwo = 0;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      double value1 = objectives[offset1 + i];
+      double value2 = objectives[offset2 + i];
+      if (value1 < value2) {
+        bestIsOne = 1;
+      } else if (value2 < value1) {
+        bestIsTwo = 1;
+      }
+    }
+    return Integer.compare(bestIsTwo, bestIsOne);
+  }
+
+  /**
+   * Sets the ordering of the rows by rank computed by a ranking.
+   *
+   * @param rowsSortedByRank Rows grouped by sub-front, from sub-front 0 upwards
+   * @param subFrontStarts Position in <code>rowsSortedByRank</code> where each sub-front starts
+   * @param numberOfSubFronts Number of sub-fronts
+   */
+  public void subFronts(int[] rowsSortedByRank, int[] subFrontStarts, int numberOfSubFronts) {
+    Check.that(rowsSortedByRank.length <= size, "The number of rows is higher than " + size);
+    Check.that(subFrontStarts.length > numberOfSubFronts, "Sub-front starts array too short");
+    this.rowsSortedByRank = rowsSortedByRank;
+    this.subFrontStarts = subFrontStarts;
+    this.numberOfSubFronts = numberOfSubFronts;
+  }
+
+  public int numberOfSubFronts() {
+    return numberOfSubFronts;
+  }
+
+  /**
+   * Returns the rows belonging to a sub-front, in the order in which the ranking produced them.
+   *
+   * @param rank Index of the sub-front
+   * @return A new array containing the rows of the sub-front
+   */
+  public int[] subFront(int rank) {
+    Check.that(
+        rank >= 0 && rank < numberOfSubFronts,
+        "Invalid rank: " + rank + ". Max rank = " + (numberOfSubFronts - 1));
+    return Arrays.copyOfRange(rowsSortedByRank, subFrontStarts[rank], subFrontStarts[rank + 1]);
+  }
+
+  /**
+   * Sorts (in place and stably) an array of rows according to the ascending order of one
+   * objective.
+   */
+  public void sortByObjective(int[] rows, int objectiveIndex) {
+    double[] keys = new double[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      keys[i] = objective(rows[i], objectiveIndex);
+    }
+    stableSort(rows, keys, false);
+  }
+
+  /** Sorts (in place and stably) an array of rows according to the descending density values. */
+  public void sortByDescendingDensity(int[] rows) {
+    double[] keys = new double[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      keys[i] = densities[rows[i]];
+    }
+    stableSort(rows, keys, true);
+  }
+
+  /**
+   * Stable merge sort of an int array according to a parallel array of keys, compared with {@link
+   * Double#compare(double, double)}. Both arrays are permuted.
+   */
+  static void stableSort(int[] values, double[] keys, boolean descending) {
+    int n = values.length;
+    if (n < 2) {
+      return;
+    }
+    int[] valueBuffer = new int[n];
+    double[] keyBuffer = new double[n];
+    for (int width = 1; width < n; width *= 2) {
+      for (int low = 0; low < n - width; low += 2 * width) {
+        int middle = low + width;
+        int high = Math.min(low + 2 * width, n);
+        merge(values, keys, valueBuffer, keyBuffer, low, middle, high, descending);
+      }
+    }
+  }
+
+  private static void merge(
+      int[] values,
+      double[] keys,
+      int[] valueBuffer,
+      double[] keyBuffer,
+      int low,
+      int middle,
+      int high,
+      boolean descending) {
+    System.arraycopy(values, low, valueBuffer, low, high - low);
+    System.arraycopy(keys, low, keyBuffer, low, high - low);
+    int i = low;
+    int j = middle;
+    int k = low;
+    while (i < middle && j < high) {
+      int comparison = Double.compare(keyBuffer[j], keyBuffer[i]);
+      if (descending) {
+        comparison = -comparison;
+      }
+      if (comparison < 0) {
+        values[k] = valueBuffer[j];
+        keys[k++] = keyBuffer[j++];
+      } else {
+        values[k] = valueBuffer[i];
+        keys[k++] = keyBuffer[i++];
+      }
+    }
+    while (i < middle) {
+      values[k] = valueBuffer[i];
+      keys[k++] = keyBuffer[i++];
+    }
+    while (j < high) {
+      values[k] = valueBuffer[j];
+      keys[k++] = keyBuffer[j++];
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package org.uma.jmetal.util.populationmatrix;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.densityestimator.DensityEstimator;
+
+/**
+ * Interface to be implemented by density estimators that are also able to work on a {@link
+ * PopulationMatrix}. The values are stored in {@link PopulationMatrix#densities()}; the attributes
+ * of the solutions are not modified.
+ *
+ * @author Antonio J. Nebro
+ * @param <S> Type of the solutions
+ */
+public interface PopulationMatrixDensityEstimator<S extends Solution<?>>
+    extends DensityEstimator<S> {
+  /**
+   * Computes the density values of a subset of the rows of a matrix.
+   *
+   * @param matrix The population matrix
+   * @param rows The rows to consider; the density of the rest of rows is not modified
+   */
+  void compute(PopulationMatrix<S> matrix, int[] rows);
+
+  /**
+   * Stores in a solution a density value computed on a matrix, so that the solution can be later
+   * queried with the list-based API of the density estimator.
+   */
+  void setValue(S solution, double value);
+}
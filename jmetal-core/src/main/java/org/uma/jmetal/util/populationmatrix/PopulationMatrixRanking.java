@@ -0,0 +1,19 @@
+package org.uma.jmetal.util.populationmatrix;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * Interface to be implemented by rankings that are also able to work on a {@link
+ * PopulationMatrix}. The ranks are stored in {@link PopulationMatrix#ranks()} and the sub-fronts
+ * are registered in the matrix with {@link PopulationMatrix#subFronts(int[], int[], int)}. The
+ * list-based state of the ranking ({@link Ranking#getSubFront(int)} and the ranks of the solutions)
+ * must also be updated, so that it is the same as after computing the ranking of {@link
+ * PopulationMatrix#solutions()}.
+ *
+ * @author Antonio J. Nebro
+ * @param <S> Type of the solutions
+ */
+public interface PopulationMatrixRanking<S extends Solution<?>> extends Ranking<S> {
+  void compute(PopulationMatrix<S> matrix);
+}
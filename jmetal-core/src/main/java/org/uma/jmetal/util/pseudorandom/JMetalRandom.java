@@ -1,24 +1,38 @@
 package org.uma.jmetal.util.pseudorandom;
 
 import java.io.Serializable;
+import java.util.function.Supplier;
+import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
 
 /**
+ * Source of the pseudo-random numbers used by jMetal. By default, all the threads share the same
+ * generator, which can be replaced with {@link #setRandomGenerator(PseudoRandomGenerator)}. As
+ * sharing a generator among threads leads to contention and to non-reproducible results, two other
+ * ways of providing the numbers are supported:
+ *
+ * <ul>
+ *   <li>{@link #setRandomStreams(RandomStreams)}: each thread uses its own generator, taken from
+ *       the streams.
+ *   <li>{@link #runWith(PseudoRandomGenerator, Runnable)}: the current thread uses the given
+ *       generator while running a task (e.g., the one of a run of an algorithm, derived from a
+ *       root seed and the run), so the task is reproducible no matter what thread runs it.
+ * </ul>
+ *
  * @author Antonio J. Nebro
  */
 @SuppressWarnings("serial")
 public class JMetalRandom implements Serializable {
-  private static JMetalRandom instance ;
-  private PseudoRandomGenerator randomGenerator ;
+  private static final JMetalRandom instance = new JMetalRandom() ;
+  private volatile PseudoRandomGenerator randomGenerator ;
+  private transient volatile RandomStreams randomStreams ;
+  private final transient ThreadLocal<PseudoRandomGenerator> taskGenerator = new ThreadLocal<>() ;
 
   private JMetalRandom() {
     randomGenerator = new JavaRandomGenerator() ;
   }
 
   public static JMetalRandom getInstance() {
-    if (instance == null) {
-      instance = new JMetalRandom() ;
-    }
     return instance ;
   }
 
@@ -26,31 +40,102 @@ public class JMetalRandom implements Serializable {
     this.randomGenerator = randomGenerator;
   }
 
+  /**
+   * Returns the generator used by the current thread: the one of the task it is running, if any;
+   * otherwise, its stream if there are random streams, or the shared generator
+   */
   public PseudoRandomGenerator getRandomGenerator() {
-    return randomGenerator ;
+    PseudoRandomGenerator generator = taskGenerator.get() ;
+    if (generator != null) {
+      return generator ;
+    }
+
+    RandomStreams streams = randomStreams ;
+    return streams != null ? streams.threadGenerator() : randomGenerator ;
+  }
+
+  /**
+   * Replaces the generator returned by {@link #getRandomGenerator()} in the current thread (e.g.,
+   * by one restored from a checkpoint) in the scope it belongs to: the generator of the task the
+   * thread is running, until the task ends; otherwise, the generator of the thread in the random
+   * streams, if any, or the shared generator.
+   */
+  public void replaceRandomGenerator(PseudoRandomGenerator generator) {
+    Check.notNull(generator);
+    RandomStreams streams = randomStreams ;
+    if (taskGenerator.get() != null) {
+      taskGenerator.set(generator);
+    } else if (streams != null) {
+      streams.setThreadGenerator(generator);
+    } else {
+      randomGenerator = generator ;
+    }
+  }
+
+  /**
+   * Makes each thread use its own generator from a set of streams. If the streams are null, the
+   * shared generator is used again.
+   */
+  public void setRandomStreams(RandomStreams randomStreams) {
+    this.randomStreams = randomStreams ;
+  }
+
+  public RandomStreams getRandomStreams() {
+    return randomStreams ;
+  }
+
+  /** Runs a task in the current thread using a generator for all its pseudo-random numbers */
+  public void runWith(PseudoRandomGenerator generator, Runnable task) {
+    callWith(generator, () -> {
+      task.run();
+      return null;
+    }) ;
+  }
+
+  /** Computes a value in the current thread using a generator for all its pseudo-random numbers */
+  public <T> T callWith(PseudoRandomGenerator generator, Supplier<T> task) {
+    Check.notNull(generator);
+    Check.notNull(task);
+
+    PseudoRandomGenerator previousGenerator = taskGenerator.get() ;
+    taskGenerator.set(generator);
+    try {
+      return task.get() ;
+    } finally {
+      if (previousGenerator == null) {
+        taskGenerator.remove();
+      } else {
+        taskGenerator.set(previousGenerator);
+      }
+    }
   }
 
   public int nextInt(int lowerBound, int upperBound) {
-    return randomGenerator.nextInt(lowerBound, upperBound) ;
+    return getRandomGenerator().nextInt(lowerBound, upperBound) ;
   }
 
   public double nextDouble() {
-    return randomGenerator.nextDouble() ;
+    return getRandomGenerator().nextDouble() ;
   }
 
   public double nextDouble(double lowerBound, double upperBound) {
-    return randomGenerator.nextDouble(lowerBound, upperBound) ;
+    return getRandomGenerator().nextDouble(lowerBound, upperBound) ;
   }
 
   public void setSeed(long seed) {
-    randomGenerator.setSeed(seed);
+    getRandomGenerator().setSeed(seed);
   }
 
   public long getSeed() {
-    return randomGenerator.getSeed() ;
+    return getRandomGenerator().getSeed() ;
   }
 
   public String getGeneratorName() {
-    return randomGenerator.getName() ;
+    return getRandomGenerator().getName() ;
+  }
+
+  /** The instance is a singleton, so the deserialized objects are replaced by it */
+  private Object readResolve() {
+    return instance ;
   }
 }
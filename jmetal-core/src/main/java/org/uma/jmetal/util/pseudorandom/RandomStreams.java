@@ -0,0 +1,91 @@
+package org.uma.jmetal.util.pseudorandom;
+
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.impl.RandomGeneratorAdapter;
+
+/**
+ * Family of independent pseudo-random number streams derived from a root seed. It provides:
+ *
+ * <ul>
+ *   <li>Keyed streams ({@link #derive(long)}, e.g., one per algorithm run) and keyed generators
+ *       ({@link #generator(long)}, e.g., one per task). Their seeds depend only on the root seed
+ *       and the keys, so the results are reproducible regardless of the threads running the
+ *       tasks.
+ *   <li>A generator per thread ({@link #threadGenerator()}), to use the streams from code that is
+ *       not aware of them without sharing a generator among threads. Their seeds are drawn from a
+ *       root L64X128MixRandom generator in the order the threads ask for them, so they are not
+ *       reproducible when several threads are involved.
+ * </ul>
+ *
+ * <p>The generators are created with a factory taking a seed, which by default creates {@link
+ * RandomGeneratorAdapter}s of L64X128MixRandom generators. Other generators, such as {@link
+ * org.uma.jmetal.util.pseudorandom.impl.MersenneTwisterGenerator}, can be used by giving their
+ * constructors (e.g., {@code new RandomStreams(seed, MersenneTwisterGenerator::new)}).
+ *
+ * <p>The streams are installed in {@link JMetalRandom} with {@link
+ * JMetalRandom#setRandomStreams(RandomStreams)}.
+ *
+ * @author Antonio J. Nebro
+ */
+public class RandomStreams {
+  private final long seed;
+  private final LongFunction<PseudoRandomGenerator> generatorFactory;
+  private final RandomGenerator threadSeeds;
+  private final ThreadLocal<PseudoRandomGenerator> threadGenerator;
+
+  public RandomStreams(long seed) {
+    this(seed, RandomGeneratorAdapter::new);
+  }
+
+  public RandomStreams(long seed, LongFunction<PseudoRandomGenerator> generatorFactory) {
+    Check.notNull(generatorFactory);
+    this.seed = seed;
+    this.generatorFactory = generatorFactory;
+    this.threadSeeds =
+        RandomGeneratorFactory.of(RandomGeneratorAdapter.DEFAULT_ALGORITHM).create(seed);
+    this.threadGenerator = ThreadLocal.withInitial(() -> generatorFactory.apply(nextThreadSeed()));
+  }
+
+  public long seed() {
+    return seed;
+  }
+
+  /** Returns the streams identified by a key (e.g., the ones of a run of an algorithm) */
+  public RandomStreams derive(long key) {
+    return new RandomStreams(seedOf(key), generatorFactory);
+  }
+
+  /** Returns a new generator identified by a key (e.g., the one of a task) */
+  public PseudoRandomGenerator generator(long key) {
+    return generatorFactory.apply(seedOf(key));
+  }
+
+  /** Returns the generator of the current thread */
+  public PseudoRandomGenerator threadGenerator() {
+    return threadGenerator.get();
+  }
+
+  /** Replaces the generator of the current thread (e.g., by one restored from a checkpoint) */
+  public void setThreadGenerator(PseudoRandomGenerator generator) {
+    Check.notNull(generator);
+    threadGenerator.set(generator);
+  }
+
+  private synchronized long nextThreadSeed() {
+    return threadSeeds.nextLong();
+  }
+
+  private long seedOf(long key) {
+    return mix(seed ^ mix(key + 0x9e3779b97f4a7c15L));
+  }
+
+  /** Finalizer of the SplitMix64 generator, which maps close values to unrelated ones */
+  private static long mix(long value) {
+    value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+    value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+    return value ^ (value >>> 31);
+  }
+}
@@ -0,0 +1,116 @@
+package org.uma.jmetal.util.pseudorandom.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+/**
+ * Adapter of the generators of package {@link java.util.random} (e.g., L64X128MixRandom,
+ * Xoshiro256PlusPlus) to the {@link PseudoRandomGenerator} interface. The default algorithm is
+ * L64X128MixRandom, whose instances created with different seeds are statistically independent,
+ * which makes it suitable to have a stream per thread or task (see {@link
+ * org.uma.jmetal.util.pseudorandom.RandomStreams}).
+ *
+ * <p>The generators of {@link java.util.random} are not serializable, so the adapter saves the
+ * seed and the number of values drawn from the generator, and a deserialized adapter draws them
+ * again to continue the sequence at the same point.
+ *
+ * @author Antonio J. Nebro
+ */
+@SuppressWarnings("serial")
+public class RandomGeneratorAdapter implements PseudoRandomGenerator {
+  public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+  private final String algorithm;
+  private transient RandomGenerator rnd;
+  private long seed;
+  private long numberOfDraws;
+
+  /** Constructor */
+  public RandomGeneratorAdapter() {
+    this(System.currentTimeMillis());
+  }
+
+  /** Constructor */
+  public RandomGeneratorAdapter(long seed) {
+    this(DEFAULT_ALGORITHM, seed);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param algorithm Name of the algorithm, as given to {@link RandomGeneratorFactory#of(String)}
+   * @param seed
+   */
+  public RandomGeneratorAdapter(String algorithm, long seed) {
+    Check.notNull(algorithm);
+    this.algorithm = algorithm;
+    setSeed(seed);
+  }
+
+  @Override
+  public long getSeed() {
+    return seed;
+  }
+
+  @Override
+  public int nextInt(int lowerBound, int upperBound) {
+    return lowerBound + rnd.nextInt((upperBound - lowerBound) + 1);
+  }
+
+  @Override
+  public double nextDouble(double lowerBound, double upperBound) {
+    return lowerBound + rnd.nextDouble() * (upperBound - lowerBound);
+  }
+
+  @Override
+  public double nextDouble() {
+    return nextDouble(0.0, 1.0);
+  }
+
+  @Override
+  public void setSeed(long seed) {
+    this.seed = seed;
+    numberOfDraws = 0;
+    rnd = new CountingGenerator(RandomGeneratorFactory.of(algorithm).create(seed));
+  }
+
+  @Override
+  public String getName() {
+    return algorithm;
+  }
+
+  /**
+   * The generators are not serializable, so they are created again from the seed and the values
+   * drawn before the serialization are skipped
+   */
+  private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    long draws = numberOfDraws;
+    setSeed(seed);
+    for (long i = 0; i < draws; i++) {
+      rnd.nextLong();
+    }
+  }
+
+  /**
+   * Generator counting the values drawn from another one. The rest of methods of {@link
+   * RandomGenerator} are computed from {@link #nextLong()}, so all the values are counted.
+   */
+  private final class CountingGenerator implements RandomGenerator {
+    private final RandomGenerator generator;
+
+    CountingGenerator(RandomGenerator generator) {
+      this.generator = generator;
+    }
+
+    @Override
+    public long nextLong() {
+      numberOfDraws++;
+      return generator.nextLong();
+    }
+  }
+}
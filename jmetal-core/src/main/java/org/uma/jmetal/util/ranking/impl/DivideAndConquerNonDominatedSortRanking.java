@@ -0,0 +1,535 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.attribute.AttributeKey;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * This class implements the divide-and-conquer non-dominated sorting algorithm of Jensen, as
+ * generalized by Fortin et al. and Buzdalov and Shalyto to handle equal objective values. Its
+ * running time is O(N log^{M-1} N) for N solutions and M objectives, instead of the O(MN^2) of
+ * {@link FastNonDominatedSortRanking}.
+ *
+ * <p>The solutions are sorted lexicographically and duplicated points are merged. The points are
+ * then recursively split by the median of the last objective not yet considered, and the ranks of
+ * each half are updated from the ranks of the other one; the two-objective subproblems are solved
+ * by a sweep line algorithm. If a {@link ForkJoinPool} is given to the constructor, the independent
+ * subproblems whose size is greater than a threshold are solved in parallel.
+ *
+ * <p>As in {@link ExperimentalFastNonDominanceRanking}, if {@link
+ * ConstraintHandling#overallConstraintViolationDegree(Solution)} is less than zero for at least one
+ * solution, the solutions are first grouped by decreasing values of that degree, and each group is
+ * ranked after the previous one.
+ *
+ * <p>References: M.T. Jensen. Reducing the run-time complexity of multiobjective EAs: The NSGA-II
+ * and other algorithms. IEEE Transactions on Evolutionary Computation 7(5): 503-515 (2003). F.-A.
+ * Fortin, S. Grenier, M. Parizeau. Generalizing the improved run-time complexity algorithm for
+ * non-dominated sorting. GECCO 2013: 615-622. M. Buzdalov, A. Shalyto. A provably asymptotically
+ * fast version of the generalized Jensen algorithm for non-dominated sorting. PPSN XIII: 528-537
+ * (2014).
+ *
+ * @author Antonio J. Nebro
+ * @param <S> Type of the solutions
+ */
+public class DivideAndConquerNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 2048;
+  private static final int BRUTE_FORCE_THRESHOLD = 64;
+
+  private final String attributeId = getClass().getName();
+  private final AttributeKey<Integer> rankKey = AttributeKey.integerKey(attributeId);
+
+  private final ForkJoinPool pool;
+  private final int parallelThreshold;
+  private final List<List<S>> subFronts = new ArrayList<>();
+
+  /** Constructor. The ranking is computed sequentially. */
+  public DivideAndConquerNonDominatedSortRanking() {
+    this(null, DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  /**
+   * Constructor. The ranking is computed in parallel using the given pool.
+   *
+   * @param pool Pool used to solve the subproblems in parallel
+   */
+  public DivideAndConquerNonDominatedSortRanking(ForkJoinPool pool) {
+    this(pool, DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param pool Pool used to solve the subproblems in parallel, or null to run sequentially
+   * @param parallelThreshold Minimum number of points of a subproblem to split it into parallel
+   *     tasks
+   */
+  public DivideAndConquerNonDominatedSortRanking(ForkJoinPool pool, int parallelThreshold) {
+    Check.that(parallelThreshold > 1, "The parallel threshold must be greater than 1");
+    this.pool = pool;
+    this.parallelThreshold = parallelThreshold;
+  }
+
+  @Override
+  public Ranking<S> compute(List<S> solutionList) {
+    Check.notNull(solutionList);
+    subFronts.clear();
+    int numberOfSolutions = solutionList.size();
+    if (numberOfSolutions == 0) {
+      return this;
+    }
+
+    int numberOfObjectives = solutionList.get(0).objectives().length;
+    double[] violationDegrees = new double[numberOfSolutions];
+    boolean hasConstraintViolation = false;
+    for (int i = 0; i < numberOfSolutions; i++) {
+      S solution = solutionList.get(i);
+      Check.that(
+          solution.objectives().length == numberOfObjectives,
+          "Solution " + i + " has " + solution.objectives().length + " objectives instead of "
+              + numberOfObjectives);
+      violationDegrees[i] = ConstraintHandling.overallConstraintViolationDegree(solution);
+      hasConstraintViolation |= violationDegrees[i] < 0;
+    }
+
+    int[] ranks = new int[numberOfSolutions];
+    if (!hasConstraintViolation) {
+      int[] all = new int[numberOfSolutions];
+      Arrays.setAll(all, i -> i);
+      rank(solutionList, all, numberOfObjectives, ranks, 0);
+    } else {
+      // Blocks of solutions with the same violation degree, from the feasible ones downwards
+      Integer[] order = new Integer[numberOfSolutions];
+      Arrays.setAll(order, i -> i);
+      Arrays.sort(
+          order, Comparator.comparingDouble((Integer i) -> violationDegrees[i]).reversed());
+      int rankOffset = 0;
+      int blockStart = 0;
+      for (int i = 1; i <= numberOfSolutions; i++) {
+        if (i == numberOfSolutions
+            || violationDegrees[order[i]] != violationDegrees[order[blockStart]]) {
+          int[] block = new int[i - blockStart];
+          for (int j = 0; j < block.length; j++) {
+            block[j] = order[blockStart + j];
+          }
+          rankOffset = 1 + rank(solutionList, block, numberOfObjectives, ranks, rankOffset);
+          blockStart = i;
+        }
+      }
+    }
+
+    for (int i = 0; i < numberOfSolutions; i++) {
+      S solution = solutionList.get(i);
+      rankKey.setInt(solution, ranks[i]);
+      while (subFronts.size() <= ranks[i]) {
+        subFronts.add(new ArrayList<>());
+      }
+      subFronts.get(ranks[i]).add(solution);
+    }
+
+    return this;
+  }
+
+  /**
+   * Ranks a block of solutions, storing the ranks (increased by an offset) in the given array.
+   *
+   * @return The highest rank assigned
+   */
+  private int rank(
+      List<S> solutionList, int[] block, int numberOfObjectives, int[] ranks, int rankOffset) {
+    Integer[] order = new Integer[block.length];
+    for (int i = 0; i < block.length; i++) {
+      order[i] = block[i];
+    }
+    Arrays.sort(
+        order,
+        (i, j) ->
+            compareLexicographically(
+                solutionList.get(i).objectives(), solutionList.get(j).objectives()));
+
+    // Duplicated points are merged, as they always have the same rank
+    double[][] points = new double[block.length][];
+    int[] pointOfSolution = new int[block.length];
+    int numberOfPoints = 0;
+    for (int i = 0; i < order.length; i++) {
+      double[] objectives = solutionList.get(order[i]).objectives();
+      if (numberOfPoints == 0
+          || compareLexicographically(points[numberOfPoints - 1], objectives) != 0) {
+        points[numberOfPoints++] = objectives;
+      }
+      pointOfSolution[i] = numberOfPoints - 1;
+    }
+
+    Sorter sorter =
+        new Sorter(Arrays.copyOf(points, numberOfPoints), numberOfObjectives, pool,
+            parallelThreshold);
+    int[] pointRanks = sorter.sort();
+
+    int maxRank = rankOffset;
+    for (int i = 0; i < order.length; i++) {
+      int rank = pointRanks[pointOfSolution[i]] + rankOffset;
+      ranks[order[i]] = rank;
+      maxRank = Math.max(maxRank, rank);
+    }
+    return maxRank;
+  }
+
+  private static int compareLexicographically(double[] point1, double[] point2) {
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] < point2[i]) {
+        return -1;
+      } else if (point1[i] > point2[i]) {
+        return 1;
+      }
+    }
+    return 0;
+  }
+
+  @Override
+  public List<S> getSubFront(int rank) {
+    if (rank >= subFronts.size()) {
+      throw new JMetalException(
+          "Invalid rank: " + rank + ". Max rank = " + (subFronts.size() - 1));
+    }
+    return subFronts.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubFronts() {
+    return subFronts.size();
+  }
+
+  @Override
+  public Integer getRank(S solution) {
+    Check.notNull(solution);
+
+    return rankKey.getInt(solution, -1);
+  }
+
+  @Override
+  public Object getAttributedId() {
+    return attributeId;
+  }
+
+  /**
+   * Non-dominated sorting of a set of distinct points sorted lexicographically. The points are
+   * referred to by their position in that order, so a point can only be dominated by points having
+   * a lower position. The subsets handled by the recursive procedures are arrays of positions in
+   * ascending order.
+   */
+  private static final class Sorter {
+    private final double[][] points;
+    private final int numberOfObjectives;
+    private final int[] ranks;
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    Sorter(double[][] points, int numberOfObjectives, ForkJoinPool pool, int parallelThreshold) {
+      this.points = points;
+      this.numberOfObjectives = numberOfObjectives;
+      this.ranks = new int[points.length];
+      this.pool = pool;
+      this.parallelThreshold = parallelThreshold;
+    }
+
+    int[] sort() {
+      int[] all = new int[points.length];
+      Arrays.setAll(all, i -> i);
+      if (numberOfObjectives == 0) {
+        return ranks;
+      }
+
+      if (pool != null && all.length >= parallelThreshold) {
+        pool.invoke(ForkJoinTask.adapt(() -> helperA(all, numberOfObjectives - 1)));
+      } else {
+        helperA(all, numberOfObjectives - 1);
+      }
+      return ranks;
+    }
+
+    /**
+     * Ranks the points of a set, all of them having the same values in the objectives higher than
+     * <code>k</code>. The ranks of the points are final when the method finishes.
+     */
+    private void helperA(int[] set, int k) {
+      int size = set.length;
+      if (size < 2) {
+        return;
+      }
+      if (size == 2) {
+        if (weaklyDominates(set[0], set[1], k)) {
+          update(set[1], ranks[set[0]]);
+        }
+        return;
+      }
+      if (k == 0) {
+        for (int i = 1; i < size; i++) {
+          update(set[i], ranks[set[i - 1]]);
+        }
+        return;
+      }
+      if (k == 1) {
+        sweepA(set);
+        return;
+      }
+
+      double median = median(set, null, k);
+      int[][] parts = split(set, k, median);
+      int[] lower = parts[0];
+      int[] equal = parts[1];
+      int[] higher = parts[2];
+      if (lower.length == 0 && higher.length == 0) {
+        helperA(set, k - 1);
+        return;
+      }
+
+      helperA(lower, k);
+      invoke(
+          size,
+          () -> helperB(lower, higher, k - 1),
+          () -> {
+            helperB(lower, equal, k - 1);
+            helperA(equal, k - 1);
+          });
+      helperB(equal, higher, k - 1);
+      helperA(higher, k);
+    }
+
+    /**
+     * Updates the ranks of the points of the set <code>high</code> from the final ranks of the
+     * points of the set <code>low</code>. The points of <code>low</code> are not worse than those
+     * of <code>high</code> in the objectives higher than <code>k</code>.
+     */
+    private void helperB(int[] low, int[] high, int k) {
+      if (low.length == 0 || high.length == 0) {
+        return;
+      }
+      if (low.length == 1 || high.length == 1 || low.length * high.length <= BRUTE_FORCE_THRESHOLD) {
+        for (int h : high) {
+          for (int l : low) {
+            if (weaklyDominates(l, h, k)) {
+              update(h, ranks[l]);
+            }
+          }
+        }
+        return;
+      }
+      if (k == 0) {
+        int i = 0;
+        int maxRank = -1;
+        for (int h : high) {
+          while (i < low.length && low[i] < h) {
+            maxRank = Math.max(maxRank, ranks[low[i++]]);
+          }
+          update(h, maxRank);
+        }
+        return;
+      }
+      if (k == 1) {
+        sweepB(low, high);
+        return;
+      }
+
+      double lowMin = Double.POSITIVE_INFINITY;
+      double lowMax = Double.NEGATIVE_INFINITY;
+      for (int l : low) {
+        lowMin = Math.min(lowMin, points[l][k]);
+        lowMax = Math.max(lowMax, points[l][k]);
+      }
+      double highMin = Double.POSITIVE_INFINITY;
+      double highMax = Double.NEGATIVE_INFINITY;
+      for (int h : high) {
+        highMin = Math.min(highMin, points[h][k]);
+        highMax = Math.max(highMax, points[h][k]);
+      }
+
+      if (lowMax <= highMin) {
+        helperB(low, high, k - 1);
+      } else if (lowMin <= highMax) {
+        double median = median(low, high, k);
+        int[][] lowParts = split(low, k, median);
+        int[][] highParts = split(high, k, median);
+        int[] lowNotHigher = merge(lowParts[0], lowParts[1]);
+        int[] highNotLower = merge(highParts[1], highParts[2]);
+
+        invoke(
+            low.length + high.length,
+            () -> helperB(lowParts[0], highParts[0], k),
+            () -> {
+              helperB(lowNotHigher, highNotLower, k - 1);
+              helperB(lowParts[2], highParts[2], k);
+            });
+      }
+    }
+
+    /** Sweep line algorithm to rank a set of points considering the first two objectives. */
+    private void sweepA(int[] set) {
+      TreeMap<Double, Integer> staircase = new TreeMap<>();
+      for (int p : set) {
+        double y = points[p][1] + 0.0;
+        Map.Entry<Double, Integer> entry = staircase.floorEntry(y);
+        if (entry != null) {
+          update(p, entry.getValue());
+        }
+        insert(staircase, y, ranks[p]);
+      }
+    }
+
+    /** Sweep line algorithm to update the ranks of a set considering the first two objectives. */
+    private void sweepB(int[] low, int[] high) {
+      TreeMap<Double, Integer> staircase = new TreeMap<>();
+      int i = 0;
+      for (int h : high) {
+        while (i < low.length && low[i] < h) {
+          insert(staircase, points[low[i]][1] + 0.0, ranks[low[i]]);
+          i++;
+        }
+        Map.Entry<Double, Integer> entry = staircase.floorEntry(points[h][1] + 0.0);
+        if (entry != null) {
+          update(h, entry.getValue());
+        }
+      }
+    }
+
+    /**
+     * Inserts a point in a staircase, where both the keys and the ranks are strictly increasing, so
+     * the floor entry of a value contains the highest rank of the points not greater than it.
+     */
+    private static void insert(TreeMap<Double, Integer> staircase, double y, int rank) {
+      Map.Entry<Double, Integer> floor = staircase.floorEntry(y);
+      if (floor != null && floor.getValue() >= rank) {
+        return;
+      }
+      var iterator = staircase.tailMap(y, true).values().iterator();
+      while (iterator.hasNext() && iterator.next() <= rank) {
+        iterator.remove();
+      }
+      staircase.put(y, rank);
+    }
+
+    private void update(int point, int dominatorRank) {
+      if (ranks[point] <= dominatorRank) {
+        ranks[point] = dominatorRank + 1;
+      }
+    }
+
+    private boolean weaklyDominates(int point1, int point2, int k) {
+      double[] p1 = points[point1];
+      double[] p2 = points[point2];
+      for (int i = 0; i <= k; i++) {
+        if (p1[i] > p2[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /** Runs two tasks, in parallel if the size of the problem is above the threshold. */
+    private void invoke(int size, Runnable task1, Runnable task2) {
+      if (pool != null && size >= parallelThreshold && ForkJoinTask.inForkJoinPool()) {
+        ForkJoinTask.invokeAll(ForkJoinTask.adapt(task1), ForkJoinTask.adapt(task2));
+      } else {
+        task1.run();
+        task2.run();
+      }
+    }
+
+    /** Splits a set into the points lower than, equal to and higher than a value in objective k. */
+    private int[][] split(int[] set, int k, double value) {
+      int lowerCount = 0;
+      int higherCount = 0;
+      for (int p : set) {
+        if (points[p][k] < value) {
+          lowerCount++;
+        } else if (points[p][k] > value) {
+          higherCount++;
+        }
+      }
+      int[] lower = new int[lowerCount];
+      int[] equal = new int[set.length - lowerCount - higherCount];
+      int[] higher = new int[higherCount];
+      int l = 0;
+      int e = 0;
+      int h = 0;
+      for (int p : set) {
+        if (points[p][k] < value) {
+          lower[l++] = p;
+        } else if (points[p][k] > value) {
+          higher[h++] = p;
+        } else {
+          equal[e++] = p;
+        }
+      }
+      return new int[][] {lower, equal, higher};
+    }
+
+    private static int[] merge(int[] set1, int[] set2) {
+      int[] result = new int[set1.length + set2.length];
+      int i = 0;
+      int j = 0;
+      int k = 0;
+      while (i < set1.length && j < set2.length) {
+        result[k++] = set1[i] < set2[j] ? set1[i++] : set2[j++];
+      }
+      while (i < set1.length) {
+        result[k++] = set1[i++];
+      }
+      while (j < set2.length) {
+        result[k++] = set2[j++];
+      }
+      return result;
+    }
+
+    /** Median of the values of objective k of the points of one or two sets (quickselect). */
+    private double median(int[] set1, int[] set2, int k) {
+      int size = set1.length + (set2 == null ? 0 : set2.length);
+      double[] values = new double[size];
+      for (int i = 0; i < set1.length; i++) {
+        values[i] = points[set1[i]][k];
+      }
+      for (int i = set1.length; i < size; i++) {
+        values[i] = points[set2[i - set1.length]][k];
+      }
+
+      int target = size / 2;
+      int left = 0;
+      int right = size - 1;
+      while (left < right) {
+        double pivot = values[(left + right) >>> 1];
+        int i = left;
+        int j = right;
+        while (i <= j) {
+          while (values[i] < pivot) {
+            i++;
+          }
+          while (values[j] > pivot) {
+            j--;
+          }
+          if (i <= j) {
+            double temp = values[i];
+            values[i++] = values[j];
+            values[j--] = temp;
+          }
+        }
+        if (target <= j) {
+          right = j;
+        } else if (target >= i) {
+          left = i;
+        } else {
+          break;
+        }
+      }
+      return values[target];
+    }
+  }
+}
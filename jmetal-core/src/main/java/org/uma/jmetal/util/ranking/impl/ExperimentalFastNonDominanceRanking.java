@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.attribute.AttributeKey;
 import org.uma.jmetal.util.ConstraintHandling;
 import org.uma.jmetal.util.comparator.constraintcomparator.impl.OverallConstraintViolationDegreeComparator;
 import org.uma.jmetal.util.errorchecking.Check;
@@ -27,6 +28,7 @@ import ru.ifmo.nds.NonDominatedSorting;
  */
 public class ExperimentalFastNonDominanceRanking<S extends Solution<?>> implements Ranking<S> {
   private final String attributeId = getClass().getName() ;
+  private final AttributeKey<Integer> rankKey = AttributeKey.integerKey(attributeId);
 
   // Interface support: the place to store the fronts.
   private final List<List<S>> subFronts = new ArrayList<>();
@@ -98,7 +100,7 @@ public class ExperimentalFastNonDominanceRanking<S extends Solution<?>> implemen
       S current = solutions.get(i);
       int rank = ranks[i - from] + rankOffset;
       maxRank = Math.max(maxRank, rank);
-      current.attributes().put(attributeId, rank);
+      rankKey.setInt(current, rank);
       while (subFronts.size() <= rank) {
         subFronts.add(new ArrayList<>());
       }
@@ -138,11 +140,7 @@ public class ExperimentalFastNonDominanceRanking<S extends Solution<?>> implemen
   public Integer getRank(S solution) {
     Check.notNull(solution);
 
-    Integer result = -1 ;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Integer) solution.attributes().get(attributeId) ;
-    }
-    return result ;
+    return rankKey.getInt(solution, -1);
   }
 
   @Override
@@ -1,13 +1,18 @@
 package org.uma.jmetal.util.ranking.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.IntBinaryOperator;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.attribute.AttributeKey;
 import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
 import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.populationmatrix.PopulationMatrix;
+import org.uma.jmetal.util.populationmatrix.PopulationMatrixRanking;
 import org.uma.jmetal.util.ranking.Ranking;
 
 /**
@@ -17,11 +22,18 @@ import org.uma.jmetal.util.ranking.Ranking;
  * numbering starts from 1); thus, subset 0 contains the non-dominated solutions, subset 1 contains
  * the non-dominated population after removing those belonging to subset 0, and so on.
  *
+ * <p>The ranking can also be applied to a {@link PopulationMatrix}; in that case, the adjacency
+ * lists are stored in primitive arrays and, if the comparator is a {@link
+ * DefaultDominanceComparator}, the dominance tests are carried out on the flat objective array.
+ * The resulting sub-fronts and ranks are the same as those computed on the list of solutions.
+ *
  * @author Antonio J. Nebro
  */
-public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+public class FastNonDominatedSortRanking<S extends Solution<?>>
+    implements PopulationMatrixRanking<S> {
 
   private String attributeId = getClass().getName();
+  private final AttributeKey<Integer> rankKey = AttributeKey.integerKey(attributeId);
   private Comparator<S> dominanceComparator;
 
   private List<ArrayList<S>> rankedSubPopulations;
@@ -89,7 +101,7 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
     for (int i = 0; i < population.size(); i++) {
       if (dominateMe[i] == 0) {
         front.get(0).add(i);
-        solutionList.get(i).attributes().put(attributeId, 0);
+        rankKey.setInt(solutionList.get(i), 0);
       }
     }
 
@@ -106,7 +118,7 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
           dominateMe[index]--;
           if (dominateMe[index] == 0) {
             front.get(i).add(index);
-            solutionList.get(index).attributes().put(attributeId, i);
+            rankKey.setInt(solutionList.get(index), i);
           }
         }
       }
@@ -125,6 +137,92 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
     return this;
   }
 
+  @Override
+  public void compute(PopulationMatrix<S> matrix) {
+    int size = matrix.size();
+    IntBinaryOperator dominanceTest =
+        dominanceComparator instanceof DefaultDominanceComparator
+            ? matrix::dominanceTest
+            : (p, q) -> dominanceComparator.compare(matrix.solution(p), matrix.solution(q));
+
+    // dominateMe[i] contains the number of individuals dominating i
+    int[] dominateMe = new int[size];
+
+    // iDominate[k] contains the individuals dominated by k (the first iDominateSize[k] positions)
+    int[][] iDominate = new int[size][];
+    int[] iDominateSize = new int[size];
+
+    for (int p = 0; p < size - 1; p++) {
+      for (int q = p + 1; q < size; q++) {
+        int flagDominate = dominanceTest.applyAsInt(p, q);
+        if (flagDominate == -1) {
+          append(iDominate, iDominateSize, p, q);
+          dominateMe[q]++;
+        } else if (flagDominate == 1) {
+          append(iDominate, iDominateSize, q, p);
+          dominateMe[p]++;
+        }
+      }
+    }
+
+    int[] ranks = matrix.ranks();
+    int[] rowsSortedByRank = new int[size];
+    int[] subFrontStarts = new int[size + 1];
+    int numberOfRankedRows = 0;
+
+    for (int i = 0; i < size; i++) {
+      if (dominateMe[i] == 0) {
+        rowsSortedByRank[numberOfRankedRows++] = i;
+        ranks[i] = 0;
+      }
+    }
+
+    // Obtain the rest of fronts
+    int numberOfSubFronts = 0;
+    int frontStart = 0;
+    while (frontStart < numberOfRankedRows) {
+      int frontEnd = numberOfRankedRows;
+      numberOfSubFronts++;
+      subFrontStarts[numberOfSubFronts] = frontEnd;
+      for (int k = frontStart; k < frontEnd; k++) {
+        int p = rowsSortedByRank[k];
+        for (int j = 0; j < iDominateSize[p]; j++) {
+          int index = iDominate[p][j];
+          dominateMe[index]--;
+          if (dominateMe[index] == 0) {
+            rowsSortedByRank[numberOfRankedRows++] = index;
+            ranks[index] = numberOfSubFronts;
+          }
+        }
+      }
+      frontStart = frontEnd;
+    }
+
+    matrix.subFronts(
+        Arrays.copyOf(rowsSortedByRank, numberOfRankedRows), subFrontStarts, numberOfSubFronts);
+
+    // The sub-fronts and the ranks of the solutions are the same as with compute(List)
+    rankedSubPopulations = new ArrayList<>(numberOfSubFronts);
+    for (int rank = 0; rank < numberOfSubFronts; rank++) {
+      ArrayList<S> subFront = new ArrayList<>(subFrontStarts[rank + 1] - subFrontStarts[rank]);
+      for (int k = subFrontStarts[rank]; k < subFrontStarts[rank + 1]; k++) {
+        S solution = matrix.solution(rowsSortedByRank[k]);
+        rankKey.setInt(solution, rank);
+        subFront.add(solution);
+      }
+      rankedSubPopulations.add(subFront);
+    }
+  }
+
+  private static void append(int[][] lists, int[] sizes, int list, int value) {
+    if (lists[list] == null) {
+      lists[list] = new int[4];
+    } else if (sizes[list] == lists[list].length) {
+      lists[list] = Arrays.copyOf(lists[list], 2 * sizes[list]);
+    }
+    lists[list][sizes[list]++] = value;
+  }
+
   @Override
   public List<S> getSubFront(int rank) {
     Check.that(
@@ -143,11 +241,11 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
   public Integer getRank(S solution) {
     Check.notNull(solution);
 
-    Integer result = -1;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Integer) solution.attributes().get(attributeId);
-    }
-    return result;
+    return rankKey.getInt(solution, -1);
+  }
+
+  public Comparator<S> dominanceComparator() {
+    return dominanceComparator;
   }
 
   @Override
@@ -0,0 +1,324 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.attribute.AttributeKey;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * Non-dominated sorting ranking that, besides ranking a list of solutions from scratch, allows to
+ * add and remove solutions one at a time by updating only the sub-fronts affected by the change,
+ * in the line of the incremental non-dominated sorting algorithms of Buzdalov et al. It is
+ * intended for steady-state algorithms, where ranking the whole population again after each new
+ * solution costs O(MN^2).
+ *
+ * <p>The solutions of each sub-front are kept in lexicographic order of their objective values, so
+ * a solution can only be dominated by the solutions preceding it in a sub-front and can only
+ * dominate the ones following it. The sub-front of a new solution is found with a binary search
+ * on the sub-fronts (if a sub-front contains a solution dominating the new one, so do all the
+ * previous ones); in the bi-objective case, checking whether a sub-front dominates a solution only
+ * requires comparing it with its predecessor. Adding a solution moves the solutions of its
+ * sub-front dominated by it to the next sub-front, and so on; removing a solution moves up the
+ * solutions that are no longer dominated. The sub-fronts changed since the last call to {@link
+ * #compute(List)} or to {@link #clearModifiedSubFronts()} are given by {@link
+ * #modifiedSubFronts()}, so that the density values of the rest of sub-fronts can be kept.
+ *
+ * <p>The dominance relation is the Pareto dominance on the objective values (as in {@link
+ * org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator});
+ * constraints are not taken into account.
+ *
+ * @author Antonio J. Nebro
+ */
+public class IncrementalNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+  private final String attributeId = getClass().getName();
+  private final AttributeKey<Integer> rankKey = AttributeKey.integerKey(attributeId);
+
+  private final List<List<S>> subFronts = new ArrayList<>();
+  private final BitSet modifiedSubFronts = new BitSet();
+  private int size;
+
+  @Override
+  public Ranking<S> compute(List<S> solutionList) {
+    Check.notNull(solutionList);
+    subFronts.clear();
+    modifiedSubFronts.clear();
+
+    // Solutions are inserted in lexicographic order, so a new solution never dominates the
+    // solutions already inserted and it is appended to the end of its sub-front
+    List<S> sortedSolutions = new ArrayList<>(solutionList);
+    sortedSolutions.sort((s1, s2) -> compareLexicographically(s1.objectives(), s2.objectives()));
+    for (S solution : sortedSolutions) {
+      int rank = firstNonDominatingSubFront(solution.objectives());
+      if (rank == subFronts.size()) {
+        subFronts.add(new ArrayList<>());
+      }
+      subFronts.get(rank).add(solution);
+      rankKey.setInt(solution, rank);
+    }
+    size = solutionList.size();
+    modifiedSubFronts.set(0, subFronts.size());
+
+    return this;
+  }
+
+  /**
+   * Adds a solution to the ranking
+   *
+   * @return The rank of the solution
+   */
+  public int add(S solution) {
+    Check.notNull(solution);
+    int rank = firstNonDominatingSubFront(solution.objectives());
+
+    List<S> movedSolutions = List.of(solution);
+    int currentRank = rank;
+    while (!movedSolutions.isEmpty()) {
+      modifiedSubFronts.set(currentRank);
+      if (currentRank == subFronts.size()) {
+        subFronts.add(new ArrayList<>(movedSolutions));
+        setRank(movedSolutions, currentRank);
+        break;
+      }
+
+      List<S> subFront = subFronts.get(currentRank);
+      List<S> dominatedSolutions = extractDominatedSolutions(subFront, movedSolutions);
+      insertAll(subFront, movedSolutions);
+      setRank(movedSolutions, currentRank);
+
+      movedSolutions = dominatedSolutions;
+      currentRank++;
+    }
+    size++;
+
+    return rank;
+  }
+
+  /**
+   * Removes a solution from the ranking
+   *
+   * @return True if the solution belonged to the ranking
+   */
+  public boolean remove(S solution) {
+    Check.notNull(solution);
+    int rank = rankKey.getInt(solution, -1);
+    if (rank < 0 || rank >= subFronts.size()) {
+      return false;
+    }
+    List<S> subFront = subFronts.get(rank);
+    int index = indexOf(subFront, solution);
+    if (index < 0) {
+      return false;
+    }
+    subFront.remove(index);
+    modifiedSubFronts.set(rank);
+    size--;
+
+    List<S> removedSolutions = List.of(solution);
+    for (int currentRank = rank + 1;
+        !removedSolutions.isEmpty() && currentRank < subFronts.size();
+        currentRank++) {
+      List<S> upperSubFront = subFronts.get(currentRank - 1);
+      List<S> currentSubFront = subFronts.get(currentRank);
+
+      // Only the solutions dominated by the removed ones can be promoted
+      List<S> promotedSolutions = new ArrayList<>();
+      int keptSolutions = 0;
+      for (S candidate : currentSubFront) {
+        if (isDominatedByAny(candidate.objectives(), removedSolutions)
+            && !isDominatedBy(upperSubFront, candidate.objectives())) {
+          promotedSolutions.add(candidate);
+        } else {
+          currentSubFront.set(keptSolutions++, candidate);
+        }
+      }
+
+      if (!promotedSolutions.isEmpty()) {
+        currentSubFront.subList(keptSolutions, currentSubFront.size()).clear();
+        insertAll(upperSubFront, promotedSolutions);
+        setRank(promotedSolutions, currentRank - 1);
+        modifiedSubFronts.set(currentRank - 1);
+        modifiedSubFronts.set(currentRank);
+      }
+      removedSolutions = promotedSolutions;
+    }
+
+    // A sub-front can only become empty if all the following ones do
+    while (!subFronts.isEmpty() && subFronts.get(subFronts.size() - 1).isEmpty()) {
+      subFronts.remove(subFronts.size() - 1);
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the ranks of the sub-fronts that have been modified since the last call to {@link
+   * #compute(List)} or {@link #clearModifiedSubFronts()}. It can include ranks of sub-fronts that
+   * no longer exist.
+   */
+  public BitSet modifiedSubFronts() {
+    return (BitSet) modifiedSubFronts.clone();
+  }
+
+  public void clearModifiedSubFronts() {
+    modifiedSubFronts.clear();
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /** Returns the lowest rank whose sub-front does not contain a solution dominating the vector */
+  private int firstNonDominatingSubFront(double[] objectives) {
+    int low = 0;
+    int high = subFronts.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (isDominatedBy(subFronts.get(middle), objectives)) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private static <S extends Solution<?>> boolean isDominatedBy(
+      List<S> subFront, double[] objectives) {
+    for (int i = upperBound(subFront, objectives) - 1; i >= 0; i--) {
+      if (VectorUtils.dominanceTest(subFront.get(i).objectives(), objectives) == -1) {
+        return true;
+      }
+      if (objectives.length == 2) {
+        // The predecessor has the lowest value of the second objective among the solutions that
+        // are not worse in the first one
+        return false;
+      }
+    }
+    return false;
+  }
+
+  private static <S extends Solution<?>> boolean isDominatedByAny(
+      double[] objectives, List<S> solutions) {
+    for (S solution : solutions) {
+      if (VectorUtils.dominanceTest(solution.objectives(), objectives) == -1) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Removes from a sub-front the solutions dominated by any of a list of solutions */
+  private static <S extends Solution<?>> List<S> extractDominatedSolutions(
+      List<S> subFront, List<S> dominatingSolutions) {
+    List<S> dominatedSolutions = new ArrayList<>();
+    int keptSolutions = 0;
+    for (S solution : subFront) {
+      if (isDominatedByAny(solution.objectives(), dominatingSolutions)) {
+        dominatedSolutions.add(solution);
+      } else {
+        subFront.set(keptSolutions++, solution);
+      }
+    }
+    subFront.subList(keptSolutions, subFront.size()).clear();
+
+    return dominatedSolutions;
+  }
+
+  private static <S extends Solution<?>> void insertAll(List<S> subFront, List<S> solutions) {
+    for (S solution : solutions) {
+      subFront.add(upperBound(subFront, solution.objectives()), solution);
+    }
+  }
+
+  private static <S extends Solution<?>> int indexOf(List<S> subFront, S solution) {
+    int index = lowerBound(subFront, solution.objectives());
+    while (index < subFront.size()
+        && compareLexicographically(subFront.get(index).objectives(), solution.objectives())
+            == 0) {
+      if (subFront.get(index) == solution) {
+        return index;
+      }
+      index++;
+    }
+    return -1;
+  }
+
+  /** Returns the position of the first solution that is lexicographically greater than a vector */
+  private static <S extends Solution<?>> int upperBound(List<S> subFront, double[] objectives) {
+    int low = 0;
+    int high = subFront.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (compareLexicographically(subFront.get(middle).objectives(), objectives) <= 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /** Returns the position of the first solution that is not lexicographically lower than a vector */
+  private static <S extends Solution<?>> int lowerBound(List<S> subFront, double[] objectives) {
+    int low = 0;
+    int high = subFront.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (compareLexicographically(subFront.get(middle).objectives(), objectives) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private static int compareLexicographically(double[] vector1, double[] vector2) {
+    for (int i = 0; i < vector1.length; i++) {
+      if (vector1[i] < vector2[i]) {
+        return -1;
+      } else if (vector1[i] > vector2[i]) {
+        return 1;
+      }
+    }
+    return 0;
+  }
+
+  private void setRank(List<S> solutions, int rank) {
+    for (S solution : solutions) {
+      rankKey.setInt(solution, rank);
+    }
+  }
+
+  /** Returns a sub-front; its solutions are sorted lexicographically by their objective values */
+  @Override
+  public List<S> getSubFront(int rank) {
+    Check.that(
+        rank < subFronts.size(),
+        "Invalid rank: " + rank + ". Max rank = " + (subFronts.size() - 1));
+
+    return Collections.unmodifiableList(subFronts.get(rank));
+  }
+
+  @Override
+  public int getNumberOfSubFronts() {
+    return subFronts.size();
+  }
+
+  @Override
+  public Integer getRank(S solution) {
+    Check.notNull(solution);
+
+    return rankKey.getInt(solution, -1);
+  }
+
+  @Override
+  public Object getAttributedId() {
+    return attributeId;
+  }
+}
@@ -3,6 +3,7 @@ package org.uma.jmetal.util.ranking.impl;
 import java.util.ArrayList;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.attribute.AttributeKey;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.ranking.Ranking;
@@ -19,6 +20,7 @@ import org.uma.jmetal.util.ranking.impl.util.MNDSBitsetManager;
  */
 public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
   private final String attributeId = getClass().getName();
+  private final AttributeKey<Integer> rankKey = AttributeKey.integerKey(attributeId);
 
   private static final int INSERTIONSORT = 7;
   private int SOL_ID; //field to store the identifier of the jMetal solution
@@ -57,7 +59,7 @@ public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Rank
       for (int r = rankedSubPopulations.size(); r <= ranking[i]; r++) {
         rankedSubPopulations.add(new ArrayList<S>());
       }
-      solutionSet.get(i).attributes().put(attributeId, ranking[i]);
+      rankKey.setInt(solutionSet.get(i), ranking[i]);
       rankedSubPopulations.get(ranking[i]).add(solutionSet.get(i));
     }
     return this;
@@ -220,11 +222,7 @@ public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Rank
   public Integer getRank(S solution) {
     Check.notNull(solution);
 
-    Integer result = -1 ;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Integer) solution.attributes().get(attributeId) ;
-    }
-    return result ;
+    return rankKey.getInt(solution, -1);
   }
 
   @Override
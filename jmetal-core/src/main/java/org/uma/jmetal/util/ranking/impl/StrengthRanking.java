@@ -5,6 +5,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.stream.IntStream;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.attribute.AttributeKey;
 import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
@@ -21,6 +22,7 @@ import org.uma.jmetal.util.ranking.Ranking;
  */
 public class StrengthRanking<S extends Solution<?>> implements Ranking<S> {
   private final String attributeId = getClass().getName();
+  private final AttributeKey<Integer> rankKey = AttributeKey.integerKey(attributeId);
   private Comparator<S> dominanceComparator;
 
   private List<ArrayList<S>> rankedSubPopulations;
@@ -62,7 +64,7 @@ public class StrengthRanking<S extends Solution<?>> implements Ranking<S> {
 
     int maxFitnessValue = 0;
     for (int i = 0; i < solutionList.size(); i++) {
-      solutionList.get(i).attributes().put(attributeId, rawFitness[i]);
+      rankKey.setInt(solutionList.get(i), rawFitness[i]);
       if (rawFitness[i] > maxFitnessValue) {
         maxFitnessValue = rawFitness[i];
       }
@@ -76,7 +78,7 @@ public class StrengthRanking<S extends Solution<?>> implements Ranking<S> {
     // Assign each solution to its corresponding front
     solutionList.forEach(
         solution ->
-            rankedSubPopulations.get((int) solution.attributes().get(attributeId)).add(solution));
+            rankedSubPopulations.get(rankKey.getInt(solution, -1)).add(solution));
 
     // Remove empty fronts
     // rankedSubPopulations.stream().filter(list -> (list.size() == 0));
@@ -110,11 +112,7 @@ public class StrengthRanking<S extends Solution<?>> implements Ranking<S> {
   public Integer getRank(S solution) {
     Check.notNull(solution);
 
-    Integer result = -1;
-    if (solution.attributes().get(attributeId) != null) {
-      result = (Integer) solution.attributes().get(attributeId);
-    }
-    return result;
+    return rankKey.getInt(solution, -1);
   }
 
   @Override
@@ -1,6 +1,10 @@
 package org.uma.jmetal.util.sequencegenerator.impl;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.sequencegenerator.SequenceGenerator;
 
@@ -20,7 +24,8 @@ import org.uma.jmetal.util.sequencegenerator.SequenceGenerator;
  *
  * @author Antonio J. Nebro
  */
-public final class CyclicIntegerSequence implements SequenceGenerator<Integer> {
+public final class CyclicIntegerSequence
+    implements SequenceGenerator<Integer>, CheckpointableComponent {
   private final AtomicInteger index;
   private final int size;
 
@@ -51,6 +56,19 @@ public final class CyclicIntegerSequence implements SequenceGenerator<Integer> {
     return size;
   }
 
+  @Override
+  public void writeState(DataOutput output) throws IOException {
+    output.writeInt(index.get());
+  }
+
+  @Override
+  public void readState(DataInput input) throws IOException {
+    int currentIndex = input.readInt();
+    Check.that(
+        currentIndex >= 0 && currentIndex < size, "Invalid index of the sequence: " + currentIndex);
+    index.set(currentIndex);
+  }
+
   @Override
   public String toString() {
     return "CyclicIntegerSequence{" + "size=" + size + ", currentIndex=" + index.get() + '}';
@@ -1,5 +1,9 @@
 package org.uma.jmetal.util.sequencegenerator.impl;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.sequencegenerator.SequenceGenerator;
@@ -20,7 +24,8 @@ import org.uma.jmetal.util.sequencegenerator.SequenceGenerator;
  *
  * @author Antonio J. Nebro
  */
-public class RandomPermutationCycle implements SequenceGenerator<Integer> {
+public class RandomPermutationCycle
+    implements SequenceGenerator<Integer>, CheckpointableComponent {
   /** The current permutation of indices */
   private int[] sequence;
   
@@ -109,4 +114,26 @@ public class RandomPermutationCycle implements SequenceGenerator<Integer> {
   public int getSequenceLength() {
     return size;
   }
+
+  /** Writes the current permutation and the position in it */
+  @Override
+  public void writeState(DataOutput output) throws IOException {
+    output.writeInt(index);
+    for (int value : sequence) {
+      output.writeInt(value);
+    }
+  }
+
+  @Override
+  public void readState(DataInput input) throws IOException {
+    int currentIndex = input.readInt();
+    Check.that(
+        currentIndex >= 0 && currentIndex < size, "Invalid index of the sequence: " + currentIndex);
+    int[] permutation = new int[size];
+    for (int i = 0; i < size; i++) {
+      permutation[i] = input.readInt();
+    }
+    sequence = permutation;
+    index = currentIndex;
+  }
 }
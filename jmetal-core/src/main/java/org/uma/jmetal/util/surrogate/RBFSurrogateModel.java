@@ -0,0 +1,299 @@
+package org.uma.jmetal.util.surrogate;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Surrogate model of the objectives of a problem based on Gaussian radial basis functions. The
+ * prediction of each objective is the interpolation of the evaluated points with Gaussian kernels,
+ * which is the mean of a Kriging (Gaussian process) model with that kernel, and the variance of
+ * the Gaussian process is used to measure the uncertainty of the predictions.
+ *
+ * <p>The variables are normalized with their bounds and the objectives are standardized. The model
+ * keeps the Cholesky factorization of the kernel matrix, so adding a point costs O(n^2) operations
+ * instead of the O(n^3) ones of training it again. When the number of points reaches its maximum,
+ * the oldest points are discarded and the model is trained again, and so it is when the number of
+ * points doubles, to adapt the width of the kernels.
+ *
+ * @author Antonio J. Nebro
+ */
+public class RBFSurrogateModel {
+  private static final double NUGGET = 1.0e-8;
+  private static final int MAXIMUM_NUMBER_OF_NUGGET_INCREASES = 10;
+
+  private final double[] lowerBounds;
+  private final double[] upperBounds;
+  private final int numberOfObjectives;
+  private final int maximumNumberOfPoints;
+
+  // Points of the model (with the normalized variables) and their objectives
+  private final List<double[]> points = new ArrayList<>();
+  private final List<double[]> objectives = new ArrayList<>();
+
+  private double width;
+  private double nugget;
+  private int numberOfPointsOfTheLastTraining;
+  // Rows of the lower triangular Cholesky factor of the kernel matrix
+  private final List<double[]> cholesky = new ArrayList<>();
+  private double[] objectiveMeans;
+  private double[] objectiveStandardDeviations;
+  // Weights of the kernels of each objective
+  private double[][] weights;
+
+  /** Prediction of the objectives of a point, with the standard deviations of the predictions */
+  public record Prediction(double[] objectives, double[] standardDeviations) {}
+
+  /**
+   * Constructor
+   *
+   * @param lowerBounds Lower bounds of the variables
+   * @param upperBounds Upper bounds of the variables
+   * @param numberOfObjectives Number of objectives
+   * @param maximumNumberOfPoints Maximum number of points kept by the model
+   */
+  public RBFSurrogateModel(
+      double[] lowerBounds,
+      double[] upperBounds,
+      int numberOfObjectives,
+      int maximumNumberOfPoints) {
+    Check.notNull(lowerBounds);
+    Check.notNull(upperBounds);
+    Check.that(
+        lowerBounds.length == upperBounds.length,
+        "The number of lower and upper bounds are different");
+    Check.that(numberOfObjectives > 0, "The number of objectives must be positive");
+    Check.that(maximumNumberOfPoints > 0, "The maximum number of points must be positive");
+
+    this.lowerBounds = lowerBounds.clone();
+    this.upperBounds = upperBounds.clone();
+    this.numberOfObjectives = numberOfObjectives;
+    this.maximumNumberOfPoints = maximumNumberOfPoints;
+  }
+
+  public int size() {
+    return points.size();
+  }
+
+  /** Adds an evaluated point to the model */
+  public void add(double[] variables, double[] objectives) {
+    Check.notNull(variables);
+    Check.notNull(objectives);
+    Check.that(variables.length == lowerBounds.length, "Wrong number of variables");
+    Check.that(objectives.length == numberOfObjectives, "Wrong number of objectives");
+
+    points.add(normalize(variables));
+    this.objectives.add(objectives.clone());
+
+    if (points.size() > maximumNumberOfPoints) {
+      points.remove(0);
+      this.objectives.remove(0);
+      train();
+    } else if (points.size() > 2 * numberOfPointsOfTheLastTraining || !addToFactorization()) {
+      train();
+    } else {
+      computeWeights();
+    }
+  }
+
+  /** Predicts the objectives of a point */
+  public Prediction predict(double[] variables) {
+    Check.notNull(variables);
+    Check.that(variables.length == lowerBounds.length, "Wrong number of variables");
+    Check.that(!points.isEmpty(), "The model has no points");
+
+    double[] point = normalize(variables);
+    double[] kernels = new double[points.size()];
+    for (int i = 0; i < kernels.length; i++) {
+      kernels[i] = kernel(point, points.get(i));
+    }
+
+    // The variance of the Gaussian process is k(x, x) - k^T K^-1 k = 1 - |L^-1 k|^2
+    double[] solution = forwardSubstitution(kernels);
+    double variance = 1.0;
+    for (double value : solution) {
+      variance -= value * value;
+    }
+    variance = Math.max(variance, 0.0);
+
+    double[] predictedObjectives = new double[numberOfObjectives];
+    double[] standardDeviations = new double[numberOfObjectives];
+    for (int j = 0; j < numberOfObjectives; j++) {
+      double value = 0.0;
+      for (int i = 0; i < kernels.length; i++) {
+        value += kernels[i] * weights[j][i];
+      }
+      predictedObjectives[j] = objectiveMeans[j] + value * objectiveStandardDeviations[j];
+      standardDeviations[j] = Math.sqrt(variance) * objectiveStandardDeviations[j];
+    }
+
+    return new Prediction(predictedObjectives, standardDeviations);
+  }
+
+  private double[] normalize(double[] variables) {
+    double[] point = new double[variables.length];
+    for (int i = 0; i < variables.length; i++) {
+      double range = upperBounds[i] - lowerBounds[i];
+      point[i] = range > 0.0 ? (variables[i] - lowerBounds[i]) / range : 0.0;
+    }
+    return point;
+  }
+
+  private double kernel(double[] point1, double[] point2) {
+    double squaredDistance = 0.0;
+    for (int i = 0; i < point1.length; i++) {
+      double difference = point1[i] - point2[i];
+      squaredDistance += difference * difference;
+    }
+    return Math.exp(-squaredDistance / (2.0 * width * width));
+  }
+
+  /** Computes the width of the kernels and the factorization of the kernel matrix */
+  private void train() {
+    width = kernelWidth();
+    nugget = NUGGET;
+    numberOfPointsOfTheLastTraining = points.size();
+
+    int numberOfIncreases = 0;
+    while (!factorize()) {
+      if (++numberOfIncreases > MAXIMUM_NUMBER_OF_NUGGET_INCREASES) {
+        throw new JMetalException("The kernel matrix of the surrogate model is singular");
+      }
+      nugget *= 10.0;
+    }
+    computeWeights();
+  }
+
+  /**
+   * The width of the kernels is twice the mean distance from the points to their nearest
+   * neighbours, so that the kernels of the neighbouring points overlap
+   */
+  private double kernelWidth() {
+    if (points.size() < 2) {
+      return 1.0;
+    }
+
+    double sumOfDistances = 0.0;
+    for (int i = 0; i < points.size(); i++) {
+      double minimumSquaredDistance = Double.POSITIVE_INFINITY;
+      for (int j = 0; j < points.size(); j++) {
+        if (i != j) {
+          double squaredDistance = 0.0;
+          for (int k = 0; k < points.get(i).length; k++) {
+            double difference = points.get(i)[k] - points.get(j)[k];
+            squaredDistance += difference * difference;
+          }
+          minimumSquaredDistance = Math.min(minimumSquaredDistance, squaredDistance);
+        }
+      }
+      sumOfDistances += Math.sqrt(minimumSquaredDistance);
+    }
+
+    double width = 2.0 * sumOfDistances / points.size();
+    return width > 0.0 ? width : 1.0;
+  }
+
+  /** Computes the Cholesky factorization of the kernel matrix; returns false if it fails */
+  private boolean factorize() {
+    cholesky.clear();
+    for (int i = 0; i < points.size(); i++) {
+      if (!addRow(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Adds the last point to the factorization; returns false if it is not positive definite */
+  private boolean addToFactorization() {
+    return addRow(points.size() - 1);
+  }
+
+  private boolean addRow(int index) {
+    double[] kernels = new double[index];
+    for (int i = 0; i < index; i++) {
+      kernels[i] = kernel(points.get(index), points.get(i));
+    }
+
+    double[] row = new double[index + 1];
+    double sum = 1.0 + nugget;
+    for (int i = 0; i < index; i++) {
+      double value = kernels[i];
+      double[] previousRow = cholesky.get(i);
+      for (int k = 0; k < i; k++) {
+        value -= row[k] * previousRow[k];
+      }
+      row[i] = value / previousRow[i];
+      sum -= row[i] * row[i];
+    }
+    if (sum <= 0.0) {
+      return false;
+    }
+    row[index] = Math.sqrt(sum);
+    cholesky.add(row);
+
+    return true;
+  }
+
+  /** Computes the weights of the kernels by solving L L^T w = y for each objective */
+  private void computeWeights() {
+    int numberOfPoints = points.size();
+    objectiveMeans = new double[numberOfObjectives];
+    objectiveStandardDeviations = new double[numberOfObjectives];
+    weights = new double[numberOfObjectives][];
+
+    for (int j = 0; j < numberOfObjectives; j++) {
+      double mean = 0.0;
+      for (double[] values : objectives) {
+        mean += values[j];
+      }
+      mean /= numberOfPoints;
+
+      double variance = 0.0;
+      for (double[] values : objectives) {
+        variance += (values[j] - mean) * (values[j] - mean);
+      }
+      double standardDeviation = Math.sqrt(variance / numberOfPoints);
+      if (standardDeviation == 0.0) {
+        standardDeviation = 1.0;
+      }
+
+      double[] standardizedValues = new double[numberOfPoints];
+      for (int i = 0; i < numberOfPoints; i++) {
+        standardizedValues[i] = (objectives.get(i)[j] - mean) / standardDeviation;
+      }
+
+      objectiveMeans[j] = mean;
+      objectiveStandardDeviations[j] = standardDeviation;
+      weights[j] = backwardSubstitution(forwardSubstitution(standardizedValues));
+    }
+  }
+
+  /** Solves L x = b */
+  private double[] forwardSubstitution(double[] b) {
+    double[] x = new double[b.length];
+    for (int i = 0; i < b.length; i++) {
+      double[] row = cholesky.get(i);
+      double value = b[i];
+      for (int k = 0; k < i; k++) {
+        value -= row[k] * x[k];
+      }
+      x[i] = value / row[i];
+    }
+    return x;
+  }
+
+  /** Solves L^T x = b */
+  private double[] backwardSubstitution(double[] b) {
+    double[] x = b.clone();
+    for (int i = b.length - 1; i >= 0; i--) {
+      double[] row = cholesky.get(i);
+      x[i] /= row[i];
+      for (int k = 0; k < i; k++) {
+        x[k] -= row[k] * x[i];
+      }
+    }
+    return x;
+  }
+}
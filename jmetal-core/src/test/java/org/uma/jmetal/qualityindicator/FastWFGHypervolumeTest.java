@@ -0,0 +1,168 @@
+package org.uma.jmetal.qualityindicator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.FastWFGHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+import org.uma.jmetal.util.VectorUtils;
+
+class FastWFGHypervolumeTest {
+  private static final double EPSILON = 1e-10;
+  private static final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @AfterAll
+  static void shutdownPool() {
+    pool.shutdown();
+  }
+
+  /**
+   * Random points close to the plane where the objectives sum one, so that most of them are
+   * non-dominated, plus some dominated and repeated points
+   */
+  private static double[][] randomFront(int numberOfPoints, int numberOfObjectives, long seed) {
+    Random random = new Random(seed);
+    double[][] front = new double[numberOfPoints][numberOfObjectives];
+    for (int i = 0; i < numberOfPoints; i++) {
+      if (i % 10 == 9) {
+        front[i] = front[random.nextInt(i)].clone();
+        front[i][random.nextInt(numberOfObjectives)] += (i % 20 == 9) ? 0.1 : 0.0;
+        continue;
+      }
+      double sum = 0.0;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        front[i][j] = random.nextDouble();
+        sum += front[i][j];
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        front[i][j] = front[i][j] / sum + 0.05 * random.nextDouble();
+      }
+    }
+    return front;
+  }
+
+  /** Removes the dominated points and the copies of the repeated ones */
+  private static double[][] nonDominatedPoints(double[][] front) {
+    return IntStream.range(0, front.length)
+        .filter(
+            i ->
+                IntStream.range(0, front.length)
+                    .noneMatch(
+                        j ->
+                            weaklyDominates(front[j], front[i])
+                                && (j < i || !Arrays.equals(front[j], front[i]))))
+        .mapToObj(i -> front[i])
+        .toArray(double[][]::new);
+  }
+
+  private static boolean weaklyDominates(double[] point1, double[] point2) {
+    for (int j = 0; j < point1.length; j++) {
+      if (point1[j] > point2[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static double[] referencePoint(int numberOfObjectives) {
+    double[] referencePoint = new double[numberOfObjectives];
+    Arrays.fill(referencePoint, 1.1);
+    return referencePoint;
+  }
+
+  @Test
+  void shouldComputeTheHypervolumeOfASinglePoint() {
+    double[][] front = {{1.0, 2.0, 3.0}};
+
+    double result = new FastWFGHypervolume(new double[] {6.0, 6.0, 6.0}).compute(front);
+
+    assertEquals(60.0, result, EPSILON);
+  }
+
+  @Test
+  void shouldIgnoreThePointsThatAreNotBetterThanTheReferencePoint() {
+    double[][] front = {{0.5, 0.5, 1.0}, {1.5, 0.1, 0.1}, {0.5, 0.5, 0.5}};
+
+    double result = new FastWFGHypervolume(new double[] {1.0, 1.0, 1.0}).compute(front);
+
+    assertEquals(0.125, result, EPSILON);
+    assertEquals(0.0, new FastWFGHypervolume(new double[] {1.0, 1.0}).compute(new double[0][]));
+  }
+
+  @Test
+  void shouldMatchWFGHypervolumeWithTheZDT1ReferenceFront() throws IOException {
+    double[][] front = VectorUtils.readVectors("../resources/referenceFrontsCSV/ZDT1.csv", ",");
+    double[] referencePoint = {1.0, 1.0};
+
+    assertEquals(
+        new WFGHypervolume(referencePoint).compute(front),
+        new FastWFGHypervolume(referencePoint).compute(front),
+        EPSILON);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 3, 4, 5, 6, 7, 8})
+  void shouldMatchWFGHypervolume(int numberOfObjectives) {
+    double[] referencePoint = referencePoint(numberOfObjectives);
+
+    for (long seed = 0; seed < 5; seed++) {
+      // WFGHypervolume assumes that there are no dominated points with two objectives
+      double[][] front = nonDominatedPoints(randomFront(60, numberOfObjectives, seed));
+
+      double expected = new WFGHypervolume(referencePoint).compute(front);
+      double result = new FastWFGHypervolume(referencePoint).compute(front);
+
+      assertEquals(expected, result, EPSILON * expected);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 3, 4, 5, 6})
+  void shouldNotTheDominatedAndRepeatedPointsChangeTheHypervolume(int numberOfObjectives) {
+    double[] referencePoint = referencePoint(numberOfObjectives);
+    double[][] front = randomFront(80, numberOfObjectives, 3);
+
+    var hypervolume = new FastWFGHypervolume(referencePoint);
+
+    assertEquals(
+        hypervolume.compute(nonDominatedPoints(front)), hypervolume.compute(front), EPSILON);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {3, 4, 5, 6})
+  void shouldMatchTheContributionsOfWFGHypervolume(int numberOfObjectives) {
+    double[] referencePoint = referencePoint(numberOfObjectives);
+    double[][] front = randomFront(40, numberOfObjectives, 1);
+
+    double[] expected = new WFGHypervolume(referencePoint).computeHypervolumeContribution(front);
+    double[] result =
+        new FastWFGHypervolume(referencePoint).computeHypervolumeContribution(front);
+
+    double hypervolume = new WFGHypervolume(referencePoint).compute(front);
+    assertArrayEquals(expected, result, EPSILON * hypervolume);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {3, 4, 5, 6})
+  void shouldComputeTheSameValuesInParallel(int numberOfObjectives) {
+    double[] referencePoint = referencePoint(numberOfObjectives);
+    double[][] front = randomFront(100, numberOfObjectives, 2);
+
+    var sequentialHypervolume = new FastWFGHypervolume(referencePoint);
+    var parallelHypervolume = new FastWFGHypervolume(referencePoint).setPool(pool);
+
+    assertEquals(sequentialHypervolume.compute(front), parallelHypervolume.compute(front));
+    assertArrayEquals(
+        sequentialHypervolume.computeHypervolumeContribution(front),
+        parallelHypervolume.computeHypervolumeContribution(front));
+  }
+}
@@ -98,6 +98,18 @@ public class GenerationalDistanceTest {
    * }
    */
 
+  @Test
+  public void shouldComputeUseTheNewReferenceFrontIfItIsReplaced() {
+    double[][] front = {{0.0, 1.0}, {1.0, 0.0}};
+    GenerationalDistance gd = new GenerationalDistance(new double[][] {{0.0, 1.0}, {1.0, 0.0}});
+
+    Assertions.assertEquals(0.0, gd.compute(front));
+
+    gd.referenceFront(new double[][] {{0.0, 2.0}, {1.0, 1.0}});
+
+    Assertions.assertEquals(Math.sqrt(2.0) / 2.0, gd.compute(front), 0.0000000000001);
+  }
+
   @Test
   public void shouldGetNameReturnTheCorrectValue() {
     Assertions.assertEquals("GD", new GenerationalDistance().name());
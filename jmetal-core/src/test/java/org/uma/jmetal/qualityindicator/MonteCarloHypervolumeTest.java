@@ -0,0 +1,123 @@
+package org.uma.jmetal.qualityindicator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.MonteCarloHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+
+class MonteCarloHypervolumeTest {
+  /** Random points on the plane where the objectives sum one, so they are non-dominated */
+  private static double[][] randomFront(int numberOfPoints, int numberOfObjectives, long seed) {
+    Random random = new Random(seed);
+    double[][] front = new double[numberOfPoints][numberOfObjectives];
+    for (double[] point : front) {
+      double sum = 0.0;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        point[j] = random.nextDouble();
+        sum += point[j];
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        point[j] /= sum;
+      }
+    }
+    return front;
+  }
+
+  private static double[] referencePoint(int numberOfObjectives) {
+    double[] referencePoint = new double[numberOfObjectives];
+    Arrays.fill(referencePoint, 1.0);
+    return referencePoint;
+  }
+
+  @Test
+  void shouldComputeTheExactValueOfASinglePoint() {
+    double[][] front = {{1.0, 2.0, 3.0}};
+
+    double result = new MonteCarloHypervolume(new double[] {6.0, 6.0, 6.0}).compute(front);
+
+    assertEquals(60.0, result, 1e-10);
+  }
+
+  @Test
+  void shouldReturnZeroIfNoPointIsBetterThanTheReferencePoint() {
+    double[][] front = {{2.0, 0.5}, {0.5, 1.0}};
+
+    var hypervolume = new MonteCarloHypervolume(new double[] {1.0, 1.0});
+
+    assertEquals(0.0, hypervolume.compute(front));
+    assertArrayEquals(new double[2], hypervolume.computeHypervolumeContribution(front));
+  }
+
+  @Test
+  void shouldEstimateTheHypervolumeWithinTheConfidenceInterval() {
+    double[][] front = randomFront(50, 6, 1);
+    double[] referencePoint = referencePoint(6);
+
+    var hypervolume =
+        new MonteCarloHypervolume(referencePoint).setNumberOfSamples(200000).setSeed(1);
+    double result = hypervolume.compute(front);
+
+    double exactValue = new WFGHypervolume(referencePoint).compute(front);
+    assertEquals(exactValue, result, 2 * hypervolume.halfWidth());
+  }
+
+  @Test
+  void shouldEstimateTheContributionsWithinTheConfidenceInterval() {
+    double[][] front = randomFront(20, 4, 2);
+    double[] referencePoint = referencePoint(4);
+
+    var hypervolume =
+        new MonteCarloHypervolume(referencePoint).setNumberOfSamples(500000).setSeed(2);
+    double[] contributions = hypervolume.computeHypervolumeContribution(front);
+
+    double[] exactContributions =
+        new WFGHypervolume(referencePoint).computeHypervolumeContribution(front);
+    for (int i = 0; i < front.length; i++) {
+      assertEquals(exactContributions[i], contributions[i], 2 * hypervolume.halfWidth());
+    }
+  }
+
+  @Test
+  void shouldTheHypEFitnessValuesAddUpToTheHypervolumeWhenKIsTheSizeOfTheFront() {
+    double[][] front = randomFront(30, 5, 3);
+    var hypervolume = new MonteCarloHypervolume(referencePoint(5)).setSeed(3);
+
+    double[] fitness = hypervolume.computeHypEFitness(front, front.length);
+
+    assertEquals(hypervolume.compute(front), Arrays.stream(fitness).sum(), 1e-10);
+  }
+
+  @Test
+  void shouldGiveTheSameEstimationWithTheSameSeedWhenSamplingInParallel() {
+    double[][] front = randomFront(40, 7, 4);
+    var sequentialHypervolume = new MonteCarloHypervolume(referencePoint(7)).setSeed(4);
+    var parallelHypervolume =
+        new MonteCarloHypervolume(referencePoint(7)).setSeed(4).setPool(new ForkJoinPool(4));
+
+    assertEquals(sequentialHypervolume.compute(front), parallelHypervolume.compute(front));
+    assertArrayEquals(
+        sequentialHypervolume.computeHypervolumeContribution(front),
+        parallelHypervolume.computeHypervolumeContribution(front));
+  }
+
+  @Test
+  void shouldStopSamplingWhenTheConfidenceIntervalIsNarrowEnough() {
+    double[][] front = randomFront(40, 8, 5);
+    var hypervolume =
+        new MonteCarloHypervolume(referencePoint(8))
+            .setNumberOfSamples(10000000)
+            .setConfidenceInterval(0.01, 0.99)
+            .setSeed(5);
+
+    hypervolume.compute(front);
+
+    assertTrue(hypervolume.numberOfSamples() < 10000000);
+    assertTrue(hypervolume.halfWidth() <= 0.01);
+  }
+}
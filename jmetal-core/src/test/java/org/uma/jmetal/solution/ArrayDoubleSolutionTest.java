@@ -0,0 +1,107 @@
+package org.uma.jmetal.solution;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+
+public class ArrayDoubleSolutionTest {
+  private static final double EPSILON = 0.0000000001;
+
+  private final List<Bounds<Double>> bounds =
+      List.of(Bounds.create(0.0, 1.0), Bounds.create(-2.0, 2.0), Bounds.create(5.0, 10.0));
+
+  @Test
+  public void shouldConstructorCreateAValidSolution() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(bounds, 2, 1);
+
+    assertEquals(3, solution.variables().size());
+    assertEquals(2, solution.objectives().length);
+    assertEquals(1, solution.constraints().length);
+    for (int i = 0; i < bounds.size(); i++) {
+      assertTrue(solution.variableValue(i) >= bounds.get(i).getLowerBound());
+      assertTrue(solution.variableValue(i) <= bounds.get(i).getUpperBound());
+    }
+  }
+
+  @Test
+  public void shouldVariablesViewWriteThroughToTheArray() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(bounds, 2, 0);
+
+    solution.variables().set(1, 1.5);
+    solution.variableValue(2, 7.0);
+
+    assertEquals(1.5, solution.variablesArray()[1], EPSILON);
+    assertEquals(7.0, solution.variables().get(2), EPSILON);
+  }
+
+  @Test
+  public void shouldVariablesViewHaveAFixedSize() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(bounds, 2, 0);
+
+    assertThrows(UnsupportedOperationException.class, () -> solution.variables().add(1.0));
+  }
+
+  @Test
+  public void shouldCopyReturnAnEqualButIndependentSolution() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(bounds, 2, 1);
+    solution.objectives()[0] = 1.0;
+    solution.objectives()[1] = 2.0;
+    solution.constraints()[0] = -1.0;
+    solution.attributes().put("key", 4);
+
+    ArrayDoubleSolution copy = solution.copy();
+
+    assertEquals(solution, copy);
+    assertEquals(solution.hashCode(), copy.hashCode());
+    assertNotSame(solution.variablesArray(), copy.variablesArray());
+    assertArrayEquals(solution.objectives(), copy.objectives(), EPSILON);
+    assertArrayEquals(solution.constraints(), copy.constraints(), EPSILON);
+    assertEquals(4, copy.attributes().get("key"));
+
+    double originalValue = solution.variableValue(0);
+    copy.variableValue(0, originalValue + 0.5);
+    assertEquals(originalValue, solution.variableValue(0), EPSILON);
+  }
+
+  @Test
+  public void shouldHashCodeBeConsistentWithDefaultDoubleSolution() {
+    ArrayDoubleSolution arraySolution = new ArrayDoubleSolution(bounds, 2, 0);
+    DefaultDoubleSolution defaultSolution = new DefaultDoubleSolution(bounds, 2, 0);
+    for (int i = 0; i < bounds.size(); i++) {
+      defaultSolution.variables().set(i, arraySolution.variableValue(i));
+    }
+
+    assertEquals(defaultSolution.variables(), arraySolution.variables());
+    assertEquals(defaultSolution.hashCode(), arraySolution.hashCode());
+  }
+
+  @Test
+  public void shouldOperatorsProduceValuesWithinTheBounds() {
+    var crossover = new SBXCrossover(1.0, 20.0);
+    var mutation = new PolynomialMutation(1.0, 20.0);
+
+    List<DoubleSolution> parents =
+        List.of(new ArrayDoubleSolution(bounds, 2, 0), new ArrayDoubleSolution(bounds, 2, 0));
+    for (int iteration = 0; iteration < 100; iteration++) {
+      for (DoubleSolution child : crossover.execute(parents)) {
+        mutation.execute(child);
+        assertTrue(child instanceof ArrayDoubleSolution);
+        for (int i = 0; i < bounds.size(); i++) {
+          assertTrue(child.variableValue(i) >= bounds.get(i).getLowerBound());
+          assertTrue(child.variableValue(i) <= bounds.get(i).getUpperBound());
+        }
+      }
+    }
+  }
+}
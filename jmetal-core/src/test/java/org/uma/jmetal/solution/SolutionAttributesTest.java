@@ -0,0 +1,162 @@
+package org.uma.jmetal.solution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.solution.attribute.AttributeKey;
+import org.uma.jmetal.solution.attribute.SolutionAttributes;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+class SolutionAttributesTest {
+  private static final String DOUBLE_ID = SolutionAttributesTest.class.getName() + ".double";
+  private static final String INTEGER_ID = SolutionAttributesTest.class.getName() + ".integer";
+
+  private final AttributeKey<Double> doubleKey = AttributeKey.doubleKey(DOUBLE_ID);
+  private final AttributeKey<Integer> integerKey = AttributeKey.integerKey(INTEGER_ID);
+
+  private static DoubleSolution solution() {
+    return new DefaultDoubleSolution(
+        List.of(Bounds.create(0.0, 1.0), Bounds.create(0.0, 1.0)), 2, 0);
+  }
+
+  @Test
+  void shouldRequestingAKeyTwiceReturnTheSameInstance() {
+    assertTrue(doubleKey == AttributeKey.doubleKey(DOUBLE_ID));
+    assertTrue(integerKey == AttributeKey.integerKey(INTEGER_ID));
+  }
+
+  @Test
+  void shouldRequestingAKeyWithADifferentTypeRaiseAnException() {
+    assertThrows(JMetalException.class, () -> AttributeKey.integerKey(DOUBLE_ID));
+  }
+
+  @Test
+  void shouldTheValuesSetWithAKeyBeVisibleThroughTheMap() {
+    DoubleSolution solution = solution();
+
+    doubleKey.setDouble(solution, 2.5);
+    integerKey.setInt(solution, 4);
+
+    assertEquals(2.5, solution.attributes().get(DOUBLE_ID));
+    assertEquals(4, solution.attributes().get(INTEGER_ID));
+    assertTrue(solution.attributes().containsKey(DOUBLE_ID));
+    assertEquals(2, solution.attributes().size());
+  }
+
+  @Test
+  void shouldTheValuesPutInTheMapBeVisibleThroughTheKey() {
+    DoubleSolution solution = solution();
+
+    solution.attributes().put(DOUBLE_ID, 1.5);
+    solution.attributes().put(INTEGER_ID, 7);
+    solution.attributes().put("unregistered", "value");
+
+    assertEquals(1.5, doubleKey.getDouble(solution, 0.0));
+    assertEquals(7, integerKey.getInt(solution, -1));
+    assertEquals("value", solution.attributes().get("unregistered"));
+    assertEquals(3, solution.attributes().size());
+  }
+
+  @Test
+  void shouldAValueWithAMismatchingTypeBeKeptInTheMap() {
+    DoubleSolution solution = solution();
+
+    solution.attributes().put(INTEGER_ID, "not an integer");
+
+    assertEquals("not an integer", solution.attributes().get(INTEGER_ID));
+    assertEquals(-1, integerKey.getInt(solution, -1));
+    assertTrue(integerKey.isSetIn(solution));
+  }
+
+  @Test
+  void shouldGetReturnTheDefaultValueIfTheAttributeIsNotSet() {
+    DoubleSolution solution = solution();
+
+    assertEquals(-1, integerKey.getInt(solution, -1));
+    assertFalse(integerKey.isSetIn(solution));
+    assertNull(solution.attributes().get(INTEGER_ID));
+  }
+
+  @Test
+  void shouldRemoveAndClearWorkProperly() {
+    DoubleSolution solution = solution();
+    doubleKey.setDouble(solution, 2.5);
+    integerKey.setInt(solution, 4);
+
+    assertEquals(2.5, solution.attributes().remove(DOUBLE_ID));
+    assertFalse(doubleKey.isSetIn(solution));
+
+    solution.attributes().clear();
+    assertTrue(solution.attributes().isEmpty());
+  }
+
+  @Test
+  void shouldTheCopyOfASolutionHaveIndependentAttributes() {
+    DoubleSolution solution = solution();
+    doubleKey.setDouble(solution, 2.5);
+    solution.attributes().put("unregistered", "value");
+
+    DoubleSolution copy = (DoubleSolution) solution.copy();
+    doubleKey.setDouble(copy, 3.5);
+    copy.attributes().put("unregistered", "other value");
+
+    assertEquals(2.5, doubleKey.getDouble(solution, 0.0));
+    assertEquals("value", solution.attributes().get("unregistered"));
+    assertEquals(3.5, doubleKey.getDouble(copy, 0.0));
+  }
+
+  @Test
+  void shouldTheKeysWorkWithSolutionsWhoseAttributesAreAPlainMap() {
+    Map<Object, Object> plainMap = new HashMap<>();
+    DoubleSolution solution = solution();
+    DoubleSolution wrapper =
+        new DefaultDoubleSolution((DefaultDoubleSolution) solution) {
+          @Override
+          public Map<Object, Object> attributes() {
+            return plainMap;
+          }
+        };
+
+    integerKey.setInt(wrapper, 3);
+
+    assertEquals(3, plainMap.get(INTEGER_ID));
+    assertEquals(3, integerKey.getInt(wrapper, -1));
+  }
+
+  @Test
+  void shouldTheAttributesSurviveSerialization() throws Exception {
+    SolutionAttributes attributes = new SolutionAttributes();
+    attributes.setDouble(doubleKey, 2.5);
+    attributes.setInt(integerKey, 4);
+    attributes.put("unregistered", "value");
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(attributes);
+    }
+    SolutionAttributes result;
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      result = (SolutionAttributes) in.readObject();
+    }
+
+    assertEquals(2.5, result.getDouble(doubleKey, 0.0));
+    assertEquals(4, result.getInt(integerKey, -1));
+    assertEquals("value", result.get("unregistered"));
+    assertEquals(attributes, result);
+  }
+}
@@ -0,0 +1,122 @@
+package org.uma.jmetal.util.archive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionTreeArchive;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.errorchecking.exception.NullParameterException;
+
+class NonDominatedSolutionTreeArchiveTest {
+
+  @Test
+  void shouldConstructorCreateAnEmptyArchive() {
+    var archive = new NonDominatedSolutionTreeArchive<DoubleSolution>();
+
+    Assertions.assertEquals(0, archive.size());
+    Assertions.assertTrue(archive.solutions().isEmpty());
+  }
+
+  @Test
+  void shouldConstructorRaiseAnExceptionIfTheMaximumLeafSizeIsLowerThanTwo() {
+    Assertions.assertThrows(
+        InvalidConditionException.class, () -> new NonDominatedSolutionTreeArchive<>(null, 1));
+  }
+
+  @Test
+  void shouldAddRaiseAnExceptionIfTheSolutionIsNull() {
+    var archive = new NonDominatedSolutionTreeArchive<DoubleSolution>();
+
+    Assertions.assertThrows(NullParameterException.class, () -> archive.add(null));
+  }
+
+  @Test
+  void shouldAddASolutionEqualsToOneAlreadyInTheArchiveDoNothing() {
+    var archive = new NonDominatedSolutionTreeArchive<DoubleSolution>();
+
+    Assertions.assertTrue(archive.add(solution(1.0, 2.0)));
+    Assertions.assertFalse(archive.add(solution(1.0, 2.0)));
+    Assertions.assertEquals(1, archive.size());
+  }
+
+  @Test
+  void shouldAddADominantSolutionDiscardTheDominatedOnes() {
+    var archive = new NonDominatedSolutionTreeArchive<DoubleSolution>();
+    archive.add(solution(1.0, 4.0));
+    archive.add(solution(2.0, 3.0));
+    archive.add(solution(4.0, 1.0));
+
+    DoubleSolution dominant = solution(1.0, 2.0);
+    Assertions.assertTrue(archive.add(dominant));
+
+    Assertions.assertEquals(2, archive.size());
+    Assertions.assertEquals(4.0, archive.get(0).objectives()[0]);
+    Assertions.assertSame(dominant, archive.get(1));
+  }
+
+  @Test
+  void shouldAddAFeasibleSolutionDiscardTheUnfeasibleOnes() {
+    var archive = new NonDominatedSolutionTreeArchive<DoubleSolution>();
+    DoubleSolution unfeasible = solution(0.0, 0.0);
+    unfeasible.constraints()[0] = -1.0;
+    archive.add(unfeasible);
+
+    DoubleSolution feasible = solution(5.0, 5.0);
+    Assertions.assertTrue(archive.add(feasible));
+    Assertions.assertFalse(archive.add(unfeasible));
+
+    Assertions.assertEquals(1, archive.size());
+    Assertions.assertSame(feasible, archive.get(0));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "2, 2000, 1000.0, 2",
+    "3, 2000, 1000.0, 20",
+    "5, 3000, 1000.0, 20",
+    "3, 3000, 5.0, 4",
+    "8, 1000, 3.0, 20"
+  })
+  void shouldContainTheSameSolutionsAsTheListArchive(
+      int numberOfObjectives, int numberOfSolutions, double range, int maxLeafSize) {
+    Random random = new Random(numberOfSolutions + numberOfObjectives);
+    var treeArchive = new NonDominatedSolutionTreeArchive<DoubleSolution>();
+    var treeArchiveWithSmallLeaves =
+        new NonDominatedSolutionTreeArchive<DoubleSolution>(null, maxLeafSize);
+    var listArchive = new NonDominatedSolutionListArchive<DoubleSolution>();
+    var unconstrainedListArchive =
+        new NonDominatedSolutionListArchive<DoubleSolution>(new DefaultDominanceComparator<>());
+
+    for (int i = 0; i < numberOfSolutions; i++) {
+      DoubleSolution solution =
+          new FakeDoubleProblem(2, numberOfObjectives, 1).createSolution();
+      for (int j = 0; j < numberOfObjectives; j++) {
+        // The objective values are skewed towards a front to have large archives
+        solution.objectives()[j] = Math.floor(range * Math.pow(random.nextDouble(), 0.2));
+      }
+      solution.constraints()[0] = random.nextDouble() < 0.05 ? -random.nextInt(3) : 0.0;
+
+      Assertions.assertEquals(listArchive.add(solution), treeArchive.add(solution));
+      Assertions.assertEquals(
+          unconstrainedListArchive.add(solution), treeArchiveWithSmallLeaves.add(solution));
+    }
+
+    Assertions.assertEquals(listArchive.solutions(), treeArchive.solutions());
+    Assertions.assertEquals(
+        unconstrainedListArchive.solutions(), treeArchiveWithSmallLeaves.solutions());
+  }
+
+  private static DoubleSolution solution(double... objectives) {
+    DoubleSolution solution = new FakeDoubleProblem(2, objectives.length, 1).createSolution();
+    System.arraycopy(objectives, 0, solution.objectives(), 0, objectives.length);
+    return solution;
+  }
+}
@@ -0,0 +1,78 @@
+package org.uma.jmetal.util.archive.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+
+class CrowdingDistanceArchiveTest {
+  private static List<DoubleSolution> randomSolutions(
+      DoubleProblem problem, Random random, int numberOfSolutions) {
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < numberOfSolutions; i++) {
+      DoubleSolution solution = problem.createSolution();
+      // Solutions close to a linear front, so that most of them are non-dominated
+      double x = random.nextDouble();
+      solution.objectives()[0] = x + 0.05 * random.nextDouble();
+      solution.objectives()[1] = 1.0 - x + 0.05 * random.nextDouble();
+      solutions.add(solution);
+    }
+    return solutions;
+  }
+
+  @Test
+  void addingSolutionsOneByOneKeepsTheSameSolutionsAsRecomputingTheCrowdingDistance() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+    List<DoubleSolution> solutions = randomSolutions(problem, new Random(1), 2000);
+    var archive = new CrowdingDistanceArchive<DoubleSolution>(50);
+    var referenceArchive =
+        new GenericBoundedArchive<DoubleSolution>(50, new CrowdingDistanceDensityEstimator<>());
+
+    for (DoubleSolution solution : solutions) {
+      assertEquals(referenceArchive.add(solution), archive.add(solution));
+      assertEquals(referenceArchive.size(), archive.size());
+      for (int i = 0; i < archive.size(); i++) {
+        assertSame(referenceArchive.get(i), archive.get(i));
+      }
+    }
+  }
+
+  @Test
+  void addAllPrunesTheArchiveToItsMaximumSize() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+    Random random = new Random(2);
+    var archive = new CrowdingDistanceArchive<DoubleSolution>(50);
+
+    for (int i = 0; i < 20; i++) {
+      archive.addAll(randomSolutions(problem, random, 100));
+
+      assertEquals(50, archive.size());
+      assertEquals(50, SolutionListUtils.getNonDominatedSolutions(archive.solutions()).size());
+    }
+  }
+
+  @Test
+  void computeDensityEstimatorAssignsTheCrowdingDistancesOfTheArchive() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+    var archive = new CrowdingDistanceArchive<DoubleSolution>(50);
+    archive.addAll(randomSolutions(problem, new Random(3), 500));
+    archive.solutions().remove(10);
+
+    archive.computeDensityEstimator();
+    var crowdingDistance = new CrowdingDistanceDensityEstimator<DoubleSolution>();
+    List<Double> distances = archive.solutions().stream().map(crowdingDistance::value).toList();
+    crowdingDistance.compute(archive.solutions());
+
+    for (int i = 0; i < archive.size(); i++) {
+      assertEquals(crowdingDistance.value(archive.get(i)), distances.get(i), 1e-10);
+    }
+  }
+}
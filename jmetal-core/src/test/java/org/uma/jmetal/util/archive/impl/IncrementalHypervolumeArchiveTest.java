@@ -0,0 +1,99 @@
+package org.uma.jmetal.util.archive.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.densityestimator.impl.IncrementalHypervolumeContributionDensityEstimator;
+
+class IncrementalHypervolumeArchiveTest {
+  private static List<DoubleSolution> randomSolutions(
+      DoubleProblem problem, Random random, int numberOfSolutions) {
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < numberOfSolutions; i++) {
+      DoubleSolution solution = problem.createSolution();
+      // Solutions close to a linear front, so that most of them are non-dominated
+      double sum = 0.0;
+      for (int j = 0; j < solution.objectives().length; j++) {
+        solution.objectives()[j] = random.nextDouble();
+        sum += solution.objectives()[j];
+      }
+      for (int j = 0; j < solution.objectives().length; j++) {
+        solution.objectives()[j] = solution.objectives()[j] / sum + 0.05 * random.nextDouble();
+      }
+      solutions.add(solution);
+    }
+    return solutions;
+  }
+
+  /** Removes the solution with the lowest contribution, computed from scratch */
+  private static void removeTheLeastContributingSolution(List<DoubleSolution> solutions) {
+    int numberOfObjectives = solutions.get(0).objectives().length;
+    double[] referencePoint = new double[numberOfObjectives];
+    for (int i = 0; i < numberOfObjectives; i++) {
+      int objective = i;
+      double maximumValue =
+          solutions.stream()
+              .mapToDouble(solution -> solution.objectives()[objective])
+              .max()
+              .orElseThrow();
+      referencePoint[i] =
+          maximumValue + IncrementalHypervolumeContributionDensityEstimator.DEFAULT_OFFSET;
+    }
+    double[][] front = solutions.stream().map(DoubleSolution::objectives).toArray(double[][]::new);
+    double[] contributions =
+        new WFGHypervolume(referencePoint).computeHypervolumeContribution(front);
+
+    int worst = 0;
+    for (int i = 1; i < contributions.length; i++) {
+      if (contributions[i] < contributions[worst]) {
+        worst = i;
+      }
+    }
+    solutions.remove(worst);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 3})
+  void theArchiveRemovesTheSolutionWithTheLowestContribution(int numberOfObjectives) {
+    DoubleProblem problem = new FakeDoubleProblem(2, numberOfObjectives, 0);
+    var archive = new IncrementalHypervolumeArchive<DoubleSolution>(30);
+    var referenceArchive = new NonDominatedSolutionListArchive<DoubleSolution>();
+
+    for (DoubleSolution solution : randomSolutions(problem, new Random(1), 500)) {
+      assertEquals(referenceArchive.add(solution), archive.add(solution));
+      if (referenceArchive.size() > 30) {
+        removeTheLeastContributingSolution(referenceArchive.solutions());
+      }
+
+      assertEquals(referenceArchive.size(), archive.size());
+      for (int i = 0; i < archive.size(); i++) {
+        assertSame(referenceArchive.get(i), archive.get(i));
+      }
+    }
+  }
+
+  @Test
+  void addAllPrunesTheArchiveToItsMaximumSize() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 3, 0);
+    Random random = new Random(2);
+    var archive = new IncrementalHypervolumeArchive<DoubleSolution>(50);
+
+    for (int i = 0; i < 10; i++) {
+      archive.addAll(randomSolutions(problem, random, 100));
+
+      assertEquals(50, archive.size());
+      assertEquals(50, SolutionListUtils.getNonDominatedSolutions(archive.solutions()).size());
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package org.uma.jmetal.util.checkpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.jmetal.problem.binaryproblem.impl.FakeBinaryProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+import org.uma.jmetal.util.sequencegenerator.impl.CyclicIntegerSequence;
+import org.uma.jmetal.util.sequencegenerator.impl.RandomPermutationCycle;
+
+class CheckpointTest {
+  @TempDir Path directory;
+
+  @BeforeEach
+  void setUp() {
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(10));
+  }
+
+  @Test
+  void theDoubleSolutionsAndTheCountersAreReadAsTheyWereWritten() {
+    var problem = new FakeDoubleProblem(3, 2, 1);
+    var population = List.of(problem.createSolution(), problem.createSolution());
+    population.get(0).objectives()[1] = 4.5;
+    population.get(0).constraints()[0] = -1.0;
+    population.get(0).attributes().put("RANKING", 2);
+    population.get(0).attributes().put("CROWDING", Double.POSITIVE_INFINITY);
+    population.get(0).attributes().put(new Object(), "not written");
+    var archive = List.of(problem.createSolution());
+    double[][] speed = {{0.1, 0.2, 0.3}, {-0.1, -0.2, -0.3}};
+
+    Path file = directory.resolve("checkpoint");
+    new Checkpoint<>(1500, 20000L, population).setArchive(archive).setSpeed(speed).write(file);
+    Checkpoint<DoubleSolution> checkpoint = Checkpoint.read(file, problem);
+
+    assertThat(checkpoint.evaluations()).isEqualTo(1500);
+    assertThat(checkpoint.computingTime()).isEqualTo(20000L);
+    assertThat(checkpoint.population()).hasSize(2);
+    for (int i = 0; i < population.size(); i++) {
+      assertThat(checkpoint.population().get(i).variables())
+          .isEqualTo(population.get(i).variables());
+      assertThat(checkpoint.population().get(i).objectives())
+          .isEqualTo(population.get(i).objectives());
+      assertThat(checkpoint.population().get(i).constraints())
+          .isEqualTo(population.get(i).constraints());
+    }
+    assertThat(checkpoint.population().get(0).attributes())
+        .hasSize(2)
+        .containsEntry("RANKING", 2)
+        .containsEntry("CROWDING", Double.POSITIVE_INFINITY);
+    assertThat(checkpoint.archive().get(0).variables()).isEqualTo(archive.get(0).variables());
+    assertThat(checkpoint.localBest()).isEmpty();
+    assertThat(checkpoint.speed()).isDeepEqualTo(speed);
+  }
+
+  @Test
+  void theBinarySolutionsAreReadAsTheyWereWritten() {
+    var problem = new FakeBinaryProblem(2, 70);
+    var population = List.of(problem.createSolution(), problem.createSolution());
+
+    Path file = directory.resolve("checkpoint");
+    new Checkpoint<>(0, 0L, population).write(file);
+    List<BinarySolution> readPopulation = Checkpoint.read(file, problem).population();
+
+    for (int i = 0; i < population.size(); i++) {
+      assertThat(readPopulation.get(i).variables()).isEqualTo(population.get(i).variables());
+      assertThat(readPopulation.get(i).variables().get(0).getBinarySetLength()).isEqualTo(70);
+    }
+  }
+
+  @Test
+  void theRandomGeneratorContinuesFromTheStateItHadWhenTheCheckpointWasCreated() {
+    var problem = new FakeDoubleProblem(1, 1, 0);
+    var checkpoint = new Checkpoint<>(0, 0L, List.of(problem.createSolution()));
+    double value = JMetalRandom.getInstance().nextDouble();
+
+    Path file = directory.resolve("checkpoint");
+    checkpoint.write(file);
+
+    assertThat(Checkpoint.read(file, problem).randomGenerator().nextDouble()).isEqualTo(value);
+  }
+
+  @Test
+  void theStatesOfTheComponentsAreRestoredAsTheyWereSaved() {
+    var problem = new FakeDoubleProblem(1, 1, 0);
+    var permutation = new RandomPermutationCycle(10);
+    var sequence = new CyclicIntegerSequence(10);
+    for (int i = 0; i < 13; i++) {
+      permutation.generateNext();
+      sequence.generateNext();
+    }
+
+    Path file = directory.resolve("checkpoint");
+    new Checkpoint<>(0, 0L, List.of(problem.createSolution()))
+        .setComponentStates(List.of(permutation, sequence))
+        .write(file);
+    var restoredPermutation = new RandomPermutationCycle(10);
+    var restoredSequence = new CyclicIntegerSequence(10);
+    Checkpoint.read(file, problem)
+        .restoreComponentStates(List.of(restoredPermutation, restoredSequence));
+
+    assertThat(restoredSequence.getValue()).isEqualTo(3);
+    for (int i = 0; i < 7; i++) {
+      assertThat(restoredPermutation.getValue()).isEqualTo(permutation.getValue());
+      permutation.generateNext();
+      restoredPermutation.generateNext();
+    }
+  }
+
+  @Test
+  void restoringTheStatesOfOtherComponentsRaisesAnException() {
+    var problem = new FakeDoubleProblem(1, 1, 0);
+    var checkpoint =
+        new Checkpoint<>(0, 0L, List.of(problem.createSolution()))
+            .setComponentStates(List.of(new RandomPermutationCycle(10)));
+
+    assertThatThrownBy(() -> checkpoint.restoreComponentStates(List.of()))
+        .isInstanceOf(InvalidConditionException.class);
+    assertThatThrownBy(
+            () -> checkpoint.restoreComponentStates(List.of(new CyclicIntegerSequence(10))))
+        .isInstanceOf(InvalidConditionException.class);
+  }
+
+  @Test
+  void aFileThatIsNotACheckpointRaisesAnException() throws IOException {
+    Path file = Files.writeString(directory.resolve("checkpoint"), "0.1 0.2\n0.3 0.4\n");
+
+    assertThatThrownBy(() -> Checkpoint.read(file, new FakeDoubleProblem()))
+        .isInstanceOf(InvalidConditionException.class);
+  }
+}
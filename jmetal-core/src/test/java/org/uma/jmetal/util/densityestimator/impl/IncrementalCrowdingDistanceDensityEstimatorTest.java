@@ -0,0 +1,91 @@
+package org.uma.jmetal.util.densityestimator.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+class IncrementalCrowdingDistanceDensityEstimatorTest {
+  private static DoubleSolution randomSolution(DoubleProblem problem, Random random) {
+    DoubleSolution solution = problem.createSolution();
+    for (int i = 0; i < solution.objectives().length; i++) {
+      solution.objectives()[i] = random.nextDouble();
+    }
+    return solution;
+  }
+
+  private static void assertSameDistances(
+      IncrementalCrowdingDistanceDensityEstimator<DoubleSolution> estimator,
+      List<DoubleSolution> solutions) {
+    List<Double> distances = solutions.stream().map(estimator::value).toList();
+
+    new CrowdingDistanceDensityEstimator<DoubleSolution>().compute(solutions);
+
+    assertEquals(solutions.size(), estimator.size());
+    for (int i = 0; i < solutions.size(); i++) {
+      assertEquals(estimator.value(solutions.get(i)), distances.get(i), 1e-10);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 3, 5})
+  void addingAndRemovingSolutionsGivesTheSameDistancesAsComputingThemFromScratch(
+      int numberOfObjectives) {
+    DoubleProblem problem = new FakeDoubleProblem(2, numberOfObjectives, 0);
+    Random random = new Random(numberOfObjectives);
+    var estimator = new IncrementalCrowdingDistanceDensityEstimator<DoubleSolution>();
+    List<DoubleSolution> solutions = new ArrayList<>();
+
+    for (int step = 0; step < 400; step++) {
+      if (solutions.size() < 3 || random.nextDouble() < 0.55) {
+        DoubleSolution solution = randomSolution(problem, random);
+        solutions.add(solution);
+        assertTrue(estimator.add(solution));
+      } else {
+        DoubleSolution solution = solutions.remove(random.nextInt(solutions.size()));
+        assertTrue(estimator.remove(solution));
+      }
+      assertSameDistances(estimator, solutions);
+    }
+  }
+
+  @Test
+  void computeReplacesTheSolutionsOfTheEstimator() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+    Random random = new Random(1);
+    var estimator = new IncrementalCrowdingDistanceDensityEstimator<DoubleSolution>();
+    DoubleSolution solution = randomSolution(problem, random);
+    estimator.add(solution);
+
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      solutions.add(randomSolution(problem, random));
+    }
+    estimator.compute(solutions);
+
+    assertFalse(estimator.contains(solution));
+    assertSameDistances(estimator, solutions);
+  }
+
+  @Test
+  void addingASolutionTwiceOrRemovingAMissingSolutionReturnsFalse() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+    Random random = new Random(1);
+    var estimator = new IncrementalCrowdingDistanceDensityEstimator<DoubleSolution>();
+    DoubleSolution solution = randomSolution(problem, random);
+
+    assertTrue(estimator.add(solution));
+    assertFalse(estimator.add(solution));
+    assertFalse(estimator.remove(randomSolution(problem, random)));
+    assertEquals(1, estimator.size());
+  }
+}
@@ -0,0 +1,199 @@
+package org.uma.jmetal.util.densityestimator.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+class IncrementalHypervolumeContributionDensityEstimatorTest {
+  /** Random solution on the plane where the objectives sum one, so they are non-dominated */
+  private static DoubleSolution randomSolution(DoubleProblem problem, Random random) {
+    DoubleSolution solution = problem.createSolution();
+    double sum = 0.0;
+    for (int i = 0; i < solution.objectives().length; i++) {
+      solution.objectives()[i] = random.nextDouble();
+      sum += solution.objectives()[i];
+    }
+    for (int i = 0; i < solution.objectives().length; i++) {
+      solution.objectives()[i] /= sum;
+    }
+    return solution;
+  }
+
+  private static double[] exactContributions(
+      List<DoubleSolution> solutions, double[] referencePoint) {
+    double[][] front = solutions.stream().map(DoubleSolution::objectives).toArray(double[][]::new);
+    return new WFGHypervolume(referencePoint).computeHypervolumeContribution(front);
+  }
+
+  private static void assertSameContributions(
+      IncrementalHypervolumeContributionDensityEstimator<DoubleSolution> estimator,
+      List<DoubleSolution> solutions,
+      double[] referencePoint,
+      double tolerance) {
+    double[] contributions = exactContributions(solutions, referencePoint);
+
+    assertEquals(solutions.size(), estimator.size());
+    for (int i = 0; i < solutions.size(); i++) {
+      assertEquals(contributions[i], estimator.value(solutions.get(i)), tolerance);
+    }
+  }
+
+  private static double[] nadirPointPlusOffset(List<DoubleSolution> solutions, double offset) {
+    double[] referencePoint = new double[solutions.get(0).objectives().length];
+    Arrays.fill(referencePoint, Double.NEGATIVE_INFINITY);
+    for (DoubleSolution solution : solutions) {
+      for (int i = 0; i < referencePoint.length; i++) {
+        referencePoint[i] = Math.max(referencePoint[i], solution.objectives()[i] + offset);
+      }
+    }
+    return referencePoint;
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 3})
+  void addingAndRemovingSolutionsGivesTheExactContributionsWithAFixedReferencePoint(
+      int numberOfObjectives) {
+    DoubleProblem problem = new FakeDoubleProblem(2, numberOfObjectives, 0);
+    Random random = new Random(numberOfObjectives);
+    double[] referencePoint = new double[numberOfObjectives];
+    Arrays.fill(referencePoint, 0.8);
+    var estimator =
+        new IncrementalHypervolumeContributionDensityEstimator<DoubleSolution>(referencePoint);
+    List<DoubleSolution> solutions = new ArrayList<>();
+
+    for (int step = 0; step < 300; step++) {
+      if (solutions.size() < 2 || random.nextDouble() < 0.6) {
+        DoubleSolution solution = randomSolution(problem, random);
+        solutions.add(solution);
+        assertTrue(estimator.add(solution));
+      } else {
+        DoubleSolution solution = solutions.remove(random.nextInt(solutions.size()));
+        assertTrue(estimator.remove(solution));
+      }
+      assertSameContributions(estimator, solutions, referencePoint, 1e-10);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 3})
+  void addingAndRemovingSolutionsGivesTheExactContributionsWithTheNadirPointPlusAnOffset(
+      int numberOfObjectives) {
+    DoubleProblem problem = new FakeDoubleProblem(2, numberOfObjectives, 0);
+    Random random = new Random(numberOfObjectives);
+    var estimator = new IncrementalHypervolumeContributionDensityEstimator<DoubleSolution>(0.5);
+    List<DoubleSolution> solutions = new ArrayList<>();
+
+    for (int step = 0; step < 300; step++) {
+      if (solutions.size() < 2 || random.nextDouble() < 0.6) {
+        DoubleSolution solution = randomSolution(problem, random);
+        solutions.add(solution);
+        estimator.add(solution);
+      } else {
+        estimator.remove(solutions.remove(random.nextInt(solutions.size())));
+      }
+      double[] referencePoint = nadirPointPlusOffset(solutions, 0.5);
+      assertArrayEquals(referencePoint, estimator.referencePoint(), 1e-12);
+      assertSameContributions(estimator, solutions, referencePoint, 1e-10);
+    }
+  }
+
+  @Test
+  void computeReplacesTheSolutionsOfTheEstimator() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 3, 0);
+    Random random = new Random(1);
+    double[] referencePoint = {1.0, 1.0, 1.0};
+    var estimator =
+        new IncrementalHypervolumeContributionDensityEstimator<DoubleSolution>(referencePoint);
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      DoubleSolution solution = randomSolution(problem, random);
+      solutions.add(solution);
+      estimator.add(solution);
+    }
+
+    List<DoubleSolution> otherSolutions = new ArrayList<>(solutions.subList(10, 30));
+    for (int i = 0; i < 10; i++) {
+      otherSolutions.add(randomSolution(problem, random));
+    }
+    estimator.compute(otherSolutions);
+
+    assertFalse(estimator.contains(solutions.get(0)));
+    assertSameContributions(estimator, otherSolutions, referencePoint, 1e-10);
+  }
+
+  @Test
+  void addingAndRemovingSolutionsAfterComputingAllTheContributionsGivesTheExactContributions() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 3, 0);
+    Random random = new Random(5);
+    double[] referencePoint = {0.9, 0.9, 0.9};
+    var estimator =
+        new IncrementalHypervolumeContributionDensityEstimator<DoubleSolution>(referencePoint);
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      solutions.add(randomSolution(problem, random));
+    }
+
+    for (int step = 0; step < 200; step++) {
+      if (step % 50 == 0) {
+        estimator.compute(solutions);
+      }
+      if (random.nextBoolean()) {
+        DoubleSolution solution = randomSolution(problem, random);
+        solutions.add(solution);
+        estimator.add(solution);
+      } else {
+        estimator.remove(solutions.remove(random.nextInt(solutions.size())));
+      }
+      assertSameContributions(estimator, solutions, referencePoint, 1e-10);
+    }
+  }
+
+  @Test
+  void theContributionsAreEstimatedWithMoreThanThreeObjectives() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 4, 0);
+    Random random = new Random(4);
+    double[] referencePoint = {0.8, 0.8, 0.8, 0.8};
+    var estimator =
+        new IncrementalHypervolumeContributionDensityEstimator<DoubleSolution>(referencePoint)
+            .setNumberOfSamples(50000)
+            .setRandomGenerator(random::nextDouble);
+    List<DoubleSolution> solutions = new ArrayList<>();
+
+    for (int step = 0; step < 40; step++) {
+      if (solutions.size() < 2 || random.nextDouble() < 0.7) {
+        DoubleSolution solution = randomSolution(problem, random);
+        solutions.add(solution);
+        estimator.add(solution);
+      } else {
+        estimator.remove(solutions.remove(random.nextInt(solutions.size())));
+      }
+      assertSameContributions(estimator, solutions, referencePoint, 2e-3);
+    }
+  }
+
+  @Test
+  void addingASolutionTwiceOrRemovingAMissingSolutionDoesNothing() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+    var estimator = new IncrementalHypervolumeContributionDensityEstimator<DoubleSolution>();
+    DoubleSolution solution = randomSolution(problem, new Random(1));
+
+    assertTrue(estimator.add(solution));
+    assertFalse(estimator.add(solution));
+    assertTrue(estimator.remove(solution));
+    assertFalse(estimator.remove(solution));
+    assertEquals(0, estimator.size());
+  }
+}
@@ -0,0 +1,185 @@
+package org.uma.jmetal.util.distance;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.distance.impl.DominanceDistanceBetweenVectors;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.errorchecking.exception.NullParameterException;
+
+/**
+ * @author Antonio J. Nebro
+ */
+class KdTreeTest {
+  private static final double EPSILON = 0.0000000000001;
+
+  private static double[][] randomPoints(Random random, int numberOfPoints, int dimension) {
+    double[][] points = new double[numberOfPoints][dimension];
+    for (int i = 0; i < numberOfPoints; i++) {
+      for (int j = 0; j < dimension; j++) {
+        // Some repeated values, to have points that are equal in some coordinates
+        points[i][j] = random.nextInt(4) == 0 ? 0.5 : random.nextDouble();
+      }
+    }
+    return points;
+  }
+
+  private static double additiveEpsilon(double[] query, double[][] points) {
+    double best = Double.POSITIVE_INFINITY;
+    for (double[] point : points) {
+      double epsilon = Double.NEGATIVE_INFINITY;
+      for (int j = 0; j < query.length; j++) {
+        epsilon = Math.max(epsilon, point[j] - query[j]);
+      }
+      best = Math.min(best, epsilon);
+    }
+    return best;
+  }
+
+  @Test
+  void shouldTheConstructorRaiseAnExceptionIfThePointsAreNull() {
+    assertThrows(NullParameterException.class, () -> new KdTree(null));
+  }
+
+  @Test
+  void shouldTheConstructorRaiseAnExceptionIfThereAreNoPoints() {
+    assertThrows(InvalidConditionException.class, () -> new KdTree(new double[0][0]));
+  }
+
+  @Test
+  void shouldAQueryWithADifferentDimensionRaiseAnException() {
+    KdTree tree = new KdTree(new double[][] {{1.0, 2.0}});
+
+    assertThrows(
+        InvalidConditionException.class,
+        () -> tree.distanceToClosestPoint(new double[] {1.0, 2.0, 3.0}, KdTree.Metric.EUCLIDEAN));
+  }
+
+  @Test
+  void shouldTheDistanceToAPointOfTheTreeBeZeroOrLower() {
+    double[][] points = randomPoints(new Random(1), 100, 3);
+    KdTree tree = new KdTree(points);
+
+    for (double[] point : points) {
+      assertEquals(0.0, tree.distanceToClosestPoint(point, KdTree.Metric.EUCLIDEAN));
+      assertEquals(0.0, tree.distanceToClosestPoint(point, KdTree.Metric.DOMINANCE));
+      // Other points of the tree can dominate it
+      assertTrue(tree.distanceToClosestPoint(point, KdTree.Metric.ADDITIVE_EPSILON) <= 0.0);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 5, 8})
+  void shouldTheDistancesBeTheSameAsComparingWithAllThePoints(int dimension) {
+    Random random = new Random(dimension);
+    double[][] points = randomPoints(random, 500, dimension);
+    double[][] queries = randomPoints(random, 200, dimension);
+    KdTree tree = new KdTree(points);
+
+    for (double[] query : queries) {
+      assertEquals(
+          VectorUtils.distanceToClosestVector(query, points),
+          tree.distanceToClosestPoint(query, KdTree.Metric.EUCLIDEAN),
+          EPSILON);
+      assertEquals(
+          VectorUtils.distanceToClosestVector(
+              query, points, new DominanceDistanceBetweenVectors()),
+          tree.distanceToClosestPoint(query, KdTree.Metric.DOMINANCE),
+          EPSILON);
+      assertEquals(
+          additiveEpsilon(query, points),
+          tree.distanceToClosestPoint(query, KdTree.Metric.ADDITIVE_EPSILON),
+          EPSILON);
+    }
+  }
+
+  @Test
+  void shouldTheDistancesOfManyQueriesBeTheSameAsThoseOfEachQuery() {
+    Random random = new Random(2);
+    double[][] points = randomPoints(random, 1000, 3);
+    double[][] queries = randomPoints(random, 5000, 3);
+    KdTree tree = new KdTree(points);
+
+    for (KdTree.Metric metric : KdTree.Metric.values()) {
+      double[] expectedDistances = new double[queries.length];
+      for (int i = 0; i < queries.length; i++) {
+        expectedDistances[i] = tree.distanceToClosestPoint(queries[i], metric);
+      }
+
+      assertArrayEquals(expectedDistances, tree.distancesToClosestPoints(queries, metric));
+    }
+  }
+
+  /** Indices of the k closest points, sorted by their distances and then by their indices */
+  private static int[] closestPoints(double[] query, double[][] points, int k) {
+    double[] squaredDistances = new double[points.length];
+    for (int i = 0; i < points.length; i++) {
+      for (int j = 0; j < query.length; j++) {
+        squaredDistances[i] += (query[j] - points[i][j]) * (query[j] - points[i][j]);
+      }
+    }
+    return IntStream.range(0, points.length)
+        .boxed()
+        .sorted(
+            Comparator.<Integer>comparingDouble(i -> squaredDistances[i])
+                .thenComparingInt(i -> i))
+        .limit(k)
+        .mapToInt(Integer::intValue)
+        .toArray();
+  }
+
+  @Test
+  void shouldSearchingMoreClosestPointsThanTheTreeHasRaiseAnException() {
+    KdTree tree = new KdTree(new double[][] {{1.0, 2.0}, {2.0, 1.0}});
+
+    assertThrows(
+        InvalidConditionException.class,
+        () -> tree.indicesOfClosestPoints(new double[] {1.0, 2.0}, 3, KdTree.Metric.EUCLIDEAN));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 5, 8})
+  void shouldTheClosestPointsBeTheSameAsSortingAllThePoints(int dimension) {
+    Random random = new Random(dimension);
+    double[][] points = randomPoints(random, 500, dimension);
+    double[][] queries = randomPoints(random, 100, dimension);
+    KdTree tree = new KdTree(points);
+
+    for (double[] query : queries) {
+      for (int k : new int[] {1, 7, 20, 500}) {
+        assertArrayEquals(
+            closestPoints(query, points, k),
+            tree.indicesOfClosestPoints(query, k, KdTree.Metric.EUCLIDEAN));
+      }
+    }
+  }
+
+  @Test
+  void shouldTheTiesOfTheClosestPointsBeBrokenByTheirIndices() {
+    // Uniform weight vectors of three objectives: there are many points at the same distance
+    int divisions = 12;
+    double[][] points = new double[(divisions + 1) * (divisions + 2) / 2][];
+    int index = 0;
+    for (int i = 0; i <= divisions; i++) {
+      for (int j = 0; j <= divisions - i; j++) {
+        points[index++] = new double[] {i / 4.0, j / 4.0, (divisions - i - j) / 4.0};
+      }
+    }
+    KdTree tree = new KdTree(points);
+
+    int[][] closestPoints = tree.indicesOfClosestPoints(points, 10, KdTree.Metric.EUCLIDEAN);
+    for (int i = 0; i < points.length; i++) {
+      assertArrayEquals(closestPoints(points[i], points, 10), closestPoints[i]);
+      assertEquals(i, closestPoints[i][0]);
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package org.uma.jmetal.util.evaluator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.BatchEvaluableProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.evaluator.impl.ExecutorSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+
+class BatchEvaluationUtilsTest {
+  /**
+   * Problem whose objectives are the sum of the variables and the first variable, counting the
+   * solutions evaluated one by one and the calls to the batch evaluation
+   */
+  @SuppressWarnings("serial")
+  private static class CountingBatchProblem extends FakeDoubleProblem
+      implements BatchEvaluableProblem {
+    final AtomicInteger evaluations = new AtomicInteger();
+    final AtomicInteger batches = new AtomicInteger();
+
+    CountingBatchProblem() {
+      super(3, 2, 0);
+    }
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      evaluations.incrementAndGet();
+      solution.objectives()[0] = sum(solution);
+      solution.objectives()[1] = solution.variables().get(0);
+      return solution;
+    }
+
+    @Override
+    public void evaluateBatch(double[][] variables, double[][] objectives) {
+      batches.incrementAndGet();
+      for (int i = 0; i < variables.length; i++) {
+        objectives[i][0] = variables[i][0] + variables[i][1] + variables[i][2];
+        objectives[i][1] = variables[i][0];
+      }
+    }
+  }
+
+  /** Subclass changing the evaluation of a solution but not the batch evaluation */
+  @SuppressWarnings("serial")
+  private static class NegatedCountingBatchProblem extends CountingBatchProblem {
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      super.evaluate(solution);
+      solution.objectives()[0] = -solution.objectives()[0];
+      return solution;
+    }
+  }
+
+  private static double sum(DoubleSolution solution) {
+    return solution.variables().get(0) + solution.variables().get(1) + solution.variables().get(2);
+  }
+
+  private static List<DoubleSolution> solutions(CountingBatchProblem problem, int size) {
+    List<DoubleSolution> solutions = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      solutions.add(problem.createSolution());
+    }
+    return solutions;
+  }
+
+  private static void assertEvaluated(List<DoubleSolution> solutions, double sign) {
+    for (DoubleSolution solution : solutions) {
+      assertThat(solution.objectives()[0]).isEqualTo(sign * sum(solution));
+      assertThat(solution.objectives()[1]).isEqualTo(solution.variables().get(0));
+    }
+  }
+
+  @Test
+  void theSolutionsOfABatchEvaluableProblemAreEvaluatedInChunks() {
+    var problem = new CountingBatchProblem();
+    List<DoubleSolution> solutions = solutions(problem, 25);
+
+    BatchEvaluationUtils.evaluate(solutions, problem, 10);
+
+    assertThat(problem.batches.get()).isEqualTo(3);
+    assertThat(problem.evaluations.get()).isZero();
+    assertEvaluated(solutions, 1.0);
+  }
+
+  @Test
+  void aSubclassOverridingTheEvaluationOfASolutionIsEvaluatedSolutionBySolution() {
+    var problem = new NegatedCountingBatchProblem();
+    List<DoubleSolution> solutions = solutions(problem, 25);
+
+    new SequentialSolutionListEvaluator<DoubleSolution>().evaluate(solutions, problem);
+
+    assertThat(BatchEvaluationUtils.isBatchEvaluable(problem)).isFalse();
+    assertThat(BatchEvaluationUtils.isBatchEvaluable(new CountingBatchProblem())).isTrue();
+    assertThat(BatchEvaluationUtils.isBatchEvaluable(new FakeDoubleProblem())).isFalse();
+    assertThat(problem.batches.get()).isZero();
+    assertThat(problem.evaluations.get()).isEqualTo(25);
+    assertEvaluated(solutions, -1.0);
+  }
+
+  @Test
+  void theExecutorEvaluatorEvaluatesEachBatchWithASingleCall() {
+    var problem = new CountingBatchProblem();
+    var evaluator = new ExecutorSolutionListEvaluator<DoubleSolution>(4).setBatchSize(8);
+    List<DoubleSolution> solutions = solutions(problem, 100);
+
+    try {
+      evaluator.evaluate(solutions, problem);
+    } finally {
+      evaluator.shutdown();
+    }
+
+    assertThat(problem.batches.get()).isEqualTo(13);
+    assertThat(problem.evaluations.get()).isZero();
+    assertEvaluated(solutions, 1.0);
+  }
+
+  @Test
+  void anInvalidChunkSizeRaisesAnException() {
+    var problem = new CountingBatchProblem();
+
+    assertThatThrownBy(() -> BatchEvaluationUtils.evaluate(solutions(problem, 5), problem, 0))
+        .isInstanceOf(InvalidConditionException.class);
+  }
+}
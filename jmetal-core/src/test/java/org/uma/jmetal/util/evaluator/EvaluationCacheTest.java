@@ -0,0 +1,174 @@
+package org.uma.jmetal.util.evaluator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.binaryproblem.impl.FakeBinaryProblem;
+import org.uma.jmetal.problem.permutationproblem.impl.FakeIntegerPermutationProblem;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.evaluator.impl.CachingSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.MultiThreadedSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+
+class EvaluationCacheTest {
+  /** Binary problem counting its evaluations, whose objectives are the numbers of ones and zeros */
+  private static class CountingBinaryProblem extends FakeBinaryProblem {
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    CountingBinaryProblem(int numberOfVariables, int numberOfBitsPerVariable) {
+      super(numberOfVariables, numberOfBitsPerVariable);
+    }
+
+    @Override
+    public BinarySolution evaluate(BinarySolution solution) {
+      evaluations.incrementAndGet();
+      int ones = solution.variables().stream().mapToInt(variable -> variable.cardinality()).sum();
+      solution.objectives()[0] = ones;
+      solution.objectives()[1] = solution.totalNumberOfBits() - ones;
+      return solution;
+    }
+  }
+
+  private static BinarySolution randomSolution(
+      CountingBinaryProblem problem, Random random, int numberOfOnes) {
+    BinarySolution solution = problem.createSolution();
+    solution.variables().forEach(variable -> variable.clear());
+    for (int i = 0; i < numberOfOnes; i++) {
+      solution.variables().get(0).set(random.nextInt(4));
+    }
+    return solution;
+  }
+
+  @Test
+  void shouldTheConstructorRaiseAnExceptionIfTheSizeIsNotPositive() {
+    assertThrows(InvalidConditionException.class, () -> new EvaluationCache<BinarySolution>(0));
+  }
+
+  @Test
+  void shouldTheSolutionsWithTheSameVariablesBeEvaluatedOnce() {
+    CountingBinaryProblem problem = new CountingBinaryProblem(2, 10);
+    EvaluationCache<BinarySolution> cache = new EvaluationCache<>(100);
+    BinarySolution solution = problem.createSolution();
+    List<BinarySolution> solutions =
+        List.of(solution, (BinarySolution) solution.copy(), (BinarySolution) solution.copy());
+
+    int evaluatedSolutions = cache.evaluate(solutions, list -> list.forEach(problem::evaluate));
+    BinarySolution copy = (BinarySolution) solution.copy();
+    copy.objectives()[0] = -1;
+    cache.evaluate(List.of(copy), list -> list.forEach(problem::evaluate));
+
+    assertEquals(1, evaluatedSolutions);
+    assertEquals(1, problem.evaluations.get());
+    for (BinarySolution evaluatedSolution : List.of(solutions.get(1), solutions.get(2), copy)) {
+      assertEquals(solution.objectives()[0], evaluatedSolution.objectives()[0]);
+      assertEquals(solution.objectives()[1], evaluatedSolution.objectives()[1]);
+    }
+    assertEquals(3, cache.hits());
+    assertEquals(1, cache.misses());
+    assertEquals(0.75, cache.hitRate());
+  }
+
+  @Test
+  void shouldTheKeysOfBinarySolutionsDependOnTheBitsOfEachVariable() {
+    CountingBinaryProblem problem = new CountingBinaryProblem(2, 64);
+    EvaluationCache<BinarySolution> cache = new EvaluationCache<>(100);
+    BinarySolution firstSolution = problem.createSolution();
+    BinarySolution secondSolution = problem.createSolution();
+    // The variables of the first solution are {}, {0} and the ones of the second {0}, {}
+    firstSolution.variables().forEach(variable -> variable.clear());
+    secondSolution.variables().forEach(variable -> variable.clear());
+    firstSolution.variables().get(1).set(0);
+    secondSolution.variables().get(0).set(0);
+
+    assertNotEquals(cache.key(firstSolution), cache.key(secondSolution));
+    assertEquals(cache.key(firstSolution), cache.key((BinarySolution) firstSolution.copy()));
+  }
+
+  @Test
+  void shouldTheKeysOfPermutationSolutionsDependOnThePermutation() {
+    var problem = new FakeIntegerPermutationProblem(20, 2);
+    EvaluationCache<PermutationSolution<Integer>> cache = new EvaluationCache<>(100);
+    PermutationSolution<Integer> solution = problem.createSolution();
+    PermutationSolution<Integer> otherSolution = (PermutationSolution<Integer>) solution.copy();
+    Integer first = otherSolution.variables().get(0);
+    otherSolution.variables().set(0, otherSolution.variables().get(1));
+    otherSolution.variables().set(1, first);
+
+    assertEquals(cache.key(solution), cache.key((PermutationSolution<Integer>) solution.copy()));
+    assertNotEquals(cache.key(solution), cache.key(otherSolution));
+  }
+
+  @Test
+  void shouldTheLeastRecentlyUsedSolutionsBeEvicted() {
+    CountingBinaryProblem problem = new CountingBinaryProblem(1, 20);
+    EvaluationCache<BinarySolution> cache = new EvaluationCache<>(32);
+    Random random = new Random(1);
+
+    for (int i = 0; i < 1000; i++) {
+      BinarySolution solution = problem.createSolution();
+      cache.evaluate(List.of(solution), list -> list.forEach(problem::evaluate));
+      assertTrue(cache.size() <= 32);
+    }
+    BinarySolution solution = randomSolution(problem, random, 1);
+    cache.evaluate(List.of(solution), list -> list.forEach(problem::evaluate));
+
+    assertTrue(cache.restore(cache.key(solution), (BinarySolution) solution.copy()));
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertFalse(cache.restore(cache.key(solution), (BinarySolution) solution.copy()));
+  }
+
+  @Test
+  void shouldTheCachingEvaluatorCountOnlyTheEvaluatedSolutions() {
+    CountingBinaryProblem problem = new CountingBinaryProblem(1, 4);
+    Random random = new Random(2);
+    var evaluator =
+        new CachingSolutionListEvaluator<BinarySolution>(
+            new MultiThreadedSolutionListEvaluator<>(4), 1000);
+
+    List<BinarySolution> solutions = new ArrayList<>();
+    IntStream.range(0, 200).forEach(i -> solutions.add(randomSolution(problem, random, 3)));
+    try {
+      evaluator.evaluate(solutions, problem);
+      evaluator.evaluate(solutions, problem);
+    } finally {
+      evaluator.shutdown();
+    }
+
+    assertEquals(problem.evaluations.get(), evaluator.computedEvaluations());
+    assertTrue(evaluator.computedEvaluations() <= 16);
+    for (BinarySolution solution : solutions) {
+      assertEquals(solution.variables().get(0).cardinality(), solution.objectives()[0]);
+    }
+  }
+
+  @Test
+  void shouldTheCacheBeUsableFromSeveralThreads() {
+    CountingBinaryProblem problem = new CountingBinaryProblem(1, 4);
+    EvaluationCache<BinarySolution> cache = new EvaluationCache<>(8);
+    var evaluator = new SequentialSolutionListEvaluator<BinarySolution>();
+
+    IntStream.range(0, 2000)
+        .parallel()
+        .forEach(
+            i -> {
+              BinarySolution solution = randomSolution(problem, new Random(i), 3);
+              cache.evaluate(List.of(solution), list -> evaluator.evaluate(list, problem));
+              assertEquals(solution.variables().get(0).cardinality(), solution.objectives()[0]);
+            });
+
+    assertEquals(2000, cache.hits() + cache.misses());
+    assertEquals(problem.evaluations.get(), cache.misses());
+  }
+}
@@ -0,0 +1,237 @@
+package org.uma.jmetal.util.evaluator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.evaluator.impl.ExecutorSolutionListEvaluator;
+
+class ExecutorSolutionListEvaluatorTest {
+
+  /**
+   * Problem whose first objective is the first variable plus one. The evaluation of the solutions
+   * whose second variable is greater than 0.5 takes a long time.
+   */
+  @SuppressWarnings("serial")
+  private static class SlowProblem extends FakeDoubleProblem {
+    SlowProblem() {
+      super(2, 2, 0);
+    }
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      if (solution.variables().get(1) > 0.5) {
+        try {
+          Thread.sleep(10000);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      solution.objectives()[0] = solution.variables().get(0) + 1.0;
+      solution.objectives()[1] = 0.0;
+      return solution;
+    }
+  }
+
+  private static List<DoubleSolution> solutions(SlowProblem problem, int size, boolean slow) {
+    List<DoubleSolution> solutions = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      DoubleSolution solution = problem.createSolution();
+      solution.variables().set(0, i / (double) size);
+      solution.variables().set(1, slow ? 1.0 : 0.0);
+      solutions.add(solution);
+    }
+    return solutions;
+  }
+
+  private static void assertEvaluated(List<DoubleSolution> solutions) {
+    for (DoubleSolution solution : solutions) {
+      assertThat(solution.objectives()[0]).isEqualTo(solution.variables().get(0) + 1.0);
+    }
+  }
+
+  @Test
+  void theConstructorRaisesAnExceptionIfTheNumberOfThreadsIsNegative() {
+    assertThatThrownBy(() -> new ExecutorSolutionListEvaluator<DoubleSolution>(-1))
+        .isInstanceOf(InvalidConditionException.class);
+  }
+
+  @Test
+  void theNumberOfThreadsIsTheNumberOfProcessorsIfTheParameterIsZero() {
+    var evaluator = new ExecutorSolutionListEvaluator<DoubleSolution>(0);
+
+    assertThat(evaluator.numberOfThreads()).isEqualTo(Runtime.getRuntime().availableProcessors());
+    evaluator.shutdown();
+  }
+
+  @Nested
+  class Evaluation {
+    @Test
+    void aPoolOfThreadsEvaluatesAllTheSolutions() {
+      var problem = new SlowProblem();
+      var evaluator = new ExecutorSolutionListEvaluator<DoubleSolution>(4);
+      List<DoubleSolution> solutions = solutions(problem, 101, false);
+
+      assertThat(evaluator.evaluate(solutions, problem)).isSameAs(solutions);
+      assertEvaluated(solutions);
+      evaluator.shutdown();
+    }
+
+    @Test
+    void virtualThreadsEvaluateAllTheSolutionsWithAnyBatchSize() {
+      var problem = new SlowProblem();
+      ExecutorSolutionListEvaluator<DoubleSolution> evaluator =
+          ExecutorSolutionListEvaluator.withVirtualThreads();
+
+      for (int batchSize : new int[] {0, 1, 7, 1000}) {
+        List<DoubleSolution> solutions = solutions(problem, 50, false);
+        evaluator.setBatchSize(batchSize).evaluate(solutions, problem);
+        assertEvaluated(solutions);
+      }
+      evaluator.shutdown();
+    }
+
+    @Test
+    void anEmptyListIsReturnedUnchanged() {
+      var evaluator = new ExecutorSolutionListEvaluator<DoubleSolution>(2);
+      List<DoubleSolution> solutions = new ArrayList<>();
+
+      assertThat(evaluator.evaluate(solutions, new SlowProblem())).isEmpty();
+      evaluator.shutdown();
+    }
+  }
+
+  @Nested
+  class Timeouts {
+    @Test
+    void theSolutionsExceedingTheTimeoutArePenalized() {
+      var problem = new SlowProblem();
+      var evaluator =
+          new ExecutorSolutionListEvaluator<DoubleSolution>(4)
+              .setBatchSize(1)
+              .setTimeout(50, TimeUnit.MILLISECONDS, new double[] {100.0, 100.0});
+      List<DoubleSolution> fastSolutions = solutions(problem, 10, false);
+      List<DoubleSolution> slowSolutions = solutions(problem, 3, true);
+      List<DoubleSolution> solutions = new ArrayList<>(fastSolutions);
+      solutions.addAll(slowSolutions);
+
+      evaluator.evaluate(solutions, problem);
+
+      assertEvaluated(fastSolutions);
+      for (DoubleSolution solution : slowSolutions) {
+        assertThat(solution.objectives()).containsExactly(100.0, 100.0);
+      }
+      assertThat(evaluator.numberOfTimeouts()).isEqualTo(3);
+      evaluator.shutdown();
+    }
+
+    @Test
+    void aSlowSolutionDoesNotPenalizeTheOtherSolutionsOfItsBatch() {
+      var problem = new SlowProblem();
+      var evaluator =
+          new ExecutorSolutionListEvaluator<DoubleSolution>(1)
+              .setBatchSize(10)
+              .setTimeout(200, TimeUnit.MILLISECONDS, new double[] {100.0, 100.0});
+      List<DoubleSolution> slowSolutions = solutions(problem, 1, true);
+      List<DoubleSolution> fastSolutions = solutions(problem, 9, false);
+      List<DoubleSolution> solutions = new ArrayList<>(slowSolutions);
+      solutions.addAll(fastSolutions);
+
+      evaluator.evaluate(solutions, problem);
+
+      assertThat(slowSolutions.get(0).objectives()).containsExactly(100.0, 100.0);
+      assertEvaluated(fastSolutions);
+      assertThat(evaluator.numberOfTimeouts()).isEqualTo(1);
+      evaluator.shutdown();
+    }
+
+    @Test
+    void theVariablesRepairedByTheProblemAreCopiedBack() {
+      var problem =
+          new SlowProblem() {
+            @Override
+            public DoubleSolution evaluate(DoubleSolution solution) {
+              solution.variables().set(0, Math.min(solution.variables().get(0), 0.5));
+              return super.evaluate(solution);
+            }
+          };
+      var evaluator =
+          new ExecutorSolutionListEvaluator<DoubleSolution>(2)
+              .setTimeout(1, TimeUnit.SECONDS, new double[] {100.0, 100.0});
+      List<DoubleSolution> solutions = solutions(problem, 10, false);
+
+      evaluator.evaluate(solutions, problem);
+
+      for (DoubleSolution solution : solutions) {
+        assertThat(solution.variables().get(0)).isLessThanOrEqualTo(0.5);
+      }
+      assertEvaluated(solutions);
+      evaluator.shutdown();
+    }
+
+    @Test
+    void thePenaltyVectorMustHaveOneValuePerObjective() {
+      var problem = new SlowProblem();
+      var evaluator =
+          new ExecutorSolutionListEvaluator<DoubleSolution>(2)
+              .setTimeout(1, TimeUnit.SECONDS, new double[] {100.0});
+
+      assertThatThrownBy(() -> evaluator.evaluate(solutions(problem, 2, false), problem))
+          .isInstanceOf(InvalidConditionException.class);
+      evaluator.shutdown();
+    }
+  }
+
+  @Nested
+  class Shutdown {
+    @Test
+    void anEvaluatorCreatesItsThreadsAgainIfItIsUsedAfterBeingShutDown() {
+      var problem = new SlowProblem();
+      var evaluator =
+          new ExecutorSolutionListEvaluator<DoubleSolution>(2)
+              .setTimeout(1, TimeUnit.SECONDS, new double[] {100.0, 100.0});
+      evaluator.evaluate(solutions(problem, 2, false), problem);
+      evaluator.shutdown();
+
+      List<DoubleSolution> solutions = solutions(problem, 5, false);
+      evaluator.evaluate(solutions, problem);
+
+      assertEvaluated(solutions);
+      assertThat(evaluator.numberOfTimeouts()).isZero();
+      evaluator.shutdown();
+    }
+
+    @Test
+    void anEvaluatorCannotBeUsedIfTheExecutorProvidedByTheUserHasBeenShutDown() {
+      var problem = new SlowProblem();
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      var evaluator = new ExecutorSolutionListEvaluator<DoubleSolution>(executor);
+      executor.shutdown();
+
+      assertThatThrownBy(() -> evaluator.evaluate(solutions(problem, 2, false), problem))
+          .isInstanceOf(InvalidConditionException.class)
+          .hasMessageContaining("shut down");
+    }
+
+    @Test
+    void anExecutorProvidedByTheUserIsNotShutDown() {
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      var evaluator = new ExecutorSolutionListEvaluator<DoubleSolution>(executor);
+
+      evaluator.shutdown();
+
+      assertThat(executor.isShutdown()).isFalse();
+      assertThat(evaluator.numberOfThreads()).isEqualTo(2);
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package org.uma.jmetal.util.evaluator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.impl.MultiThreadedSolutionListEvaluator;
+
+class MultiThreadedSolutionListEvaluatorTest {
+  /** Problem whose first objective is the first variable plus one */
+  @SuppressWarnings("serial")
+  private static class Problem extends FakeDoubleProblem {
+    Problem() {
+      super(2, 2, 0);
+    }
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      solution.objectives()[0] = solution.variables().get(0) + 1.0;
+      return solution;
+    }
+  }
+
+  private static void assertEvaluatesAllTheSolutions(
+      SolutionListEvaluator<DoubleSolution> evaluator) {
+    var problem = new Problem();
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      solutions.add(problem.createSolution());
+    }
+
+    evaluator.evaluate(solutions, problem);
+
+    for (DoubleSolution solution : solutions) {
+      assertThat(solution.objectives()[0]).isEqualTo(solution.variables().get(0) + 1.0);
+    }
+  }
+
+  @Test
+  void anEvaluatorCanBeUsedAfterBeingShutDown() {
+    var evaluator = new MultiThreadedSolutionListEvaluator<DoubleSolution>(2);
+    assertEvaluatesAllTheSolutions(evaluator);
+    evaluator.shutdown();
+
+    assertEvaluatesAllTheSolutions(evaluator);
+    evaluator.shutdown();
+  }
+
+  @Test
+  void aDeserializedEvaluatorCanBeUsed() throws IOException, ClassNotFoundException {
+    var evaluator = new MultiThreadedSolutionListEvaluator<DoubleSolution>(2);
+    var bytes = new ByteArrayOutputStream();
+    try (var outputStream = new ObjectOutputStream(bytes)) {
+      outputStream.writeObject(evaluator);
+    }
+
+    @SuppressWarnings("unchecked")
+    SolutionListEvaluator<DoubleSolution> deserializedEvaluator;
+    try (var inputStream =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserializedEvaluator = (SolutionListEvaluator<DoubleSolution>) inputStream.readObject();
+    }
+
+    assertEvaluatesAllTheSolutions(deserializedEvaluator);
+    deserializedEvaluator.shutdown();
+  }
+}
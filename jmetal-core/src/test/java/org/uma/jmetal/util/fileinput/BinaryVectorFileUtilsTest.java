@@ -0,0 +1,114 @@
+package org.uma.jmetal.util.fileinput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.jmetal.problem.integerproblem.impl.FakeIntegerProblem;
+import org.uma.jmetal.solution.integersolution.IntegerSolution;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.fileinput.BinaryVectorFileUtils.Type;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.legacy.front.impl.ArrayFront;
+
+class BinaryVectorFileUtilsTest {
+  @TempDir Path directory;
+
+  private static double[][] vectors(int rows, int columns) {
+    double[][] vectors = new double[rows][columns];
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < columns; j++) {
+        vectors[i][j] = i + j / 10.0;
+      }
+    }
+    return vectors;
+  }
+
+  @Test
+  void theVectorsAreReadAsTheyWereWritten() {
+    double[][] vectors = vectors(5000, 3);
+    Path file = directory.resolve("FUN0.bin");
+
+    BinaryVectorFileUtils.writeVectors(vectors, file);
+
+    assertThat(BinaryVectorFileUtils.isBinaryVectorFile(file)).isTrue();
+    assertThat(BinaryVectorFileUtils.readVectors(file)).isDeepEqualTo(vectors);
+    var values = BinaryVectorFileUtils.mapDoubles(file);
+    assertThat(values.capacity()).isEqualTo(15000);
+    assertThat(values.get(3 * 4321 + 2)).isEqualTo(vectors[4321][2]);
+  }
+
+  @Test
+  void theIntegerVectorsAreReadAsTheyWereWritten() {
+    double[][] vectors = {{1, -2, 3}, {4, 5, 6}};
+    Path file = directory.resolve("VAR0.bin");
+
+    BinaryVectorFileUtils.writeVectors(vectors, Type.INTEGER, file);
+
+    assertThat(BinaryVectorFileUtils.readVectors(file)).isDeepEqualTo(vectors);
+    assertThatThrownBy(() -> BinaryVectorFileUtils.mapDoubles(file))
+        .isInstanceOf(InvalidConditionException.class);
+  }
+
+  @Test
+  void theReadersOfTextFilesReadTheBinaryFilesTransparently() throws IOException {
+    double[][] vectors = vectors(10, 2);
+    Path file = directory.resolve("FUN0.bin");
+    BinaryVectorFileUtils.writeVectors(vectors, file);
+
+    assertThat(VectorUtils.readVectors(file.toString(), ",")).isDeepEqualTo(vectors);
+    assertThat(VectorFileUtils.readVectors(file.toString())).isDeepEqualTo(vectors);
+    var front = new ArrayFront(file.toString(), ",");
+    assertThat(front.getNumberOfPoints()).isEqualTo(10);
+    assertThat(front.getPoint(7).values()).isEqualTo(vectors[7]);
+  }
+
+  @Test
+  void theVariablesOfIntegerSolutionsAreWrittenAsIntegers() {
+    var problem = new FakeIntegerProblem(4, 2, 0);
+    List<IntegerSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      solutions.add(problem.createSolution());
+    }
+    Path file = directory.resolve("VAR0.bin");
+
+    new SolutionListOutput(solutions).printVariablesToBinaryFile(file.toString());
+
+    double[][] variables = BinaryVectorFileUtils.readVectors(file);
+    assertThat(variables).hasDimensions(3, 4);
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 4; j++) {
+        assertThat(variables[i][j]).isEqualTo((double) solutions.get(i).variables().get(j));
+      }
+    }
+  }
+
+  @Test
+  void aTextFileIsNotABinaryVectorFile() throws IOException {
+    Path file = Files.writeString(directory.resolve("FUN0.csv"), "1.0,2.0\n3.0,4.0\n");
+
+    assertThat(BinaryVectorFileUtils.isBinaryVectorFile(file)).isFalse();
+    assertThat(BinaryVectorFileUtils.isBinaryVectorFile(directory.resolve("none"))).isFalse();
+    assertThatThrownBy(() -> BinaryVectorFileUtils.readVectors(file))
+        .isInstanceOf(InvalidConditionException.class);
+  }
+
+  @Test
+  void aTruncatedFileRaisesAnException() throws IOException {
+    Path file = directory.resolve("FUN0.bin");
+    BinaryVectorFileUtils.writeVectors(vectors(10, 2), file);
+    byte[] content = Files.readAllBytes(file);
+    Files.write(file, Arrays.copyOf(content, content.length - 8));
+
+    assertThatThrownBy(() -> BinaryVectorFileUtils.readVectors(file))
+        .isInstanceOf(InvalidConditionException.class);
+  }
+}
@@ -1,7 +1,12 @@
 package org.uma.jmetal.util.fileinput;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.jmetal.util.errorchecking.JMetalException;
 
 /***
  * @author sunhaoran
@@ -15,4 +20,39 @@ class VectorFileUtilsTest {
     Assertions.assertEquals(300, referenceVectors.length);
     Assertions.assertEquals(3, referenceVectors[0].length);
   }
+
+  @Test
+  void shouldReadVectorsSkipTheEmptyLinesAndTheLeadingSpaces(@TempDir Path directory)
+      throws IOException {
+    Path file = directory.resolve("vectors.dat");
+    Files.writeString(file, " 0.5 0.5\n\n1.0\t0.0 \n");
+
+    double[][] vectors = VectorFileUtils.readVectors(file.toString());
+
+    Assertions.assertArrayEquals(new double[][] {{0.5, 0.5}, {1.0, 0.0}}, vectors);
+  }
+
+  @Test
+  void shouldReadVectorsRaiseAnExceptionIfTheFileDoesNotExist() {
+    Assertions.assertThrows(
+        JMetalException.class, () -> VectorFileUtils.readVectors("nonExistingFile.dat"));
+  }
+
+  @Test
+  void shouldReadCachedVectorsReadTheFileOnceAndReturnCopies(@TempDir Path directory)
+      throws IOException {
+    Path file = directory.resolve("vectors.dat");
+    Files.writeString(file, "0.25 0.75\n");
+
+    double[][] vectors = VectorFileUtils.readCachedVectors(file.toString());
+    vectors[0][0] = -1.0;
+    Files.delete(file);
+
+    Assertions.assertArrayEquals(
+        new double[][] {{0.25, 0.75}}, VectorFileUtils.readCachedVectors(file.toString()));
+
+    VectorFileUtils.clearCache();
+    Assertions.assertThrows(
+        JMetalException.class, () -> VectorFileUtils.readCachedVectors(file.toString()));
+  }
 }
@@ -77,4 +77,71 @@ class WeightVectorNeighborhoodTest {
     Assertions.assertSame(solutionList.get(69), neighbors.get(0));
     Assertions.assertSame(solutionList.get(79), neighbors.get(19));
   }
+
+  /** Neighborhoods computed as in the original MOEA/D, by sorting the distances to all vectors */
+  private static int[][] neighborhoodsBySortingAllTheDistances(
+      double[][] weightVectors, int neighborhoodSize) {
+    int n = weightVectors.length;
+    int[][] neighborhoods = new int[n][];
+    for (int i = 0; i < n; i++) {
+      double[] x = new double[n];
+      int[] idx = new int[n];
+      for (int j = 0; j < n; j++) {
+        double sum = 0.0;
+        for (int k = 0; k < weightVectors[i].length; k++) {
+          double difference = weightVectors[i][k] - weightVectors[j][k];
+          sum += difference * difference;
+        }
+        x[j] = Math.sqrt(sum);
+        idx[j] = j;
+      }
+      for (int k = 0; k < neighborhoodSize; k++) {
+        for (int j = k + 1; j < n; j++) {
+          if (x[k] > x[j]) {
+            double temp = x[k];
+            x[k] = x[j];
+            x[j] = temp;
+            int id = idx[k];
+            idx[k] = idx[j];
+            idx[j] = id;
+          }
+        }
+      }
+      neighborhoods[i] = Arrays.copyOf(idx, neighborhoodSize);
+    }
+    return neighborhoods;
+  }
+
+  @Test
+  void theTiesAreBrokenAsWhenSortingTheDistancesToAllTheVectors() {
+    // Simplex-lattice vectors whose coordinates are exact, so there are many neighbours at the
+    // same distance
+    List<double[]> vectors = new ArrayList<>();
+    for (int i = 0; i <= 8; i++) {
+      for (int j = 0; j <= 8 - i; j++) {
+        vectors.add(new double[] {i / 8.0, j / 8.0, (8 - i - j) / 8.0});
+      }
+    }
+    double[][] weightVectors = vectors.toArray(new double[0][]);
+
+    int[][] neighborhoods = WeightVectorNeighborhood.closestWeightVectors(weightVectors, 10);
+
+    Assertions.assertArrayEquals(
+        neighborhoodsBySortingAllTheDistances(weightVectors, 10), neighborhoods);
+    // Vectors 0, 4 and 17 are at the same distance from vector 2, and 0 is left out
+    Assertions.assertArrayEquals(
+        new int[] {2, 1, 3, 10, 11, 9, 12, 18, 4, 17}, neighborhoods[2]);
+  }
+
+  @Test
+  void theNeighborhoodsOfTheWeightVectorsOfAFileAreTheSameAsWhenSortingAllTheDistances()
+      throws FileNotFoundException {
+    var weightVectorNeighborhood =
+        new WeightVectorNeighborhood<DoubleSolution>(
+            300, 3, 20, "../resources/weightVectorFiles/moead");
+
+    Assertions.assertArrayEquals(
+        neighborhoodsBySortingAllTheDistances(weightVectorNeighborhood.getWeightVector(), 20),
+        weightVectorNeighborhood.getNeighborhood());
+  }
 }
@@ -0,0 +1,209 @@
+package org.uma.jmetal.util.observable.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.observable.Observable;
+import org.uma.jmetal.util.observable.impl.AsynchronousObservable.OverflowPolicy;
+import org.uma.jmetal.util.observer.Observer;
+
+class AsynchronousObservableTest {
+  /** Observer storing the received values, which waits for a latch before storing them */
+  private static class RecordingObserver implements Observer<Integer> {
+    private final List<Integer> values = new CopyOnWriteArrayList<>();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch latch;
+
+    RecordingObserver(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public void update(Observable<Integer> observable, Integer data) {
+      started.countDown();
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      values.add(data);
+    }
+  }
+
+  /** Waits until the observer has taken the first notification from its queue */
+  private static void awaitFirstUpdate(RecordingObserver observer) throws InterruptedException {
+    observer.started.await();
+  }
+
+  private static void notifyValues(AsynchronousObservable<Integer> observable, int from, int to) {
+    for (int i = from; i <= to; i++) {
+      observable.setChanged();
+      observable.notifyObservers(i);
+    }
+  }
+
+  @Test
+  void theObserversReceiveTheChangedDataInOrder() {
+    try (var observable = new AsynchronousObservable<Integer>("test")) {
+      var observer = new RecordingObserver(new CountDownLatch(0));
+      observable.setOverflowPolicy(OverflowPolicy.BLOCK);
+      observable.register(observer);
+
+      notifyValues(observable, 1, 100);
+      observable.notifyObservers(101);
+      observable.awaitDelivery();
+
+      assertThat(observer.values).hasSize(100);
+      for (int i = 0; i < 100; i++) {
+        assertThat(observer.values.get(i)).isEqualTo(i + 1);
+      }
+      assertThat(observable.hasChanged()).isFalse();
+    }
+  }
+
+  @Test
+  void theObserversOnlyReceiveTheSampledNotifications() {
+    try (var observable = new AsynchronousObservable<Integer>("test")) {
+      var sampledObserver = new RecordingObserver(new CountDownLatch(0));
+      var observer = new RecordingObserver(new CountDownLatch(0));
+      observable.setOverflowPolicy(OverflowPolicy.BLOCK);
+      observable.register(sampledObserver, 3);
+      observable.register(observer);
+
+      notifyValues(observable, 1, 10);
+      observable.awaitDelivery();
+
+      assertThat(sampledObserver.values).containsExactly(1, 4, 7, 10);
+      assertThat(observer.values).hasSize(10);
+      assertThat(observable.numberOfRegisteredObservers()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void theOldestNotificationsAreDroppedWhenTheQueueIsFull() throws InterruptedException {
+    try (var observable = new AsynchronousObservable<Integer>("test")) {
+      var latch = new CountDownLatch(1);
+      var observer = new RecordingObserver(latch);
+      observable.setQueueCapacity(2).setOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+      observable.register(observer);
+
+      notifyValues(observable, 1, 1);
+      awaitFirstUpdate(observer);
+      notifyValues(observable, 2, 10);
+      latch.countDown();
+      observable.awaitDelivery();
+
+      assertThat(observer.values).containsExactly(1, 9, 10);
+      assertThat(observable.droppedNotifications()).isEqualTo(7);
+    }
+  }
+
+  @Test
+  void onlyTheLastNotificationIsKeptWhenTheQueueIsConflated() throws InterruptedException {
+    try (var observable = new AsynchronousObservable<Integer>("test")) {
+      var latch = new CountDownLatch(1);
+      var observer = new RecordingObserver(latch);
+      observable.setOverflowPolicy(OverflowPolicy.CONFLATE);
+      observable.register(observer);
+
+      notifyValues(observable, 1, 1);
+      awaitFirstUpdate(observer);
+      notifyValues(observable, 2, 10);
+      latch.countDown();
+      observable.awaitDelivery();
+
+      assertThat(observer.values).containsExactly(1, 10);
+      assertThat(observable.droppedNotifications()).isEqualTo(8);
+    }
+  }
+
+  @Test
+  void noNotificationIsDroppedWithTheBlockPolicy() {
+    try (var observable = new AsynchronousObservable<Integer>("test")) {
+      var observer = new RecordingObserver(new CountDownLatch(0));
+      observable.setQueueCapacity(1).setOverflowPolicy(OverflowPolicy.BLOCK);
+      observable.register(observer);
+
+      notifyValues(observable, 1, 1000);
+      observable.awaitDelivery();
+
+      assertThat(observer.values).hasSize(1000);
+      assertThat(observable.droppedNotifications()).isZero();
+    }
+  }
+
+  @Test
+  void theObserversReceiveCopiesOfThePopulation() {
+    var problem = new FakeDoubleProblem(2, 2, 0);
+    List<DoubleSolution> population = new ArrayList<>();
+    population.add(problem.createSolution());
+    Map<String, Object> attributes = new HashMap<>();
+    attributes.put("EVALUATIONS", 100);
+    attributes.put("POPULATION", population);
+
+    List<Map<String, Object>> receivedAttributes = new CopyOnWriteArrayList<>();
+    try (var observable = AsynchronousObservable.ofAttributes("test")) {
+      observable.register((source, data) -> receivedAttributes.add(data));
+      observable.setChanged();
+      observable.notifyObservers(attributes);
+      population.get(0).variables().set(0, -1.0);
+      population.add(problem.createSolution());
+    }
+
+    assertThat(receivedAttributes).hasSize(1);
+    Map<String, Object> snapshot = receivedAttributes.get(0);
+    @SuppressWarnings("unchecked")
+    var receivedPopulation = (List<DoubleSolution>) snapshot.get("POPULATION");
+    assertThat(snapshot.get("EVALUATIONS")).isEqualTo(100);
+    assertThat(receivedPopulation).hasSize(1);
+    assertThat(receivedPopulation.get(0)).isNotSameAs(population.get(0));
+    assertThat(receivedPopulation.get(0).variables().get(0)).isNotEqualTo(-1.0);
+    assertThatThrownBy(() -> receivedPopulation.add(problem.createSolution()))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void noNotificationIsAcceptedOnceTheObservableIsClosed() {
+    var observable = new AsynchronousObservable<Integer>("test");
+    observable.close();
+
+    observable.setChanged();
+    assertThatThrownBy(() -> observable.notifyObservers(1))
+        .isInstanceOf(InvalidConditionException.class);
+  }
+
+  @Test
+  void theNotificationsRejectedByTheExecutorAreDroppedWithoutBlockingTheDelivery() {
+    var executor = Executors.newSingleThreadExecutor();
+    executor.shutdown();
+    var observable =
+        new AsynchronousObservable<Integer>("test", UnaryOperator.identity(), executor)
+            .setOverflowPolicy(OverflowPolicy.BLOCK);
+    var observer = new RecordingObserver(new CountDownLatch(0));
+    observable.register(observer);
+
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(10),
+        () -> {
+          notifyValues(observable, 1, 20);
+          observable.awaitDelivery();
+        });
+
+    assertThat(observer.values).isEmpty();
+    assertThat(observable.droppedNotifications()).isEqualTo(20);
+  }
+}
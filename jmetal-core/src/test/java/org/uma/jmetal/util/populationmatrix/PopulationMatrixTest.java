@@ -0,0 +1,145 @@
+package org.uma.jmetal.util.populationmatrix;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.solution.pointsolution.PointSolution;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+class PopulationMatrixTest {
+  private static final double EPSILON = 0.000000001;
+
+  private static List<PointSolution> randomPopulation(
+      int size, int numberOfObjectives, long seed) {
+    Random random = new Random(seed);
+    List<PointSolution> population = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      double[] point = new double[numberOfObjectives];
+      for (int j = 0; j < numberOfObjectives; j++) {
+        // Values are rounded to produce ties and duplicated points
+        point[j] = Math.round(random.nextDouble() * 20) / 20.0;
+      }
+      population.add(new PointSolution(point));
+    }
+    return population;
+  }
+
+  @Test
+  void shouldTheConstructorPackTheObjectivesInRowMajorOrder() {
+    List<PointSolution> population =
+        List.of(new PointSolution(new double[] {1.0, 2.0}), new PointSolution(new double[] {3.0, 4.0}));
+
+    var matrix = new PopulationMatrix<>(population);
+
+    assertEquals(2, matrix.size());
+    assertEquals(2, matrix.numberOfObjectives());
+    assertEquals(0, matrix.numberOfConstraints());
+    assertArrayEquals(new double[] {1.0, 2.0, 3.0, 4.0}, matrix.objectives(), EPSILON);
+    assertEquals(4.0, matrix.objective(1, 1), EPSILON);
+    assertSame(population.get(1), matrix.solution(1));
+    assertArrayEquals(new int[] {-1, -1}, matrix.ranks());
+  }
+
+  @Test
+  void shouldDominanceTestWorkProperly() {
+    List<PointSolution> population =
+        List.of(
+            new PointSolution(new double[] {1.0, 2.0}),
+            new PointSolution(new double[] {2.0, 3.0}),
+            new PointSolution(new double[] {0.0, 5.0}),
+            new PointSolution(new double[] {1.0, 2.0}));
+
+    var matrix = new PopulationMatrix<>(population);
+
+    assertEquals(-1, matrix.dominanceTest(0, 1));
+    assertEquals(1, matrix.dominanceTest(1, 0));
+    assertEquals(0, matrix.dominanceTest(0, 2));
+    assertEquals(0, matrix.dominanceTest(0, 3));
+  }
+
+  @Test
+  void shouldStableSortKeepTheOrderOfTies() {
+    int[] values = {0, 1, 2, 3, 4, 5};
+    double[] keys = {3.0, 1.0, 3.0, 1.0, 2.0, Double.POSITIVE_INFINITY};
+
+    PopulationMatrix.stableSort(values, keys, false);
+    assertArrayEquals(new int[] {1, 3, 4, 0, 2, 5}, values);
+
+    values = new int[] {0, 1, 2, 3, 4, 5};
+    keys = new double[] {3.0, 1.0, 3.0, 1.0, 2.0, Double.POSITIVE_INFINITY};
+    PopulationMatrix.stableSort(values, keys, true);
+    assertArrayEquals(new int[] {5, 0, 2, 4, 1, 3}, values);
+  }
+
+  @Test
+  void shouldTheMatrixRankingBeEqualToTheListRanking() {
+    for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+      List<PointSolution> population = randomPopulation(200, numberOfObjectives, numberOfObjectives);
+
+      var listRanking = new FastNonDominatedSortRanking<PointSolution>().compute(population);
+      var matrix = new PopulationMatrix<>(population);
+      new FastNonDominatedSortRanking<PointSolution>().compute(matrix);
+
+      assertEquals(listRanking.getNumberOfSubFronts(), matrix.numberOfSubFronts());
+      for (int rank = 0; rank < matrix.numberOfSubFronts(); rank++) {
+        List<PointSolution> subFront = listRanking.getSubFront(rank);
+        int[] rows = matrix.subFront(rank);
+        assertEquals(subFront.size(), rows.length);
+        for (int i = 0; i < rows.length; i++) {
+          assertSame(subFront.get(i), matrix.solution(rows[i]));
+          assertEquals(rank, matrix.rank(rows[i]));
+        }
+      }
+    }
+  }
+
+  @Test
+  void shouldTheMatrixRankingWorkWithACustomComparator() {
+    List<PointSolution> population = randomPopulation(100, 3, 7);
+
+    var listRanking =
+        new FastNonDominatedSortRanking<PointSolution>(new DominanceWithConstraintsComparator<>())
+            .compute(population);
+    var matrix = new PopulationMatrix<>(population);
+    new FastNonDominatedSortRanking<PointSolution>(new DominanceWithConstraintsComparator<>())
+        .compute(matrix);
+
+    IntStream.range(0, population.size())
+        .forEach(i -> assertEquals(listRanking.getRank(population.get(i)), matrix.rank(i)));
+  }
+
+  @Test
+  void shouldTheMatrixCrowdingDistanceBeEqualToTheListCrowdingDistance() {
+    List<PointSolution> population = randomPopulation(150, 3, 11);
+    var crowdingDistance = new CrowdingDistanceDensityEstimator<PointSolution>();
+
+    var matrix = new PopulationMatrix<>(population);
+    int[] rows = IntStream.range(0, population.size()).toArray();
+    crowdingDistance.compute(matrix, rows);
+    crowdingDistance.compute(population);
+
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(crowdingDistance.value(population.get(i)), matrix.density(i), EPSILON);
+    }
+  }
+
+  @Test
+  void shouldTheMatrixCrowdingDistanceOnlyUpdateTheGivenRows() {
+    List<PointSolution> population = randomPopulation(10, 2, 3);
+    var matrix = new PopulationMatrix<>(population);
+
+    new CrowdingDistanceDensityEstimator<PointSolution>().compute(matrix, new int[] {1, 4});
+
+    assertEquals(Double.POSITIVE_INFINITY, matrix.density(1));
+    assertEquals(Double.POSITIVE_INFINITY, matrix.density(4));
+    assertEquals(0.0, matrix.density(0), EPSILON);
+  }
+}
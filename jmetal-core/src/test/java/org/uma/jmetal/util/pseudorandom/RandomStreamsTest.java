@@ -0,0 +1,194 @@
+package org.uma.jmetal.util.pseudorandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.util.pseudorandom.impl.MersenneTwisterGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.RandomGeneratorAdapter;
+
+class RandomStreamsTest {
+  @AfterEach
+  void restoreTheSharedGenerator() {
+    JMetalRandom.getInstance().setRandomStreams(null);
+  }
+
+  private static double[] sequence(PseudoRandomGenerator generator, int length) {
+    return IntStream.range(0, length).mapToDouble(i -> generator.nextDouble()).toArray();
+  }
+
+  @Test
+  void theAdapterGeneratesTheSameSequenceWithTheSameSeed() {
+    PseudoRandomGenerator generator = new RandomGeneratorAdapter(1);
+    double[] firstSequence = sequence(generator, 100);
+    generator.setSeed(1);
+
+    assertEquals(RandomGeneratorAdapter.DEFAULT_ALGORITHM, generator.getName());
+    assertEquals(1, generator.getSeed());
+    assertArrayEquals(firstSequence, sequence(generator, 100));
+  }
+
+  @Test
+  void theAdapterGeneratesIntegersInTheBounds() {
+    PseudoRandomGenerator generator = new RandomGeneratorAdapter("Xoshiro256PlusPlus", 2);
+
+    for (int i = 0; i < 1000; i++) {
+      int value = generator.nextInt(-2, 3);
+      assertTrue(value >= -2 && value <= 3);
+    }
+  }
+
+  @Test
+  void theGeneratorsOfAKeyAreTheSameRegardlessOfTheOrderTheyAreCreated() {
+    RandomStreams streams = new RandomStreams(1);
+    double[] firstSequence = sequence(streams.derive(3).generator(7), 10);
+    sequence(streams.derive(4).generator(7), 10);
+    sequence(streams.threadGenerator(), 10);
+
+    double[] secondSequence = sequence(new RandomStreams(1).derive(3).generator(7), 10);
+
+    assertArrayEquals(firstSequence, secondSequence);
+  }
+
+  @Test
+  void theGeneratorsOfDifferentKeysAreDifferent() {
+    RandomStreams streams = new RandomStreams(1);
+
+    Set<Double> values = ConcurrentHashMap.newKeySet();
+    for (int key = 0; key < 1000; key++) {
+      values.add(streams.generator(key).nextDouble());
+      values.add(streams.derive(key).generator(0).nextDouble());
+    }
+
+    assertEquals(2000, values.size());
+  }
+
+  @Test
+  void theStreamsCanUseOtherGenerators() {
+    RandomStreams streams = new RandomStreams(1, MersenneTwisterGenerator::new);
+
+    assertEquals("MersenneTwister", streams.generator(0).getName());
+    assertEquals("MersenneTwister", streams.threadGenerator().getName());
+  }
+
+  @Test
+  void eachThreadUsesItsOwnGeneratorWhenThereAreRandomStreams() throws Exception {
+    JMetalRandom.getInstance().setRandomStreams(new RandomStreams(1));
+    assertSame(
+        JMetalRandom.getInstance().getRandomGenerator(),
+        JMetalRandom.getInstance().getRandomGenerator());
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<PseudoRandomGenerator>> generators = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        generators.add(
+            executor.submit(
+                () -> {
+                  // Keeps the thread busy so that each task runs in a different thread
+                  Thread.sleep(100);
+                  return JMetalRandom.getInstance().getRandomGenerator();
+                }));
+      }
+
+      Set<PseudoRandomGenerator> differentGenerators = ConcurrentHashMap.newKeySet();
+      for (Future<PseudoRandomGenerator> generator : generators) {
+        differentGenerators.add(generator.get());
+      }
+      assertEquals(4, differentGenerators.size());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void aTaskUsesItsGeneratorAndTheThreadRecoversTheSharedOneAfterwards() {
+    PseudoRandomGenerator sharedGenerator = JMetalRandom.getInstance().getRandomGenerator();
+    PseudoRandomGenerator taskGenerator = new RandomGeneratorAdapter(5);
+
+    double[] sequence =
+        JMetalRandom.getInstance()
+            .callWith(
+                taskGenerator,
+                () ->
+                    IntStream.range(0, 10)
+                        .mapToDouble(i -> JMetalRandom.getInstance().nextDouble())
+                        .toArray());
+
+    assertArrayEquals(sequence(new RandomGeneratorAdapter(5), 10), sequence);
+    assertSame(sharedGenerator, JMetalRandom.getInstance().getRandomGenerator());
+    assertNotSame(taskGenerator, JMetalRandom.getInstance().getRandomGenerator());
+  }
+
+  @Test
+  void aDeserializedAdapterContinuesTheSequenceOfTheOriginalOne() throws Exception {
+    PseudoRandomGenerator generator = new RandomGeneratorAdapter(3);
+    sequence(generator, 50);
+    for (int i = 0; i < 50; i++) {
+      generator.nextInt(0, 6);
+    }
+
+    var bytes = new ByteArrayOutputStream();
+    try (var outputStream = new ObjectOutputStream(bytes)) {
+      outputStream.writeObject(generator);
+    }
+    PseudoRandomGenerator deserializedGenerator;
+    try (var inputStream =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserializedGenerator = (PseudoRandomGenerator) inputStream.readObject();
+    }
+
+    assertArrayEquals(sequence(generator, 100), sequence(deserializedGenerator, 100));
+  }
+
+  @Test
+  void theGeneratorOfATaskIsReplacedOnlyInTheTask() {
+    PseudoRandomGenerator sharedGenerator = JMetalRandom.getInstance().getRandomGenerator();
+    PseudoRandomGenerator newGenerator = new RandomGeneratorAdapter(5);
+
+    PseudoRandomGenerator generatorOfTheTask =
+        JMetalRandom.getInstance()
+            .callWith(
+                new RandomGeneratorAdapter(4),
+                () -> {
+                  JMetalRandom.getInstance().replaceRandomGenerator(newGenerator);
+                  return JMetalRandom.getInstance().getRandomGenerator();
+                });
+
+    assertSame(newGenerator, generatorOfTheTask);
+    assertSame(sharedGenerator, JMetalRandom.getInstance().getRandomGenerator());
+  }
+
+  @Test
+  void theGeneratorOfTheThreadIsReplacedWhenThereAreRandomStreams() throws Exception {
+    RandomStreams streams = new RandomStreams(1);
+    JMetalRandom.getInstance().setRandomStreams(streams);
+    PseudoRandomGenerator newGenerator = new RandomGeneratorAdapter(5);
+
+    JMetalRandom.getInstance().replaceRandomGenerator(newGenerator);
+
+    assertSame(newGenerator, JMetalRandom.getInstance().getRandomGenerator());
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      assertNotSame(newGenerator, executor.submit(streams::threadGenerator).get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
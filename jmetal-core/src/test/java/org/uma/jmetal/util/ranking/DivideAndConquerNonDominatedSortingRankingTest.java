@@ -0,0 +1,157 @@
+package org.uma.jmetal.util.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+import org.uma.jmetal.util.ranking.impl.DivideAndConquerNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.ExperimentalFastNonDominanceRanking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.MergeNonDominatedSortRanking;
+
+/**
+ * Besides the common ranking test cases, this class checks that the ranks computed by {@link
+ * DivideAndConquerNonDominatedSortRanking}, both sequentially and in parallel, are the same as
+ * those computed by the other rankings on random fronts.
+ */
+public class DivideAndConquerNonDominatedSortingRankingTest
+    extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
+  private static final ForkJoinPool pool = new ForkJoinPool(4);
+
+  public DivideAndConquerNonDominatedSortingRankingTest() {
+    setRanking(new DivideAndConquerNonDominatedSortRanking<>());
+  }
+
+  @AfterAll
+  static void shutdownPool() {
+    pool.shutdown();
+  }
+
+  /**
+   * Creates a random population. The objective values are rounded to the given number of levels to
+   * produce ties and duplicated points.
+   */
+  private static List<DoubleSolution> randomPopulation(
+      int size, int numberOfObjectives, int numberOfConstraints, int levels, long seed) {
+    DoubleProblem problem = new FakeDoubleProblem(2, numberOfObjectives, numberOfConstraints);
+    Random random = new Random(seed);
+    List<DoubleSolution> population = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.objectives()[j] = Math.floor(random.nextDouble() * levels) / levels;
+      }
+      for (int j = 0; j < numberOfConstraints; j++) {
+        solution.constraints()[j] = random.nextInt(3) == 0 ? -random.nextInt(3) : 0.0;
+      }
+      population.add(solution);
+    }
+    return population;
+  }
+
+  private static int[] ranks(Ranking<DoubleSolution> ranking, List<DoubleSolution> population) {
+    ranking.compute(population);
+    int[] ranks = new int[population.size()];
+    for (int i = 0; i < population.size(); i++) {
+      ranks[i] = ranking.getRank(population.get(i));
+    }
+    return ranks;
+  }
+
+  private static void assertSameRanking(
+      Ranking<DoubleSolution> expected, Ranking<DoubleSolution> actual,
+      List<DoubleSolution> population) {
+    int[] expectedRanks = ranks(expected, population);
+    int[] actualRanks = ranks(actual, population);
+
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(expectedRanks[i], actualRanks[i], "Rank of solution " + i);
+    }
+    assertEquals(expected.getNumberOfSubFronts(), actual.getNumberOfSubFronts());
+    for (int rank = 0; rank < actual.getNumberOfSubFronts(); rank++) {
+      assertEquals(
+          new HashSet<>(expected.getSubFront(rank)), new HashSet<>(actual.getSubFront(rank)));
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "200, 1, 10",
+    "300, 2, 10",
+    "300, 2, 1000",
+    "500, 3, 5",
+    "500, 3, 1000",
+    "400, 4, 8",
+    "800, 4, 6",
+    "400, 5, 1000",
+    "300, 8, 4",
+    "300, 10, 1000"
+  })
+  void shouldTheRankingBeEqualToTheFastNonDominatedSortRanking(
+      int size, int numberOfObjectives, int levels) {
+    for (long seed = 0; seed < 3; seed++) {
+      List<DoubleSolution> population = randomPopulation(size, numberOfObjectives, 0, levels, seed);
+
+      assertSameRanking(
+          new FastNonDominatedSortRanking<>(),
+          new DivideAndConquerNonDominatedSortRanking<>(),
+          population);
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({"500, 2, 10", "800, 3, 1000", "800, 4, 6", "600, 6, 1000"})
+  void shouldTheParallelRankingBeEqualToTheSequentialRankings(
+      int size, int numberOfObjectives, int levels) {
+    List<DoubleSolution> population = randomPopulation(size, numberOfObjectives, 0, levels, 17);
+    var parallelRanking = new DivideAndConquerNonDominatedSortRanking<DoubleSolution>(pool, 16);
+
+    assertSameRanking(new FastNonDominatedSortRanking<>(), parallelRanking, population);
+    assertSameRanking(new ExperimentalFastNonDominanceRanking<>(), parallelRanking, population);
+  }
+
+  @Test
+  void shouldTheRankingBeEqualToTheMergeNonDominatedSortRankingIfThereAreNoTies() {
+    List<DoubleSolution> population = randomPopulation(1000, 4, 0, 1000000, 23);
+
+    assertSameRanking(
+        new MergeNonDominatedSortRanking<>(),
+        new DivideAndConquerNonDominatedSortRanking<>(pool, 16),
+        population);
+  }
+
+  @Test
+  void shouldTheRankingOfConstrainedSolutionsBeEqualToTheRankingWithConstraints() {
+    List<DoubleSolution> population = randomPopulation(400, 3, 2, 10, 5);
+
+    assertSameRanking(
+        new FastNonDominatedSortRanking<>(new DominanceWithConstraintsComparator<>()),
+        new DivideAndConquerNonDominatedSortRanking<>(),
+        population);
+    assertSameRanking(
+        new ExperimentalFastNonDominanceRanking<>(),
+        new DivideAndConquerNonDominatedSortRanking<>(pool, 16),
+        population);
+  }
+
+  @Test
+  void shouldTheRankingOfALargePopulationBeComputedInParallel() {
+    List<DoubleSolution> population = randomPopulation(20000, 3, 0, 100000, 3);
+
+    assertSameRanking(
+        new ExperimentalFastNonDominanceRanking<>(),
+        new DivideAndConquerNonDominatedSortRanking<>(pool),
+        population);
+  }
+}
@@ -0,0 +1,118 @@
+package org.uma.jmetal.util.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
+
+public class IncrementalNonDominatedSortingRankingTest
+    extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
+  public IncrementalNonDominatedSortingRankingTest() {
+    setRanking(new IncrementalNonDominatedSortRanking<>());
+  }
+
+  private static DoubleSolution createSolution(
+      DoubleProblem problem, Random random, int numberOfObjectives) {
+    DoubleSolution solution = problem.createSolution();
+    for (int i = 0; i < numberOfObjectives; i++) {
+      // Values are rounded to have repeated values and solutions
+      solution.objectives()[i] = Math.round(random.nextDouble() * 20) / 20.0;
+    }
+    return solution;
+  }
+
+  private static void assertSameRanking(
+      IncrementalNonDominatedSortRanking<DoubleSolution> ranking, List<DoubleSolution> solutions) {
+    var expectedRanking = new FastNonDominatedSortRanking<DoubleSolution>().compute(solutions);
+
+    assertEquals(solutions.size(), ranking.size());
+    assertEquals(expectedRanking.getNumberOfSubFronts(), ranking.getNumberOfSubFronts());
+    for (DoubleSolution solution : solutions) {
+      assertEquals(expectedRanking.getRank(solution), ranking.getRank(solution));
+    }
+    for (int rank = 0; rank < ranking.getNumberOfSubFronts(); rank++) {
+      assertEquals(
+          expectedRanking.getSubFront(rank).size(), ranking.getSubFront(rank).size());
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 3, 4})
+  void addingAndRemovingSolutionsKeepsTheSameRankingAsComputingItFromScratch(
+      int numberOfObjectives) {
+    DoubleProblem problem = new FakeDoubleProblem(2, numberOfObjectives, 0);
+    Random random = new Random(numberOfObjectives);
+
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      solutions.add(createSolution(problem, random, numberOfObjectives));
+    }
+    var ranking = new IncrementalNonDominatedSortRanking<DoubleSolution>();
+    ranking.compute(solutions);
+    assertSameRanking(ranking, solutions);
+
+    for (int step = 0; step < 300; step++) {
+      if (random.nextBoolean() || solutions.isEmpty()) {
+        DoubleSolution solution = createSolution(problem, random, numberOfObjectives);
+        solutions.add(solution);
+        ranking.add(solution);
+      } else {
+        DoubleSolution solution = solutions.remove(random.nextInt(solutions.size()));
+        assertTrue(ranking.remove(solution));
+      }
+      assertSameRanking(ranking, solutions);
+    }
+  }
+
+  @Test
+  void removingASolutionThatIsNotInTheRankingReturnsFalse() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+    Random random = new Random(1);
+    var ranking = new IncrementalNonDominatedSortRanking<DoubleSolution>();
+    ranking.compute(List.of(createSolution(problem, random, 2)));
+
+    DoubleSolution solution = createSolution(problem, random, 2);
+
+    assertFalse(ranking.remove(solution));
+    assertEquals(1, ranking.size());
+  }
+
+  @Test
+  void addingANonDominatedSolutionOnlyModifiesTheFirstSubFront() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+    List<DoubleSolution> solutions = new ArrayList<>();
+    double[][] objectives = {{0.0, 1.0}, {1.0, 0.0}, {0.5, 1.0}, {1.0, 0.5}, {1.0, 1.0}};
+    for (double[] values : objectives) {
+      DoubleSolution solution = problem.createSolution();
+      solution.objectives()[0] = values[0];
+      solution.objectives()[1] = values[1];
+      solutions.add(solution);
+    }
+    var ranking = new IncrementalNonDominatedSortRanking<DoubleSolution>();
+    ranking.compute(solutions);
+    ranking.clearModifiedSubFronts();
+
+    DoubleSolution solution = problem.createSolution();
+    solution.objectives()[0] = 0.4;
+    solution.objectives()[1] = 0.6;
+
+    assertEquals(0, ranking.add(solution));
+    BitSet expected = new BitSet();
+    expected.set(0);
+    assertEquals(expected, ranking.modifiedSubFronts());
+    assertEquals(3, ranking.getNumberOfSubFronts());
+    assertEquals(List.of(solutions.get(0), solution, solutions.get(1)), ranking.getSubFront(0));
+  }
+}
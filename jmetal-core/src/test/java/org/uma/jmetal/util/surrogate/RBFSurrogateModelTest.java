@@ -0,0 +1,94 @@
+package org.uma.jmetal.util.surrogate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+class RBFSurrogateModelTest {
+  private static double[] function(double[] x) {
+    return new double[] {
+      Math.sin(3.0 * x[0]) + x[1] * x[1], (x[0] - 0.5) * (x[0] - 0.5) + Math.cos(2.0 * x[1])
+    };
+  }
+
+  private static RBFSurrogateModel trainedModel(int numberOfPoints, int maximumNumberOfPoints) {
+    RBFSurrogateModel model =
+        new RBFSurrogateModel(
+            new double[] {0.0, 0.0}, new double[] {1.0, 1.0}, 2, maximumNumberOfPoints);
+    Random random = new Random(1);
+    for (int i = 0; i < numberOfPoints; i++) {
+      double[] x = {random.nextDouble(), random.nextDouble()};
+      model.add(x, function(x));
+    }
+    return model;
+  }
+
+  @Test
+  void shouldPredictRaiseAnExceptionIfTheModelHasNoPoints() {
+    RBFSurrogateModel model =
+        new RBFSurrogateModel(new double[] {0.0}, new double[] {1.0}, 1, 10);
+
+    assertThrows(InvalidConditionException.class, () -> model.predict(new double[] {0.5}));
+  }
+
+  @Test
+  void shouldThePredictionsOfTheEvaluatedPointsBeTheirObjectives() {
+    RBFSurrogateModel model =
+        new RBFSurrogateModel(new double[] {0.0, 0.0}, new double[] {1.0, 1.0}, 2, 100);
+    Random random = new Random(2);
+    double[][] points = new double[50][];
+    for (int i = 0; i < points.length; i++) {
+      points[i] = new double[] {random.nextDouble(), random.nextDouble()};
+      model.add(points[i], function(points[i]));
+    }
+
+    for (double[] point : points) {
+      RBFSurrogateModel.Prediction prediction = model.predict(point);
+      assertEquals(function(point)[0], prediction.objectives()[0], 1.0e-3);
+      assertEquals(function(point)[1], prediction.objectives()[1], 1.0e-3);
+      assertTrue(prediction.standardDeviations()[0] < 1.0e-2);
+    }
+  }
+
+  @Test
+  void shouldTheModelApproximateTheObjectivesOfNewPoints() {
+    RBFSurrogateModel model = trainedModel(200, 300);
+    Random random = new Random(3);
+
+    double sumOfErrors = 0.0;
+    for (int i = 0; i < 100; i++) {
+      double[] x = {random.nextDouble(), random.nextDouble()};
+      sumOfErrors += Math.abs(function(x)[0] - model.predict(x).objectives()[0]);
+    }
+
+    assertTrue(sumOfErrors / 100 < 0.05, "Mean error: " + sumOfErrors / 100);
+  }
+
+  @Test
+  void shouldTheUncertaintyBeHigherFarFromTheEvaluatedPoints() {
+    RBFSurrogateModel model =
+        new RBFSurrogateModel(new double[] {0.0, 0.0}, new double[] {1.0, 1.0}, 2, 100);
+    Random random = new Random(4);
+    for (int i = 0; i < 30; i++) {
+      // The points are in the lower left quarter
+      double[] x = {0.5 * random.nextDouble(), 0.5 * random.nextDouble()};
+      model.add(x, function(x));
+    }
+
+    double nearUncertainty = model.predict(new double[] {0.25, 0.25}).standardDeviations()[0];
+    double farUncertainty = model.predict(new double[] {1.0, 1.0}).standardDeviations()[0];
+
+    assertTrue(nearUncertainty < farUncertainty);
+  }
+
+  @Test
+  void shouldTheModelKeepTheMaximumNumberOfPoints() {
+    RBFSurrogateModel model = trainedModel(150, 100);
+
+    assertEquals(100, model.size());
+  }
+}
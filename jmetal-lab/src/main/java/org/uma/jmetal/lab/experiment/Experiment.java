@@ -6,6 +6,8 @@ import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.fileinput.BinaryVectorFileUtils;
+import org.uma.jmetal.util.pseudorandom.RandomStreams;
 
 /**
  * Class for describing the configuration an experimental study.
@@ -28,6 +30,10 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
 
   private int numberOfCores;
 
+  private RandomStreams randomStreams;
+
+  private boolean binaryOutputFiles;
+
   /** Constructor */
   public Experiment(ExperimentBuilder<S, Result> builder) {
     this.experimentName = builder.getExperimentName();
@@ -40,6 +46,8 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
     this.numberOfCores = builder.getNumberOfCores();
     this.referenceFrontDirectory = builder.getReferenceFrontDirectory();
     this.indicatorList = builder.getIndicatorList();
+    this.randomStreams = builder.getRandomStreams();
+    this.binaryOutputFiles = builder.isBinaryOutputFiles();
   }
 
   /* Getters */
@@ -83,6 +91,21 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
     return indicatorList;
   }
 
+  /** Returns the streams the generators of the runs are derived from, or null if there are none */
+  public RandomStreams getRandomStreams() {
+    return randomStreams;
+  }
+
+  /** Returns true if the runs write their results to binary vector files instead of CSV files */
+  public boolean isBinaryOutputFiles() {
+    return binaryOutputFiles;
+  }
+
+  /** Returns the extension of the files with the results of the runs: ".bin" or ".csv" */
+  public String getOutputFileExtension() {
+    return binaryOutputFiles ? BinaryVectorFileUtils.FILE_EXTENSION : ".csv";
+  }
+
   /* Setters */
   public void setReferenceFrontDirectory(String referenceFrontDirectory) {
     this.referenceFrontDirectory = referenceFrontDirectory;
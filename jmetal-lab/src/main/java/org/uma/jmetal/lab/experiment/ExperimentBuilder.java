@@ -6,6 +6,7 @@ import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.pseudorandom.RandomStreams;
 
 /**
  * Builder for class {@link Experiment}
@@ -23,6 +24,8 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
   private int independentRuns;
   private List<QualityIndicator> indicatorList ;
   private int numberOfCores ;
+  private RandomStreams randomStreams ;
+  private boolean binaryOutputFiles ;
 
   public ExperimentBuilder(String experimentName) {
     this.experimentName = experimentName ;
@@ -86,6 +89,28 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
     return this ;
   }
 
+  /**
+   * Makes the runs reproducible: each run uses its own generator, derived from the streams (e.g.,
+   * {@code new RandomStreams(seed)}) and the algorithm, problem and run id, no matter the thread
+   * executing it
+   */
+  public ExperimentBuilder<S, Result> setRandomStreams(RandomStreams randomStreams) {
+    this.randomStreams = randomStreams;
+
+    return this ;
+  }
+
+  /**
+   * Makes the runs write their fronts and variables to binary vector files instead of CSV files
+   * (see {@link org.uma.jmetal.util.fileinput.BinaryVectorFileUtils}), whose extension is ".bin"
+   * instead of ".csv".
+   */
+  public ExperimentBuilder<S, Result> setBinaryOutputFiles(boolean binaryOutputFiles) {
+    this.binaryOutputFiles = binaryOutputFiles;
+
+    return this ;
+  }
+
   public Experiment<S, Result> build() {
     return new Experiment<S, Result>(this);
   }
@@ -123,6 +148,14 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
     return numberOfCores;
   }
 
+  public boolean isBinaryOutputFiles() {
+    return binaryOutputFiles;
+  }
+
+  public RandomStreams getRandomStreams() {
+    return randomStreams;
+  }
+
   public String getReferenceFrontDirectory() {
     return referenceFrontDirectory;
   }
@@ -84,7 +84,7 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
                             + "/"
                             + experiment.getOutputParetoFrontFileName()
                             + run
-                            + ".csv";
+                            + experiment.getOutputFileExtension();
                     double[][] front = new double[0][];
                     try {
                       front = VectorUtils.readVectors(frontFileName, ",");
@@ -153,23 +153,24 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
 
           String outputDirectory = algorithmDirectory + "/" + problem.getTag();
 
-          bestFunFileName = outputDirectory + "/BEST_" + indicator.name() + "_FUN.csv";
-          bestVarFileName = outputDirectory + "/BEST_" + indicator.name() + "_VAR.csv";
-          medianFunFileName = outputDirectory + "/MEDIAN_" + indicator.name() + "_FUN.csv";
-          medianVarFileName = outputDirectory + "/MEDIAN_" + indicator.name() + "_VAR.csv";
+          String extension = experiment.getOutputFileExtension();
+          bestFunFileName = outputDirectory + "/BEST_" + indicator.name() + "_FUN" + extension;
+          bestVarFileName = outputDirectory + "/BEST_" + indicator.name() + "_VAR" + extension;
+          medianFunFileName = outputDirectory + "/MEDIAN_" + indicator.name() + "_FUN" + extension;
+          medianVarFileName = outputDirectory + "/MEDIAN_" + indicator.name() + "_VAR" + extension;
           if (indicator.isTheLowerTheIndicatorValueTheBetter()) {
             String bestFunFile =
                 outputDirectory
                     + "/"
                     + experiment.getOutputParetoFrontFileName()
                     + list.get(0).getRight()
-                    + ".csv";
+                    + experiment.getOutputFileExtension();
             String bestVarFile =
                 outputDirectory
                     + "/"
                     + experiment.getOutputParetoSetFileName()
                     + list.get(0).getRight()
-                    + ".csv";
+                    + experiment.getOutputFileExtension();
 
             Files.copy(Paths.get(bestFunFile), Paths.get(bestFunFileName), REPLACE_EXISTING);
             Files.copy(Paths.get(bestVarFile), Paths.get(bestVarFileName), REPLACE_EXISTING);
@@ -179,13 +180,13 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
                     + "/"
                     + experiment.getOutputParetoFrontFileName()
                     + list.get(list.size() - 1).getRight()
-                    + ".csv";
+                    + experiment.getOutputFileExtension();
             String bestVarFile =
                 outputDirectory
                     + "/"
                     + experiment.getOutputParetoSetFileName()
                     + list.get(list.size() - 1).getRight()
-                    + ".csv";
+                    + experiment.getOutputFileExtension();
 
             Files.copy(Paths.get(bestFunFile), Paths.get(bestFunFileName), REPLACE_EXISTING);
             Files.copy(Paths.get(bestVarFile), Paths.get(bestVarFileName), REPLACE_EXISTING);
@@ -197,13 +198,13 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
                   + "/"
                   + experiment.getOutputParetoFrontFileName()
                   + list.get(medianIndex).getRight()
-                  + ".csv";
+                  + experiment.getOutputFileExtension();
           String medianVarFile =
               outputDirectory
                   + "/"
                   + experiment.getOutputParetoSetFileName()
                   + list.get(medianIndex).getRight()
-                  + ".csv";
+                  + experiment.getOutputFileExtension();
 
           Files.copy(Paths.get(medianFunFile), Paths.get(medianFunFileName), REPLACE_EXISTING);
           Files.copy(Paths.get(medianVarFile), Paths.get(medianVarFileName), REPLACE_EXISTING);
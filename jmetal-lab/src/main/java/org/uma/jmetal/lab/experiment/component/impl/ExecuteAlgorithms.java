@@ -1,23 +1,40 @@
 package org.uma.jmetal.lab.experiment.component.impl;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import org.uma.jmetal.lab.experiment.Experiment;
 import org.uma.jmetal.lab.experiment.component.ExperimentComponent;
+import org.uma.jmetal.lab.experiment.util.ExecutionJournal;
 import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+import org.uma.jmetal.lab.experiment.util.ExperimentScheduler;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomStreams;
 
 /**
  * This class executes the algorithms the have been configured with a instance of class {@link
- * Experiment}. Java 8 parallel streams are used to run the algorithms in parallel.
+ * Experiment}. The algorithms are run in parallel by an {@link ExperimentScheduler}, which uses
+ * {@link Experiment#getNumberOfCores()} threads and starts the runs expected to be longer first.
  *
  * <p>The result of the execution is a pair of files FUNrunId.tsv and VARrunID.tsv per
  * org.uma.jmetal.experiment, which are stored in the directory {@link Experiment
  * #getExperimentBaseDirectory()}/algorithmName/problemName.
  *
+ * <p>The end of each run is recorded in an {@link ExecutionJournal} in the experiment base
+ * directory. When the experiment is executed again, the runs that the journal says have finished
+ * are skipped if their FUN file exists, so the journal must be deleted to repeat them (a run whose
+ * FUN file has been deleted, or has another extension because the format of the output files has
+ * changed, is repeated). The runs which are not in the journal (e.g., those of an experiment
+ * executed before the journal was introduced) are skipped if their FUN file exists.
+ *
+ * <p>If the experiment has random streams, each run uses its own generator derived from them, and
+ * the threads created by the algorithms use their own streams, so they do not share a generator.
+ *
  * @author Antonio J. Nebro
  */
 public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
@@ -34,59 +51,92 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
     JMetalLogger.logger.info("ExecuteAlgorithms: Preparing output directory");
     prepareOutputDirectory();
 
-    System.setProperty(
-        "java.util.concurrent.ForkJoinPool.common.parallelism",
-        "" + this.experiment.getNumberOfCores());
-
-    int retryCounter = 0 ;
-    int maxRetries = 5 ;
-    boolean computationNotFinished = true ;
-
-    while (computationNotFinished && (retryCounter < maxRetries)) {
-      List<ExperimentAlgorithm<?, ?>> unfinishedAlgorithmList = checkTaskStatus() ;
-      if (unfinishedAlgorithmList.size() == 0) {
-        computationNotFinished = false ;
-      } else {
-        JMetalLogger.logger.info(
-            "ExecuteAlgorithms: there are " + unfinishedAlgorithmList.size() + " runs pending");
-        unfinishedAlgorithmList
-            .parallelStream()
-            .forEach(algorithm -> algorithm.runAlgorithm(experiment));
-        retryCounter++;
+    ExecutionJournal journal = createJournal();
+    List<ExperimentAlgorithm<?, ?>> pendingRuns = new ArrayList<>();
+    for (ExperimentAlgorithm<?, ?> algorithm : experiment.getAlgorithmList()) {
+      if (isPending(algorithm, journal)) {
+        pendingRuns.add(algorithm);
       }
     }
+    JMetalLogger.logger.info(
+        "ExecuteAlgorithms: there are " + pendingRuns.size() + " runs pending");
 
-    if (computationNotFinished) {
-      JMetalLogger.logger.severe("There are unfinished tasks after " + maxRetries + " tries");
+    var scheduler = new ExperimentScheduler(experiment, journal);
+    List<ExperimentAlgorithm<?, ?>> unfinishedRuns = runAlgorithms(pendingRuns, scheduler);
+
+    if (unfinishedRuns.isEmpty()) {
+      JMetalLogger.logger.info("Algorithm runs finished");
     } else {
-      JMetalLogger.logger.info("Algorithm runs finished. Number of tries: " + retryCounter);
+      JMetalLogger.logger.severe(
+          "There are " + unfinishedRuns.size() + " unfinished runs after "
+              + scheduler.getMaxNumberOfTries() + " tries");
+    }
+  }
+
+  /**
+   * Executes the runs with an {@link ExperimentScheduler} and, if the experiment has random
+   * streams, sets them as the streams of {@link JMetalRandom} during the execution
+   */
+  private List<ExperimentAlgorithm<?, ?>> runAlgorithms(
+      List<ExperimentAlgorithm<?, ?>> runs, ExperimentScheduler scheduler) {
+    RandomStreams previousRandomStreams = JMetalRandom.getInstance().getRandomStreams();
+    if (experiment.getRandomStreams() != null) {
+      JMetalRandom.getInstance().setRandomStreams(experiment.getRandomStreams());
+    }
+
+    try {
+      return scheduler.run(runs);
+    } finally {
+      JMetalRandom.getInstance().setRandomStreams(previousRandomStreams);
     }
   }
 
+  /**
+   * A run is pending if its FUN file does not exist or if the journal says that it has not finished
+   * (i.e., its last execution failed)
+   */
+  private boolean isPending(ExperimentAlgorithm<?, ?> algorithm, ExecutionJournal journal) {
+    if (journal.contains(algorithm) && !journal.isFinished(algorithm)) {
+      return true;
+    }
+
+    return !resultFile(algorithm).exists();
+  }
+
+  private ExecutionJournal createJournal() {
+    return new ExecutionJournal(
+        Path.of(experiment.getExperimentBaseDirectory(), ExecutionJournal.DEFAULT_FILE_NAME));
+  }
+
+  private File resultFile(ExperimentAlgorithm<?, ?> algorithm) {
+    return new File(
+        experiment.getExperimentBaseDirectory()
+            + "/data/"
+            + algorithm.getAlgorithmTag()
+            + "/"
+            + algorithm.getProblemTag()
+            + "/"
+            + experiment.getOutputParetoFrontFileName()
+            + algorithm.getRunId()
+            + experiment.getOutputFileExtension());
+  }
+
+  /** Returns the runs of the experiment which are pending, as decided when it is executed */
   public List<ExperimentAlgorithm<?, ?>> checkTaskStatus() {
+    ExecutionJournal journal = createJournal();
     List<ExperimentAlgorithm<?, ?>> unfinishedAlgorithmList = new LinkedList<>();
-
     for (ExperimentAlgorithm<?, ?> algorithm : experiment.getAlgorithmList()) {
-      String resultFileName =
-          experiment.getExperimentBaseDirectory()
-              + "/data/"
-              + algorithm.getAlgorithmTag()
-              + "/"
-              + algorithm.getProblemTag()
-              + "/" + experiment.getOutputParetoFrontFileName()
-              + algorithm.getRunId()
-              + ".csv";
-      File file = new File(resultFileName);
-      if (!file.exists()) {
+      if (isPending(algorithm, journal)) {
         unfinishedAlgorithmList.add(algorithm);
-        System.out.println(resultFileName + ". Status: " + file.exists());
+        JMetalLogger.logger.info("ExecuteAlgorithms: pending run " + resultFile(algorithm));
       }
     }
+
     return unfinishedAlgorithmList;
   }
 
   public void runMissingExecutions(List<ExperimentAlgorithm<?, ?>> experimentAlgorithms) {
-    experimentAlgorithms.parallelStream().forEach(algorithm -> algorithm.runAlgorithm(experiment));
+    runAlgorithms(experimentAlgorithms, new ExperimentScheduler(experiment, createJournal()));
   }
 
   private void prepareOutputDirectory() {
@@ -58,7 +58,7 @@ public class GenerateReferenceParetoFront implements ExperimentComponent {
 
         for (int i = 0; i < experiment.getIndependentRuns(); i++) {
           String frontFileName = problemDirectory + "/" + experiment.getOutputParetoFrontFileName() +
-              i + ".csv";
+              i + experiment.getOutputFileExtension();
           Front front = new ArrayFront(frontFileName, ",") ;
           List<PointSolution> solutionList = FrontUtils.convertFrontToSolutionList(front) ;
           GenericSolutionAttribute<PointSolution, String> solutionAttribute = new GenericSolutionAttribute<PointSolution, String>()  ;
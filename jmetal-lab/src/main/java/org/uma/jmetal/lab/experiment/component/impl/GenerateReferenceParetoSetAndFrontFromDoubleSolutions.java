@@ -156,13 +156,13 @@ public class GenerateReferenceParetoSetAndFrontFromDoubleSolutions implements Ex
                       + "/"
                       + experiment.getOutputParetoFrontFileName()
                       + algorithm.getRunId()
-                      + ".csv";
+                      + experiment.getOutputFileExtension();
       String paretoSetFileName =
               problemDirectory
                       + "/"
                       + experiment.getOutputParetoSetFileName()
                       + algorithm.getRunId()
-                      + ".csv";
+                      + experiment.getOutputFileExtension();
 
       double[][] frontWithObjectiveValues = readVectors(frontFileName, ",");
       double[][] frontWithVariableValues = readVectors(paretoSetFileName, ",");
@@ -156,13 +156,13 @@ public class GenerateReferenceParetoSetAndFrontFromIntegerSolutions implements E
                       + "/"
                       + experiment.getOutputParetoFrontFileName()
                       + algorithm.getRunId()
-                      + ".csv";
+                      + experiment.getOutputFileExtension();
       String paretoSetFileName =
               problemDirectory
                       + "/"
                       + experiment.getOutputParetoSetFileName()
                       + algorithm.getRunId()
-                      + ".csv";
+                      + experiment.getOutputFileExtension();
 
       double[][] frontWithObjectiveValues = readVectors(frontFileName, ",");
       double[][] frontWithVariableValues = readVectors(paretoSetFileName, ",");
@@ -0,0 +1,187 @@
+package org.uma.jmetal.lab.experiment.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Journal of the runs of an experiment. It is a text file with a line per finished or failed run
+ * containing the status of the run, the algorithm tag, the problem tag, the run id and the
+ * computing time in milliseconds, separated by tabs. The lines are appended as the runs end, so the
+ * journal tells which runs have finished when an experiment is resumed, and the computing times of
+ * the finished runs, including those of previous executions, are used to estimate the computing
+ * time of the pending ones.
+ *
+ * <p>If a run appears several times (e.g., it failed and was run again), its last line is the
+ * one taken into account. Lines which cannot be parsed (e.g., the last one if the JVM died while
+ * writing it) are ignored.
+ *
+ * @author Antonio J. Nebro
+ */
+public class ExecutionJournal {
+  public static final String DEFAULT_FILE_NAME = "executionJournal.tsv";
+
+  /** Status of a run */
+  public enum Status {
+    FINISHED,
+    FAILED
+  }
+
+  private final Path file;
+  private final Map<String, Status> statusOfRuns = new HashMap<>();
+  private final Map<String, long[]> computingTimes = new HashMap<>();
+
+  /**
+   * Constructor. The entries of the file are read if it exists.
+   *
+   * @param file File of the journal
+   */
+  public ExecutionJournal(Path file) {
+    Check.notNull(file);
+    this.file = file;
+
+    if (Files.exists(file)) {
+      read();
+    }
+  }
+
+  private void read() {
+    List<String> lines;
+    try {
+      lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new JMetalException("Error reading the execution journal " + file, e);
+    }
+
+    for (String line : lines) {
+      String[] fields = line.split("\t");
+      try {
+        Check.that(fields.length == 5, "Invalid number of fields");
+        add(
+            Status.valueOf(fields[0]),
+            fields[1],
+            fields[2],
+            Integer.parseInt(fields[3]),
+            Long.parseLong(fields[4]));
+      } catch (RuntimeException exception) {
+        JMetalLogger.logger.warning("Ignoring invalid line of " + file + ": " + line);
+      }
+    }
+  }
+
+  private void add(
+      Status status, String algorithmTag, String problemTag, int runId, long computingTime) {
+    statusOfRuns.put(runKey(algorithmTag, problemTag, runId), status);
+    if (status == Status.FINISHED) {
+      long[] sumAndCount =
+          computingTimes.computeIfAbsent(pairKey(algorithmTag, problemTag), key -> new long[2]);
+      sumAndCount[0] += computingTime;
+      sumAndCount[1]++;
+    }
+  }
+
+  /**
+   * Appends the end of a run to the journal
+   *
+   * @param run The run
+   * @param status Status of the run
+   * @param computingTime Computing time of the run in milliseconds
+   */
+  public synchronized void record(
+      ExperimentAlgorithm<?, ?> run, Status status, long computingTime) {
+    Check.notNull(run);
+    Check.notNull(status);
+    String line =
+        String.join(
+                "\t",
+                status.name(),
+                run.getAlgorithmTag(),
+                run.getProblemTag(),
+                String.valueOf(run.getRunId()),
+                String.valueOf(computingTime))
+            + System.lineSeparator();
+    try {
+      Files.writeString(
+          file,
+          line,
+          StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE,
+          StandardOpenOption.APPEND,
+          StandardOpenOption.SYNC);
+    } catch (IOException e) {
+      throw new JMetalException("Error writing the execution journal " + file, e);
+    }
+
+    add(status, run.getAlgorithmTag(), run.getProblemTag(), run.getRunId(), computingTime);
+  }
+
+  /** Returns true if the journal has an entry of the run */
+  public synchronized boolean contains(ExperimentAlgorithm<?, ?> run) {
+    return statusOfRuns.containsKey(
+        runKey(run.getAlgorithmTag(), run.getProblemTag(), run.getRunId()));
+  }
+
+  /** Returns true if the last entry of the run in the journal says that it has finished */
+  public synchronized boolean isFinished(ExperimentAlgorithm<?, ?> run) {
+    return statusOfRuns.get(runKey(run.getAlgorithmTag(), run.getProblemTag(), run.getRunId()))
+        == Status.FINISHED;
+  }
+
+  /**
+   * Returns the expected computing time of a run in milliseconds, which is the mean computing
+   * time of the finished runs of the same algorithm and problem or, if there are none, of the
+   * finished runs of the problem with any algorithm.
+   *
+   * @return The expected computing time, or NaN if there are no finished runs of the problem
+   */
+  public synchronized double expectedComputingTime(ExperimentAlgorithm<?, ?> run) {
+    long[] sumAndCount = computingTimes.get(pairKey(run.getAlgorithmTag(), run.getProblemTag()));
+    if (sumAndCount != null) {
+      return (double) sumAndCount[0] / sumAndCount[1];
+    }
+
+    long sum = 0;
+    long count = 0;
+    String suffix = "\t" + run.getProblemTag();
+    for (Map.Entry<String, long[]> entry : computingTimes.entrySet()) {
+      if (entry.getKey().endsWith(suffix)) {
+        sum += entry.getValue()[0];
+        count += entry.getValue()[1];
+      }
+    }
+
+    return count == 0 ? Double.NaN : (double) sum / count;
+  }
+
+  /** Returns the mean computing time of all the finished runs, or NaN if there are none */
+  public synchronized double meanComputingTime() {
+    long sum = 0;
+    long count = 0;
+    for (long[] sumAndCount : computingTimes.values()) {
+      sum += sumAndCount[0];
+      count += sumAndCount[1];
+    }
+
+    return count == 0 ? Double.NaN : (double) sum / count;
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  private static String pairKey(String algorithmTag, String problemTag) {
+    return algorithmTag + "\t" + problemTag;
+  }
+
+  private static String runKey(String algorithmTag, String problemTag, int runId) {
+    return pairKey(algorithmTag, problemTag) + "\t" + runId;
+  }
+}
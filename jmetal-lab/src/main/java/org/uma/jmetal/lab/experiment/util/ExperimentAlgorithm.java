@@ -8,6 +8,8 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomStreams;
 
 /**
  * Class defining tasks for the execution of algorithms in parallel.
@@ -34,7 +36,12 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
     this(algorithm, algorithm.name(), problem, runId);
   }
 
-  public void runAlgorithm(Experiment<?, ?> experimentData) {
+  /**
+   * Runs the algorithm and writes the FUN and VAR files of the run
+   *
+   * @return true if the run has finished and its files have been written, false otherwise
+   */
+  public boolean runAlgorithm(Experiment<?, ?> experimentData) {
     String outputDirectoryName =
         experimentData.getExperimentBaseDirectory() + "/data/" + algorithmTag + "/" + problemTag;
 
@@ -49,9 +56,17 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
     }
 
     String funFile =
-        outputDirectoryName + "/" + experimentData.getOutputParetoFrontFileName() + runId + ".csv";
+        outputDirectoryName
+            + "/"
+            + experimentData.getOutputParetoFrontFileName()
+            + runId
+            + experimentData.getOutputFileExtension();
     String varFile =
-        outputDirectoryName + "/" + experimentData.getOutputParetoSetFileName() + runId + ".csv";
+        outputDirectoryName
+            + "/"
+            + experimentData.getOutputParetoSetFileName()
+            + runId
+            + experimentData.getOutputFileExtension();
     String message = " Running algorithm: "
         + algorithmTag
         + ", problem: "
@@ -63,16 +78,32 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
     JMetalLogger.logger.info(message);
 
     try {
-      algorithm.run();
+      RandomStreams randomStreams = experimentData.getRandomStreams();
+      if (randomStreams == null) {
+        algorithm.run();
+      } else {
+        long key = ((long) algorithmTag.hashCode() << 32) | (problemTag.hashCode() & 0xffffffffL);
+        JMetalRandom.getInstance()
+            .runWith(randomStreams.derive(key).generator(runId), algorithm::run);
+      }
       Result population = algorithm.result();
 
-      new SolutionListOutput(population)
-          .setVarFileOutputContext(new DefaultFileOutputContext(varFile, ","))
-          .setFunFileOutputContext(new DefaultFileOutputContext(funFile, ","))
-          .print();
+      if (experimentData.isBinaryOutputFiles()) {
+        var output = new SolutionListOutput(population);
+        output.printObjectivesToBinaryFile(funFile);
+        output.printVariablesToBinaryFile(varFile);
+      } else {
+        new SolutionListOutput(population)
+            .setVarFileOutputContext(new DefaultFileOutputContext(varFile, ","))
+            .setFunFileOutputContext(new DefaultFileOutputContext(funFile, ","))
+            .print();
+      }
     } catch (Exception exception) {
       JMetalLogger.logger.warning("Execution failed: " + funFile + " has not been created.");
+      return false;
     }
+
+    return true;
   }
 
   public Algorithm<Result> getAlgorithm() {
@@ -0,0 +1,232 @@
+package org.uma.jmetal.lab.experiment.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Scheduler of the runs of an experiment. The runs are executed by a pool of {@link
+ * Experiment#getNumberOfCores()} threads, each of them taking the next run when it finishes the
+ * previous one, so the threads are kept busy until there are no pending runs.
+ *
+ * <p>The runs are taken in decreasing order of their expected computing time, estimated from the
+ * computing times of the finished runs in the {@link ExecutionJournal} of the experiment (see
+ * {@link ExecutionJournal#expectedComputingTime(ExperimentAlgorithm)}). This way, the long runs do
+ * not start at the end of the experiment, when the other threads are idle. The estimates are
+ * updated as the runs finish, and the runs whose computing time cannot be estimated yet are taken
+ * first. The end of each run is recorded in the journal, and the progress of the experiment and
+ * its estimated remaining time are logged.
+ *
+ * <p>A failed run is run again at most {@link #setMaxNumberOfTries(int)} times.
+ *
+ * @author Antonio J. Nebro
+ */
+public class ExperimentScheduler {
+  private final Experiment<?, ?> experiment;
+  private final ExecutionJournal journal;
+  private int maxNumberOfTries = 5;
+
+  private Map<String, Deque<ExperimentAlgorithm<?, ?>>> pendingRuns;
+  private Map<ExperimentAlgorithm<?, ?>, Long> startTimes;
+  private Map<ExperimentAlgorithm<?, ?>, Integer> numberOfTries;
+  private List<ExperimentAlgorithm<?, ?>> failedRuns;
+  private int numberOfRuns;
+  private int numberOfFinishedRuns;
+  private int numberOfThreads;
+  private long initTime;
+
+  /**
+   * Constructor
+   *
+   * @param experiment The experiment
+   * @param journal Journal where the end of the runs is recorded
+   */
+  public ExperimentScheduler(Experiment<?, ?> experiment, ExecutionJournal journal) {
+    Check.notNull(experiment);
+    Check.notNull(journal);
+    this.experiment = experiment;
+    this.journal = journal;
+  }
+
+  /** Sets the maximum number of times that a failing run is executed. Default: 5 */
+  public ExperimentScheduler setMaxNumberOfTries(int maxNumberOfTries) {
+    Check.that(
+        maxNumberOfTries > 0,
+        "The maximum number of tries is not a positive value: " + maxNumberOfTries);
+    this.maxNumberOfTries = maxNumberOfTries;
+
+    return this;
+  }
+
+  public int getMaxNumberOfTries() {
+    return maxNumberOfTries;
+  }
+
+  /**
+   * Executes the runs and waits for them to end
+   *
+   * @param runs Runs to execute
+   * @return The runs that have not finished after the maximum number of tries
+   */
+  public List<ExperimentAlgorithm<?, ?>> run(List<? extends ExperimentAlgorithm<?, ?>> runs) {
+    Check.notNull(runs);
+
+    pendingRuns = new LinkedHashMap<>();
+    for (ExperimentAlgorithm<?, ?> run : runs) {
+      pendingRuns.computeIfAbsent(key(run), key -> new ArrayDeque<>()).add(run);
+    }
+    startTimes = new IdentityHashMap<>();
+    numberOfTries = new IdentityHashMap<>();
+    failedRuns = new ArrayList<>();
+    numberOfRuns = runs.size();
+    numberOfFinishedRuns = 0;
+    numberOfThreads = Math.max(1, Math.min(experiment.getNumberOfCores(), runs.size()));
+    initTime = System.currentTimeMillis();
+
+    JMetalLogger.logger.info(
+        "ExperimentScheduler: running " + numberOfRuns + " runs in " + numberOfThreads
+            + " threads");
+
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+    try {
+      List<Future<?>> workers = new ArrayList<>(numberOfThreads);
+      for (int i = 0; i < numberOfThreads; i++) {
+        workers.add(executor.submit(this::executeRuns));
+      }
+      for (Future<?> worker : workers) {
+        worker.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("The execution of the experiment has been interrupted", e);
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error executing the experiment", e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    return failedRuns;
+  }
+
+  private void executeRuns() {
+    ExperimentAlgorithm<?, ?> run;
+    while ((run = nextRun()) != null) {
+      long startTime = System.currentTimeMillis();
+      boolean finished = run.runAlgorithm(experiment);
+      long computingTime = System.currentTimeMillis() - startTime;
+
+      journal.record(
+          run,
+          finished ? ExecutionJournal.Status.FINISHED : ExecutionJournal.Status.FAILED,
+          computingTime);
+      runEnded(run, finished);
+    }
+  }
+
+  /** Takes the pending run with the longest expected computing time, or null if there are none */
+  private synchronized ExperimentAlgorithm<?, ?> nextRun() {
+    Deque<ExperimentAlgorithm<?, ?>> selectedRuns = null;
+    double longestComputingTime = Double.NEGATIVE_INFINITY;
+    for (Deque<ExperimentAlgorithm<?, ?>> runs : pendingRuns.values()) {
+      if (!runs.isEmpty()) {
+        double computingTime = journal.expectedComputingTime(runs.peek());
+        if (Double.isNaN(computingTime)) {
+          computingTime = Double.POSITIVE_INFINITY;
+        }
+        if (selectedRuns == null || computingTime > longestComputingTime) {
+          selectedRuns = runs;
+          longestComputingTime = computingTime;
+        }
+      }
+    }
+
+    ExperimentAlgorithm<?, ?> run = null;
+    if (selectedRuns != null) {
+      run = selectedRuns.poll();
+      startTimes.put(run, System.currentTimeMillis());
+      numberOfTries.merge(run, 1, Integer::sum);
+    }
+
+    return run;
+  }
+
+  private synchronized void runEnded(ExperimentAlgorithm<?, ?> run, boolean finished) {
+    startTimes.remove(run);
+    if (finished) {
+      numberOfFinishedRuns++;
+    } else if (numberOfTries.get(run) < maxNumberOfTries) {
+      pendingRuns.get(key(run)).add(run);
+    } else {
+      failedRuns.add(run);
+    }
+
+    logProgress();
+  }
+
+  /**
+   * Logs the number of ended runs, the elapsed time and the estimated remaining time, which is the
+   * expected computing time of the pending runs and the rest of the running ones divided by the
+   * number of threads
+   */
+  private void logProgress() {
+    long currentTime = System.currentTimeMillis();
+    double meanComputingTime = journal.meanComputingTime();
+
+    double remainingComputingTime = 0;
+    for (Deque<ExperimentAlgorithm<?, ?>> runs : pendingRuns.values()) {
+      for (ExperimentAlgorithm<?, ?> run : runs) {
+        remainingComputingTime += expectedComputingTime(run, meanComputingTime);
+      }
+    }
+    for (Map.Entry<ExperimentAlgorithm<?, ?>, Long> entry : startTimes.entrySet()) {
+      double computingTime = currentTime - entry.getValue();
+      remainingComputingTime +=
+          Math.max(0.0, expectedComputingTime(entry.getKey(), meanComputingTime) - computingTime);
+    }
+
+    String remainingTime =
+        Double.isNaN(remainingComputingTime)
+            ? "unknown"
+            : formatTime((long) (remainingComputingTime / numberOfThreads));
+    JMetalLogger.logger.info(
+        "ExperimentScheduler: "
+            + numberOfFinishedRuns
+            + "/"
+            + numberOfRuns
+            + " runs finished, "
+            + failedRuns.size()
+            + " failed. Elapsed time: "
+            + formatTime(currentTime - initTime)
+            + ". Estimated remaining time: "
+            + remainingTime);
+  }
+
+  private double expectedComputingTime(ExperimentAlgorithm<?, ?> run, double meanComputingTime) {
+    double computingTime = journal.expectedComputingTime(run);
+
+    return Double.isNaN(computingTime) ? meanComputingTime : computingTime;
+  }
+
+  /** Key of the pending runs of the same algorithm and problem */
+  private static String key(ExperimentAlgorithm<?, ?> run) {
+    return run.getAlgorithmTag() + "\t" + run.getProblemTag();
+  }
+
+  private static String formatTime(long milliseconds) {
+    long seconds = milliseconds / 1000;
+
+    return String.format("%d:%02d:%02d", seconds / 3600, (seconds / 60) % 60, seconds % 60);
+  }
+}
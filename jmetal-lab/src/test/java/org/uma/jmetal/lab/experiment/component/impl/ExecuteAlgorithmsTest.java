@@ -0,0 +1,91 @@
+package org.uma.jmetal.lab.experiment.component.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.lab.experiment.ExperimentBuilder;
+import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
+import org.uma.jmetal.lab.experiment.util.FakeAlgorithm;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+class ExecuteAlgorithmsTest {
+  @TempDir Path directory;
+
+  private final List<String> executions = Collections.synchronizedList(new ArrayList<>());
+
+  private Experiment<DoubleSolution, List<DoubleSolution>> experiment() {
+    return experiment(false);
+  }
+
+  /** Experiment with a run of algorithm A and a run of algorithm B on problem P */
+  private Experiment<DoubleSolution, List<DoubleSolution>> experiment(boolean binaryOutputFiles) {
+    var problem = new ExperimentProblem<>(new FakeDoubleProblem(2, 2, 0), "P");
+    List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> runs =
+        List.of(
+            new ExperimentAlgorithm<>(new FakeAlgorithm("A", executions, 0), problem, 0),
+            new ExperimentAlgorithm<>(new FakeAlgorithm("B", executions, 0), problem, 0));
+
+    return new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>("Experiment")
+        .setExperimentBaseDirectory(directory.toString())
+        .setAlgorithmList(runs)
+        .setProblemList(List.of(problem))
+        .setOutputParetoFrontFileName("FUN")
+        .setOutputParetoSetFileName("VAR")
+        .setNumberOfCores(2)
+        .setBinaryOutputFiles(binaryOutputFiles)
+        .build();
+  }
+
+  @Test
+  void theFinishedRunsAreSkippedWhenTheExperimentIsExecutedAgain() {
+    new ExecuteAlgorithms<>(experiment()).run();
+    assertThat(executions).containsExactlyInAnyOrder("A", "B");
+    executions.clear();
+
+    new ExecuteAlgorithms<>(experiment()).run();
+
+    assertThat(executions).isEmpty();
+  }
+
+  @Test
+  void theRunsThatAreNotInTheJournalAreSkippedIfTheirFunFileExists() throws IOException {
+    Path funFile = directory.resolve("Experiment/data/A/P/FUN0.csv");
+    Files.createDirectories(funFile.getParent());
+    Files.writeString(funFile, "1.0,2.0\n");
+
+    new ExecuteAlgorithms<>(experiment()).run();
+
+    assertThat(executions).containsExactly("B");
+  }
+
+  @Test
+  void aFinishedRunIsExecutedAgainIfItsFunFileHasBeenDeleted() throws IOException {
+    new ExecuteAlgorithms<>(experiment()).run();
+    executions.clear();
+    Files.delete(directory.resolve("Experiment/data/A/P/FUN0.csv"));
+
+    new ExecuteAlgorithms<>(experiment()).run();
+
+    assertThat(executions).containsExactly("A");
+  }
+
+  @Test
+  void theFinishedRunsAreExecutedAgainIfTheFormatOfTheOutputFilesChanges() {
+    new ExecuteAlgorithms<>(experiment()).run();
+    executions.clear();
+
+    new ExecuteAlgorithms<>(experiment(true)).run();
+
+    assertThat(executions).containsExactlyInAnyOrder("A", "B");
+  }
+}
@@ -0,0 +1,80 @@
+package org.uma.jmetal.lab.experiment.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+class ExecutionJournalTest {
+  @TempDir Path directory;
+
+  private static ExperimentAlgorithm<DoubleSolution, ?> run(
+      String algorithmTag, String problemTag, int runId) {
+    return new ExperimentAlgorithm<>(
+        new FakeAlgorithm(algorithmTag, new ArrayList<>(), 0),
+        new ExperimentProblem<>(new FakeDoubleProblem(2, 2, 0), problemTag),
+        runId);
+  }
+
+  @Test
+  void theRecordedRunsAreReadWhenTheJournalIsCreatedAgain() {
+    Path file = directory.resolve(ExecutionJournal.DEFAULT_FILE_NAME);
+    var journal = new ExecutionJournal(file);
+    journal.record(run("A", "P", 0), ExecutionJournal.Status.FINISHED, 100);
+    journal.record(run("A", "P", 1), ExecutionJournal.Status.FAILED, 10);
+
+    var restoredJournal = new ExecutionJournal(file);
+
+    assertThat(restoredJournal.contains(run("A", "P", 0))).isTrue();
+    assertThat(restoredJournal.isFinished(run("A", "P", 0))).isTrue();
+    assertThat(restoredJournal.contains(run("A", "P", 1))).isTrue();
+    assertThat(restoredJournal.isFinished(run("A", "P", 1))).isFalse();
+    assertThat(restoredJournal.contains(run("A", "P", 2))).isFalse();
+    assertThat(restoredJournal.expectedComputingTime(run("A", "P", 2))).isEqualTo(100.0);
+  }
+
+  @Test
+  void theLastEntryOfARunIsTheOneTakenIntoAccount() {
+    Path file = directory.resolve(ExecutionJournal.DEFAULT_FILE_NAME);
+    var journal = new ExecutionJournal(file);
+    journal.record(run("A", "P", 0), ExecutionJournal.Status.FAILED, 10);
+    journal.record(run("A", "P", 0), ExecutionJournal.Status.FINISHED, 20);
+
+    assertThat(journal.isFinished(run("A", "P", 0))).isTrue();
+    assertThat(new ExecutionJournal(file).isFinished(run("A", "P", 0))).isTrue();
+  }
+
+  @Test
+  void theExpectedComputingTimeIsTheMeanOfTheFinishedRunsOfTheAlgorithmAndTheProblem() {
+    var journal = new ExecutionJournal(directory.resolve(ExecutionJournal.DEFAULT_FILE_NAME));
+    journal.record(run("A", "P", 0), ExecutionJournal.Status.FINISHED, 100);
+    journal.record(run("A", "P", 1), ExecutionJournal.Status.FINISHED, 200);
+    journal.record(run("A", "P", 2), ExecutionJournal.Status.FAILED, 1000);
+    journal.record(run("B", "P", 0), ExecutionJournal.Status.FINISHED, 600);
+    journal.record(run("A", "Q", 0), ExecutionJournal.Status.FINISHED, 5000);
+
+    assertThat(journal.expectedComputingTime(run("A", "P", 3))).isEqualTo(150.0);
+    assertThat(journal.expectedComputingTime(run("C", "P", 0))).isEqualTo(300.0);
+    assertThat(journal.expectedComputingTime(run("A", "R", 0))).isNaN();
+    assertThat(journal.meanComputingTime()).isEqualTo(1475.0);
+  }
+
+  @Test
+  void theLinesThatCannotBeParsedAreIgnored() throws IOException {
+    Path file = directory.resolve(ExecutionJournal.DEFAULT_FILE_NAME);
+    new ExecutionJournal(file).record(run("A", "P", 0), ExecutionJournal.Status.FINISHED, 100);
+    Files.writeString(file, "FINISHED\tA\tP\t1", StandardOpenOption.APPEND);
+
+    var journal = new ExecutionJournal(file);
+
+    assertThat(journal.isFinished(run("A", "P", 0))).isTrue();
+    assertThat(journal.contains(run("A", "P", 1))).isFalse();
+  }
+}
@@ -0,0 +1,73 @@
+package org.uma.jmetal.lab.experiment.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.lab.experiment.ExperimentBuilder;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+class ExperimentSchedulerTest {
+  @TempDir Path directory;
+
+  private final List<String> executions = Collections.synchronizedList(new ArrayList<>());
+
+  private ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>> run(
+      String algorithmTag, String problemTag, int numberOfFailures) {
+    return new ExperimentAlgorithm<>(
+        new FakeAlgorithm(algorithmTag, executions, numberOfFailures),
+        new ExperimentProblem<>(new FakeDoubleProblem(2, 2, 0), problemTag),
+        0);
+  }
+
+  private Experiment<DoubleSolution, List<DoubleSolution>> experiment() {
+    return new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>("Experiment")
+        .setExperimentBaseDirectory(directory.toString())
+        .setOutputParetoFrontFileName("FUN")
+        .setOutputParetoSetFileName("VAR")
+        .setNumberOfCores(1)
+        .build();
+  }
+
+  private ExecutionJournal journal() {
+    return new ExecutionJournal(directory.resolve(ExecutionJournal.DEFAULT_FILE_NAME));
+  }
+
+  @Test
+  void theRunsAreTakenInDecreasingOrderOfTheirExpectedComputingTime() {
+    ExecutionJournal journal = journal();
+    journal.record(run("A", "P", 0), ExecutionJournal.Status.FINISHED, 10_000);
+    journal.record(run("B", "P", 0), ExecutionJournal.Status.FINISHED, 30_000);
+    journal.record(run("C", "P", 0), ExecutionJournal.Status.FINISHED, 20_000);
+
+    List<ExperimentAlgorithm<?, ?>> failedRuns =
+        new ExperimentScheduler(experiment(), journal)
+            .run(List.of(run("A", "P", 0), run("B", "P", 0), run("C", "P", 0), run("D", "Q", 0)));
+
+    assertThat(failedRuns).isEmpty();
+    assertThat(executions).containsExactly("D", "B", "C", "A");
+  }
+
+  @Test
+  void aFailedRunIsRunAgainUntilTheMaximumNumberOfTries() {
+    var failingRun = run("A", "P", 10);
+    var eventuallySuccessfulRun = run("B", "P", 2);
+
+    List<ExperimentAlgorithm<?, ?>> failedRuns =
+        new ExperimentScheduler(experiment(), journal())
+            .setMaxNumberOfTries(3)
+            .run(List.of(failingRun, eventuallySuccessfulRun));
+
+    assertThat(failedRuns).containsExactly(failingRun);
+    assertThat(executions).filteredOn("A"::equals).hasSize(3);
+    assertThat(executions).filteredOn("B"::equals).hasSize(3);
+    assertThat(journal().isFinished(failingRun)).isFalse();
+    assertThat(journal().isFinished(eventuallySuccessfulRun)).isTrue();
+  }
+}
@@ -0,0 +1,49 @@
+package org.uma.jmetal.lab.experiment.util;
+
+import java.util.List;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.problem.doubleproblem.impl.FakeDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Algorithm for testing the execution of experiments. It adds its name to a list each time it is
+ * run, fails the given number of times and returns a random solution.
+ */
+@SuppressWarnings("serial")
+public class FakeAlgorithm implements Algorithm<List<DoubleSolution>> {
+  private final String name;
+  private final List<String> executions;
+  private final int numberOfFailures;
+  private int numberOfRuns;
+
+  public FakeAlgorithm(String name, List<String> executions, int numberOfFailures) {
+    this.name = name;
+    this.executions = executions;
+    this.numberOfFailures = numberOfFailures;
+  }
+
+  @Override
+  public void run() {
+    executions.add(name);
+    numberOfRuns++;
+    if (numberOfRuns <= numberOfFailures) {
+      throw new JMetalException("Failed run " + numberOfRuns + " of " + name);
+    }
+  }
+
+  @Override
+  public List<DoubleSolution> result() {
+    return List.of(new FakeDoubleProblem(2, 2, 0).createSolution());
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public String description() {
+    return "Fake algorithm";
+  }
+}
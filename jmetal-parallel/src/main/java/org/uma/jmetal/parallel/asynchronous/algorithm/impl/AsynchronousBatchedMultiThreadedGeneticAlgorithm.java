@@ -0,0 +1,167 @@
+package org.uma.jmetal.parallel.asynchronous.algorithm.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.uma.jmetal.component.catalogue.common.termination.Termination;
+import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.selection.SelectionOperator;
+import org.uma.jmetal.parallel.asynchronous.multithreaded.BatchedMaster;
+import org.uma.jmetal.parallel.asynchronous.task.ParallelTaskPool;
+import org.uma.jmetal.parallel.asynchronous.task.PooledParallelTask;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.observable.Observable;
+import org.uma.jmetal.util.observable.impl.DefaultObservable;
+
+/**
+ * Version of {@link AsynchronousMultiThreadedGeneticAlgorithm} based on a {@link BatchedMaster},
+ * suited for problems whose evaluation is cheap. The tasks are taken from a {@link
+ * ParallelTaskPool} and the workers evaluate the solutions in place, so no object is allocated per
+ * task apart from the offspring.
+ *
+ * @param <S> Solution type
+ */
+public class AsynchronousBatchedMultiThreadedGeneticAlgorithm<S extends Solution<?>>
+    extends BatchedMaster<PooledParallelTask<S>, List<S>> {
+  private Problem<S> problem;
+  private CrossoverOperator<S> crossover;
+  private MutationOperator<S> mutation;
+  private SelectionOperator<List<S>, S> selection;
+  private Replacement<S> replacement;
+  private Termination termination;
+
+  private List<S> population = new ArrayList<>();
+  private int populationSize;
+  private int evaluations = 0;
+  private long initTime;
+  private long taskIdentifier;
+  private final ParallelTaskPool<S> taskPool = new ParallelTaskPool<>();
+
+  private Map<String, Object> attributes;
+  private Observable<Map<String, Object>> observable;
+
+  public AsynchronousBatchedMultiThreadedGeneticAlgorithm(
+      int numberOfCores,
+      int batchSize,
+      Problem<S> problem,
+      int populationSize,
+      CrossoverOperator<S> crossover,
+      MutationOperator<S> mutation,
+      SelectionOperator<List<S>, S> selection,
+      Replacement<S> replacement,
+      Termination termination) {
+    super(numberOfCores, batchSize);
+    this.problem = problem;
+    this.crossover = crossover;
+    this.mutation = mutation;
+    this.populationSize = populationSize;
+    this.termination = termination;
+    this.selection = selection;
+    this.replacement = replacement;
+
+    attributes = new HashMap<>();
+    observable = new DefaultObservable<>("Observable");
+  }
+
+  @Override
+  protected PooledParallelTask<S> computeTask(PooledParallelTask<S> task) {
+    problem.evaluate(task.getContents());
+    return task;
+  }
+
+  @Override
+  public void initProgress() {
+    attributes.put("EVALUATIONS", evaluations);
+    attributes.put("POPULATION", population);
+    attributes.put("COMPUTING_TIME", System.currentTimeMillis() - initTime);
+
+    observable.setChanged();
+    observable.notifyObservers(attributes);
+  }
+
+  @Override
+  public void updateProgress() {
+    attributes.put("EVALUATIONS", evaluations);
+    attributes.put("POPULATION", population);
+    attributes.put("COMPUTING_TIME", System.currentTimeMillis() - initTime);
+    attributes.put("BEST_SOLUTION", population.get(0));
+
+    observable.setChanged();
+    observable.notifyObservers(attributes);
+  }
+
+  @Override
+  public List<PooledParallelTask<S>> createInitialTasks() {
+    List<PooledParallelTask<S>> initialTaskList = new ArrayList<>(populationSize);
+    IntStream.range(0, populationSize)
+        .forEach(i -> initialTaskList.add(createTask(problem.createSolution())));
+
+    return initialTaskList;
+  }
+
+  @Override
+  public void processComputedTask(PooledParallelTask<S> task) {
+    evaluations++;
+    S solution = task.getContents();
+    taskPool.release(task);
+
+    if (population.size() < populationSize) {
+      population.add(solution);
+    } else {
+      List<S> offspringPopulation = new ArrayList<>(1);
+      offspringPopulation.add(solution);
+
+      population = replacement.replace(population, offspringPopulation);
+      Check.that(population.size() == populationSize, "The population size is incorrect");
+    }
+  }
+
+  @Override
+  public PooledParallelTask<S> createNewTask() {
+    int numberOfParents = crossover.numberOfRequiredParents();
+    if (population.size() > numberOfParents) {
+      List<S> parents = new ArrayList<>(numberOfParents);
+      for (int i = 0; i < numberOfParents; i++) {
+        parents.add(selection.execute(population));
+      }
+
+      List<S> offspring = crossover.execute(parents);
+
+      mutation.execute(offspring.get(0));
+
+      return createTask(offspring.get(0));
+    } else {
+      return createTask(problem.createSolution());
+    }
+  }
+
+  private PooledParallelTask<S> createTask(S solution) {
+    return taskPool.acquire(taskIdentifier++, solution);
+  }
+
+  @Override
+  public boolean stoppingConditionIsNotMet() {
+    return !termination.isMet(attributes);
+  }
+
+  @Override
+  public void run() {
+    initTime = System.currentTimeMillis();
+    super.run();
+  }
+
+  @Override
+  public List<S> result() {
+    return population;
+  }
+
+  public Observable<Map<String, Object>> observable() {
+    return observable;
+  }
+}
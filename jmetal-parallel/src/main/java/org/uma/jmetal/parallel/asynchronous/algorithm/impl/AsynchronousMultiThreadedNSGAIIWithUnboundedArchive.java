@@ -9,7 +9,7 @@ import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.archive.impl.BestSolutionsArchive;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionTreeArchive;
 
 public class AsynchronousMultiThreadedNSGAIIWithUnboundedArchive<S extends Solution<?>>
     extends AsynchronousMultiThreadedNSGAII<S> {
@@ -25,7 +25,7 @@ public class AsynchronousMultiThreadedNSGAIIWithUnboundedArchive<S extends Solut
       Termination termination) {
     super(numberOfCores, problem, populationSize, crossover, mutation, termination);
 
-    externalArchive = new BestSolutionsArchive<>(new NonDominatedSolutionListArchive<>(),
+    externalArchive = new BestSolutionsArchive<>(new NonDominatedSolutionTreeArchive<>(),
         populationSize);
   }
 
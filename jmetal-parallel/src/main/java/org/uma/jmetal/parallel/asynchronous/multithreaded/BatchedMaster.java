@@ -0,0 +1,279 @@
+package org.uma.jmetal.parallel.asynchronous.multithreaded;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import org.uma.jmetal.parallel.asynchronous.algorithm.AsynchronousParallelAlgorithm;
+import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.observable.Observable;
+import org.uma.jmetal.util.observable.impl.DefaultObservable;
+
+/**
+ * Alternative to {@link Master} intended for problems whose evaluation is very cheap, where the
+ * contention of the blocking queues and the allocation of a queue node per task outweigh the
+ * evaluation itself. The differences are:
+ *
+ * <p>- The tasks are exchanged through lock-free MPMC queues ({@link ConcurrentLinkedQueue}), and
+ * the threads waiting for tasks spin and park for short periods instead of blocking.
+ * - The tasks are grouped into {@link TaskBatch} objects of a configurable size, so a worker pulls
+ * and returns a whole batch per handoff. The submitted tasks are buffered until a batch is full or
+ * the master waits for computed tasks. The batches are reused.
+ * - The master publishes, through {@link #statisticsObservable()}, a map with the throughput
+ * (<code>TASKS_PER_SECOND</code>), the number of computed tasks (<code>COMPUTED_TASKS</code>), the
+ * number of tasks waiting to be computed (<code>PENDING_TASKS</code>) and the ratio of time the
+ * workers have been idle (<code>WORKER_IDLE_RATIO</code>) since the previous notification.
+ *
+ * <p>Subclasses define how a task is computed with {@link #computeTask(ParallelTask)}. The workers
+ * are daemon threads started when the {@link #run()} method begins and stopped when it finishes.
+ * Tasks objects can be reused with a {@link
+ * org.uma.jmetal.parallel.asynchronous.task.ParallelTaskPool}.
+ *
+ * @param <T> Task to be computed
+ * @param <R> Result of the algorithm
+ */
+public abstract class BatchedMaster<T extends ParallelTask<?>, R>
+    implements AsynchronousParallelAlgorithm<T, R> {
+  public static final long DEFAULT_STATISTICS_PERIOD = 1000;
+
+  private static final int SPIN_ATTEMPTS = 100;
+  private static final long PARK_TIME = TimeUnit.MICROSECONDS.toNanos(50);
+
+  protected int numberOfCores;
+  protected final int batchSize;
+  protected final Queue<TaskBatch<T>> pendingBatchQueue;
+  protected final Queue<TaskBatch<T>> completedBatchQueue;
+  private final AtomicInteger pendingTasks;
+  private final Deque<TaskBatch<T>> freeBatches;
+  private final List<BatchedWorker<T>> workers;
+
+  private TaskBatch<T> submittedBatch;
+  private TaskBatch<T> receivedBatch;
+  private int receivedIndex;
+
+  private final Observable<Map<String, Object>> statisticsObservable;
+  private final Map<String, Object> statistics;
+  private long statisticsPeriod;
+  private long lastStatisticsTime;
+  private long computedTasks;
+  private long computedBatches;
+  private long computedTasksAtLastStatistics;
+  private long idleTimeAtLastStatistics;
+
+  /**
+   * Constructor
+   *
+   * @param numberOfCores Number of workers
+   * @param batchSize Number of tasks exchanged per handoff
+   */
+  public BatchedMaster(int numberOfCores, int batchSize) {
+    Check.that(numberOfCores > 0, "The number of cores is not positive: " + numberOfCores);
+    Check.that(batchSize > 0, "The batch size is not positive: " + batchSize);
+    this.numberOfCores = numberOfCores;
+    this.batchSize = batchSize;
+    this.pendingBatchQueue = new ConcurrentLinkedQueue<>();
+    this.completedBatchQueue = new ConcurrentLinkedQueue<>();
+    this.pendingTasks = new AtomicInteger();
+    this.freeBatches = new ArrayDeque<>();
+    this.workers = new ArrayList<>(numberOfCores);
+
+    this.statisticsObservable = new DefaultObservable<>("Master statistics");
+    this.statistics = new HashMap<>();
+    this.statisticsPeriod = TimeUnit.MILLISECONDS.toNanos(DEFAULT_STATISTICS_PERIOD);
+  }
+
+  /**
+   * Computes a task in a worker thread
+   *
+   * @param task Task to compute
+   * @return The computed task. It can be the same task object.
+   */
+  protected abstract T computeTask(T task);
+
+  /** Creates and starts the workers */
+  private void startWorkers() {
+    Function<T, T> computeFunction = this::computeTask;
+    workers.clear();
+    for (int i = 0; i < numberOfCores; i++) {
+      BatchedWorker<T> worker =
+          new BatchedWorker<>(computeFunction, pendingBatchQueue, completedBatchQueue, pendingTasks);
+      worker.setDaemon(true);
+      workers.add(worker);
+      worker.start();
+    }
+    lastStatisticsTime = System.nanoTime();
+    idleTimeAtLastStatistics = 0;
+  }
+
+  /** Stops the workers, which finish the batches they are computing */
+  public void stopWorkers() {
+    workers.forEach(BatchedWorker::finish);
+  }
+
+  @Override
+  public void run() {
+    startWorkers();
+    try {
+      AsynchronousParallelAlgorithm.super.run();
+    } finally {
+      stopWorkers();
+    }
+  }
+
+  /**
+   * Submits the initial tasks, plus new tasks if there are not enough to fill a batch per worker.
+   * The list is emptied, so the tasks are not submitted again in the main loop of the algorithm,
+   * which would share a task object between two batches.
+   */
+  @Override
+  public void submitInitialTasks(List<T> initialTasks) {
+    int idleWorkers = numberOfCores * batchSize - initialTasks.size();
+    initialTasks.forEach(this::submitTask);
+    initialTasks.clear();
+    while (idleWorkers > 0) {
+      submitTask(createNewTask());
+      idleWorkers--;
+    }
+    flush();
+  }
+
+  @Override
+  public void submitTask(T task) {
+    if (submittedBatch == null) {
+      submittedBatch = newBatch();
+    }
+    submittedBatch.add(task);
+    if (submittedBatch.isFull()) {
+      flush();
+    }
+  }
+
+  @Override
+  public T waitForComputedTask() {
+    if (receivedBatch != null && receivedIndex < receivedBatch.size()) {
+      return receivedBatch.get(receivedIndex++);
+    }
+
+    if (receivedBatch != null) {
+      receivedBatch.clear();
+      freeBatches.push(receivedBatch);
+      receivedBatch = null;
+    }
+    flush();
+
+    int attempts = 0;
+    TaskBatch<T> batch;
+    while ((batch = completedBatchQueue.poll()) == null) {
+      backOff(attempts++);
+    }
+    computedTasks += batch.size();
+    computedBatches++;
+    updateStatistics();
+
+    receivedBatch = batch;
+    receivedIndex = 1;
+    return batch.get(0);
+  }
+
+  private void flush() {
+    if (submittedBatch != null && !submittedBatch.isEmpty()) {
+      pendingTasks.addAndGet(submittedBatch.size());
+      pendingBatchQueue.offer(submittedBatch);
+      submittedBatch = null;
+    }
+  }
+
+  private TaskBatch<T> newBatch() {
+    TaskBatch<T> batch = freeBatches.poll();
+    return (batch == null) ? new TaskBatch<>(batchSize) : batch;
+  }
+
+  private void updateStatistics() {
+    long now = System.nanoTime();
+    long elapsedTime = now - lastStatisticsTime;
+    if (elapsedTime < statisticsPeriod) {
+      return;
+    }
+
+    long idleTime = workers.stream().mapToLong(BatchedWorker::idleTime).sum();
+    double elapsedSeconds = elapsedTime / 1.0e9;
+
+    statistics.put(
+        "TASKS_PER_SECOND", (computedTasks - computedTasksAtLastStatistics) / elapsedSeconds);
+    statistics.put("COMPUTED_TASKS", computedTasks);
+    statistics.put("PENDING_TASKS", pendingTasks.get());
+    statistics.put(
+        "WORKER_IDLE_RATIO",
+        Math.min(1.0, (idleTime - idleTimeAtLastStatistics) / (double) (elapsedTime * workers.size())));
+
+    lastStatisticsTime = now;
+    computedTasksAtLastStatistics = computedTasks;
+    idleTimeAtLastStatistics = idleTime;
+
+    statisticsObservable.setChanged();
+    statisticsObservable.notifyObservers(statistics);
+  }
+
+  static void backOff(int attempts) {
+    if (attempts < SPIN_ATTEMPTS) {
+      Thread.onSpinWait();
+    } else {
+      LockSupport.parkNanos(PARK_TIME);
+    }
+  }
+
+  @Override
+  public abstract void processComputedTask(T task);
+
+  @Override
+  public abstract T createNewTask();
+
+  @Override
+  public boolean thereAreInitialTasksPending(List<T> initialTasks) {
+    return !initialTasks.isEmpty();
+  }
+
+  @Override
+  public T getInitialTask(List<T> initialTasks) {
+    return initialTasks.remove(initialTasks.size() - 1);
+  }
+
+  @Override
+  public abstract boolean stoppingConditionIsNotMet();
+
+  /** Sets the minimum time, in milliseconds, between two notifications of the statistics */
+  public void statisticsPeriod(long milliseconds) {
+    Check.that(milliseconds >= 0, "The period is a negative value: " + milliseconds);
+    this.statisticsPeriod = TimeUnit.MILLISECONDS.toNanos(milliseconds);
+  }
+
+  public Observable<Map<String, Object>> statisticsObservable() {
+    return statisticsObservable;
+  }
+
+  public int batchSize() {
+    return batchSize;
+  }
+
+  public long computedTasks() {
+    return computedTasks;
+  }
+
+  /** Number of batches of computed tasks received from the workers */
+  public long computedBatches() {
+    return computedBatches;
+  }
+
+  public int pendingTasks() {
+    return pendingTasks.get();
+  }
+}
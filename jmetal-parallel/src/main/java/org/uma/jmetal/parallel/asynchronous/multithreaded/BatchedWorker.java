@@ -0,0 +1,69 @@
+package org.uma.jmetal.parallel.asynchronous.multithreaded;
+
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
+
+/**
+ * Worker of a {@link BatchedMaster}. It takes a {@link TaskBatch} from the lock-free pending queue,
+ * computes all its tasks and returns the batch to the completed queue. When there is nothing to
+ * compute, the worker spins for a while and then parks for short periods; the time spent waiting
+ * is accumulated to measure the idle time of the worker.
+ *
+ * @param <T> Task type
+ */
+public class BatchedWorker<T extends ParallelTask<?>> extends Thread {
+  private final Queue<TaskBatch<T>> pendingBatchQueue;
+  private final Queue<TaskBatch<T>> completedBatchQueue;
+  private final AtomicInteger pendingTasks;
+  private volatile boolean running = true;
+  private volatile long idleTime;
+
+  protected Function<T, T> computeFunction;
+
+  public BatchedWorker(
+      Function<T, T> computeFunction,
+      Queue<TaskBatch<T>> pendingBatchQueue,
+      Queue<TaskBatch<T>> completedBatchQueue,
+      AtomicInteger pendingTasks) {
+    this.computeFunction = computeFunction;
+    this.pendingBatchQueue = pendingBatchQueue;
+    this.completedBatchQueue = completedBatchQueue;
+    this.pendingTasks = pendingTasks;
+  }
+
+  @Override
+  public void run() {
+    int attempts = 0;
+    long idleStart = System.nanoTime();
+    while (running) {
+      TaskBatch<T> batch = pendingBatchQueue.poll();
+      if (batch == null) {
+        BatchedMaster.backOff(attempts++);
+      } else {
+        long now = System.nanoTime();
+        idleTime += now - idleStart;
+        attempts = 0;
+
+        pendingTasks.addAndGet(-batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+          batch.set(i, computeFunction.apply(batch.get(i)));
+        }
+        completedBatchQueue.offer(batch);
+
+        idleStart = System.nanoTime();
+      }
+    }
+  }
+
+  /** Stops the worker after computing the current batch */
+  public void finish() {
+    running = false;
+  }
+
+  /** Time, in nanoseconds, the worker has been waiting for tasks */
+  public long idleTime() {
+    return idleTime;
+  }
+}
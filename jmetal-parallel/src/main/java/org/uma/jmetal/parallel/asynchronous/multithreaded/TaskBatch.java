@@ -0,0 +1,50 @@
+package org.uma.jmetal.parallel.asynchronous.multithreaded;
+
+import org.uma.jmetal.parallel.asynchronous.task.ParallelTask;
+
+/**
+ * Group of tasks exchanged between a {@link BatchedMaster} and its workers in a single handoff.
+ * The computed tasks are stored in the same batch, which is returned to the master and reused.
+ *
+ * @param <T> Task type
+ */
+public class TaskBatch<T extends ParallelTask<?>> {
+  private final Object[] tasks;
+  private int size;
+
+  public TaskBatch(int capacity) {
+    tasks = new Object[capacity];
+  }
+
+  public void add(T task) {
+    tasks[size++] = task;
+  }
+
+  @SuppressWarnings("unchecked")
+  public T get(int index) {
+    return (T) tasks[index];
+  }
+
+  public void set(int index, T task) {
+    tasks[index] = task;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean isFull() {
+    return size == tasks.length;
+  }
+
+  public void clear() {
+    for (int i = 0; i < size; i++) {
+      tasks[i] = null;
+    }
+    size = 0;
+  }
+}
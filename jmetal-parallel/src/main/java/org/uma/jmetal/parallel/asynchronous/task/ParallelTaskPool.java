@@ -0,0 +1,39 @@
+package org.uma.jmetal.parallel.asynchronous.task;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Pool of {@link PooledParallelTask} objects. The pool is not thread-safe: it is intended to be
+ * used by the master, which creates the tasks and releases them once the computed tasks have been
+ * processed.
+ *
+ * @param <S> Type of the contents of the tasks
+ */
+public class ParallelTaskPool<S> {
+  private final Deque<PooledParallelTask<S>> freeTasks = new ArrayDeque<>();
+  private int createdTasks;
+
+  public PooledParallelTask<S> acquire(long identifier, S contents) {
+    PooledParallelTask<S> task = freeTasks.poll();
+    if (task == null) {
+      task = new PooledParallelTask<>();
+      createdTasks++;
+    }
+
+    return task.set(identifier, contents);
+  }
+
+  public void release(PooledParallelTask<S> task) {
+    task.clear();
+    freeTasks.push(task);
+  }
+
+  public int numberOfFreeTasks() {
+    return freeTasks.size();
+  }
+
+  public int numberOfCreatedTasks() {
+    return createdTasks;
+  }
+}
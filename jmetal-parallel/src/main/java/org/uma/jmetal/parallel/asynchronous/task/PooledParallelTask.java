@@ -0,0 +1,37 @@
+package org.uma.jmetal.parallel.asynchronous.task;
+
+/**
+ * Mutable {@link ParallelTask} intended to be reused by means of a {@link ParallelTaskPool}, which
+ * avoids allocating a new task object per evaluation.
+ *
+ * @param <S> Type of the contents of the task
+ */
+@SuppressWarnings("serial")
+public class PooledParallelTask<S> implements ParallelTask<S> {
+  private long identifier;
+  private S contents;
+
+  public PooledParallelTask<S> set(long identifier, S contents) {
+    if (contents == null) {
+      throw new IllegalArgumentException("null data");
+    }
+    this.identifier = identifier;
+    this.contents = contents;
+
+    return this;
+  }
+
+  public void clear() {
+    contents = null;
+  }
+
+  @Override
+  public S getContents() {
+    return contents;
+  }
+
+  @Override
+  public long getIdentifier() {
+    return identifier;
+  }
+}
@@ -0,0 +1,79 @@
+package org.uma.jmetal.parallel.example;
+
+import java.util.List;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.component.catalogue.ea.replacement.impl.RankingAndDensityEstimatorReplacement;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.operator.selection.impl.BinaryTournamentSelection;
+import org.uma.jmetal.parallel.asynchronous.algorithm.impl.AsynchronousBatchedMultiThreadedGeneticAlgorithm;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.ranking.impl.MergeNonDominatedSortRanking;
+
+/**
+ * Asynchronous NSGA-II solving ZDT1, whose evaluation takes a few microseconds, with the batched
+ * master/worker scheme. The throughput statistics of the master are logged every second.
+ */
+public class AsynchronousBatchedMultiThreadedNSGAIIExample {
+  public static void main(String[] args) {
+    CrossoverOperator<DoubleSolution> crossover;
+    MutationOperator<DoubleSolution> mutation;
+
+    int populationSize = 100;
+    int maxEvaluations = 25000;
+    int numberOfCores = 4;
+    int batchSize = 16;
+
+    DoubleProblem problem = new ZDT1();
+
+    double crossoverProbability = 0.9;
+    double crossoverDistributionIndex = 20.0;
+    crossover = new SBXCrossover(crossoverProbability, crossoverDistributionIndex);
+
+    double mutationProbability = 1.0 / problem.numberOfVariables();
+    double mutationDistributionIndex = 20.0;
+    mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex);
+
+    long initTime = System.currentTimeMillis();
+
+    var nsgaii =
+        new AsynchronousBatchedMultiThreadedGeneticAlgorithm<>(
+            numberOfCores,
+            batchSize,
+            problem,
+            populationSize,
+            crossover,
+            mutation,
+            new BinaryTournamentSelection<>(new RankingAndCrowdingDistanceComparator<>()),
+            new RankingAndDensityEstimatorReplacement<>(
+                new MergeNonDominatedSortRanking<>(),
+                new CrowdingDistanceDensityEstimator<>(),
+                RankingAndDensityEstimatorReplacement.RemovalPolicy.ONE_SHOT),
+            new TerminationByEvaluations(maxEvaluations));
+
+    nsgaii
+        .statisticsObservable()
+        .register((observable, statistics) -> JMetalLogger.logger.info("" + statistics));
+
+    nsgaii.run();
+
+    long endTime = System.currentTimeMillis();
+
+    List<DoubleSolution> resultList = nsgaii.result();
+
+    JMetalLogger.logger.info("Computing time: " + (endTime - initTime));
+    new SolutionListOutput(resultList)
+        .setVarFileOutputContext(new DefaultFileOutputContext("VAR.csv", ","))
+        .setFunFileOutputContext(new DefaultFileOutputContext("FUN.csv", ","))
+        .print();
+  }
+}
@@ -0,0 +1,96 @@
+package org.uma.jmetal.parallel.asynchronous.algorithm.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.component.catalogue.ea.replacement.impl.RankingAndDensityEstimatorReplacement;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.operator.selection.impl.BinaryTournamentSelection;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+class AsynchronousBatchedMultiThreadedGeneticAlgorithmTest {
+  private static final int POPULATION_SIZE = 20;
+  private static final int NUMBER_OF_CORES = 2;
+  private static final int BATCH_SIZE = 4;
+
+  private static class CountingZDT1 extends ZDT1 {
+    private static final long serialVersionUID = 1L;
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    CountingZDT1() {
+      super(5);
+    }
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      evaluations.incrementAndGet();
+      return super.evaluate(solution);
+    }
+  }
+
+  private static AsynchronousBatchedMultiThreadedGeneticAlgorithm<DoubleSolution> algorithm(
+      CountingZDT1 problem, int maxEvaluations) {
+    return new AsynchronousBatchedMultiThreadedGeneticAlgorithm<>(
+        NUMBER_OF_CORES,
+        BATCH_SIZE,
+        problem,
+        POPULATION_SIZE,
+        new SBXCrossover(0.9, 20.0),
+        new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0),
+        new BinaryTournamentSelection<>(new RankingAndCrowdingDistanceComparator<>()),
+        new RankingAndDensityEstimatorReplacement<>(
+            new FastNonDominatedSortRanking<>(),
+            new CrowdingDistanceDensityEstimator<>(),
+            RankingAndDensityEstimatorReplacement.RemovalPolicy.ONE_SHOT),
+        new TerminationByEvaluations(maxEvaluations));
+  }
+
+  @Test
+  void theWorkersAreNotStartedByTheConstructor() throws InterruptedException {
+    var problem = new CountingZDT1();
+    var algorithm = algorithm(problem, 500);
+    Thread.sleep(50);
+
+    assertThat(problem.evaluations.get()).isZero();
+    assertThat(algorithm.computedTasks()).isZero();
+  }
+
+  @Test
+  void theAlgorithmStopsAfterTheMaximumNumberOfEvaluations() {
+    int maxEvaluations = 500;
+    var problem = new CountingZDT1();
+    var algorithm = algorithm(problem, maxEvaluations);
+    Map<String, Object> attributes = new HashMap<>();
+    algorithm.observable().register((observable, data) -> attributes.putAll(data));
+
+    algorithm.run();
+
+    assertThat(attributes).containsEntry("EVALUATIONS", maxEvaluations);
+    assertThat(algorithm.result()).hasSize(POPULATION_SIZE);
+    assertThat(algorithm.computedTasks()).isGreaterThanOrEqualTo(maxEvaluations);
+    assertThat(problem.evaluations.get()).isGreaterThanOrEqualTo(maxEvaluations);
+  }
+
+  @Test
+  void theTasksAreComputedInBatchesOfAtMostTheBatchSize() {
+    var algorithm = algorithm(new CountingZDT1(), 1000);
+
+    algorithm.run();
+
+    assertThat(algorithm.batchSize()).isEqualTo(BATCH_SIZE);
+    assertThat(algorithm.computedBatches()).isPositive();
+    assertThat(algorithm.computedTasks())
+        .isGreaterThan(algorithm.computedBatches())
+        .isLessThanOrEqualTo(algorithm.computedBatches() * BATCH_SIZE);
+  }
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.IntStream;
+import org.uma.jmetal.problem.doubleproblem.BatchEvaluableProblem;
 import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.errorchecking.JMetalException;
@@ -12,7 +13,7 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  * Class representing problem DTLZ1
  */
 @SuppressWarnings("serial")
-public class DTLZ1 extends AbstractDoubleProblem {
+public class DTLZ1 extends AbstractDoubleProblem implements BatchEvaluableProblem {
 
   /**
    * Creates a default DTLZ1 problem (7 variables and 3 objectives)
@@ -46,17 +47,31 @@ public class DTLZ1 extends AbstractDoubleProblem {
    * Evaluate() method
    */
   public DoubleSolution evaluate(DoubleSolution solution) {
-    int numberOfVariables = numberOfVariables();
-    int numberOfObjectives = solution.objectives().length;
+    double[] x = new double[numberOfVariables()];
+    double[] f = new double[solution.objectives().length];
+    for (int i = 0; i < x.length; i++) {
+      x[i] = solution.variables().get(i);
+    }
 
-    double[] f = new double[numberOfObjectives];
-    double[] x = new double[numberOfVariables];
+    evaluate(x, f);
+    System.arraycopy(f, 0, solution.objectives(), 0, f.length);
 
-    int k = numberOfVariables() - numberOfObjectives + 1;
+    return solution;
+  }
 
-    for (int i = 0; i < numberOfVariables; i++) {
-      x[i] = solution.variables().get(i);
+  @Override
+  public void evaluateBatch(double[][] variables, double[][] objectives) {
+    for (int i = 0; i < variables.length; i++) {
+      evaluate(variables[i], objectives[i]);
     }
+  }
+
+  /** Computes the objectives f of the variables x of a solution */
+  private void evaluate(double[] x, double[] f) {
+    int numberOfVariables = x.length;
+    int numberOfObjectives = f.length;
+
+    int k = numberOfVariables - numberOfObjectives + 1;
 
     double g = 0.0;
     for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
@@ -74,12 +89,6 @@ public class DTLZ1 extends AbstractDoubleProblem {
         f[i] *= 1 - x[numberOfObjectives - (i + 1)];
       }
     }
-
-    for (int i = 0; i < numberOfObjectives; i++) {
-      solution.objectives()[i] = f[i];
-    }
-
-    return solution;
   }
 }
 
@@ -34,5 +34,15 @@ public class DTLZ1Minus extends DTLZ1 {
     }
     return solution ;
   }
+
+  @Override
+  public void evaluateBatch(double[][] variables, double[][] objectives) {
+    super.evaluateBatch(variables, objectives);
+    for (double[] f : objectives) {
+      for (int i = 0; i < f.length; i++) {
+        f[i] = -1.0 * f[i];
+      }
+    }
+  }
 }
 
@@ -2,7 +2,7 @@ package org.uma.jmetal.problem.multiobjective.dtlz;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.IntStream;
+import org.uma.jmetal.problem.doubleproblem.BatchEvaluableProblem;
 import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.errorchecking.JMetalException;
@@ -11,7 +11,7 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  * Class representing problem DTLZ3
  */
 @SuppressWarnings("serial")
-public class DTLZ3 extends AbstractDoubleProblem {
+public class DTLZ3 extends AbstractDoubleProblem implements BatchEvaluableProblem {
   /**
    * Creates a default DTLZ3 problem (12 variables and 3 objectives)
    */
@@ -42,16 +42,31 @@ public class DTLZ3 extends AbstractDoubleProblem {
 
   /** Evaluate() method */
   public DoubleSolution evaluate(DoubleSolution solution) {
-    int numberOfVariables = numberOfVariables();
-    int numberOfObjectives = numberOfObjectives();
-    double[] f = new double[numberOfObjectives];
-    double[] x = new double[numberOfVariables] ;
+    double[] x = new double[numberOfVariables()];
+    double[] f = new double[solution.objectives().length];
+    for (int i = 0; i < x.length; i++) {
+      x[i] = solution.variables().get(i);
+    }
 
-    for (int i = 0; i < numberOfVariables; i++) {
-      x[i] = solution.variables().get(i) ;
+    evaluate(x, f);
+    System.arraycopy(f, 0, solution.objectives(), 0, f.length);
+
+    return solution;
+  }
+
+  @Override
+  public void evaluateBatch(double[][] variables, double[][] objectives) {
+    for (int i = 0; i < variables.length; i++) {
+      evaluate(variables[i], objectives[i]);
     }
+  }
+
+  /** Computes the objectives f of the variables x of a solution */
+  private void evaluate(double[] x, double[] f) {
+    int numberOfVariables = x.length;
+    int numberOfObjectives = f.length;
 
-    int k = numberOfVariables() - numberOfObjectives() + 1;
+    int k = numberOfVariables - numberOfObjectives + 1;
 
     double g = 0.0;
     for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
@@ -72,9 +87,5 @@ public class DTLZ3 extends AbstractDoubleProblem {
         f[i] *= java.lang.Math.sin(x[aux] * 0.5 * java.lang.Math.PI);
       }
     }
-
-    IntStream.range(0, numberOfObjectives).forEach(i -> solution.objectives()[i] = f[i]);
-
-    return solution ;
   }
 }
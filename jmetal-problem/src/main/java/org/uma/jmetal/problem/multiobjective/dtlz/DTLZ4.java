@@ -2,7 +2,7 @@ package org.uma.jmetal.problem.multiobjective.dtlz;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.IntStream;
+import org.uma.jmetal.problem.doubleproblem.BatchEvaluableProblem;
 import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.errorchecking.JMetalException;
@@ -11,7 +11,7 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  * Class representing problem DTLZ4
  */
 @SuppressWarnings("serial")
-public class DTLZ4 extends AbstractDoubleProblem {
+public class DTLZ4 extends AbstractDoubleProblem implements BatchEvaluableProblem {
   /**
    * Creates a default DTLZ4 problem (12 variables and 3 objectives)
    */
@@ -43,18 +43,32 @@ public class DTLZ4 extends AbstractDoubleProblem {
 
   /** Evaluate() method */
   public DoubleSolution evaluate(DoubleSolution solution) {
-    int numberOfVariables = numberOfVariables();
-    int numberOfObjectives = solution.objectives().length ;
-    double alpha = 100.0;
+    double[] x = new double[numberOfVariables()];
+    double[] f = new double[solution.objectives().length];
+    for (int i = 0; i < x.length; i++) {
+      x[i] = solution.variables().get(i);
+    }
 
-    double[] f = new double[numberOfObjectives];
-    double[] x = new double[numberOfVariables] ;
+    evaluate(x, f);
+    System.arraycopy(f, 0, solution.objectives(), 0, f.length);
 
-    int k = numberOfVariables() - solution.objectives().length + 1;
+    return solution;
+  }
 
-    for (int i = 0; i < numberOfVariables; i++) {
-      x[i] = solution.variables().get(i) ;
+  @Override
+  public void evaluateBatch(double[][] variables, double[][] objectives) {
+    for (int i = 0; i < variables.length; i++) {
+      evaluate(variables[i], objectives[i]);
     }
+  }
+
+  /** Computes the objectives f of the variables x of a solution */
+  private void evaluate(double[] x, double[] f) {
+    int numberOfVariables = x.length;
+    int numberOfObjectives = f.length;
+    double alpha = 100.0;
+
+    int k = numberOfVariables - numberOfObjectives + 1;
 
     double g = 0.0;
     for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
@@ -74,9 +88,5 @@ public class DTLZ4 extends AbstractDoubleProblem {
         f[i] *= java.lang.Math.sin(java.lang.Math.pow(x[aux], alpha) * (java.lang.Math.PI / 2.0));
       }
     }
-
-    IntStream.range(0, numberOfObjectives).forEach(i -> solution.objectives()[i] = f[i]);
-
-    return solution ;
   }
 }
@@ -2,14 +2,14 @@ package org.uma.jmetal.problem.multiobjective.dtlz;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.IntStream;
+import org.uma.jmetal.problem.doubleproblem.BatchEvaluableProblem;
 import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
 /** Class representing problem DTLZ7 */
 @SuppressWarnings("serial")
-public class DTLZ7 extends AbstractDoubleProblem {
+public class DTLZ7 extends AbstractDoubleProblem implements BatchEvaluableProblem {
   /** Creates a default DTLZ7 problem (22 variables and 3 objectives) */
   public DTLZ7() {
     this(22, 3);
@@ -38,17 +38,31 @@ public class DTLZ7 extends AbstractDoubleProblem {
 
   /** Evaluate() method */
   public DoubleSolution evaluate(DoubleSolution solution) {
-    int numberOfVariables = numberOfVariables();
-    int numberOfObjectives = solution.objectives().length;
+    double[] x = new double[numberOfVariables()];
+    double[] f = new double[solution.objectives().length];
+    for (int i = 0; i < x.length; i++) {
+      x[i] = solution.variables().get(i);
+    }
 
-    double[] f = new double[numberOfObjectives];
-    double[] x = new double[numberOfVariables];
+    evaluate(x, f);
+    System.arraycopy(f, 0, solution.objectives(), 0, f.length);
 
-    int k = numberOfVariables() - solution.objectives().length + 1;
+    return solution;
+  }
 
-    for (int i = 0; i < numberOfVariables; i++) {
-      x[i] = solution.variables().get(i);
+  @Override
+  public void evaluateBatch(double[][] variables, double[][] objectives) {
+    for (int i = 0; i < variables.length; i++) {
+      evaluate(variables[i], objectives[i]);
     }
+  }
+
+  /** Computes the objectives f of the variables x of a solution */
+  private void evaluate(double[] x, double[] f) {
+    int numberOfVariables = x.length;
+    int numberOfObjectives = f.length;
+
+    int k = numberOfVariables - numberOfObjectives + 1;
 
     double g = 0.0;
     for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
@@ -67,9 +81,5 @@ public class DTLZ7 extends AbstractDoubleProblem {
     h = numberOfObjectives - h;
 
     f[numberOfObjectives - 1] = (1 + g) * h;
-
-    IntStream.range(0, numberOfObjectives).forEach(i -> solution.objectives()[i] = f[i]);
-
-    return solution;
   }
 }
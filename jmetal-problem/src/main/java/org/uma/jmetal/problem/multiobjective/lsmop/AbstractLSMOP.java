@@ -2,11 +2,13 @@ package org.uma.jmetal.problem.multiobjective.lsmop;
 
 import java.util.ArrayList;
 import java.util.List;
+import org.uma.jmetal.problem.doubleproblem.BatchEvaluableProblem;
 import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.problem.multiobjective.lsmop.functions.Function;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 
-public abstract class AbstractLSMOP extends AbstractDoubleProblem {
+public abstract class AbstractLSMOP extends AbstractDoubleProblem
+    implements BatchEvaluableProblem {
 
   protected int nk; // Number of subcomponents in each variable group
   protected List<Integer> subLen; // Number of variables in each subcomponent
@@ -81,4 +83,20 @@ public abstract class AbstractLSMOP extends AbstractDoubleProblem {
     return solution;
   }
 
+  @Override
+  public void evaluateBatch(double[][] variables, double[][] objectives) {
+    for (int i = 0; i < variables.length; i++) {
+      List<Double> x = new ArrayList<>(variables[i].length);
+      for (double value : variables[i]) {
+        x.add(value);
+      }
+
+      List<Double> y = evaluate(x);
+
+      for (int j = 0; j < objectives[i].length; j++) {
+        objectives[i][j] = y.get(j);
+      }
+    }
+  }
+
 }
@@ -3,7 +3,9 @@ package org.uma.jmetal.problem.multiobjective.wfg;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import org.uma.jmetal.problem.doubleproblem.BatchEvaluableProblem;
 import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 
 /**
  * Implements a reference abstract class for all wfg org.uma.test problem
@@ -14,7 +16,7 @@ import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
  * Proceedings, volume 3410 of Lecture Notes in Computer Science
  */
 @SuppressWarnings("serial")
-public abstract class WFG extends AbstractDoubleProblem {
+public abstract class WFG extends AbstractDoubleProblem implements BatchEvaluableProblem {
 
   /**
    * stores a epsilon default value
@@ -128,4 +130,40 @@ public abstract class WFG extends AbstractDoubleProblem {
    * @return a double [] with the evaluation results
    */
   abstract public float[] evaluate(float[] variables);
+
+  /**
+   * Evaluates a solution
+   *
+   * @param solution The solution to evaluate
+   */
+  @Override
+  public DoubleSolution evaluate(DoubleSolution solution) {
+    float[] variables = new float[numberOfVariables()];
+    for (int i = 0; i < numberOfVariables(); i++) {
+      variables[i] = solution.variables().get(i).floatValue();
+    }
+
+    float[] f = evaluate(variables);
+
+    for (int i = 0; i < f.length; i++) {
+      solution.objectives()[i] = f[i];
+    }
+    return solution;
+  }
+
+  @Override
+  public void evaluateBatch(double[][] variables, double[][] objectives) {
+    for (int i = 0; i < variables.length; i++) {
+      float[] z = new float[variables[i].length];
+      for (int j = 0; j < z.length; j++) {
+        z[j] = (float) variables[i][j];
+      }
+
+      float[] f = evaluate(z);
+
+      for (int j = 0; j < f.length; j++) {
+        objectives[i][j] = f[j];
+      }
+    }
+  }
 }
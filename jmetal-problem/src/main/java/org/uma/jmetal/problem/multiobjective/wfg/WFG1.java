@@ -1,7 +1,6 @@
 package org.uma.jmetal.problem.multiobjective.wfg;
 
 import java.util.logging.Level;
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
@@ -138,30 +137,4 @@ public class WFG1 extends WFG {
 
     return result;
   }
-
-  /**
-   * Evaluates a solution
-   *
-   * @param solution The solution to runAlgorithm
-   * @throws JMetalException
-   */
-  public DoubleSolution evaluate(DoubleSolution solution) {
-    float[] variables = new float[numberOfVariables()];
-    double[] x = new double[numberOfVariables()];
-
-    for (int i = 0; i < numberOfVariables(); i++) {
-      x[i] = solution.variables().get(i);
-    }
-
-    for (int i = 0; i < numberOfVariables(); i++) {
-      variables[i] = (float) x[i];
-    }
-
-    float[] f = evaluate(variables);
-
-    for (int i = 0; i < f.length; i++) {
-      solution.objectives()[i] = f[i];
-    }
-    return solution;
-  }
 }
@@ -1,8 +1,5 @@
 package org.uma.jmetal.problem.multiobjective.wfg;
 
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
-import org.uma.jmetal.util.errorchecking.JMetalException;
-
 /**
  * This class implements the WFG4 problem Reference: Simon Huband, Luigi Barone, Lyndon While, Phil
  * Hingston A Scalable Multi-objective Test Problem Toolkit. Evolutionary Multi-Criterion
@@ -100,30 +97,4 @@ public class WFG4 extends WFG {
 
     return result;
   }
-
-  /**
-   * Evaluates a solution
-   *
-   * @param solution The solution to runAlgorithm
-   * @throws JMetalException
-   */
-  public DoubleSolution evaluate(DoubleSolution solution) {
-    float[] variables = new float[this.numberOfVariables()];
-    double[] x = new double[numberOfVariables()];
-
-    for (int i = 0; i < numberOfVariables(); i++) {
-      x[i] = solution.variables().get(i);
-    }
-
-    for (int i = 0; i < numberOfVariables(); i++) {
-      variables[i] = (float) x[i];
-    }
-
-    float[] sol2 = evaluate(variables);
-
-    for (int i = 0; i < sol2.length; i++) {
-      solution.objectives()[i] = sol2[i];
-    }
-    return solution;
-  }
 }
@@ -107,6 +107,24 @@ public abstract class ZCAT extends AbstractDoubleProblem {
     return (y);
   }
 
+  /**
+   * Normalizes the variables of a solution given as an array
+   *
+   * @param x Decision variables
+   * @return y: Normalized variables
+   */
+  public double[] zcatGetY(double[] x) {
+    double[] y = new double[numberOfVariables()];
+
+    for (int i = 0; i < numberOfVariables(); ++i) {
+      double lowerBound = variableBounds().get(i).getLowerBound();
+      double upperBound = variableBounds().get(i).getUpperBound();
+      y[i] = (x[i] - lowerBound) / (upperBound - lowerBound);
+      assert (0.0 <= y[i] && y[i] <= 1.0);
+    }
+    return (y);
+  }
+
   /**
    * Define z_{1:n-m} = (y_{m+1}-g_{m+1}, ..., y_n-g_n)
    *
@@ -2,6 +2,7 @@ package org.uma.jmetal.problem.multiobjective.zcat;
 
 import java.util.function.Function;
 import java.util.stream.IntStream;
+import org.uma.jmetal.problem.doubleproblem.BatchEvaluableProblem;
 import org.uma.jmetal.problem.multiobjective.zcat.ffunction.F1;
 import org.uma.jmetal.problem.multiobjective.zcat.gfunction.G0;
 import org.uma.jmetal.problem.multiobjective.zcat.gfunction.G4;
@@ -11,7 +12,7 @@ import org.uma.jmetal.solution.doublesolution.DoubleSolution;
  * Problem ZCAT1, defined in: "Challenging test problems for multi-and many-objective optimization",
  * DOI: https://doi.org/10.1016/j.swevo.2023.101350
  */
-public class ZCAT1 extends ZCAT {
+public class ZCAT1 extends ZCAT implements BatchEvaluableProblem {
 
   protected Function<double[], double[]> fFunction;
   protected Function<double[], double[]> gFunction;
@@ -49,7 +50,27 @@ public class ZCAT1 extends ZCAT {
 
   @Override
   public DoubleSolution evaluate(DoubleSolution solution) {
-    double[] normalizedVariables = zcatGetY(solution.variables());
+    double[] f = evaluate(zcatGetY(solution.variables()));
+    IntStream.range(0, numberOfObjectives).forEach(i -> solution.objectives()[i] = f[i]);
+
+    return solution;
+  }
+
+  @Override
+  public void evaluateBatch(double[][] variables, double[][] objectives) {
+    for (int i = 0; i < variables.length; i++) {
+      double[] f = evaluate(zcatGetY(variables[i]));
+      System.arraycopy(f, 0, objectives[i], 0, numberOfObjectives);
+    }
+  }
+
+  /**
+   * Returns the objectives of the normalized variables of a solution, which are computed both when
+   * evaluating a solution and in the batch evaluation
+   *
+   * @param normalizedVariables Variables normalized in [0, 1]
+   */
+  protected double[] evaluate(double[] normalizedVariables) {
     double[] alpha = zcatGetAlpha(normalizedVariables, numberOfObjectives(), fFunction);
     double[] beta =
         zcatGetBeta(
@@ -61,9 +82,6 @@ public class ZCAT1 extends ZCAT {
             level,
             gFunction);
 
-    double[] f = zcatMopDefinition(alpha, beta, numberOfObjectives);
-    IntStream.range(0, numberOfObjectives).forEach(i -> solution.objectives()[i] = f[i]);
-
-    return solution;
+    return zcatMopDefinition(alpha, beta, numberOfObjectives);
   }
 }
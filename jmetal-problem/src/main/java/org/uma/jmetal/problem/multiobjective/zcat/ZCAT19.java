@@ -1,10 +1,8 @@
 package org.uma.jmetal.problem.multiobjective.zcat;
 
-import java.util.stream.IntStream;
 import org.uma.jmetal.problem.multiobjective.zcat.ffunction.F19;
 import org.uma.jmetal.problem.multiobjective.zcat.gfunction.G0;
 import org.uma.jmetal.problem.multiobjective.zcat.gfunction.G6;
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 
 /**
  * Problem ZCAT9, defined in: "Challenging test problems for multi-and many-objective optimization",
@@ -40,8 +38,7 @@ public class ZCAT19 extends ZCAT1 {
   }
 
   @Override
-  public DoubleSolution evaluate(DoubleSolution solution) {
-    double[] normalizedVariables = zcatGetY(solution.variables());
+  protected double[] evaluate(double[] normalizedVariables) {
     paretoSetDimension =
         (zcatValueIn(normalizedVariables[0], 0.0, 0.2)
                 || zcatValueIn(normalizedVariables[0], 0.4, 0.6))
@@ -53,20 +50,6 @@ public class ZCAT19 extends ZCAT1 {
             ? new G6(numberOfVariables(), paretoSetDimension)
             : new G0(numberOfVariables(), paretoSetDimension);
 
-    double[] alpha = zcatGetAlpha(normalizedVariables, numberOfObjectives(), fFunction);
-    double[] beta =
-        zcatGetBeta(
-            normalizedVariables,
-            numberOfVariables(),
-            paretoSetDimension,
-            bias,
-            imbalance,
-            level,
-            gFunction);
-
-    double[] f = zcatMopDefinition(alpha, beta, numberOfObjectives);
-    IntStream.range(0, numberOfObjectives).forEach(i -> solution.objectives()[i] = f[i]);
-
-    return solution;
+    return super.evaluate(normalizedVariables);
   }
 }
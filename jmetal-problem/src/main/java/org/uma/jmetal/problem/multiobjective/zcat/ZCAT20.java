@@ -1,11 +1,9 @@
 package org.uma.jmetal.problem.multiobjective.zcat;
 
-import java.util.stream.IntStream;
 import org.uma.jmetal.problem.multiobjective.zcat.ffunction.F20;
 import org.uma.jmetal.problem.multiobjective.zcat.gfunction.G0;
 import org.uma.jmetal.problem.multiobjective.zcat.gfunction.G3;
 import org.uma.jmetal.problem.multiobjective.zcat.gfunction.G6;
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 
 /**
  * Problem ZCAT20, defined in: "Challenging test problems for multi-and many-objective
@@ -41,8 +39,7 @@ public class ZCAT20 extends ZCAT1 {
   }
 
   @Override
-  public DoubleSolution evaluate(DoubleSolution solution) {
-    double[] normalizedVariables = zcatGetY(solution.variables());
+  protected double[] evaluate(double[] normalizedVariables) {
     paretoSetDimension =
         (zcatValueIn(normalizedVariables[0], 0.1, 0.4)
                 || zcatValueIn(normalizedVariables[0], 0.6, 0.9))
@@ -54,20 +51,6 @@ public class ZCAT20 extends ZCAT1 {
             ? new G3(numberOfVariables(), paretoSetDimension)
             : new G0(numberOfVariables(), paretoSetDimension);
 
-    double[] alpha = zcatGetAlpha(normalizedVariables, numberOfObjectives(), fFunction);
-    double[] beta =
-        zcatGetBeta(
-            normalizedVariables,
-            numberOfVariables(),
-            paretoSetDimension,
-            bias,
-            imbalance,
-            level,
-            gFunction);
-
-    double[] f = zcatMopDefinition(alpha, beta, numberOfObjectives);
-    IntStream.range(0, numberOfObjectives).forEach(i -> solution.objectives()[i] = f[i]);
-
-    return solution;
+    return super.evaluate(normalizedVariables);
   }
 }
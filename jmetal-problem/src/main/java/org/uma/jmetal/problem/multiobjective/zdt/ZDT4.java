@@ -55,6 +55,23 @@ public class ZDT4 extends ZDT1 {
     return g + constant;
   }
 
+  /**
+   * Returns the value of the ZDT4 function G of the variables of a solution.
+   *
+   * @param x Variables of the solution
+   */
+  @Override
+  protected double evalG(double[] x) {
+    double g = 0.0;
+    for (int i = 1; i < x.length; i++) {
+      g += Math.pow(x[i], 2.0) + -10.0 * Math.cos(4.0 * Math.PI * x[i]);
+    }
+
+    double constant = 1.0 + 10.0 * (x.length - 1);
+
+    return g + constant;
+  }
+
   /**
    * Returns the value of the ZDT4 function H.
    *
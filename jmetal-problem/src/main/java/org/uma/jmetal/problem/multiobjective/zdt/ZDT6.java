@@ -42,6 +42,17 @@ public class ZDT6 extends ZDT1 {
     return solution ;
   }
 
+  @Override
+  public void evaluateBatch(double[][] variables, double[][] objectives) {
+    for (int i = 0; i < variables.length; i++) {
+      double x1 = variables[i][0];
+      double f = 1 - Math.exp(-4 * x1) * Math.pow(Math.sin(6 * Math.PI * x1), 6);
+      double g = evalG(variables[i]);
+      objectives[i][0] = f;
+      objectives[i][1] = evalH(f, g) * g;
+    }
+  }
+
   /**
    * Returns the value of the ZDT6 function G.
    *
@@ -60,6 +71,24 @@ public class ZDT6 extends ZDT1 {
     return g;
   }
 
+  /**
+   * Returns the value of the ZDT6 function G of the variables of a solution.
+   *
+   * @param x Variables of the solution
+   */
+  @Override
+  protected double evalG(double[] x) {
+    double g = 0.0;
+    for (int i = 1; i < x.length; i++) {
+      g += x[i];
+    }
+    g = g / (x.length - 1);
+    g = Math.pow(g, 0.25);
+    g = 9.0 * g;
+    g = 1.0 + g;
+    return g;
+  }
+
   /**
    * Returns the value of the ZDT6 function H.
    *
@@ -0,0 +1,136 @@
+package org.uma.jmetal.problem.multiobjective;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.uma.jmetal.problem.doubleproblem.BatchEvaluableProblem;
+import org.uma.jmetal.problem.multiobjective.cdtlz.C1_DTLZ1;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ1;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ1Minus;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ3;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ4;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ4Minus;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ5;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ6;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ7;
+import org.uma.jmetal.problem.multiobjective.lsmop.LSMOP1;
+import org.uma.jmetal.problem.multiobjective.lsmop.LSMOP5;
+import org.uma.jmetal.problem.multiobjective.lsmop.LSMOP9;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG1;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG2;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG3;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG4;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG5;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG6;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG7;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG8;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG9;
+import org.uma.jmetal.problem.multiobjective.zcat.ZCAT1;
+import org.uma.jmetal.problem.multiobjective.zcat.ZCAT19;
+import org.uma.jmetal.problem.multiobjective.zcat.ZCAT2;
+import org.uma.jmetal.problem.multiobjective.zcat.ZCAT20;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT2;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT3;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT4;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT6;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.BatchEvaluationUtils;
+
+class BatchEvaluableProblemTest {
+  /** ZDT1 whose function G is doubled, but only in the evaluation of a solution */
+  @SuppressWarnings("serial")
+  private static class ZDT1WithDoubledG extends ZDT1 {
+    @Override
+    protected double evalG(DoubleSolution solution) {
+      return 2.0 * super.evalG(solution);
+    }
+  }
+
+  /** ZDT1 whose function G is doubled both in the evaluation of a solution and of a batch */
+  @SuppressWarnings("serial")
+  private static class ZDT1WithDoubledGInBothEvaluations extends ZDT1WithDoubledG {
+    @Override
+    protected double evalG(double[] x) {
+      return 2.0 * super.evalG(x);
+    }
+  }
+
+  static Stream<BatchEvaluableProblem> batchEvaluableProblems() {
+    return Stream.of(
+        new ZDT1(), new ZDT2(), new ZDT3(), new ZDT4(), new ZDT6(),
+        new DTLZ1(), new DTLZ2(), new DTLZ3(), new DTLZ4(), new DTLZ5(), new DTLZ6(),
+        new DTLZ7(), new DTLZ1Minus(), new DTLZ4Minus(),
+        new WFG1(), new WFG2(), new WFG3(), new WFG4(), new WFG5(), new WFG6(), new WFG7(),
+        new WFG8(), new WFG9(),
+        new LSMOP1(), new LSMOP5(), new LSMOP9(),
+        new ZCAT1(), new ZCAT2(), new ZCAT19(), new ZCAT20());
+  }
+
+  @ParameterizedTest
+  @MethodSource("batchEvaluableProblems")
+  void theBatchEvaluationComputesTheSameObjectivesAsTheEvaluationOfEachSolution(
+      BatchEvaluableProblem problem) {
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      solutions.add(problem.createSolution());
+    }
+
+    double[][] variables = new double[solutions.size()][];
+    double[][] objectives = new double[solutions.size()][problem.numberOfObjectives()];
+    for (int i = 0; i < solutions.size(); i++) {
+      variables[i] =
+          solutions.get(i).variables().stream().mapToDouble(Double::doubleValue).toArray();
+    }
+    problem.evaluateBatch(variables, objectives);
+
+    assertThat(BatchEvaluationUtils.isBatchEvaluable(problem)).isTrue();
+    for (int i = 0; i < solutions.size(); i++) {
+      assertThat(objectives[i]).containsExactly(problem.evaluate(solutions.get(i)).objectives());
+    }
+  }
+
+  @Test
+  void theProblemsOverridingTheEvaluationOfASolutionAreNotBatchEvaluated() {
+    var problem = new C1_DTLZ1(7, 3);
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      solutions.add(problem.createSolution());
+    }
+
+    BatchEvaluationUtils.evaluate(solutions, problem);
+
+    assertThat(BatchEvaluationUtils.isBatchEvaluable(problem)).isFalse();
+    for (DoubleSolution solution : solutions) {
+      DoubleSolution copy = (DoubleSolution) solution.copy();
+      problem.evaluate(copy);
+      assertThat(solution.constraints()).containsExactly(copy.constraints());
+    }
+  }
+
+  @Test
+  void theSubclassesOverridingOnlyTheFunctionsOfASolutionAreNotBatchEvaluated() {
+    var problem = new ZDT1WithDoubledG();
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      solutions.add(problem.createSolution());
+    }
+
+    BatchEvaluationUtils.evaluate(solutions, problem);
+
+    assertThat(BatchEvaluationUtils.isBatchEvaluable(problem)).isFalse();
+    assertThat(BatchEvaluationUtils.isBatchEvaluable(new ZDT1WithDoubledGInBothEvaluations()))
+        .isTrue();
+    for (DoubleSolution solution : solutions) {
+      DoubleSolution copy = (DoubleSolution) solution.copy();
+      problem.evaluate(copy);
+      assertThat(solution.objectives()).containsExactly(copy.objectives());
+    }
+  }
+}